@@ -17,6 +17,9 @@
 package org.apache.camel.component.bean;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -39,6 +42,7 @@ import org.apache.camel.ExchangePattern;
 import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.Expression;
 import org.apache.camel.ExpressionEvaluationException;
+import org.apache.camel.Headers;
 import org.apache.camel.InOnly;
 import org.apache.camel.InOut;
 import org.apache.camel.Message;
@@ -68,6 +72,9 @@ import static org.apache.camel.util.ObjectHelper.asString;
  */
 public class MethodInfo {
     private static final Logger LOG = LoggerFactory.getLogger(MethodInfo.class);
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    private static final MethodHandle NO_HANDLE = MethodHandles.constant(Object.class, null);
 
     private CamelContext camelContext;
     private Class<?> type;
@@ -77,6 +84,10 @@ public class MethodInfo {
     private final boolean hasCustomAnnotation;
     private final boolean hasHandlerAnnotation;
     private Expression parametersExpression;
+    private volatile boolean parametersExpressionInitialized;
+    private final Class<?>[] parameterTypes;
+    private final Class<?>[] argumentTypes;
+    private volatile MethodHandle methodHandle;
     private ExchangePattern pattern = ExchangePattern.InOut;
     private AsyncProcessor recipientList;
     private AsyncProcessor routingSlip;
@@ -120,6 +131,12 @@ public class MethodInfo {
         this.hasCustomAnnotation = hasCustomAnnotation;
         this.hasHandlerAnnotation = hasHandlerAnnotation;
         this.parametersExpression = createParametersExpression();
+        this.parameterTypes = method.getParameterTypes();
+        // the parameter types as boxed types which the arguments must be instances of
+        this.argumentTypes = new Class<?>[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            argumentTypes[i] = org.apache.camel.util.ObjectHelper.convertPrimitiveTypeToWrapperType(parameterTypes[i]);
+        }
 
         Map<Class<?>, Annotation> collectedMethodAnnotation = collectMethodAnnotations(type, method);
 
@@ -257,7 +274,10 @@ public class MethodInfo {
     private Object[] initializeArguments(boolean hasParameters, Exchange exchange) {
         if (hasParameters) {
             if (parametersExpression != null) {
-                parametersExpression.init(camelContext);
+                if (!parametersExpressionInitialized) {
+                    parametersExpression.init(camelContext);
+                    parametersExpressionInitialized = true;
+                }
 
                 return parametersExpression.evaluate(exchange, Object[].class);
             }
@@ -489,6 +509,19 @@ public class MethodInfo {
     }
 
     protected Object invoke(Method mth, Object pojo, Object[] arguments, Exchange exchange) throws InvocationTargetException {
+        if (mth == method && isInvocable(pojo, arguments)) {
+            MethodHandle handle = getMethodHandle();
+            if (handle != NO_HANDLE) {
+                Object[] args = arguments != null ? arguments : NO_ARGUMENTS;
+                try {
+                    return (Object) handle.invokeExact(pojo, args);
+                } catch (Throwable e) {
+                    // the arguments have been checked so the exception is from the method itself
+                    throw new InvocationTargetException(e);
+                }
+            }
+        }
+
         try {
             return ObjectHelper.invokeMethodSafe(mth, pojo, arguments);
         } catch (IllegalAccessException e) {
@@ -502,6 +535,63 @@ public class MethodInfo {
         }
     }
 
+    /**
+     * Whether the bean and arguments can be passed to the method without any conversions (such as widening of
+     * primitive values), as otherwise the method is invoked using reflection.
+     */
+    private boolean isInvocable(Object pojo, Object[] arguments) {
+        if (pojo == null ? !isStaticMethod() : !isStaticMethod() && !method.getDeclaringClass().isInstance(pojo)) {
+            return false;
+        }
+        int size = arguments != null ? arguments.length : 0;
+        if (size != argumentTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            Object argument = arguments[i];
+            if (argument == null ? parameterTypes[i].isPrimitive() : !argumentTypes[i].isInstance(argument)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the method handle used to invoke the method, which is created on first use
+     */
+    private MethodHandle getMethodHandle() {
+        MethodHandle answer = methodHandle;
+        if (answer == null) {
+            answer = createMethodHandle();
+            methodHandle = answer;
+        }
+        return answer;
+    }
+
+    private MethodHandle createMethodHandle() {
+        try {
+            MethodHandle handle;
+            try {
+                handle = MethodHandles.publicLookup().unreflect(method);
+            } catch (IllegalAccessException e) {
+                // same as when invoking using reflection
+                if (!method.trySetAccessible()) {
+                    return NO_HANDLE;
+                }
+                handle = MethodHandles.lookup().unreflect(method);
+            }
+            handle = handle.asSpreader(Object[].class, argumentTypes.length);
+            if (isStaticMethod()) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(INVOKER_TYPE);
+        } catch (Exception e) {
+            LOG.debug("Cannot create method handle for method: {} due to: {}. Will use reflection instead.", method,
+                    e.getMessage());
+            return NO_HANDLE;
+        }
+    }
+
     protected Expression[] createParameterExpressions() {
         final int size = parameters.size();
         LOG.trace("Creating parameters expression for {} parameters", size);
@@ -540,14 +630,47 @@ public class MethodInfo {
         return false;
     }
 
+    /**
+     * The common parameter bindings which can be bound directly from the exchange
+     */
+    private enum ParameterBinding {
+        EXPRESSION,
+        BODY,
+        EXCHANGE,
+        MESSAGE,
+        HEADERS
+    }
+
     /**
      * Expression to evaluate the bean parameter parameters and provide the correct values when the method is invoked.
      */
     private final class ParameterExpression implements Expression {
         private final Expression[] expressions;
+        private final ParameterBinding[] bindings;
 
         ParameterExpression(Expression[] expressions) {
             this.expressions = expressions;
+            this.bindings = new ParameterBinding[expressions.length];
+            for (int i = 0; i < expressions.length; i++) {
+                bindings[i] = parameterBinding(parameters.get(i), expressions[i]);
+            }
+        }
+
+        private ParameterBinding parameterBinding(ParameterInfo parameter, Expression expression) {
+            ParameterMappingStrategy strategy = DefaultParameterMappingStrategy.INSTANCE;
+            if (expression == null || expression != parameter.getExpression()) {
+                return ParameterBinding.EXPRESSION;
+            } else if (expression == strategy.getDefaultParameterTypeExpression(Exchange.class)) {
+                return ParameterBinding.EXCHANGE;
+            } else if (expression == strategy.getDefaultParameterTypeExpression(Message.class)) {
+                return ParameterBinding.MESSAGE;
+            } else if (bodyParameters.contains(parameter)) {
+                return Exchange.class.isAssignableFrom(parameter.getType())
+                        ? ParameterBinding.EXCHANGE : ParameterBinding.BODY;
+            } else if (parameter.getAnnotations().length == 1 && parameter.getAnnotations()[0] instanceof Headers) {
+                return ParameterBinding.HEADERS;
+            }
+            return ParameterBinding.EXPRESSION;
         }
 
         @Override
@@ -620,7 +743,7 @@ public class MethodInfo {
                 // use bean parameter binding, if still no value
                 Expression expression = expressions[i];
                 if (value == null && expression != null) {
-                    value = evaluateParameterBinding(exchange, expression, i, parameterType);
+                    value = evaluateParameterBinding(exchange, expression, bindings[i], i, parameterType);
                 }
                 // remember the value to use
                 if (value != Void.TYPE) {
@@ -730,11 +853,32 @@ public class MethodInfo {
         /**
          * Evaluate using classic parameter binding using the pre compute expression
          */
-        private Object evaluateParameterBinding(Exchange exchange, Expression expression, int index, Class<?> parameterType) {
+        private Object evaluateParameterBinding(
+                Exchange exchange, Expression expression, ParameterBinding binding, int index, Class<?> parameterType) {
             Object answer = null;
 
             // use object first to avoid type conversion so we know if there is a value or not
-            Object result = expression.evaluate(exchange, Object.class);
+            Object result;
+            switch (binding) {
+                case EXCHANGE:
+                    result = exchange;
+                    break;
+                case MESSAGE:
+                    result = exchange.getIn();
+                    break;
+                case HEADERS:
+                    result = exchange.getIn().getHeaders();
+                    break;
+                case BODY:
+                    result = exchange.getIn().getBody();
+                    if (result != null && !parameterType.isInstance(result)) {
+                        // the body must be converted by the expression
+                        result = expression.evaluate(exchange, Object.class);
+                    }
+                    break;
+                default:
+                    result = expression.evaluate(exchange, Object.class);
+            }
             if (result != null) {
                 try {
                     if (parameterType.isInstance(result)) {
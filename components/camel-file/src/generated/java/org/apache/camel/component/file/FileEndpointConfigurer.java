@@ -53,6 +53,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "delete": target.setDelete(property(camelContext, boolean.class, value)); return true;
         case "directorymustexist":
         case "directoryMustExist": target.setDirectoryMustExist(property(camelContext, boolean.class, value)); return true;
+        case "directoryscanthreads":
+        case "directoryScanThreads": target.setDirectoryScanThreads(property(camelContext, int.class, value)); return true;
         case "donefilename":
         case "doneFileName": target.setDoneFileName(property(camelContext, java.lang.String.class, value)); return true;
         case "eagerdeletetargetfile":
@@ -190,6 +192,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": target.setTimeUnit(property(camelContext, java.util.concurrent.TimeUnit.class, value)); return true;
         case "usefixeddelay":
         case "useFixedDelay": target.setUseFixedDelay(property(camelContext, boolean.class, value)); return true;
+        case "watchdirectory":
+        case "watchDirectory": target.setWatchDirectory(property(camelContext, boolean.class, value)); return true;
         default: return false;
         }
     }
@@ -229,6 +233,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "delete": return boolean.class;
         case "directorymustexist":
         case "directoryMustExist": return boolean.class;
+        case "directoryscanthreads":
+        case "directoryScanThreads": return int.class;
         case "donefilename":
         case "doneFileName": return java.lang.String.class;
         case "eagerdeletetargetfile":
@@ -366,6 +372,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": return java.util.concurrent.TimeUnit.class;
         case "usefixeddelay":
         case "useFixedDelay": return boolean.class;
+        case "watchdirectory":
+        case "watchDirectory": return boolean.class;
         default: return null;
         }
     }
@@ -406,6 +414,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "delete": return target.isDelete();
         case "directorymustexist":
         case "directoryMustExist": return target.isDirectoryMustExist();
+        case "directoryscanthreads":
+        case "directoryScanThreads": return target.getDirectoryScanThreads();
         case "donefilename":
         case "doneFileName": return target.getDoneFileName();
         case "eagerdeletetargetfile":
@@ -543,6 +553,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": return target.getTimeUnit();
         case "usefixeddelay":
         case "useFixedDelay": return target.isUseFixedDelay();
+        case "watchdirectory":
+        case "watchDirectory": return target.isWatchDirectory();
         default: return null;
         }
     }
@@ -21,7 +21,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(94);
+        Set<String> props = new HashSet<>(96);
         props.add("allowNullBody");
         props.add("antExclude");
         props.add("antFilterCaseSensitive");
@@ -41,6 +41,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("delete");
         props.add("directoryMustExist");
         props.add("directoryName");
+        props.add("directoryScanThreads");
         props.add("doneFileName");
         props.add("eagerDeleteTargetFile");
         props.add("eagerMaxMessagesPerPoll");
@@ -116,6 +117,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("tempPrefix");
         props.add("timeUnit");
         props.add("useFixedDelay");
+        props.add("watchDirectory");
         PROPERTY_NAMES = Collections.unmodifiableSet(props);
         SECRET_PROPERTY_NAMES = Collections.emptySet();
         Set<String> prefixes = new HashSet<>(1);
@@ -18,15 +18,34 @@ package org.apache.camel.component.file;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
@@ -51,6 +70,13 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     private ResumeStrategy resumeStrategy;
     private String endpointPath;
     private Set<String> extendedAttributes;
+    private ExecutorService scanExecutor;
+    private Path watchRoot;
+    private volatile WatchService watchService;
+    private ExecutorService watchExecutor;
+    private final Map<WatchKey, Path> watchKeys = new ConcurrentHashMap<>();
+    private final Set<Path> changedDirectories = ConcurrentHashMap.newKeySet();
+    private volatile boolean watchOverflow;
 
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations,
                         GenericFileProcessStrategy<File> processStrategy) {
@@ -72,82 +98,98 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         return exchange;
     }
 
-    private boolean pollDirectory(File directory, List<GenericFile<File>> fileList, int depth) {
+    private boolean pollDirectory(
+            File directory, List<DirectoryEntry> entries, List<GenericFile<File>> fileList, int depth,
+            boolean subDirectories) {
         depth++;
 
         if (LOG.isTraceEnabled()) {
             LOG.trace("Polling directory: {}, absolute path: {}", directory.getPath(), directory.getAbsolutePath());
         }
-        final File[] files = listFiles(directory);
-        if (files == null || files.length == 0) {
+        if (entries.isEmpty()) {
             return true;
         }
 
-        if (getEndpoint().isPreSort()) {
-            Arrays.sort(files, Comparator.comparing(File::getAbsoluteFile));
+        final File[] files = new File[entries.size()];
+        for (int i = 0; i < files.length; i++) {
+            files[i] = entries.get(i).file;
         }
 
-        for (File file : files) {
-            // check if we can continue polling in files
-            if (!canPollMoreFiles(fileList)) {
-                return false;
-            }
-
-            // trace log as Windows/Unix can have different views what the file is
-            if (LOG.isTraceEnabled()) {
-                LOG.trace("Found file: {} [isAbsolute: {}, isDirectory: {}, isFile: {}, isHidden: {}]", file, file.isAbsolute(),
-                        file.isDirectory(), file.isFile(),
-                        file.isHidden());
-            }
+        final boolean recursive = subDirectories && endpoint.isRecursive() && depth < endpoint.getMaxDepth();
+        // list the sub directories ahead in parallel, they are still polled one by one in order
+        final DirectoryListings listings
+                = recursive && scanExecutor != null ? new DirectoryListings(entries, files) : null;
+        try {
+            for (DirectoryEntry entry : entries) {
+                File file = entry.file;
+                // check if we can continue polling in files
+                if (!canPollMoreFiles(fileList)) {
+                    return false;
+                }
 
-            // creates a generic file
-            GenericFile<File> gf
-                    = asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType());
-
-            if (resumeStrategy != null) {
-                ResumeAdapter adapter = resumeStrategy.getAdapter();
-                LOG.trace("Checking the resume adapter: {}", adapter);
-                if (adapter instanceof FileOffsetResumeAdapter) {
-                    LOG.trace("The resume adapter is for offsets: {}", adapter);
-                    ((FileOffsetResumeAdapter) adapter).setResumePayload(gf);
-                    adapter.resume();
+                // trace log as Windows/Unix can have different views what the file is
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Found file: {} [isAbsolute: {}, isDirectory: {}, isFile: {}, isHidden: {}]", file,
+                            file.isAbsolute(), file.isDirectory(), file.isFile(), file.isHidden());
                 }
 
-                if (adapter instanceof DirectoryEntriesResumeAdapter) {
-                    LOG.trace("Running the resume process for file {}", file);
-                    if (((DirectoryEntriesResumeAdapter) adapter).resume(file)) {
-                        LOG.trace("Skipping file {} because it has been marked previously consumed", file);
-                        continue;
+                // creates a generic file
+                GenericFile<File> gf = asGenericFile(endpointPath, file, entry.attributes, getEndpoint().getCharset(),
+                        getEndpoint().isProbeContentType());
+
+                if (resumeStrategy != null) {
+                    ResumeAdapter adapter = resumeStrategy.getAdapter();
+                    LOG.trace("Checking the resume adapter: {}", adapter);
+                    if (adapter instanceof FileOffsetResumeAdapter) {
+                        LOG.trace("The resume adapter is for offsets: {}", adapter);
+                        ((FileOffsetResumeAdapter) adapter).setResumePayload(gf);
+                        adapter.resume();
                     }
-                }
-            }
 
-            if (file.isDirectory()) {
-                if (endpoint.isRecursive() && depth < endpoint.getMaxDepth() && isValidFile(gf, true, files)) {
-                    boolean canPollMore = pollDirectory(file, fileList, depth);
-                    if (!canPollMore) {
-                        return false;
+                    if (adapter instanceof DirectoryEntriesResumeAdapter) {
+                        LOG.trace("Running the resume process for file {}", file);
+                        if (((DirectoryEntriesResumeAdapter) adapter).resume(file)) {
+                            LOG.trace("Skipping file {} because it has been marked previously consumed", file);
+                            continue;
+                        }
                     }
                 }
-            } else {
-                // Windows can report false to a file on a share so regard it
-                // always as a file (if it is not a directory)
-                if (depth >= endpoint.minDepth && isValidFile(gf, false, files)) {
-                    LOG.trace("Adding valid file: {}", file);
-                    // matched file so add
-                    if (extendedAttributes != null) {
-                        Path path = file.toPath();
-                        Map<String, Object> allAttributes = new HashMap<>();
-                        for (String attribute : extendedAttributes) {
-                            readAttributes(file, path, allAttributes, attribute);
+
+                if (gf.isDirectory()) {
+                    boolean valid = listings != null
+                            ? listings.isValid(file) : recursive && isValidFile(gf, true, files);
+                    if (valid) {
+                        List<DirectoryEntry> subEntries = listings != null ? listings.take(file) : listFiles(file);
+                        boolean canPollMore = pollDirectory(file, subEntries, fileList, depth, true);
+                        if (!canPollMore) {
+                            return false;
+                        }
+                    }
+                } else {
+                    // Windows can report false to a file on a share so regard it
+                    // always as a file (if it is not a directory)
+                    if (depth >= endpoint.minDepth && isValidFile(gf, false, files)) {
+                        LOG.trace("Adding valid file: {}", file);
+                        // matched file so add
+                        if (extendedAttributes != null) {
+                            Path path = file.toPath();
+                            Map<String, Object> allAttributes = new HashMap<>();
+                            for (String attribute : extendedAttributes) {
+                                readAttributes(file, path, allAttributes, attribute);
+                            }
+
+                            gf.setExtendedAttributes(allAttributes);
                         }
 
-                        gf.setExtendedAttributes(allAttributes);
+                        fileList.add(gf);
                     }
 
-                    fileList.add(gf);
                 }
-
+            }
+        } finally {
+            if (listings != null) {
+                // the directories which were skipped or not reached due to the maxMessagesPerPoll limit
+                listings.cancel();
             }
         }
 
@@ -167,26 +209,247 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             return true;
         }
 
-        return pollDirectory(directory, fileList, depth);
+        if (watchService != null && depth == 0) {
+            if (isTriggeredPoll() && !watchOverflow) {
+                return pollChangedDirectories(fileList);
+            }
+            // a full scan also covers the directories which have changed
+            watchOverflow = false;
+            changedDirectories.clear();
+        }
+
+        return pollDirectory(directory, listFiles(directory), fileList, depth, true);
+    }
+
+    /**
+     * Polls only the directories in which files have been created or modified since the last poll, without walking
+     * their sub directories (as they are watched on their own).
+     */
+    private boolean pollChangedDirectories(List<GenericFile<File>> fileList) {
+        List<Path> directories = new ArrayList<>(changedDirectories);
+        changedDirectories.removeAll(directories);
+        // poll the parent directories first as a full scan would do
+        Collections.sort(directories);
+
+        for (int i = 0; i < directories.size(); i++) {
+            Path path = directories.get(i);
+            int depth = depthOf(path);
+            File directory = path.toFile();
+            if ((depth > 0 && !isValidDirectory(path)) || !directory.isDirectory()) {
+                continue;
+            }
+            if (!pollDirectory(directory, listFiles(directory), fileList, depth, false)) {
+                // the remaining directories are polled on the next poll
+                changedDirectories.addAll(directories.subList(i, directories.size()));
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the directory, and all its parent directories up to the starting directory, would be polled when
+     * walking the directory tree.
+     */
+    private boolean isValidDirectory(Path path) {
+        if (!endpoint.isRecursive() || depthOf(path) >= endpoint.getMaxDepth()) {
+            return false;
+        }
+        for (Path dir = path; dir != null && !dir.equals(watchRoot); dir = dir.getParent()) {
+            GenericFile<File> gf = asGenericFile(endpointPath, dir.toFile(), getEndpoint().getCharset(),
+                    getEndpoint().isProbeContentType());
+            if (!isValidFile(gf, true, new File[0])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int depthOf(Path path) {
+        return path.equals(watchRoot) ? 0 : watchRoot.relativize(path).getNameCount();
+    }
+
+    private void startWatching() throws IOException {
+        File directory = new File(endpoint.getConfiguration().getDirectory());
+        if (!directory.isDirectory()) {
+            LOG.warn("Cannot watch directory: {} as it does not exist. Will only poll the directory.", directory);
+            return;
+        }
+
+        watchRoot = directory.toPath();
+        watchService = watchRoot.getFileSystem().newWatchService();
+        watchDirectory(watchRoot, false);
+
+        watchExecutor = getEndpoint().getCamelContext().getExecutorServiceManager().newSingleThreadExecutor(this,
+                "FileWatcher");
+        watchExecutor.submit(this::watchChanges);
+    }
+
+    private void stopWatching() throws IOException {
+        if (watchService != null) {
+            // closing the watch service also stops the watcher thread
+            watchService.close();
+            watchService = null;
+        }
+        if (watchExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(watchExecutor);
+            watchExecutor = null;
+        }
+        watchKeys.clear();
+        changedDirectories.clear();
+    }
+
+    /**
+     * Registers the directory, and its sub directories when polling recursively, to be notified of new or modified
+     * files.
+     *
+     * @param directory the directory to watch
+     * @param changed   whether the directory has been created after watching started, in which case files may
+     *                  already be in the directory and it must be polled
+     */
+    private void watchDirectory(Path directory, boolean changed) {
+        WatchService service = watchService;
+        if (service == null) {
+            return;
+        }
+        try {
+            WatchKey key = directory.register(service, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+            watchKeys.put(key, directory);
+        } catch (IOException | ClosedWatchServiceException e) {
+            LOG.debug("Cannot watch directory: {} due to: {}", directory, e.getMessage());
+            return;
+        }
+        if (changed) {
+            changedDirectories.add(directory);
+        }
+
+        if (endpoint.isRecursive() && depthOf(directory) + 1 < endpoint.getMaxDepth()) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                    p -> Files.isDirectory(p, LinkOption.NOFOLLOW_LINKS) && !isIgnored(p))) {
+                for (Path path : stream) {
+                    watchDirectory(path, changed);
+                }
+            } catch (IOException | DirectoryIteratorException e) {
+                LOG.debug("Cannot watch the sub directories of: {} due to: {}", directory, e.getMessage());
+            }
+        }
     }
 
-    private File[] listFiles(File directory) {
-        final File[] dirFiles = directory.listFiles();
+    private void watchChanges() {
+        LOG.debug("Watching directory: {} for changes", watchRoot);
+        WatchService service = watchService;
+        while (isRunAllowed()) {
+            try {
+                boolean changed = false;
+                // gather all the pending changes so they are picked up by a single poll
+                WatchKey key = service.take();
+                while (key != null) {
+                    changed |= onChanges(key);
+                    key = service.poll();
+                }
+                if (changed && isRunAllowed()) {
+                    LOG.trace("Polling directory: {} as it has changed", watchRoot);
+                    triggerPoll();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ClosedWatchServiceException e) {
+                return;
+            }
+        }
+    }
 
-        if (dirFiles == null || dirFiles.length == 0) {
+    private boolean onChanges(WatchKey key) {
+        Path directory = watchKeys.get(key);
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // some events have been lost so fallback to scan all the directories
+                LOG.debug("Overflow of changes while watching directory: {}", watchRoot);
+                watchOverflow = true;
+                changed = true;
+            } else if (directory != null) {
+                Path path = directory.resolve((Path) event.context());
+                if (isIgnored(path)) {
+                    continue;
+                }
+                if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE
+                        && Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+                    if (endpoint.isRecursive() && depthOf(path) < endpoint.getMaxDepth()) {
+                        watchDirectory(path, true);
+                        changed = true;
+                    }
+                } else {
+                    changedDirectories.add(directory);
+                    changed = true;
+                }
+            }
+        }
+        if (!key.reset()) {
+            // the directory is no longer accessible, such as when it has been deleted
+            watchKeys.remove(key);
+        }
+        return changed;
+    }
+
+    /**
+     * Whether changes to the file are ignored, as the file would never be polled (such as lock files)
+     */
+    private static boolean isIgnored(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(".") || name.endsWith(FileComponent.DEFAULT_LOCK_FILE_POSTFIX);
+    }
+
+    /**
+     * Lists the files in the directory, along with their basic attributes which are read once for each file.
+     */
+    private List<DirectoryEntry> listFiles(File directory) {
+        final List<DirectoryEntry> entries = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory.toPath())) {
+            for (Path path : stream) {
+                BasicFileAttributes attributes = null;
+                try {
+                    attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                } catch (IOException e) {
+                    // such as a broken symbolic link, or a file which has just been deleted
+                    LOG.trace("Unable to read attributes of file: {} due to: {}", path, e.getMessage());
+                }
+                entries.add(new DirectoryEntry(path.toFile(), attributes));
+            }
+        } catch (IOException | DirectoryIteratorException e) {
+            LOG.debug("Unable to list files in directory: {} due to: {}", directory.getPath(), e.getMessage());
+            return Collections.emptyList();
+        }
+
+        if (entries.isEmpty()) {
             // no files in this directory to poll
             if (LOG.isTraceEnabled()) {
                 LOG.trace("No files found in directory: {}", directory.getPath());
             }
-            return null;
         } else {
             // we found some files
             if (LOG.isTraceEnabled()) {
-                LOG.trace("Found {} in directory: {}", dirFiles.length, directory.getPath());
+                LOG.trace("Found {} in directory: {}", entries.size(), directory.getPath());
+            }
+            if (getEndpoint().isPreSort()) {
+                entries.sort(Comparator.comparing(e -> e.file.getAbsoluteFile()));
             }
         }
 
-        return dirFiles;
+        return entries;
+    }
+
+    private List<DirectoryEntry> getListing(File directory, Future<List<DirectoryEntry>> listing) {
+        try {
+            return listing.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GenericFileOperationFailedException("Interrupted while listing directory: " + directory, e);
+        } catch (ExecutionException e) {
+            throw new GenericFileOperationFailedException("Error listing directory: " + directory, e.getCause());
+        }
     }
 
     private void readAttributes(File file, Path path, Map<String, Object> allAttributes, String attribute) {
@@ -239,6 +502,20 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
      * @return                  wrapped as a GenericFile
      */
     public static GenericFile<File> asGenericFile(String endpointPath, File file, String charset, boolean probeContentType) {
+        return asGenericFile(endpointPath, file, null, charset, probeContentType);
+    }
+
+    /**
+     * Creates a new GenericFile<File> based on the given file and its basic attributes.
+     *
+     * @param  endpointPath     the starting directory the endpoint was configured with
+     * @param  file             the source file
+     * @param  attributes       the basic attributes of the file, or <tt>null</tt> to read them lazily
+     * @param  probeContentType whether to probe the content type of the file or not
+     * @return                  wrapped as a GenericFile
+     */
+    public static GenericFile<File> asGenericFile(
+            String endpointPath, File file, BasicFileAttributes attributes, String charset, boolean probeContentType) {
         GenericFile<File> answer = new GenericFile<>(probeContentType);
         // use file specific binding
         answer.setBinding(new FileBinding());
@@ -247,7 +524,7 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         answer.setEndpointPath(endpointPath);
         answer.setFile(file);
         answer.setFileNameOnly(file.getName());
-        answer.setDirectory(file.isDirectory());
+        answer.setDirectory(attributes != null ? attributes.isDirectory() : file.isDirectory());
         // must use FileUtil.isAbsolute to have consistent check for whether the
         // file is
         // absolute or not. As windows do not consider \ paths as absolute where
@@ -260,6 +537,11 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         answer.setAbsolute(FileUtil.isAbsolute(file));
         answer.setAbsoluteFilePath(file.getAbsolutePath());
 
+        if (attributes != null) {
+            // use the attributes which have been read when listing the directory
+            answer.setFileLength(attributes.size());
+            answer.setLastModified(attributes.lastModifiedTime().toMillis());
+        }
         // file length and last modified are loaded lazily
         answer.setFileLengthSupplier(file::length);
         answer.setLastModifiedSupplier(file::lastModified);
@@ -324,7 +606,28 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             resumeStrategy.loadCache();
         }
 
+        if (getEndpoint().isRecursive() && getEndpoint().getDirectoryScanThreads() > 1) {
+            scanExecutor = getEndpoint().getCamelContext().getExecutorServiceManager().newFixedThreadPool(this,
+                    "FileDirectoryScanner", getEndpoint().getDirectoryScanThreads());
+        }
+
         super.doStart();
+
+        if (getEndpoint().isWatchDirectory()) {
+            startWatching();
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        stopWatching();
+
+        super.doStop();
+
+        if (scanExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(scanExecutor);
+            scanExecutor = null;
+        }
     }
 
     @Override
@@ -341,4 +644,83 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     public String adapterFactoryService() {
         return "file-adapter-factory";
     }
+
+    /**
+     * Lists the valid sub directories of a directory ahead on the scan threads, in the order they are polled. At most
+     * directoryScanThreads listings are held at any time, and the next one is submitted when a listing is taken.
+     */
+    private final class DirectoryListings {
+        private final Set<File> valid = new HashSet<>();
+        private final Deque<File> pending = new ArrayDeque<>();
+        private final Map<File, Future<List<DirectoryEntry>>> listings = new LinkedHashMap<>();
+
+        private DirectoryListings(List<DirectoryEntry> entries, File[] files) {
+            for (DirectoryEntry entry : entries) {
+                if (entry.attributes != null && entry.attributes.isDirectory()) {
+                    // apply the directory filters before listing, the same way as when polling the directory
+                    GenericFile<File> gf = asGenericFile(endpointPath, entry.file, entry.attributes,
+                            getEndpoint().getCharset(), getEndpoint().isProbeContentType());
+                    if (isValidFile(gf, true, files)) {
+                        valid.add(entry.file);
+                        pending.add(entry.file);
+                    }
+                }
+            }
+            submitPending();
+        }
+
+        private boolean isValid(File directory) {
+            return valid.contains(directory);
+        }
+
+        private List<DirectoryEntry> take(File directory) {
+            Future<List<DirectoryEntry>> listing = null;
+            // the listings ahead of the directory were skipped (such as by the resume strategy)
+            for (Iterator<Map.Entry<File, Future<List<DirectoryEntry>>>> it = listings.entrySet().iterator();
+                 it.hasNext() && listing == null;) {
+                Map.Entry<File, Future<List<DirectoryEntry>>> entry = it.next();
+                it.remove();
+                if (entry.getKey().equals(directory)) {
+                    listing = entry.getValue();
+                } else {
+                    entry.getValue().cancel(true);
+                }
+            }
+            if (listing == null) {
+                // not submitted yet, so drop the skipped directories ahead of it
+                File next;
+                do {
+                    next = pending.poll();
+                } while (next != null && !next.equals(directory));
+            }
+            submitPending();
+            return listing != null ? getListing(directory, listing) : listFiles(directory);
+        }
+
+        private void submitPending() {
+            while (listings.size() < getEndpoint().getDirectoryScanThreads() && !pending.isEmpty()) {
+                File directory = pending.poll();
+                listings.put(directory, scanExecutor.submit(() -> listFiles(directory)));
+            }
+        }
+
+        private void cancel() {
+            pending.clear();
+            listings.values().forEach(f -> f.cancel(true));
+            listings.clear();
+        }
+    }
+
+    /**
+     * A file found when listing a directory, along with its basic attributes (if they could be read).
+     */
+    private static final class DirectoryEntry {
+        private final File file;
+        private final BasicFileAttributes attributes;
+
+        private DirectoryEntry(File file, BasicFileAttributes attributes) {
+            this.file = file;
+            this.attributes = attributes;
+        }
+    }
 }
@@ -75,6 +75,10 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced", defaultValue = "1")
+    private int directoryScanThreads = 1;
+    @UriParam(label = "consumer")
+    private boolean watchDirectory;
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean forceWrites = true;
     @UriParam(label = "producer,advanced")
@@ -348,6 +352,34 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.probeContentType = probeContentType;
     }
 
+    public int getDirectoryScanThreads() {
+        return directoryScanThreads;
+    }
+
+    /**
+     * Number of threads used to list the sub directories when consuming recursively. When more than one, the sub
+     * directories of a directory are listed in parallel ahead of being polled, which can speedup polling deep
+     * directory trees on file systems with high latency (such as network shares). The files are still selected in the
+     * same order as when using a single thread.
+     */
+    public void setDirectoryScanThreads(int directoryScanThreads) {
+        this.directoryScanThreads = directoryScanThreads;
+    }
+
+    public boolean isWatchDirectory() {
+        return watchDirectory;
+    }
+
+    /**
+     * Whether to watch the directory for new or modified files, using the file system watch service, and poll right
+     * away when files are changed. Only the directories which have changed are polled, and the regular polls (at the
+     * configured delay) scan all the directories as a safety net, in case some changes were missed. Consider setting a
+     * higher delay when using this option.
+     */
+    public void setWatchDirectory(boolean watchDirectory) {
+        this.watchDirectory = watchDirectory;
+    }
+
     public String getExtendedAttributes() {
         return extendedAttributes;
     }
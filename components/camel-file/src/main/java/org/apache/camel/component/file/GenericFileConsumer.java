@@ -22,6 +22,8 @@ import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
 
 import org.apache.camel.CamelContextAware;
@@ -60,6 +62,8 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     private final Pattern excludePattern;
     private final String[] includeExt;
     private final String[] excludeExt;
+    private final Lock pollLock = new ReentrantLock();
+    private boolean triggeredPoll;
 
     public GenericFileConsumer(GenericFileEndpoint<T> endpoint, Processor processor, GenericFileOperations<T> operations,
                                GenericFileProcessStrategy<T> processStrategy) {
@@ -100,6 +104,64 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         this.eagerLimitMaxMessagesPerPoll = eagerLimitMaxMessagesPerPoll;
     }
 
+    @Override
+    public void run() {
+        // polls can also be triggered outside the scheduler, so make sure they are not run concurrently
+        pollLock.lock();
+        try {
+            super.run();
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    /**
+     * Polls right away, instead of waiting for the next scheduled poll, such as when the consumer has been notified
+     * that new files are available. The poll is not run concurrently with the scheduled polls, and does not count
+     * towards the scheduler bookkeeping (such as the repeat count and the backoff counters).
+     */
+    protected void triggerPoll() {
+        pollLock.lock();
+        try {
+            triggeredPoll = true;
+            if (!isPollAllowed()) {
+                LOG.trace("Cannot trigger poll: {} as polling is not allowed", endpoint);
+                return;
+            }
+            try {
+                if (getPollStrategy().begin(this, endpoint)) {
+                    int polledMessages = poll();
+                    LOG.trace("Triggered poll polled {} messages", polledMessages);
+                    getPollStrategy().commit(this, endpoint, polledMessages);
+                } else {
+                    LOG.debug("Cannot begin triggered poll as pollStrategy returned false: {}", getPollStrategy());
+                }
+            } catch (Exception e) {
+                try {
+                    // a retry is left to the next scheduled poll
+                    getPollStrategy().rollback(this, endpoint, 0, e);
+                } catch (Exception t) {
+                    LOG.debug("Error during rollback of triggered poll. This exception will be ignored.", t);
+                }
+                if (isRunAllowed()) {
+                    getExceptionHandler().handleException("Failed polling endpoint: " + endpoint
+                                                          + ". Will try again at next poll",
+                            e);
+                }
+            }
+        } finally {
+            triggeredPoll = false;
+            pollLock.unlock();
+        }
+    }
+
+    /**
+     * Whether the current poll has been triggered by {@link #triggerPoll()} rather than by the scheduler.
+     */
+    protected boolean isTriggeredPoll() {
+        return triggeredPoll;
+    }
+
     /**
      * Creates the exchange from the polled file
      */
@@ -40,6 +40,9 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoOffsetReset": getOrCreateConfiguration(target).setAutoOffsetReset(property(camelContext, java.lang.String.class, value)); return true;
         case "autowiredenabled":
         case "autowiredEnabled": target.setAutowiredEnabled(property(camelContext, boolean.class, value)); return true;
+        case "batching": getOrCreateConfiguration(target).setBatching(property(camelContext, boolean.class, value)); return true;
+        case "batchingintervalms":
+        case "batchingIntervalMs": getOrCreateConfiguration(target).setBatchingIntervalMs(property(camelContext, java.lang.Integer.class, value)); return true;
         case "batchwithindividualheaders":
         case "batchWithIndividualHeaders": getOrCreateConfiguration(target).setBatchWithIndividualHeaders(property(camelContext, boolean.class, value)); return true;
         case "breakonfirsterror":
@@ -162,6 +165,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "reconnectBackoffMs": getOrCreateConfiguration(target).setReconnectBackoffMs(property(camelContext, java.lang.Integer.class, value)); return true;
         case "recordmetadata":
         case "recordMetadata": getOrCreateConfiguration(target).setRecordMetadata(property(camelContext, boolean.class, value)); return true;
+        case "recordprocessingorder":
+        case "recordProcessingOrder": getOrCreateConfiguration(target).setRecordProcessingOrder(property(camelContext, java.lang.String.class, value)); return true;
+        case "recordprocessingthreads":
+        case "recordProcessingThreads": getOrCreateConfiguration(target).setRecordProcessingThreads(property(camelContext, int.class, value)); return true;
         case "requestrequiredacks":
         case "requestRequiredAcks": getOrCreateConfiguration(target).setRequestRequiredAcks(property(camelContext, java.lang.String.class, value)); return true;
         case "requesttimeoutms":
@@ -262,6 +269,9 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoOffsetReset": return java.lang.String.class;
         case "autowiredenabled":
         case "autowiredEnabled": return boolean.class;
+        case "batching": return boolean.class;
+        case "batchingintervalms":
+        case "batchingIntervalMs": return java.lang.Integer.class;
         case "batchwithindividualheaders":
         case "batchWithIndividualHeaders": return boolean.class;
         case "breakonfirsterror":
@@ -384,6 +394,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "reconnectBackoffMs": return java.lang.Integer.class;
         case "recordmetadata":
         case "recordMetadata": return boolean.class;
+        case "recordprocessingorder":
+        case "recordProcessingOrder": return java.lang.String.class;
+        case "recordprocessingthreads":
+        case "recordProcessingThreads": return int.class;
         case "requestrequiredacks":
         case "requestRequiredAcks": return java.lang.String.class;
         case "requesttimeoutms":
@@ -480,6 +494,9 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoOffsetReset": return getOrCreateConfiguration(target).getAutoOffsetReset();
         case "autowiredenabled":
         case "autowiredEnabled": return target.isAutowiredEnabled();
+        case "batching": return getOrCreateConfiguration(target).isBatching();
+        case "batchingintervalms":
+        case "batchingIntervalMs": return getOrCreateConfiguration(target).getBatchingIntervalMs();
         case "batchwithindividualheaders":
         case "batchWithIndividualHeaders": return getOrCreateConfiguration(target).isBatchWithIndividualHeaders();
         case "breakonfirsterror":
@@ -602,6 +619,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "reconnectBackoffMs": return getOrCreateConfiguration(target).getReconnectBackoffMs();
         case "recordmetadata":
         case "recordMetadata": return getOrCreateConfiguration(target).isRecordMetadata();
+        case "recordprocessingorder":
+        case "recordProcessingOrder": return getOrCreateConfiguration(target).getRecordProcessingOrder();
+        case "recordprocessingthreads":
+        case "recordProcessingThreads": return getOrCreateConfiguration(target).getRecordProcessingThreads();
         case "requestrequiredacks":
         case "requestRequiredAcks": return getOrCreateConfiguration(target).getRequestRequiredAcks();
         case "requesttimeoutms":
@@ -31,6 +31,9 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoCommitIntervalMs": target.getConfiguration().setAutoCommitIntervalMs(property(camelContext, java.lang.Integer.class, value)); return true;
         case "autooffsetreset":
         case "autoOffsetReset": target.getConfiguration().setAutoOffsetReset(property(camelContext, java.lang.String.class, value)); return true;
+        case "batching": target.getConfiguration().setBatching(property(camelContext, boolean.class, value)); return true;
+        case "batchingintervalms":
+        case "batchingIntervalMs": target.getConfiguration().setBatchingIntervalMs(property(camelContext, java.lang.Integer.class, value)); return true;
         case "batchwithindividualheaders":
         case "batchWithIndividualHeaders": target.getConfiguration().setBatchWithIndividualHeaders(property(camelContext, boolean.class, value)); return true;
         case "breakonfirsterror":
@@ -150,6 +153,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "reconnectBackoffMs": target.getConfiguration().setReconnectBackoffMs(property(camelContext, java.lang.Integer.class, value)); return true;
         case "recordmetadata":
         case "recordMetadata": target.getConfiguration().setRecordMetadata(property(camelContext, boolean.class, value)); return true;
+        case "recordprocessingorder":
+        case "recordProcessingOrder": target.getConfiguration().setRecordProcessingOrder(property(camelContext, java.lang.String.class, value)); return true;
+        case "recordprocessingthreads":
+        case "recordProcessingThreads": target.getConfiguration().setRecordProcessingThreads(property(camelContext, int.class, value)); return true;
         case "requestrequiredacks":
         case "requestRequiredAcks": target.getConfiguration().setRequestRequiredAcks(property(camelContext, java.lang.String.class, value)); return true;
         case "requesttimeoutms":
@@ -237,6 +244,9 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoCommitIntervalMs": return java.lang.Integer.class;
         case "autooffsetreset":
         case "autoOffsetReset": return java.lang.String.class;
+        case "batching": return boolean.class;
+        case "batchingintervalms":
+        case "batchingIntervalMs": return java.lang.Integer.class;
         case "batchwithindividualheaders":
         case "batchWithIndividualHeaders": return boolean.class;
         case "breakonfirsterror":
@@ -356,6 +366,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "reconnectBackoffMs": return java.lang.Integer.class;
         case "recordmetadata":
         case "recordMetadata": return boolean.class;
+        case "recordprocessingorder":
+        case "recordProcessingOrder": return java.lang.String.class;
+        case "recordprocessingthreads":
+        case "recordProcessingThreads": return int.class;
         case "requestrequiredacks":
         case "requestRequiredAcks": return java.lang.String.class;
         case "requesttimeoutms":
@@ -444,6 +458,9 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoCommitIntervalMs": return target.getConfiguration().getAutoCommitIntervalMs();
         case "autooffsetreset":
         case "autoOffsetReset": return target.getConfiguration().getAutoOffsetReset();
+        case "batching": return target.getConfiguration().isBatching();
+        case "batchingintervalms":
+        case "batchingIntervalMs": return target.getConfiguration().getBatchingIntervalMs();
         case "batchwithindividualheaders":
         case "batchWithIndividualHeaders": return target.getConfiguration().isBatchWithIndividualHeaders();
         case "breakonfirsterror":
@@ -563,6 +580,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "reconnectBackoffMs": return target.getConfiguration().getReconnectBackoffMs();
         case "recordmetadata":
         case "recordMetadata": return target.getConfiguration().isRecordMetadata();
+        case "recordprocessingorder":
+        case "recordProcessingOrder": return target.getConfiguration().getRecordProcessingOrder();
+        case "recordprocessingthreads":
+        case "recordProcessingThreads": return target.getConfiguration().getRecordProcessingThreads();
         case "requestrequiredacks":
         case "requestRequiredAcks": return target.getConfiguration().getRequestRequiredAcks();
         case "requesttimeoutms":
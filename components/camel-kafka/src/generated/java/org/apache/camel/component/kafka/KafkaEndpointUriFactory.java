@@ -21,13 +21,15 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(103);
+        Set<String> props = new HashSet<>(107);
         props.add("additionalProperties");
         props.add("allowManualCommit");
         props.add("autoCommitEnable");
         props.add("autoCommitIntervalMs");
         props.add("autoOffsetReset");
         props.add("batchWithIndividualHeaders");
+        props.add("batching");
+        props.add("batchingIntervalMs");
         props.add("breakOnFirstError");
         props.add("bridgeErrorHandler");
         props.add("brokers");
@@ -88,6 +90,8 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
         props.add("reconnectBackoffMaxMs");
         props.add("reconnectBackoffMs");
         props.add("recordMetadata");
+        props.add("recordProcessingOrder");
+        props.add("recordProcessingThreads");
         props.add("requestRequiredAcks");
         props.add("requestTimeoutMs");
         props.add("retries");
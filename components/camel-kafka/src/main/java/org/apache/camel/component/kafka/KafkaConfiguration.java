@@ -77,6 +77,14 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
 
     @UriParam(label = "consumer", defaultValue = "1")
     private int consumersCount = 1;
+    @UriParam(label = "consumer", defaultValue = "1")
+    private int recordProcessingThreads = 1;
+    @UriParam(label = "consumer", defaultValue = "partition", enums = "partition,key")
+    private String recordProcessingOrder = "partition";
+    @UriParam(label = "consumer")
+    private boolean batching;
+    @UriParam(label = "consumer")
+    private Integer batchingIntervalMs;
     @UriParam(label = "consumer", description = "To use a custom KafkaHeaderDeserializer to deserialize kafka headers values")
     private KafkaHeaderDeserializer headerDeserializer = new DefaultKafkaHeaderDeserializer();
 
@@ -680,6 +688,61 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.consumersCount = consumersCount;
     }
 
+    public int getRecordProcessingThreads() {
+        return recordProcessingThreads;
+    }
+
+    /**
+     * The number of threads each consumer uses to process the records returned by a poll in parallel. Records are
+     * dispatched to the threads by partition (or by record key), so the order of the records is preserved per
+     * partition (or key). The consumer waits for all the records of a poll to be processed before polling again, and
+     * only commits the offsets of the records which have been processed without any gap. The default value of 1 means
+     * the records are processed one by one by the consumer thread. This cannot be used together with allowManualCommit.
+     */
+    public void setRecordProcessingThreads(int recordProcessingThreads) {
+        this.recordProcessingThreads = recordProcessingThreads;
+    }
+
+    public String getRecordProcessingOrder() {
+        return recordProcessingOrder;
+    }
+
+    /**
+     * When recordProcessingThreads is enabled, whether the order of the records is preserved per partition, or only
+     * per record key within a partition which allows records of the same partition to be processed in parallel.
+     */
+    public void setRecordProcessingOrder(String recordProcessingOrder) {
+        this.recordProcessingOrder = recordProcessingOrder;
+    }
+
+    public boolean isBatching() {
+        return batching;
+    }
+
+    /**
+     * Whether to process the records of a poll as a single exchange, instead of one exchange per record. The body of
+     * the exchange is a java.util.List of exchanges, one for each record with the same body and headers as when not
+     * batching. The maximum size of a batch is the maxPollRecords option. The offsets of the records of the batch are
+     * committed once the batch has been processed, and when allowManualCommit is enabled the KafkaManualCommit header
+     * commits the whole batch.
+     */
+    public void setBatching(boolean batching) {
+        this.batching = batching;
+    }
+
+    public Integer getBatchingIntervalMs() {
+        return batchingIntervalMs;
+    }
+
+    /**
+     * When batching is enabled, the time to accumulate records over several polls before the batch is processed, unless
+     * the batch has reached the maxPollRecords size before. By default a batch holds the records of a single poll. As
+     * the records are held by the consumer over several polls, this should be used with autoCommitEnable set to false.
+     */
+    public void setBatchingIntervalMs(Integer batchingIntervalMs) {
+        this.batchingIntervalMs = batchingIntervalMs;
+    }
+
     public String getClientId() {
         return clientId;
     }
@@ -51,6 +51,7 @@ public class KafkaConsumer extends DefaultConsumer
     private static final Logger LOG = LoggerFactory.getLogger(KafkaConsumer.class);
 
     protected ExecutorService executor;
+    protected ExecutorService recordProcessingExecutor;
     private final KafkaEndpoint endpoint;
     private KafkaConsumerHealthCheck consumerHealthCheck;
     private WritableHealthCheckRepository healthCheckRepository;
@@ -148,6 +149,27 @@ public class KafkaConsumer extends DefaultConsumer
 
         executor = endpoint.createExecutor();
 
+        if (endpoint.getConfiguration().getRecordProcessingThreads() > 1) {
+            if (endpoint.getConfiguration().isAllowManualCommit()) {
+                // manual commits are done from the processing threads but the kafka consumer is not thread-safe
+                throw new IllegalArgumentException(
+                        "The option recordProcessingThreads cannot be used together with allowManualCommit");
+            }
+            recordProcessingExecutor = endpoint.createRecordProcessingExecutor();
+        }
+
+        if (endpoint.getConfiguration().isBatching()) {
+            if (endpoint.getConfiguration().getRecordProcessingThreads() > 1) {
+                throw new IllegalArgumentException(
+                        "The option batching cannot be used together with recordProcessingThreads");
+            }
+            if (endpoint.getConfiguration().getBatchingIntervalMs() != null
+                    && endpoint.getConfiguration().isAutoCommitEnable()) {
+                LOG.warn("Batching records over several polls with autoCommitEnable may commit records which have"
+                         + " not been processed yet. It is recommended to set autoCommitEnable to false.");
+            }
+        }
+
         String topic = endpoint.getConfiguration().getTopic();
         Pattern pattern = null;
         if (endpoint.getConfiguration().isTopicIsPattern()) {
@@ -206,6 +228,12 @@ public class KafkaConsumer extends DefaultConsumer
         tasks.clear();
         executor = null;
 
+        if (recordProcessingExecutor != null) {
+            // the fetch tasks are done so no more records are dispatched to the processing threads
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(recordProcessingExecutor);
+            recordProcessingExecutor = null;
+        }
+
         if (stopOffsetRepo) {
             StateRepository<String, String> repo = endpoint.getConfiguration().getOffsetRepository();
             LOG.debug("Stopping OffsetRepository: {}", repo);
@@ -235,6 +263,10 @@ public class KafkaConsumer extends DefaultConsumer
         super.doResume();
     }
 
+    ExecutorService getRecordProcessingExecutor() {
+        return recordProcessingExecutor;
+    }
+
     public List<TaskHealthState> healthStates() {
         return tasks.stream().map(t -> t.healthState()).collect(Collectors.toList());
     }
@@ -18,7 +18,9 @@ package org.apache.camel.component.kafka;
 
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
@@ -27,6 +29,8 @@ import org.apache.camel.component.kafka.consumer.CommitManager;
 import org.apache.camel.component.kafka.consumer.CommitManagers;
 import org.apache.camel.component.kafka.consumer.errorhandler.KafkaConsumerListener;
 import org.apache.camel.component.kafka.consumer.errorhandler.KafkaErrorStrategies;
+import org.apache.camel.component.kafka.consumer.support.KafkaParallelRecordProcessorFacade;
+import org.apache.camel.component.kafka.consumer.support.KafkaRecordBatchingProcessorFacade;
 import org.apache.camel.component.kafka.consumer.support.KafkaRecordProcessorFacade;
 import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
 import org.apache.camel.component.kafka.consumer.support.classic.ClassicRebalanceListener;
@@ -81,6 +85,8 @@ public class KafkaFetchRecords implements Runnable {
     private CommitManager commitManager;
     private volatile Exception lastError;
     private final KafkaConsumerListener consumerListener;
+    // only used from the consumer thread (including the rebalance listener invoked while polling)
+    private KafkaRecordProcessorFacade recordProcessorFacade;
 
     private volatile boolean terminated;
     private volatile long currentBackoffInterval;
@@ -285,6 +291,23 @@ public class KafkaFetchRecords implements Runnable {
                     commitManager, consumer, kafkaConsumer.getResumeStrategy());
         }
 
+        // the facade must drop its pending records of the revoked partitions, before their offsets are committed
+        ConsumerRebalanceListener delegate = listener;
+        listener = new ConsumerRebalanceListener() {
+            @Override
+            public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+                if (recordProcessorFacade != null) {
+                    recordProcessorFacade.onPartitionsRevoked(partitions);
+                }
+                delegate.onPartitionsRevoked(partitions);
+            }
+
+            @Override
+            public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+                delegate.onPartitionsAssigned(partitions);
+            }
+        };
+
         if (LOG.isInfoEnabled()) {
             LOG.info("Subscribing {} to {}", threadId, getPrintableTopic());
         }
@@ -312,8 +335,7 @@ public class KafkaFetchRecords implements Runnable {
                 LOG.trace("Polling {} from {} with timeout: {}", threadId, getPrintableTopic(), pollTimeoutMs);
             }
 
-            KafkaRecordProcessorFacade recordProcessorFacade = new KafkaRecordProcessorFacade(
-                    kafkaConsumer, threadId, commitManager, consumerListener);
+            recordProcessorFacade = createRecordProcessorFacade();
 
             Duration pollDuration = Duration.ofMillis(pollTimeoutMs);
             ProcessingResult lastResult = null;
@@ -378,6 +400,18 @@ public class KafkaFetchRecords implements Runnable {
         }
     }
 
+    private KafkaRecordProcessorFacade createRecordProcessorFacade() {
+        if (kafkaConsumer.getEndpoint().getConfiguration().isBatching()) {
+            return new KafkaRecordBatchingProcessorFacade(kafkaConsumer, threadId, commitManager, consumerListener);
+        }
+        ExecutorService recordProcessingExecutor = kafkaConsumer.getRecordProcessingExecutor();
+        if (recordProcessingExecutor != null) {
+            return new KafkaParallelRecordProcessorFacade(
+                    kafkaConsumer, threadId, commitManager, consumerListener, recordProcessingExecutor);
+        }
+        return new KafkaRecordProcessorFacade(kafkaConsumer, threadId, commitManager, consumerListener);
+    }
+
     private void updateTaskState() {
         switch (state) {
             case PAUSE_REQUESTED:
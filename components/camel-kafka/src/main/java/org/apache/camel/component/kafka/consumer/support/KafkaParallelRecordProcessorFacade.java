@@ -0,0 +1,346 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.consumer.AbstractCommitManager;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.component.kafka.consumer.errorhandler.KafkaConsumerListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.InterruptException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes the records of a poll in parallel using a pool of threads.
+ * <p/>
+ * The records are grouped in lanes by partition, or by record key within a partition, and each lane is processed in
+ * order by a single thread, so the order of the records is preserved per partition (or key). The consumer thread waits
+ * for all the lanes to be done before it records and commits the offsets, so the kafka consumer (which is not
+ * thread-safe) is only used from the consumer thread. As the records of a partition may complete out of order, only the
+ * offset of the last record processed without any gap before it is committed.
+ * <p/>
+ * The consumer listener (such as when the consumer is pausable) is notified about the outcome of each record on the
+ * consumer thread as well, once all the lanes are done, so when it pauses the consumer the other records of the poll
+ * have already been processed.
+ */
+public class KafkaParallelRecordProcessorFacade extends KafkaRecordProcessorFacade {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaParallelRecordProcessorFacade.class);
+
+    private final ExecutorService executorService;
+    private final boolean orderByKey;
+    private final boolean breakOnFirstError;
+
+    public KafkaParallelRecordProcessorFacade(KafkaConsumer camelKafkaConsumer, String threadId,
+                                              CommitManager commitManager, KafkaConsumerListener consumerListener,
+                                              ExecutorService executorService) {
+        super(camelKafkaConsumer, threadId, commitManager, consumerListener);
+        this.executorService = executorService;
+        this.orderByKey = "key".equals(camelKafkaConsumer.getEndpoint().getConfiguration().getRecordProcessingOrder());
+        this.breakOnFirstError = camelKafkaConsumer.getEndpoint().getConfiguration().isBreakOnFirstError();
+    }
+
+    @Override
+    public ProcessingResult processPolledRecords(
+            ConsumerRecords<Object, Object> allRecords, ProcessingResult resultFromPreviousPoll) {
+        logRecords(allRecords);
+
+        if (allRecords.isEmpty()) {
+            return resultFromPreviousPoll == null ? ProcessingResult.newUnprocessed() : resultFromPreviousPoll;
+        }
+
+        List<PartitionProgress> partitions = new ArrayList<>();
+        Map<Object, List<Slot>> lanes = new LinkedHashMap<>();
+        Iterator<TopicPartition> partitionIterator = allRecords.partitions().iterator();
+        while (partitionIterator.hasNext()) {
+            TopicPartition partition = partitionIterator.next();
+            List<ConsumerRecord<Object, Object>> partitionRecords = allRecords.records(partition);
+            logRecordsInPartition(partitionRecords, partition);
+
+            PartitionProgress progress
+                    = new PartitionProgress(partition, partitionRecords, partitionIterator.hasNext());
+            partitions.add(progress);
+            for (int i = 0; i < partitionRecords.size(); i++) {
+                Object lane = laneOf(partition, partitionRecords.get(i));
+                lanes.computeIfAbsent(lane, k -> new ArrayList<>()).add(new Slot(progress, i));
+            }
+        }
+
+        List<Future<?>> futures = new ArrayList<>(lanes.size());
+        try {
+            for (List<Slot> lane : lanes.values()) {
+                Future<?> future = executorService.submit(() -> processLane(lane));
+                futures.add(future);
+                // the records of a lane are all from the same partition
+                lane.get(0).progress.lanes.add(future);
+            }
+        } catch (RejectedExecutionException e) {
+            // the consumer is stopping, the records not processed are not committed so they are consumed again
+            LOG.debug("Cannot process the remaining records on thread {} as the processing pool is shutdown", threadId);
+        }
+
+        try {
+            awaitLanes(futures);
+        } catch (InterruptedException e) {
+            LOG.info("Interrupted while waiting for the records to be processed on thread {}", threadId);
+            futures.forEach(f -> f.cancel(true));
+            // only commit the partitions of which all the lanes completed, as the others may still be running
+            for (PartitionProgress progress : partitions) {
+                if (progress.isCompleted()) {
+                    commitPartition(progress);
+                }
+            }
+            // restores the interrupt flag and stops consuming
+            throw new InterruptException("Interrupted while processing records on thread " + threadId, e);
+        }
+
+        return commitPartitions(partitions);
+    }
+
+    private Object laneOf(TopicPartition partition, ConsumerRecord<Object, Object> record) {
+        Object key = record.key();
+        if (!orderByKey || key == null) {
+            return partition;
+        }
+        if (key instanceof byte[]) {
+            // arrays do not implement equals so wrap the key to compare by content
+            key = ByteBuffer.wrap((byte[]) key);
+        }
+        return new LaneKey(partition, key);
+    }
+
+    private void awaitLanes(List<Future<?>> futures) throws InterruptedException {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                LOG.warn("Error processing records on thread {}: {}", threadId, e.getCause().getMessage(),
+                        e.getCause());
+            }
+        }
+    }
+
+    private void processLane(List<Slot> lane) {
+        for (Slot slot : lane) {
+            PartitionProgress progress = slot.progress;
+            if (isStopping() || progress.failed) {
+                // the remaining records of the lane cannot be committed anymore
+                return;
+            }
+
+            ConsumerRecord<Object, Object> record = progress.records.get(slot.index);
+            logRecord(record);
+
+            Exchange exchange = camelKafkaConsumer.createExchange(false);
+            try {
+                boolean recordHasNext = slot.index < progress.records.size() - 1;
+                if (!kafkaRecordProcessor.process(exchange, progress.partition, progress.partitionHasNext,
+                        recordHasNext, record)) {
+                    progress.failures[slot.index] = true;
+                    if (breakOnFirstError) {
+                        LOG.warn("Error during processing {} from topic: {}", exchange, progress.partition.topic(),
+                                exchange.getException());
+                        progress.failed = true;
+                        return;
+                    }
+                    camelKafkaConsumer.getExceptionHandler().handleException("Error during processing", exchange,
+                            exchange.getException());
+                }
+                progress.completed[slot.index] = true;
+            } finally {
+                camelKafkaConsumer.releaseExchange(exchange, false);
+            }
+        }
+    }
+
+    private ProcessingResult commitPartitions(List<PartitionProgress> partitions) {
+        ProcessingResult result = ProcessingResult.newUnprocessed();
+        for (PartitionProgress progress : partitions) {
+            if (consumerListener != null) {
+                ProcessingResult stopResult = afterProcess(progress);
+                if (stopResult != null) {
+                    // the listener stopped the processing (such as by pausing the consumer)
+                    commitManager.commit(progress.partition);
+                    return stopResult;
+                }
+            }
+
+            long lastOffset = commitPartition(progress);
+            // report the offset of the partition which failed (if any)
+            if (!result.isBreakOnErrorHit()) {
+                result = new ProcessingResult(progress.failed, lastOffset, progress.failed);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Notifies the listener about the outcome of each record processed in the partition, in order, like when processing
+     * the records one at a time.
+     *
+     * @return the result of the record for which the listener stopped the processing, or <tt>null</tt> to continue
+     */
+    private ProcessingResult afterProcess(PartitionProgress progress) {
+        long offset = AbstractCommitManager.START_OFFSET;
+        for (int i = 0; i < progress.records.size(); i++) {
+            boolean completed = progress.completed[i];
+            if (!completed && !progress.failures[i]) {
+                // not processed
+                return null;
+            }
+
+            ProcessingResult recordResult;
+            if (progress.failures[i]) {
+                // a failed record which is not completed is the one which broke the processing of the partition
+                recordResult = new ProcessingResult(!completed, offset, true);
+            } else {
+                offset = progress.records.get(i).offset();
+                recordResult = new ProcessingResult(false, offset, false);
+            }
+            if (!consumerListener.afterProcess(recordResult)) {
+                if (offset != AbstractCommitManager.START_OFFSET) {
+                    commitManager.recordOffset(progress.partition, offset);
+                }
+                return recordResult;
+            }
+            if (!completed) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Commits the offset of the last record processed along with all the records before it in the partition.
+     *
+     * @return the committed offset
+     */
+    private long commitPartition(PartitionProgress progress) {
+        long lastOffset = progress.lastContiguousOffset();
+        if (progress.failed) {
+            LOG.warn("Will seek consumer to offset {} and start polling again.", lastOffset);
+            // force commit, so we resume on next poll where we failed except when the failure happened
+            // at the first message in a poll
+            if (lastOffset != AbstractCommitManager.START_OFFSET) {
+                commitManager.forceCommit(progress.partition, lastOffset);
+            }
+        } else {
+            if (lastOffset != AbstractCommitManager.START_OFFSET) {
+                commitManager.recordOffset(progress.partition, lastOffset);
+            }
+            LOG.debug("Committing offset {} on partition {}", lastOffset, progress.partition);
+            commitManager.commit(progress.partition);
+        }
+        return lastOffset;
+    }
+
+    private static final class PartitionProgress {
+        private final TopicPartition partition;
+        private final List<ConsumerRecord<Object, Object>> records;
+        private final boolean partitionHasNext;
+        // the lanes processing the records of this partition
+        private final List<Future<?>> lanes = new ArrayList<>(1);
+        // written by the processing threads and read by the consumer thread once all the lanes are done
+        private final boolean[] completed;
+        private final boolean[] failures;
+        private volatile boolean failed;
+
+        private PartitionProgress(TopicPartition partition, List<ConsumerRecord<Object, Object>> records,
+                                  boolean partitionHasNext) {
+            this.partition = partition;
+            this.records = records;
+            this.partitionHasNext = partitionHasNext;
+            this.completed = new boolean[records.size()];
+            this.failures = new boolean[records.size()];
+        }
+
+        /**
+         * Whether all the lanes processing the records of this partition completed (and were not cancelled)
+         */
+        private boolean isCompleted() {
+            for (Future<?> lane : lanes) {
+                if (!lane.isDone() || lane.isCancelled()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * The offset of the last record which has been processed along with all the records before it
+         */
+        private long lastContiguousOffset() {
+            long offset = AbstractCommitManager.START_OFFSET;
+            for (int i = 0; i < completed.length && completed[i]; i++) {
+                offset = records.get(i).offset();
+            }
+            return offset;
+        }
+    }
+
+    private static final class Slot {
+        private final PartitionProgress progress;
+        private final int index;
+
+        private Slot(PartitionProgress progress, int index) {
+            this.progress = progress;
+            this.index = index;
+        }
+    }
+
+    private static final class LaneKey {
+        private final TopicPartition partition;
+        private final Object key;
+
+        private LaneKey(TopicPartition partition, Object key) {
+            this.partition = partition;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof LaneKey)) {
+                return false;
+            }
+            LaneKey that = (LaneKey) o;
+            return partition.equals(that.partition) && key.equals(that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(partition, key);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.Message;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.consumer.AbstractCommitManager;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.component.kafka.consumer.DefaultKafkaManualBatchCommit;
+import org.apache.camel.component.kafka.consumer.KafkaManualCommit;
+import org.apache.camel.component.kafka.consumer.errorhandler.KafkaConsumerListener;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes the polled records in batches, as a single exchange with a {@link List} of exchanges as its body, one for
+ * each record.
+ * <p/>
+ * By default a batch holds the records of a single poll. When a batching interval is configured then the records are
+ * accumulated over the polls until the interval has elapsed, or until the batch holds the maximum number of records
+ * of a poll. The offsets of the records of the batch are committed once the batch has been processed. The pending
+ * records of the partitions which are revoked from the consumer are dropped, as they are consumed again by the new
+ * owner of these partitions.
+ */
+public class KafkaRecordBatchingProcessorFacade extends KafkaRecordProcessorFacade {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordBatchingProcessorFacade.class);
+
+    private final KafkaConfiguration configuration;
+    private final int maxBatchSize;
+    private final long batchingIntervalNanos;
+    private final List<ConsumerRecord<Object, Object>> batch = new ArrayList<>();
+    private long batchStartTime;
+
+    public KafkaRecordBatchingProcessorFacade(KafkaConsumer camelKafkaConsumer, String threadId,
+                                              CommitManager commitManager, KafkaConsumerListener consumerListener) {
+        super(camelKafkaConsumer, threadId, commitManager, consumerListener);
+        this.configuration = camelKafkaConsumer.getEndpoint().getConfiguration();
+        this.maxBatchSize = configuration.getMaxPollRecords() != null
+                ? configuration.getMaxPollRecords() : ConsumerConfig.DEFAULT_MAX_POLL_RECORDS;
+        this.batchingIntervalNanos = configuration.getBatchingIntervalMs() != null
+                ? TimeUnit.MILLISECONDS.toNanos(configuration.getBatchingIntervalMs()) : 0;
+    }
+
+    @Override
+    public ProcessingResult processPolledRecords(
+            ConsumerRecords<Object, Object> allRecords, ProcessingResult resultFromPreviousPoll) {
+        logRecords(allRecords);
+
+        ProcessingResult lastResult
+                = resultFromPreviousPoll == null ? ProcessingResult.newUnprocessed() : resultFromPreviousPoll;
+
+        for (ConsumerRecord<Object, Object> record : allRecords) {
+            if (isStopping()) {
+                // the records of the pending batch are not committed so they are consumed again
+                return lastResult;
+            }
+            logRecord(record);
+
+            if (batch.isEmpty()) {
+                batchStartTime = System.nanoTime();
+            }
+            batch.add(record);
+            if (batch.size() >= maxBatchSize) {
+                lastResult = processBatch();
+                if (!afterProcess(lastResult) || lastResult.isBreakOnErrorHit()) {
+                    return lastResult;
+                }
+            }
+        }
+
+        if (!batch.isEmpty() && !isStopping()
+                && (batchingIntervalNanos <= 0 || System.nanoTime() - batchStartTime >= batchingIntervalNanos)) {
+            lastResult = processBatch();
+            afterProcess(lastResult);
+        }
+
+        return lastResult;
+    }
+
+    /**
+     * Drops the pending records of the revoked partitions, as these partitions are now owned by another consumer which
+     * consumes these records again from the last committed offset.
+     */
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        int size = batch.size();
+        batch.removeIf(record -> partitions.contains(new TopicPartition(record.topic(), record.partition())));
+        if (batch.size() < size) {
+            LOG.debug("Dropped {} pending records of the revoked partitions on thread {}", size - batch.size(),
+                    threadId);
+        }
+    }
+
+    /**
+     * Notifies the listener (if any) about the result of the batch, where the offsets of the batch have already been
+     * committed.
+     *
+     * @return whether to continue processing the records, or <tt>false</tt> to stop (such as when the consumer has been
+     *         paused)
+     */
+    private boolean afterProcess(ProcessingResult result) {
+        return consumerListener == null || consumerListener.afterProcess(result);
+    }
+
+    private ProcessingResult processBatch() {
+        List<ConsumerRecord<Object, Object>> records = new ArrayList<>(batch);
+        batch.clear();
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Processing batch of {} records on thread {}", records.size(), threadId);
+        }
+
+        Exchange exchange = camelKafkaConsumer.createExchange(false);
+        try {
+            // the last record of each partition, which is the offset to commit
+            Map<TopicPartition, ConsumerRecord<Object, Object>> lastRecords = new LinkedHashMap<>();
+            List<Exchange> exchanges = new ArrayList<>(records.size());
+            for (ConsumerRecord<Object, Object> record : records) {
+                Exchange child = camelKafkaConsumer.getEndpoint().createExchange();
+                kafkaRecordProcessor.populateExchange(child, record);
+                exchanges.add(child);
+                lastRecords.put(new TopicPartition(record.topic(), record.partition()), record);
+            }
+
+            Message message = exchange.getMessage();
+            message.setBody(exchanges);
+            exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, exchanges.size());
+
+            if (configuration.isAllowManualCommit()) {
+                // allow Camel users to commit the whole batch from the route
+                List<KafkaManualCommit> commits = new ArrayList<>(lastRecords.size());
+                for (Map.Entry<TopicPartition, ConsumerRecord<Object, Object>> entry : lastRecords.entrySet()) {
+                    commits.add(commitManager.getManualCommit(exchange, entry.getKey(), entry.getValue()));
+                }
+                message.setHeader(KafkaConstants.MANUAL_COMMIT, new DefaultKafkaManualBatchCommit(commits));
+            }
+
+            boolean failed = !kafkaRecordProcessor.process(exchange);
+            if (failed) {
+                if (configuration.isBreakOnFirstError()) {
+                    if (LOG.isWarnEnabled()) {
+                        LOG.warn("Error during processing batch {} from topic: {}", exchange, configuration.getTopic(),
+                                exchange.getException());
+                        LOG.warn("Will seek consumer to the last committed offsets and start polling again.");
+                    }
+                    return new ProcessingResult(true, AbstractCommitManager.START_OFFSET, true);
+                }
+                camelKafkaConsumer.getExceptionHandler().handleException("Error during processing", exchange,
+                        exchange.getException());
+            }
+
+            long lastOffset = AbstractCommitManager.START_OFFSET;
+            for (Map.Entry<TopicPartition, ConsumerRecord<Object, Object>> entry : lastRecords.entrySet()) {
+                lastOffset = entry.getValue().offset();
+                commitManager.recordOffset(entry.getKey(), lastOffset);
+                LOG.debug("Committing offset on successful execution");
+                commitManager.commit(entry.getKey());
+            }
+
+            return new ProcessingResult(false, lastOffset, failed);
+        } finally {
+            camelKafkaConsumer.releaseExchange(exchange, false);
+        }
+    }
+}
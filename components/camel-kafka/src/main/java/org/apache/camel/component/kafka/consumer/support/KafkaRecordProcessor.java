@@ -86,11 +86,26 @@ public class KafkaRecordProcessor {
             boolean recordHasNext, ConsumerRecord<Object, Object> record, ProcessingResult lastResult,
             ExceptionHandler exceptionHandler) {
 
-        Message message = exchange.getMessage();
+        if (process(exchange, partition, partitionHasNext, recordHasNext, record)) {
+            return new ProcessingResult(false, record.offset(), false);
+        }
 
-        setupExchangeMessage(message, record);
+        boolean breakOnErrorExit = processException(exchange, partition, lastResult.getPartitionLastOffset(),
+                exceptionHandler);
+        return new ProcessingResult(breakOnErrorExit, lastResult.getPartitionLastOffset(), true);
+    }
 
-        propagateHeaders(record, exchange);
+    /**
+     * Sets up the exchange from the record and processes it, leaving the handling of a failure to the caller.
+     *
+     * @return <tt>true</tt> if the exchange was processed successfully
+     */
+    boolean process(
+            Exchange exchange, TopicPartition partition, boolean partitionHasNext,
+            boolean recordHasNext, ConsumerRecord<Object, Object> record) {
+
+        populateExchange(exchange, record);
+        Message message = exchange.getMessage();
 
         // if not auto commit then we have additional information on the exchange
         if (!autoCommitEnabled) {
@@ -106,18 +121,30 @@ public class KafkaRecordProcessor {
             message.setHeader(KafkaConstants.LAST_POLL_RECORD, !recordHasNext && !partitionHasNext);
         }
 
+        return process(exchange);
+    }
+
+    /**
+     * Sets up the message of the exchange from the record, with the record headers.
+     */
+    void populateExchange(Exchange exchange, ConsumerRecord<Object, Object> record) {
+        setupExchangeMessage(exchange.getMessage(), record);
+
+        propagateHeaders(record, exchange);
+    }
+
+    /**
+     * Processes the exchange which has already been set up, leaving the handling of a failure to the caller.
+     *
+     * @return <tt>true</tt> if the exchange was processed successfully
+     */
+    boolean process(Exchange exchange) {
         try {
             processor.process(exchange);
         } catch (Exception e) {
             exchange.setException(e);
         }
-        if (exchange.getException() != null) {
-            boolean breakOnErrorExit = processException(exchange, partition, lastResult.getPartitionLastOffset(),
-                    exceptionHandler);
-            return new ProcessingResult(breakOnErrorExit, lastResult.getPartitionLastOffset(), true);
-        } else {
-            return new ProcessingResult(false, record.offset(), exchange.getException() != null);
-        }
+        return exchange.getException() == null;
     }
 
     private boolean processException(
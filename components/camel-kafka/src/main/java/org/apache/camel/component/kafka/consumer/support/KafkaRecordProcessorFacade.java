@@ -17,6 +17,7 @@
 
 package org.apache.camel.component.kafka.consumer.support;
 
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
@@ -34,11 +35,11 @@ import org.slf4j.LoggerFactory;
 public class KafkaRecordProcessorFacade {
     private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordProcessorFacade.class);
 
-    private final KafkaConsumer camelKafkaConsumer;
-    private final String threadId;
-    private final KafkaRecordProcessor kafkaRecordProcessor;
-    private final CommitManager commitManager;
-    private final KafkaConsumerListener consumerListener;
+    protected final KafkaConsumer camelKafkaConsumer;
+    protected final String threadId;
+    protected final KafkaRecordProcessor kafkaRecordProcessor;
+    protected final CommitManager commitManager;
+    protected final KafkaConsumerListener consumerListener;
 
     public KafkaRecordProcessorFacade(KafkaConsumer camelKafkaConsumer, String threadId,
                                       CommitManager commitManager, KafkaConsumerListener consumerListener) {
@@ -50,7 +51,7 @@ public class KafkaRecordProcessorFacade {
         this.consumerListener = consumerListener;
     }
 
-    private boolean isStopping() {
+    protected boolean isStopping() {
         return camelKafkaConsumer.isStopping();
     }
 
@@ -96,14 +97,24 @@ public class KafkaRecordProcessorFacade {
         return lastResult;
     }
 
-    private void logRecordsInPartition(List<ConsumerRecord<Object, Object>> partitionRecords, TopicPartition partition) {
+    /**
+     * Invoked (on the consumer thread) when partitions are revoked from the consumer, before their offsets are committed
+     * for the last time.
+     *
+     * @param partitions the revoked partitions
+     */
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        // noop
+    }
+
+    protected void logRecordsInPartition(List<ConsumerRecord<Object, Object>> partitionRecords, TopicPartition partition) {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Records count {} received for partition {}", partitionRecords.size(),
                     partition);
         }
     }
 
-    private void logRecords(ConsumerRecords<Object, Object> allRecords) {
+    protected void logRecords(ConsumerRecords<Object, Object> allRecords) {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Last poll on thread {} resulted on {} records to process", threadId, allRecords.count());
         }
@@ -135,7 +146,7 @@ public class KafkaRecordProcessorFacade {
         return currentResult;
     }
 
-    private void logRecord(ConsumerRecord<Object, Object> record) {
+    protected void logRecord(ConsumerRecord<Object, Object> record) {
         if (LOG.isTraceEnabled()) {
             LOG.trace("Partition = {}, offset = {}, key = {}, value = {}", record.partition(),
                     record.offset(), record.key(), record.value());
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.kafka.consumer.errorhandler.KafkaConsumerListener;
+import org.apache.camel.spi.ExceptionHandler;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class KafkaParallelRecordProcessorFacadeTest
+        extends KafkaRecordProcessorFacadeTestSupport<KafkaParallelRecordProcessorFacade> {
+
+    private final Queue<Object> processed = new ConcurrentLinkedQueue<>();
+    private ExecutorService executorService;
+
+    @BeforeEach
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+        configuration.setAutoCommitEnable(false);
+        when(camelKafkaConsumer.getProcessor()).thenReturn(exchange -> {
+            Object body = exchange.getMessage().getBody();
+            if ("fail".equals(body)) {
+                throw new IllegalStateException("Forced");
+            }
+            processed.add(exchange.getMessage().getHeader(KafkaConstants.OFFSET));
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testProcessAndCommitAllRecords() {
+        ConsumerRecords<Object, Object> records = records(
+                PARTITION_0, "a", "b", "c", "d",
+                PARTITION_1, "a", "b");
+
+        ProcessingResult result = createFacade().processPolledRecords(records, null);
+
+        assertFalse(result.isBreakOnErrorHit());
+        assertEquals(6, processed.size());
+        verify(commitManager).recordOffset(PARTITION_0, 3);
+        verify(commitManager).recordOffset(PARTITION_1, 1);
+        verify(commitManager).commit(PARTITION_0);
+        verify(commitManager).commit(PARTITION_1);
+    }
+
+    @Test
+    public void testCommitOnlyContiguousOffsetsOnFailure() {
+        configuration.setBreakOnFirstError(true);
+        ConsumerRecords<Object, Object> records = records(
+                PARTITION_0, "a", "b", "fail", "d",
+                PARTITION_1, "a", "b");
+
+        ProcessingResult result = createFacade().processPolledRecords(records, null);
+
+        assertTrue(result.isBreakOnErrorHit());
+        // the offset of the partition which failed is reported
+        assertEquals(1, result.getPartitionLastOffset());
+        // the records after the failure in the same partition are not processed
+        assertFalse(processed.contains(3L));
+        verify(commitManager).forceCommit(PARTITION_0, 1);
+        verify(commitManager, never()).commit(PARTITION_0);
+        verify(commitManager).recordOffset(PARTITION_1, 1);
+        verify(commitManager).commit(PARTITION_1);
+    }
+
+    @Test
+    public void testContinueOnFailureWithoutBreakOnFirstError() {
+        ExceptionHandler exceptionHandler = mock(ExceptionHandler.class);
+        when(camelKafkaConsumer.getExceptionHandler()).thenReturn(exceptionHandler);
+        ConsumerRecords<Object, Object> records = records(PARTITION_0, "a", "fail", "c");
+
+        ProcessingResult result = createFacade().processPolledRecords(records, null);
+
+        assertFalse(result.isBreakOnErrorHit());
+        assertEquals(2, processed.size());
+        verify(exceptionHandler).handleException(any(), any(), any());
+        verify(commitManager).recordOffset(PARTITION_0, 2);
+        verify(commitManager, never()).forceCommit(any(), anyLong());
+    }
+
+    @Test
+    public void testListenerNotifiedPerRecord() {
+        ExceptionHandler exceptionHandler = mock(ExceptionHandler.class);
+        when(camelKafkaConsumer.getExceptionHandler()).thenReturn(exceptionHandler);
+        // stops the processing on failure, such as when pausing the consumer
+        KafkaConsumerListener consumerListener = mock(KafkaConsumerListener.class);
+        when(consumerListener.afterProcess(any()))
+                .thenAnswer(i -> !i.getArgument(0, ProcessingResult.class).isFailed());
+        ConsumerRecords<Object, Object> records = records(PARTITION_0, "a", "fail", "c");
+
+        ProcessingResult result = createFacade(consumerListener).processPolledRecords(records, null);
+
+        assertTrue(result.isFailed());
+        assertEquals(0, result.getPartitionLastOffset());
+        verify(consumerListener, times(2)).afterProcess(any());
+        // only the offset before the failure is committed
+        verify(commitManager).recordOffset(PARTITION_0, 0);
+        verify(commitManager, never()).recordOffset(PARTITION_0, 2);
+        verify(commitManager).commit(PARTITION_0);
+    }
+
+    @Test
+    public void testPreserveOrderPerKey() {
+        configuration.setRecordProcessingOrder("key");
+        List<ConsumerRecord<Object, Object>> list = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(new ConsumerRecord<>("test", 0, i, "key" + (i % 3), "value"));
+        }
+        ConsumerRecords<Object, Object> records = new ConsumerRecords<>(Collections.singletonMap(PARTITION_0, list));
+
+        Map<Object, Long> lastOffsetPerKey = new HashMap<>();
+        when(camelKafkaConsumer.getProcessor()).thenReturn(exchange -> {
+            Object key = exchange.getMessage().getHeader(KafkaConstants.KEY);
+            long offset = exchange.getMessage().getHeader(KafkaConstants.OFFSET, Long.class);
+            synchronized (lastOffsetPerKey) {
+                Long previous = lastOffsetPerKey.put(key, offset);
+                assertTrue(previous == null || previous < offset, "Records of key " + key + " are out of order");
+            }
+            processed.add(offset);
+        });
+
+        ProcessingResult result = createFacade().processPolledRecords(records, null);
+
+        assertFalse(result.isBreakOnErrorHit());
+        assertEquals(100, processed.size());
+        verify(commitManager).recordOffset(eq(PARTITION_0), eq(99L));
+    }
+
+    @Override
+    protected KafkaParallelRecordProcessorFacade createFacade(KafkaConsumerListener consumerListener) {
+        return new KafkaParallelRecordProcessorFacade(
+                camelKafkaConsumer, "0", commitManager, consumerListener, executorService);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.kafka.consumer.DefaultKafkaManualBatchCommit;
+import org.apache.camel.component.kafka.consumer.KafkaManualCommit;
+import org.apache.camel.component.kafka.consumer.errorhandler.KafkaConsumerListener;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class KafkaRecordBatchingProcessorFacadeTest
+        extends KafkaRecordProcessorFacadeTestSupport<KafkaRecordBatchingProcessorFacade> {
+
+    private final List<Exchange> batches = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        configuration.setTopic("test");
+        configuration.setBatching(true);
+        when(endpoint.createExchange()).thenAnswer(i -> new DefaultExchange(context));
+        when(camelKafkaConsumer.getProcessor()).thenReturn(exchange -> {
+            batches.add(exchange);
+            List<Exchange> records = exchange.getMessage().getBody(List.class);
+            for (Exchange record : records) {
+                if ("fail".equals(record.getMessage().getBody())) {
+                    throw new IllegalStateException("Forced");
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testBatchPerPoll() {
+        ConsumerRecords<Object, Object> records = records(
+                PARTITION_0, "a", "b", "c",
+                PARTITION_1, "d", "e");
+
+        ProcessingResult result = createFacade().processPolledRecords(records, null);
+
+        assertFalse(result.isBreakOnErrorHit());
+        assertEquals(1, batches.size());
+        Exchange batch = batches.get(0);
+        assertEquals(5, batch.getProperty(Exchange.BATCH_SIZE));
+        List<Exchange> exchanges = batch.getMessage().getBody(List.class);
+        assertEquals(5, exchanges.size());
+        Exchange last = exchanges.get(4);
+        assertEquals(1, last.getMessage().getHeader(KafkaConstants.PARTITION));
+        assertEquals(1L, last.getMessage().getHeader(KafkaConstants.OFFSET));
+        verify(commitManager).recordOffset(PARTITION_0, 2);
+        verify(commitManager).recordOffset(PARTITION_1, 1);
+        verify(commitManager).commit(PARTITION_0);
+        verify(commitManager).commit(PARTITION_1);
+    }
+
+    @Test
+    public void testBatchOverSeveralPolls() {
+        configuration.setBatchingIntervalMs(60000);
+        configuration.setMaxPollRecords(3);
+        KafkaRecordBatchingProcessorFacade facade = createFacade();
+
+        facade.processPolledRecords(records(PARTITION_0, "a", "b"), null);
+        assertTrue(batches.isEmpty());
+
+        // the batch is full so it is processed, and the remaining record waits for the next batch
+        facade.processPolledRecords(records(PARTITION_0, "c", "d"), null);
+        assertEquals(1, batches.size());
+        List<Exchange> exchanges = batches.get(0).getMessage().getBody(List.class);
+        assertEquals(3, exchanges.size());
+        assertEquals("c", exchanges.get(2).getMessage().getBody());
+        verify(commitManager).commit(PARTITION_0);
+    }
+
+    @Test
+    public void testDropRevokedPartitionRecords() {
+        configuration.setBatchingIntervalMs(60000);
+        configuration.setMaxPollRecords(3);
+        KafkaRecordBatchingProcessorFacade facade = createFacade();
+
+        facade.processPolledRecords(records(PARTITION_0, "a", PARTITION_1, "b"), null);
+        assertTrue(batches.isEmpty());
+
+        // the pending record of the revoked partition is not routed nor committed
+        facade.onPartitionsRevoked(List.of(PARTITION_0));
+        facade.processPolledRecords(records(PARTITION_1, "c", "d"), null);
+        assertEquals(1, batches.size());
+        List<Exchange> exchanges = batches.get(0).getMessage().getBody(List.class);
+        assertEquals(List.of("b", "c", "d"), exchanges.stream().map(e -> e.getMessage().getBody()).toList());
+        verify(commitManager, never()).recordOffset(eq(PARTITION_0), anyLong());
+        verify(commitManager, never()).commit(PARTITION_0);
+        verify(commitManager).commit(PARTITION_1);
+    }
+
+    @Test
+    public void testListenerStopsProcessing() {
+        configuration.setMaxPollRecords(2);
+        KafkaConsumerListener consumerListener = mock(KafkaConsumerListener.class);
+        when(consumerListener.afterProcess(any())).thenReturn(false);
+
+        createFacade(consumerListener).processPolledRecords(records(PARTITION_0, "a", "b", "c", "d"), null);
+
+        // the first batch is committed, and then the remaining records are not processed
+        assertEquals(1, batches.size());
+        verify(consumerListener).afterProcess(any());
+        verify(commitManager).recordOffset(PARTITION_0, 1);
+        verify(commitManager, never()).recordOffset(PARTITION_0, 3);
+    }
+
+    @Test
+    public void testManualCommitOfBatch() {
+        configuration.setAllowManualCommit(true);
+        KafkaManualCommit commit0 = mock(KafkaManualCommit.class);
+        KafkaManualCommit commit1 = mock(KafkaManualCommit.class);
+        when(commitManager.getManualCommit(any(), eq(PARTITION_0), any())).thenReturn(commit0);
+        when(commitManager.getManualCommit(any(), eq(PARTITION_1), any())).thenReturn(commit1);
+
+        createFacade().processPolledRecords(records(PARTITION_0, "a", "b", PARTITION_1, "c"), null);
+
+        Object manual = batches.get(0).getMessage().getHeader(KafkaConstants.MANUAL_COMMIT);
+        assertInstanceOf(DefaultKafkaManualBatchCommit.class, manual);
+        ((KafkaManualCommit) manual).commit();
+        verify(commit0).commit();
+        verify(commit1).commit();
+    }
+
+    @Test
+    public void testBreakOnFirstError() {
+        configuration.setBreakOnFirstError(true);
+
+        ProcessingResult result = createFacade().processPolledRecords(records(PARTITION_0, "a", "fail", "c"), null);
+
+        assertTrue(result.isBreakOnErrorHit());
+        verify(commitManager, never()).recordOffset(any(), anyLong());
+        verify(commitManager, never()).commit(any());
+    }
+
+    @Override
+    protected KafkaRecordBatchingProcessorFacade createFacade(KafkaConsumerListener consumerListener) {
+        return new KafkaRecordBatchingProcessorFacade(camelKafkaConsumer, "0", commitManager, consumerListener);
+    }
+}
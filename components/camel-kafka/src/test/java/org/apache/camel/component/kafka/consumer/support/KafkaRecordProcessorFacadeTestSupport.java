@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.KafkaEndpoint;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.component.kafka.consumer.errorhandler.KafkaConsumerListener;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Base class for testing a {@link KafkaRecordProcessorFacade} with a mocked consumer and commit manager.
+ */
+public abstract class KafkaRecordProcessorFacadeTestSupport<T extends KafkaRecordProcessorFacade> {
+
+    protected static final TopicPartition PARTITION_0 = new TopicPartition("test", 0);
+    protected static final TopicPartition PARTITION_1 = new TopicPartition("test", 1);
+
+    protected final CamelContext context = new DefaultCamelContext();
+    protected final KafkaConfiguration configuration = new KafkaConfiguration();
+    protected final KafkaConsumer camelKafkaConsumer = mock(KafkaConsumer.class);
+    protected final KafkaEndpoint endpoint = mock(KafkaEndpoint.class);
+    protected final CommitManager commitManager = mock(CommitManager.class);
+
+    @BeforeEach
+    public void setUpConsumer() {
+        when(camelKafkaConsumer.getEndpoint()).thenReturn(endpoint);
+        when(endpoint.getConfiguration()).thenReturn(configuration);
+        when(camelKafkaConsumer.createExchange(false)).thenAnswer(i -> new DefaultExchange(context));
+    }
+
+    protected T createFacade() {
+        return createFacade(null);
+    }
+
+    protected abstract T createFacade(KafkaConsumerListener consumerListener);
+
+    /**
+     * Creates the polled records, where each partition is followed by the values of its records
+     */
+    protected static ConsumerRecords<Object, Object> records(Object... partitionsAndValues) {
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> records = new LinkedHashMap<>();
+        TopicPartition partition = null;
+        for (Object value : partitionsAndValues) {
+            if (value instanceof TopicPartition) {
+                partition = (TopicPartition) value;
+                records.put(partition, new ArrayList<>());
+            } else {
+                List<ConsumerRecord<Object, Object>> list = records.get(partition);
+                list.add(new ConsumerRecord<>(partition.topic(), partition.partition(), list.size(), null, value));
+            }
+        }
+        return new ConsumerRecords<>(records);
+    }
+}
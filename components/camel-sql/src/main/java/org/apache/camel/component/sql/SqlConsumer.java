@@ -19,6 +19,7 @@ package org.apache.camel.component.sql;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -250,66 +251,66 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
                     total);
         }
 
-        for (int index = 0; index < total && isBatchAllowed(); index++) {
-            // only loop if we are started (allowed to run)
-            DataHolder holder = ObjectHelper.cast(DataHolder.class, exchanges.poll());
-            Exchange exchange = holder.exchange;
-            Object data = holder.data;
-
-            // add current index and total as properties
-            exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, index);
-            exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, total);
-            exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, index == total - 1);
-
-            // update pending number of exchanges
-            pendingExchanges = total - index - 1;
+        if (!getEndpoint().isTransacted() && isBatchAllowed() && isRouteBatchCapable()) {
+            // route all the rows in one pass (not when transacted, as then each exchange is rolled back on its own)
+            List<DataHolder> holders = new ArrayList<>(total);
+            List<Exchange> batch = new ArrayList<>(total);
+            for (Object data : exchanges) {
+                DataHolder holder = ObjectHelper.cast(DataHolder.class, data);
+                holders.add(holder);
+                batch.add(holder.exchange);
+            }
+            exchanges.clear();
 
-            // process the current exchange
             try {
-                getProcessor().process(exchange);
+                processExchangesInBatch(batch);
             } catch (Exception e) {
-                exchange.setException(e);
+                // the entire batch failed
+                for (Exchange exchange : batch) {
+                    if (exchange.getException() == null) {
+                        exchange.setException(e);
+                    }
+                }
             }
 
-            if (getEndpoint().isTransacted() && exchange.isFailed()) {
-                // break out as we are transacted and should rollback
-                Exception cause = exchange.getException();
-                // must release exchange
-                releaseExchange(exchange, false);
-                if (cause != null) {
-                    throw cause;
-                } else {
-                    throw new RollbackExchangeException("Rollback transaction due error processing exchange", null);
-                }
+            for (DataHolder holder : holders) {
+                processOnConsume(holder.exchange, holder.data);
             }
+        } else {
+            for (int index = 0; index < total && isBatchAllowed(); index++) {
+                // only loop if we are started (allowed to run)
+                DataHolder holder = ObjectHelper.cast(DataHolder.class, exchanges.poll());
+                Exchange exchange = holder.exchange;
+                Object data = holder.data;
 
-            // pick the on consume to use
-            String sql = exchange.isFailed() ? onConsumeFailed : onConsume;
-            try {
-                // we can only run on consume if there was data
-                if (data != null && sql != null) {
-                    int updateCount;
-                    if (namedJdbcTemplate != null && sqlProcessingStrategy instanceof SqlNamedProcessingStrategy) {
-                        SqlNamedProcessingStrategy namedProcessingStrategy = (SqlNamedProcessingStrategy) sqlProcessingStrategy;
-                        updateCount = namedProcessingStrategy.commit(getEndpoint(), exchange, data, namedJdbcTemplate,
-                                parameterSource, sql);
+                // add current index and total as properties
+                exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, index);
+                exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, total);
+                exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, index == total - 1);
+
+                // update pending number of exchanges
+                pendingExchanges = total - index - 1;
+
+                // process the current exchange
+                try {
+                    getProcessor().process(exchange);
+                } catch (Exception e) {
+                    exchange.setException(e);
+                }
+
+                if (getEndpoint().isTransacted() && exchange.isFailed()) {
+                    // break out as we are transacted and should rollback
+                    Exception cause = exchange.getException();
+                    // must release exchange
+                    releaseExchange(exchange, false);
+                    if (cause != null) {
+                        throw cause;
                     } else {
-                        updateCount = sqlProcessingStrategy.commit(getEndpoint(), exchange, data, jdbcTemplate, sql);
+                        throw new RollbackExchangeException("Rollback transaction due error processing exchange", null);
                     }
-                    if (expectedUpdateCount > -1 && updateCount != expectedUpdateCount) {
-                        String msg = "Expected update count " + expectedUpdateCount + " but was " + updateCount
-                                     + " executing query: " + sql;
-                        throw new SQLException(msg);
-                    }
-                }
-            } catch (Exception e) {
-                if (breakBatchOnConsumeFail) {
-                    throw e;
-                } else {
-                    handleException("Error executing onConsume/onConsumeFailed query " + sql, e);
                 }
-            } finally {
-                releaseExchange(exchange, false);
+
+                processOnConsume(exchange, data);
             }
         }
 
@@ -337,6 +338,40 @@ public class SqlConsumer extends ScheduledBatchPollingConsumer {
         return total;
     }
 
+    /**
+     * Executes the on consume (or on consume failed) query for the processed exchange, and releases the exchange.
+     */
+    private void processOnConsume(Exchange exchange, Object data) throws Exception {
+        // pick the on consume to use
+        String sql = exchange.isFailed() ? onConsumeFailed : onConsume;
+        try {
+            // we can only run on consume if there was data
+            if (data != null && sql != null) {
+                int updateCount;
+                if (namedJdbcTemplate != null && sqlProcessingStrategy instanceof SqlNamedProcessingStrategy) {
+                    SqlNamedProcessingStrategy namedProcessingStrategy = (SqlNamedProcessingStrategy) sqlProcessingStrategy;
+                    updateCount = namedProcessingStrategy.commit(getEndpoint(), exchange, data, namedJdbcTemplate,
+                            parameterSource, sql);
+                } else {
+                    updateCount = sqlProcessingStrategy.commit(getEndpoint(), exchange, data, jdbcTemplate, sql);
+                }
+                if (expectedUpdateCount > -1 && updateCount != expectedUpdateCount) {
+                    String msg = "Expected update count " + expectedUpdateCount + " but was " + updateCount
+                                 + " executing query: " + sql;
+                    throw new SQLException(msg);
+                }
+            }
+        } catch (Exception e) {
+            if (breakBatchOnConsumeFail) {
+                throw e;
+            } else {
+                handleException("Error executing onConsume/onConsumeFailed query " + sql, e);
+            }
+        } finally {
+            releaseExchange(exchange, false);
+        }
+    }
+
     public String getOnConsume() {
         return onConsume;
     }
@@ -21,10 +21,14 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.camel.BatchProducer;
 import org.apache.camel.Exchange;
 import org.apache.camel.support.DefaultProducer;
 import org.apache.camel.support.ResourceHelper;
@@ -38,7 +42,7 @@ import static org.springframework.jdbc.support.JdbcUtils.closeConnection;
 import static org.springframework.jdbc.support.JdbcUtils.closeResultSet;
 import static org.springframework.jdbc.support.JdbcUtils.closeStatement;
 
-public class SqlProducer extends DefaultProducer {
+public class SqlProducer extends DefaultProducer implements BatchProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(SqlProducer.class);
 
@@ -137,6 +141,71 @@ public class SqlProducer extends DefaultProducer {
         }
     }
 
+    @Override
+    public boolean isBatchCapable() {
+        // in batch mode the parameters of the exchanges can be sent together in a single JDBC batch
+        return batch && !useMessageBodyForSql && getEndpoint().getOutputType() != SqlOutputType.StreamList;
+    }
+
+    /**
+     * Executes the parameters of the exchanges which use the same query in a single JDBC batch, and sets the number of
+     * updated rows for each exchange as usual. Exchanges with their own query, or which retrieve generated keys, are
+     * processed one at a time.
+     */
+    @Override
+    public void processBatch(List<Exchange> exchanges) throws Exception {
+        Map<String, List<Exchange>> queries = new LinkedHashMap<>();
+        for (Exchange exchange : exchanges) {
+            try {
+                if (exchange.getIn().getHeader(SqlConstants.SQL_QUERY) != null
+                        || exchange.getIn().getHeader(SqlConstants.SQL_RETRIEVE_GENERATED_KEYS, false, Boolean.class)) {
+                    process(exchange);
+                } else {
+                    String preparedQuery = sqlPrepareStatementStrategy.prepareQuery(resolvedQuery,
+                            getEndpoint().isAllowNamedParameters(), exchange);
+                    queries.computeIfAbsent(preparedQuery, k -> new ArrayList<>()).add(exchange);
+                }
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+        }
+
+        for (Map.Entry<String, List<Exchange>> entry : queries.entrySet()) {
+            try {
+                processBatchInternal(entry.getValue(), entry.getKey());
+            } catch (Exception e) {
+                // the JDBC batch failed as a whole
+                for (Exchange exchange : entry.getValue()) {
+                    exchange.setException(e);
+                }
+            }
+        }
+    }
+
+    private void processBatchInternal(List<Exchange> exchanges, String preparedQuery) {
+        LOG.trace("jdbcTemplate.execute batch of {} exchanges: {}", exchanges.size(), preparedQuery);
+        jdbcTemplate.execute(preparedQuery, new PreparedStatementCallback<Object>() {
+            public Object doInPreparedStatement(PreparedStatement ps) throws SQLException {
+                // the number of rows each exchange adds to the batch
+                int[] rows = new int[exchanges.size()];
+                for (int i = 0; i < rows.length; i++) {
+                    rows[i] = populateStatement(ps, exchanges.get(i), resolvedQuery, preparedQuery);
+                }
+
+                int[] updateCounts = ps.executeBatch();
+                int index = 0;
+                for (int i = 0; i < rows.length; i++) {
+                    int total = 0;
+                    for (int row = 0; row < rows[i] && index < updateCounts.length; row++) {
+                        total += updateCounts[index++];
+                    }
+                    exchanges.get(i).getIn().setHeader(SqlConstants.SQL_UPDATE_COUNT, total);
+                }
+                return null;
+            }
+        });
+    }
+
     private Object processInternal(
             Exchange exchange, PreparedStatementCreator statementCreator,
             String sql, String preparedQuery, Boolean shouldRetrieveGeneratedKeys) {
@@ -242,8 +311,14 @@ public class SqlProducer extends DefaultProducer {
         }
     }
 
-    private void populateStatement(PreparedStatement ps, Exchange exchange, String sql, String preparedQuery)
+    /**
+     * Populates the statement with the parameters of the exchange.
+     *
+     * @return the number of rows added to the batch (in batch mode)
+     */
+    private int populateStatement(PreparedStatement ps, Exchange exchange, String sql, String preparedQuery)
             throws SQLException {
+        int rows = 0;
         int expected;
         if (parametersCount > 0) {
             expected = parametersCount;
@@ -267,6 +342,7 @@ public class SqlProducer extends DefaultProducer {
                             exchange, value);
                     sqlPrepareStatementStrategy.populateStatement(ps, i, expected);
                     ps.addBatch();
+                    rows++;
                 }
             } else {
                 Object value;
@@ -280,6 +356,7 @@ public class SqlProducer extends DefaultProducer {
                 sqlPrepareStatementStrategy.populateStatement(ps, i, expected);
             }
         }
+        return rows;
     }
 
     public void setParametersCount(int parametersCount) {
@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.support.lob.LobCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionCallbackWithoutResult;
+
+/**
+ * {@link JdbcAggregationRepository} which appends the new elements of the aggregated message body to the repository,
+ * instead of rewriting the whole aggregated exchange on every add.
+ * <p/>
+ * When the message body is a {@link List}, each element is stored as its own row in the entries table (the repository
+ * name with the <tt>_entries</tt> suffix), using the compact {@link JdbcCompactCodec}. The repository table keeps the
+ * headers and the version of the exchange (which is used for optimistic locking as usual).
+ * <p/>
+ * While the aggregation is in progress, the exchange which is read has an {@link AppendedList} as message body, which
+ * only holds the elements added since the exchange was read, so the stored elements are not read. On add, only these
+ * elements are inserted, in a single batch. The stored elements are merged into the message body when the aggregation
+ * completes (on remove), and the whole exchange is then stored in the completed table, so recovery works as with the
+ * {@link JdbcAggregationRepository}.
+ * <p/>
+ * The aggregation strategy must only append to the list in the message body (such as when grouping messages in
+ * batches), and must return the old exchange. When the list has been replaced, or when the body is not a list, the
+ * whole exchange is stored again. Completion predicates should use the aggregated size instead of the size of the list.
+ */
+public class AppendOnlyJdbcAggregationRepository extends JdbcAggregationRepository {
+
+    protected static final String SEQUENCE = "seq";
+    protected static final String ENTRY = "entry";
+
+    private static final Logger LOG = LoggerFactory.getLogger(AppendOnlyJdbcAggregationRepository.class);
+
+    private JdbcCompactCodec compactCodec;
+
+    /**
+     * Creates an aggregation repository
+     */
+    public AppendOnlyJdbcAggregationRepository() {
+    }
+
+    /**
+     * Creates an aggregation repository with the three mandatory parameters
+     */
+    public AppendOnlyJdbcAggregationRepository(PlatformTransactionManager transactionManager, String repositoryName,
+                                               DataSource dataSource) {
+        super(transactionManager, repositoryName, dataSource);
+    }
+
+    @Override
+    public Exchange add(final CamelContext camelContext, final String correlationId, final Exchange exchange) {
+        return transactionTemplate.execute(new TransactionCallback<Exchange>() {
+
+            public Exchange doInTransaction(TransactionStatus status) {
+                Exchange result = null;
+                final String key = correlationId;
+
+                try {
+                    LOG.debug("Adding exchange with key {}", key);
+
+                    boolean present = jdbcTemplate.queryForObject(
+                            "SELECT COUNT(1) FROM " + getRepositoryName() + " WHERE " + ID + " = ?", Integer.class,
+                            key) != 0;
+
+                    // Recover existing exchange with that ID
+                    if (isReturnOldExchange() && present) {
+                        result = get(camelContext, key);
+                    }
+
+                    List<?> values = exchange.getIn().getBody() instanceof List
+                            ? (List<?>) exchange.getIn().getBody() : null;
+                    Exchange header = values != null ? withEmptyBody(exchange) : exchange;
+
+                    if (present) {
+                        Long versionLong = exchange.getProperty(VERSION_PROPERTY, Long.class);
+                        if (versionLong == null) {
+                            LOG.debug("Race while inserting record with key {}", key);
+                            throw new OptimisticLockingException();
+                        }
+                        long version = versionLong.longValue();
+                        LOG.debug("Updating record with key {} and version {}", key, version);
+                        // update first, so a stale version fails before any element is appended
+                        update(camelContext, correlationId, header, getRepositoryName(), version);
+
+                        if (values instanceof AppendedList) {
+                            insertEntries(key, values, ((AppendedList<?>) values).getStoredSize());
+                        } else {
+                            LOG.debug("Replacing the elements of the record with key {}", key);
+                            deleteEntries(key);
+                            insertEntries(key, values, 0);
+                        }
+                    } else {
+                        LOG.debug("Inserting record with key {}", key);
+                        insert(camelContext, correlationId, header, getRepositoryName(), 1L);
+                        deleteEntries(key);
+                        insertEntries(key, values, 0);
+                    }
+
+                } catch (Exception e) {
+                    throw new RuntimeException(
+                            "Error adding to repository " + getRepositoryName() + " with key " + key, e);
+                }
+
+                return result;
+            }
+        });
+    }
+
+    @Override
+    public Exchange get(final CamelContext camelContext, final String correlationId) {
+        return transactionTemplateReadOnly.execute(new TransactionCallback<Exchange>() {
+            public Exchange doInTransaction(TransactionStatus status) {
+                Exchange result = AppendOnlyJdbcAggregationRepository.super.get(camelContext, correlationId);
+                if (result != null && result.getIn().getBody() instanceof List) {
+                    // the stored elements are only merged when the aggregation completes
+                    result.getIn().setBody(new AppendedList<>(getStoredSize(correlationId)));
+                }
+                return result;
+            }
+        });
+    }
+
+    @Override
+    public void remove(final CamelContext camelContext, final String correlationId, final Exchange exchange) {
+        transactionTemplate.execute(new TransactionCallbackWithoutResult() {
+            protected void doInTransactionWithoutResult(TransactionStatus status) {
+                // the completed exchange is stored as a whole, so its elements are merged only once
+                if (exchange.getIn().getBody() instanceof AppendedList) {
+                    List<Object> values = new ArrayList<>(getEntries(camelContext, correlationId));
+                    values.addAll((AppendedList<?>) exchange.getIn().getBody());
+                    exchange.getIn().setBody(values);
+                }
+                AppendOnlyJdbcAggregationRepository.super.remove(camelContext, correlationId, exchange);
+                deleteEntries(correlationId);
+            }
+        });
+    }
+
+    /**
+     * Inserts the elements of the list into the entries table in a single batch.
+     *
+     * @param key       Correlation key
+     * @param values    the list of elements, may be <tt>null</tt>
+     * @param fromIndex the position of the first element in the entries table
+     */
+    protected void insertEntries(final String key, final List<?> values, final int fromIndex) throws Exception {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+
+        final List<byte[]> data = new ArrayList<>(values.size());
+        for (Object value : values) {
+            data.add(compactCodec.marshallValue(value, allowSerializedHeaders));
+        }
+
+        LOG.debug("Appending {} elements to record with key {}", data.size(), key);
+        String sql = "INSERT INTO " + getRepositoryNameEntries()
+                     + " (" + ID + ", " + SEQUENCE + ", " + ENTRY + ") VALUES (?, ?, ?)";
+        try (LobCreator lobCreator = getLobHandler().getLobCreator()) {
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    ps.setString(1, key);
+                    ps.setLong(2, fromIndex + i);
+                    lobCreator.setBlobAsBytes(ps, 3, data.get(i));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return data.size();
+                }
+            });
+        }
+    }
+
+    protected void deleteEntries(final String key) {
+        jdbcTemplate.update("DELETE FROM " + getRepositoryNameEntries() + " WHERE " + ID + " = ?", key);
+    }
+
+    /**
+     * The number of elements stored in the entries table, which is read from the primary key index only.
+     */
+    protected int getStoredSize(final String key) {
+        Long max = jdbcTemplate.queryForObject(
+                "SELECT MAX(" + SEQUENCE + ") FROM " + getRepositoryNameEntries() + " WHERE " + ID + " = ?",
+                Long.class, key);
+        return max != null ? max.intValue() + 1 : 0;
+    }
+
+    protected List<Object> getEntries(final CamelContext camelContext, final String key) {
+        String sql = "SELECT " + ENTRY + " FROM " + getRepositoryNameEntries()
+                     + " WHERE " + ID + " = ? ORDER BY " + SEQUENCE;
+        return jdbcTemplate.query(sql,
+                (rs, rowNum) -> {
+                    byte[] data = getLobHandler().getBlobAsBytes(rs, ENTRY);
+                    try {
+                        return compactCodec.unmarshallValue(camelContext, data);
+                    } catch (Exception e) {
+                        throw new RuntimeException(
+                                "Error getting key " + key + " from repository " + getRepositoryNameEntries(), e);
+                    }
+                },
+                key);
+    }
+
+    private static Exchange withEmptyBody(Exchange exchange) {
+        // the elements are stored in the entries table, so only keep the headers and properties, and an empty list
+        // which tells the elements are stored in the entries table when reading the exchange
+        Exchange copy = exchange.copy();
+        copy.getIn().setBody(new ArrayList<>());
+        return copy;
+    }
+
+    public String getRepositoryNameEntries() {
+        return getRepositoryName() + "_entries";
+    }
+
+    public JdbcCompactCodec getCompactCodec() {
+        return compactCodec;
+    }
+
+    /**
+     * Sets the codec used to store the elements of the message body
+     */
+    public void setCompactCodec(JdbcCompactCodec compactCodec) {
+        this.compactCodec = compactCodec;
+    }
+
+    /**
+     * The list in the message body of an exchange which is read while the aggregation is in progress. The list only
+     * holds the elements added since the exchange was read, as the elements which are already stored are only merged
+     * into the message body when the aggregation completes.
+     */
+    public static final class AppendedList<E> extends ArrayList<E> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int storedSize;
+
+        public AppendedList(int storedSize) {
+            this.storedSize = storedSize;
+        }
+
+        /**
+         * The number of elements which are already stored, before the elements of this list.
+         */
+        public int getStoredSize() {
+            return storedSize;
+        }
+
+        @Override
+        public String toString() {
+            // do not write the elements, as the stored elements are not part of this list
+            return "AppendedList(" + storedSize + " stored elements, " + size() + " appended elements)";
+        }
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        super.doInit();
+
+        if (isStoreBodyAsText()) {
+            throw new IllegalArgumentException(
+                    "The storeBodyAsText option is not supported by " + getClass().getSimpleName());
+        }
+        if (compactCodec == null) {
+            compactCodec = new JdbcCompactCodec();
+        }
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate.jdbc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.ClassLoadingAwareObjectInputStream;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compact binary codec for the values appended by the {@link AppendOnlyJdbcAggregationRepository}.
+ * <p/>
+ * The common types (such as strings, byte arrays, numbers and dates) are written as a type tag followed by their value,
+ * without the overhead of Java serialization. Exchanges are written the same way, with their id, from endpoint, message
+ * body and message headers (as with the {@link JdbcCamelCodec} the exchange properties are not stored). A header which
+ * is not of a common type is only stored (using Java serialization) when serialized headers are allowed, otherwise it
+ * is excluded. Any other {@link Serializable} value falls back to Java serialization.
+ */
+public class JdbcCompactCodec {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JdbcCompactCodec.class);
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte BYTES = 2;
+    private static final byte INTEGER = 3;
+    private static final byte LONG = 4;
+    private static final byte BOOLEAN = 5;
+    private static final byte DOUBLE = 6;
+    private static final byte FLOAT = 7;
+    private static final byte SHORT = 8;
+    private static final byte BYTE = 9;
+    private static final byte CHARACTER = 10;
+    private static final byte BIG_DECIMAL = 11;
+    private static final byte BIG_INTEGER = 12;
+    private static final byte DATE = 13;
+    private static final byte EXCHANGE = 14;
+    private static final byte SERIALIZED = 15;
+
+    public byte[] marshallValue(Object value, boolean allowSerializedHeaders) throws IOException {
+        ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytesOut)) {
+            writeValue(out, value, allowSerializedHeaders);
+        }
+        return bytesOut.toByteArray();
+    }
+
+    public Object unmarshallValue(CamelContext camelContext, byte[] buffer) throws IOException, ClassNotFoundException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(buffer))) {
+            return readValue(camelContext, in);
+        }
+    }
+
+    private void writeValue(DataOutputStream out, Object value, boolean allowSerializedHeaders) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof byte[]) {
+            out.writeByte(BYTES);
+            writeBytes(out, (byte[]) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Character) {
+            out.writeByte(CHARACTER);
+            out.writeChar((Character) value);
+        } else if (value instanceof BigDecimal) {
+            out.writeByte(BIG_DECIMAL);
+            writeBytes(out, value.toString().getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof BigInteger) {
+            out.writeByte(BIG_INTEGER);
+            writeBytes(out, ((BigInteger) value).toByteArray());
+        } else if (value.getClass() == Date.class) {
+            out.writeByte(DATE);
+            out.writeLong(((Date) value).getTime());
+        } else if (value instanceof Exchange) {
+            out.writeByte(EXCHANGE);
+            writeExchange(out, (Exchange) value, allowSerializedHeaders);
+        } else if (value instanceof Serializable) {
+            out.writeByte(SERIALIZED);
+            ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOut = new ObjectOutputStream(serialized)) {
+                objectOut.writeObject(value);
+            }
+            writeBytes(out, serialized.toByteArray());
+        } else {
+            throw new IOException("Cannot store value of type: " + value.getClass().getName()
+                                  + " as it is not serializable");
+        }
+    }
+
+    private Object readValue(CamelContext camelContext, DataInputStream in) throws IOException, ClassNotFoundException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return new String(readBytes(in), StandardCharsets.UTF_8);
+            case BYTES:
+                return readBytes(in);
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case BOOLEAN:
+                return in.readBoolean();
+            case DOUBLE:
+                return in.readDouble();
+            case FLOAT:
+                return in.readFloat();
+            case SHORT:
+                return in.readShort();
+            case BYTE:
+                return in.readByte();
+            case CHARACTER:
+                return in.readChar();
+            case BIG_DECIMAL:
+                return new BigDecimal(new String(readBytes(in), StandardCharsets.UTF_8));
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(in));
+            case DATE:
+                return new Date(in.readLong());
+            case EXCHANGE:
+                return readExchange(camelContext, in);
+            case SERIALIZED:
+                return deserialize(camelContext, readBytes(in));
+            default:
+                throw new IOException("Unknown value type: " + type);
+        }
+    }
+
+    private void writeExchange(DataOutputStream out, Exchange exchange, boolean allowSerializedHeaders)
+            throws IOException {
+        out.writeUTF(exchange.getExchangeId());
+        Endpoint fromEndpoint = exchange.getFromEndpoint();
+        writeValue(out, fromEndpoint != null ? fromEndpoint.getEndpointUri() : null, allowSerializedHeaders);
+        writeValue(out, exchange.getIn().getBody(), allowSerializedHeaders);
+
+        List<Map.Entry<String, Object>> headers = new ArrayList<>(exchange.getIn().getHeaders().size());
+        for (Map.Entry<String, Object> header : exchange.getIn().getHeaders().entrySet()) {
+            if (isValidHeader(header.getValue(), allowSerializedHeaders)) {
+                headers.add(header);
+            } else {
+                LOG.warn("Exchange header with key: {} of type: {} cannot be stored, it will be excluded.",
+                        header.getKey(), ObjectHelper.classCanonicalName(header.getValue()));
+            }
+        }
+        out.writeInt(headers.size());
+        for (Map.Entry<String, Object> header : headers) {
+            out.writeUTF(header.getKey());
+            writeValue(out, header.getValue(), allowSerializedHeaders);
+        }
+    }
+
+    private Exchange readExchange(CamelContext camelContext, DataInputStream in)
+            throws IOException, ClassNotFoundException {
+        Exchange answer = new DefaultExchange(camelContext);
+        answer.setExchangeId(in.readUTF());
+        String fromEndpointUri = (String) readValue(camelContext, in);
+        if (fromEndpointUri != null) {
+            Endpoint fromEndpoint = camelContext.hasEndpoint(fromEndpointUri);
+            if (fromEndpoint != null) {
+                answer.getExchangeExtension().setFromEndpoint(fromEndpoint);
+            }
+        }
+        answer.getIn().setBody(readValue(camelContext, in));
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            String key = in.readUTF();
+            answer.getIn().setHeader(key, readValue(camelContext, in));
+        }
+        return answer;
+    }
+
+    private static boolean isValidHeader(Object value, boolean allowSerializedHeaders) {
+        // the common types, or any serializable value when serialized headers are allowed
+        return value == null || value instanceof String || value instanceof byte[] || value instanceof Integer
+                || value instanceof Long || value instanceof Boolean || value instanceof Double
+                || value instanceof Float || value instanceof Short || value instanceof Byte
+                || value instanceof Character
+                || value instanceof BigDecimal || value instanceof BigInteger || value.getClass() == Date.class
+                || allowSerializedHeaders && value instanceof Serializable;
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static Object deserialize(CamelContext camelContext, byte[] bytes)
+            throws IOException, ClassNotFoundException {
+        ObjectInputStream objectIn = null;
+        try {
+            objectIn = new ClassLoadingAwareObjectInputStream(
+                    camelContext.getApplicationContextClassLoader(), new ByteArrayInputStream(bytes));
+            return objectIn.readObject();
+        } finally {
+            IOHelper.close(objectIn);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.BatchProcessor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.DefaultConsumer;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SqlConsumerBatchProducerTest extends CamelTestSupport {
+
+    private EmbeddedDatabase db;
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+                .setName(getClass().getSimpleName())
+                .setType(EmbeddedDatabaseType.H2)
+                .addScript("sql/createAndPopulateDatabase.sql").build();
+
+        jdbcTemplate = new JdbcTemplate(db);
+        jdbcTemplate.execute("create table copies (id integer primary key, project varchar(10))");
+
+        super.setUp();
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (db != null) {
+            db.shutdown();
+        }
+    }
+
+    @Test
+    public void testRoutedInBatch() {
+        DefaultConsumer consumer = (DefaultConsumer) context.getRoute("copy").getConsumer();
+        assertTrue(((BatchProcessor) consumer.getProcessor()).isBatchCapable());
+
+        await().untilAsserted(() -> assertEquals(Integer.valueOf(3),
+                jdbcTemplate.queryForObject("select count(*) from copies", Integer.class)));
+        await().untilAsserted(() -> assertEquals(Integer.valueOf(0),
+                jdbcTemplate.queryForObject("select count(*) from projects", Integer.class)));
+
+        assertEquals(List.of("Camel", "AMQ", "Linux"),
+                jdbcTemplate.queryForList("select project from copies order by id", String.class));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(db);
+
+                from("sql:select * from projects order by id?initialDelay=0&delay=50"
+                     + "&consumer.onConsume=delete from projects where id = :#id").routeId("copy")
+                        .setBody(e -> {
+                            Map<?, ?> row = e.getMessage().getBody(Map.class);
+                            return List.of(List.of(row.get("ID"), row.get("PROJECT")));
+                        })
+                        .to("sql:insert into copies (id, project) values (#, #)?batch=true");
+            }
+        };
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate.jdbc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.OptimisticLockingAggregationRepository;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AppendOnlyJdbcAggregationRepositoryTest extends AbstractJdbcAggregationTestSupport {
+
+    @Override
+    public void postProcessTest() throws Exception {
+        super.postProcessTest();
+
+        repo = applicationContext.getBean("repoAppendOnly", JdbcAggregationRepository.class);
+        repo.start();
+    }
+
+    @Test
+    public void testAppendElements() {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(new ArrayList<>(Arrays.asList("a", 1, 2L)));
+        exchange.getIn().setHeader("foo", "bar");
+        repo.add(context, "foo", exchange);
+
+        // the stored elements are not read while the aggregation is in progress
+        exchange = repo.get(context, "foo");
+        List<Object> body = exchange.getIn().getBody(List.class);
+        assertEquals(0, body.size());
+        assertEquals(3, ((AppendOnlyJdbcAggregationRepository.AppendedList<?>) body).getStoredSize());
+        body.add("b".getBytes());
+        body.add(null);
+        repo.add(context, "foo", exchange);
+
+        exchange = repo.get(context, "foo");
+        body = exchange.getIn().getBody(List.class);
+        assertEquals(0, body.size());
+        assertEquals(5, ((AppendOnlyJdbcAggregationRepository.AppendedList<?>) body).getStoredSize());
+        assertEquals("bar", exchange.getIn().getHeader("foo"));
+        // only the elements are stored in the entries table
+        assertEquals(5, countEntries("foo"));
+
+        // the elements are merged when the aggregation completes
+        body.add("c");
+        repo.remove(context, "foo", exchange);
+        body = exchange.getIn().getBody(List.class);
+        assertEquals(6, body.size());
+        assertEquals("a", body.get(0));
+        assertEquals(1, body.get(1));
+        assertEquals(2L, body.get(2));
+        assertEquals("b", new String((byte[]) body.get(3)));
+        assertNull(body.get(4));
+        assertEquals("c", body.get(5));
+        assertNull(repo.get(context, "foo"));
+        assertEquals(0, countEntries("foo"));
+
+        // the completed exchange is stored as a whole, so it can be recovered
+        Exchange recovered = repo.recover(context, exchange.getExchangeId());
+        assertEquals(6, recovered.getIn().getBody(List.class).size());
+    }
+
+    @Test
+    public void testAppendExchanges() {
+        Exchange first = new DefaultExchange(context);
+        first.getIn().setBody("Hello");
+        first.getIn().setHeader("id", 1);
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(new ArrayList<>(List.of(first)));
+        repo.add(context, "qux", exchange);
+
+        exchange = repo.get(context, "qux");
+        Exchange second = new DefaultExchange(context);
+        second.getIn().setBody("World");
+        second.getIn().setHeader("id", 2);
+        exchange.getIn().getBody(List.class).add(second);
+        repo.add(context, "qux", exchange);
+
+        exchange = repo.get(context, "qux");
+        repo.remove(context, "qux", exchange);
+        List<Exchange> body = exchange.getIn().getBody(List.class);
+        assertEquals(2, body.size());
+        assertEquals(first.getExchangeId(), body.get(0).getExchangeId());
+        assertEquals("Hello", body.get(0).getIn().getBody());
+        assertEquals(1, body.get(0).getIn().getHeader("id"));
+        assertEquals(second.getExchangeId(), body.get(1).getExchangeId());
+        assertEquals("World", body.get(1).getIn().getBody());
+        assertEquals(2, body.get(1).getIn().getHeader("id"));
+    }
+
+    @Test
+    public void testReplaceElements() {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(new ArrayList<>(Arrays.asList("a", "b", "c")));
+        repo.add(context, "bar", exchange);
+
+        exchange = repo.get(context, "bar");
+        exchange.getIn().setBody(new ArrayList<>(Arrays.asList("d")));
+        repo.add(context, "bar", exchange);
+
+        assertEquals(Arrays.asList("d"), getEntries("bar"));
+
+        // a body which is not a list is stored as a whole
+        exchange = repo.get(context, "bar");
+        exchange.getIn().setBody("e");
+        repo.add(context, "bar", exchange);
+
+        exchange = repo.get(context, "bar");
+        assertEquals("e", exchange.getIn().getBody());
+        assertEquals(0, countEntries("bar"));
+    }
+
+    @Test
+    public void testOptimisticLocking() {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(new ArrayList<>(Arrays.asList("a")));
+        repo.add(context, "baz", exchange);
+
+        Exchange first = repo.get(context, "baz");
+        Exchange second = repo.get(context, "baz");
+        first.getIn().getBody(List.class).add("b");
+        repo.add(context, "baz", first, first);
+
+        second.getIn().getBody(List.class).add("c");
+        assertThrows(OptimisticLockingAggregationRepository.OptimisticLockingException.class,
+                () -> repo.add(context, "baz", second, second));
+
+        assertEquals(Arrays.asList("a", "b"), getEntries("baz"));
+    }
+
+    private List<Object> getEntries(String key) {
+        return ((AppendOnlyJdbcAggregationRepository) repo).getEntries(context, key);
+    }
+
+    private int countEntries(String key) {
+        return repo.jdbcTemplate.queryForObject(
+                "SELECT COUNT(1) FROM aggregationRepo1_entries WHERE id = ?", Integer.class, key);
+    }
+}
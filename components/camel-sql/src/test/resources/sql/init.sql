@@ -26,4 +26,10 @@ CREATE TABLE aggregationRepo1_completed (
     exchange blob NOT NULL,
     version bigint NOT NULL,
     constraint aggregationRepo1_completed_pk PRIMARY KEY (id)
-);
\ No newline at end of file
+);
+CREATE TABLE aggregationRepo1_entries (
+    id varchar(255) NOT NULL,
+    seq bigint NOT NULL,
+    entry blob NOT NULL,
+    constraint aggregationRepo1_entries_pk PRIMARY KEY (id, seq)
+);
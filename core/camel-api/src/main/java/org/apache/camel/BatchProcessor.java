@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel;
+
+import java.util.List;
+
+/**
+ * A {@link Processor} which can process a batch of exchanges in one pass.
+ * <p/>
+ * A route fed by a {@link BatchConsumer} can carry a batch of exchanges through the route in one pass, when all its
+ * processors are batch capable, instead of routing the exchanges one at a time. This amortizes the cost of the routing
+ * engine, and allows a {@link BatchProducer} to send the batch with a single I/O operation.
+ * <p/>
+ * The batch is processed synchronously, which means the exchanges are done when
+ * {@link #processBatch(java.util.List)} returns.
+ *
+ * @see BatchProducer
+ */
+@Experimental
+public interface BatchProcessor extends Processor {
+
+    /**
+     * Whether this processor is currently able to process a batch, such as when all the processors it delegates to are
+     * batch capable as well. If not, then the exchanges must be processed one at a time.
+     */
+    default boolean isBatchCapable() {
+        return true;
+    }
+
+    /**
+     * Processes the batch of exchanges.
+     * <p/>
+     * A failure of an individual exchange should be set as exception on the exchange, so the other exchanges in the
+     * batch can continue being routed. A thrown exception means the entire batch failed.
+     *
+     * @param  exchanges the exchanges
+     * @throws Exception is thrown if the entire batch failed
+     */
+    void processBatch(List<Exchange> exchanges) throws Exception;
+
+}
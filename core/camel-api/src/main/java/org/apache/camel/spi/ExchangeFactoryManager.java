@@ -45,18 +45,43 @@ public interface ExchangeFactoryManager extends StaticService {
      */
     Collection<ExchangeFactory> getExchangeFactories();
 
+    /**
+     * Adds the {@link ProcessorExchangeFactory} to be managed.
+     *
+     * @param processorExchangeFactory the processor exchange factory
+     */
+    void addProcessorExchangeFactory(ProcessorExchangeFactory processorExchangeFactory);
+
+    /**
+     * Removes the {@link ProcessorExchangeFactory} from being managed (such as when a route is stopped/removed) or
+     * during shutdown.
+     *
+     * @param processorExchangeFactory the processor exchange factory
+     */
+    void removeProcessorExchangeFactory(ProcessorExchangeFactory processorExchangeFactory);
+
+    /**
+     * Returns a read-only view of the managed processor factories.
+     */
+    Collection<ProcessorExchangeFactory> getProcessorExchangeFactories();
+
     /**
      * Number of consumers currently being managed
      */
     int getConsumerCounter();
 
+    /**
+     * Number of processors (EIPs) currently being managed
+     */
+    int getProcessorCounter();
+
     /**
      * The capacity the pool (for each consumer) uses for storing exchanges. The default capacity is 100.
      */
     int getCapacity();
 
     /**
-     * Number of currently exchanges being pooled (if pooled is in use)
+     * Number of currently exchanges being pooled (if pooled is in use), by both consumers and processors
      */
     int getPooledCounter();
 
@@ -85,4 +110,9 @@ public interface ExchangeFactoryManager extends StaticService {
      */
     ExchangeFactory.Statistics getStatistics();
 
+    /**
+     * Aggregated statistics for all the managed processor exchange factories
+     */
+    ExchangeFactory.Statistics getProcessorStatistics();
+
 }
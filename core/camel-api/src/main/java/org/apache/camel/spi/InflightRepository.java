@@ -32,7 +32,8 @@ public interface InflightRepository extends StaticService {
     interface InflightExchange {
 
         /**
-         * The exchange being inflight
+         * The exchange being inflight, or <tt>null</tt> for the oldest inflight exchange when browsing is disabled,
+         * where only its duration is known.
          */
         Exchange getExchange();
 
@@ -150,6 +151,24 @@ public interface InflightRepository extends StaticService {
      */
     void setInflightBrowseEnabled(boolean inflightBrowseEnabled);
 
+    /**
+     * The sample rate when browsing inflight exchanges, where only every Nth exchange is kept for browsing.
+     *
+     * By default all exchanges are kept (sample rate 1) when browsing is enabled.
+     */
+    int getInflightBrowseSampleRate();
+
+    /**
+     * The sample rate when browsing inflight exchanges, where only every Nth exchange is kept for browsing.
+     *
+     * This reduces the overhead of browsing, while the counters are still accurate. The browsed exchanges, and the
+     * oldest inflight exchange (and its duration), are then based on the sampled exchanges only. The sample rate
+     * should be set before starting Camel.
+     *
+     * @param inflightBrowseSampleRate the sample rate, use 1 to keep all exchanges
+     */
+    void setInflightBrowseSampleRate(int inflightBrowseSampleRate);
+
     /**
      * A <i>read-only</i> browser of the {@link InflightExchange}s that are currently inflight.
      */
@@ -185,6 +204,9 @@ public interface InflightRepository extends StaticService {
 
     /**
      * Gets the oldest {@link InflightExchange} that are currently inflight that started from the given route.
+     * <p/>
+     * When browsing is disabled only the duration of the oldest inflight exchange is known, and
+     * {@link InflightExchange#getExchange()} returns <tt>null</tt>.
      *
      * @param  fromRouteId the route id, or <tt>null</tt> for all routes.
      * @return             the oldest, or <tt>null</tt> if none inflight
@@ -71,6 +71,20 @@ public interface PooledObjectFactory<T> extends Service, CamelContextAware {
      */
     void setCapacity(int capacity);
 
+    /**
+     * The capacity of the pool each thread uses for storing objects, in front of the pool shared by all threads. The
+     * objects a thread releases are kept in its own pool (until full), and are acquired again by the same thread
+     * without contention on the shared pool. The default capacity is 0, which means that only the shared pool is used.
+     */
+    int getThreadCapacity();
+
+    /**
+     * The capacity of the pool each thread uses for storing objects, in front of the pool shared by all threads. The
+     * objects a thread releases are kept in its own pool (until full), and are acquired again by the same thread
+     * without contention on the shared pool. The default capacity is 0, which means that only the shared pool is used.
+     */
+    void setThreadCapacity(int threadCapacity);
+
     /**
      * Whether statistics is enabled.
      */
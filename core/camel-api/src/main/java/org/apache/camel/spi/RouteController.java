@@ -42,6 +42,24 @@ public interface RouteController extends CamelContextAware, StaticService {
      */
     void setLoggingLevel(LoggingLevel loggingLevel);
 
+    /**
+     * Gets the number of threads used for starting routes in parallel.
+     */
+    int getStartupParallelism();
+
+    /**
+     * Sets the number of threads used for starting routes in parallel. The routes are started in groups following
+     * their startup order, where routes that share the same startup order (and routes without an explicit startup
+     * order) are in the same group. The routes in a group are started concurrently, and the next group is not started
+     * before all the routes in the previous group have been started.
+     * <p/>
+     * The lifecycle strategies (such as JMX) are notified about the consumers of all the routes in a group (such as all
+     * the routes without an explicit startup order) before any of these consumers is started.
+     * <p/>
+     * The default value is 1, which starts the routes one after the other.
+     */
+    void setStartupParallelism(int startupParallelism);
+
     /**
      * Whether this route controller is a regular or supervising controller.
      */
@@ -103,6 +103,25 @@ public interface StartupStepRecorder extends StaticService {
      */
     StartupStep beginStep(Class<?> type, String name, String description);
 
+    /**
+     * Beings a new step as a child of the given parent step.
+     * <p>
+     * This is used for steps which are executed by other threads in parallel, such as when starting routes in
+     * parallel, where the step would otherwise not be a child of the parent step.
+     * <p>
+     * Important must call {@link #endStep(StartupStep)} to end the step (from the same thread).
+     * <p>
+     * The default implementation ignores the parent and calls {@link #beginStep(Class, String, String)}.
+     *
+     * @param parent      the parent step
+     * @param type        the source
+     * @param name        name of the step
+     * @param description description of the step
+     */
+    default StartupStep beginStep(StartupStep parent, Class<?> type, String name, String description) {
+        return beginStep(type, name, description);
+    }
+
     /**
      * Ends the step
      */
@@ -17,6 +17,8 @@
 package org.apache.camel.spi;
 
 import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Map;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.StaticService;
@@ -62,6 +64,26 @@ public interface StreamCachingStrategy extends StaticService {
          */
         long getCacheSpoolAverageSize();
 
+        /**
+         * Gets the counter for number of off-heap {@link StreamCache} created.
+         */
+        long getCacheOffHeapCounter();
+
+        /**
+         * Gets the total accumulated number of bytes which has been stream cached for off-heap stream caches.
+         */
+        long getCacheOffHeapSize();
+
+        /**
+         * Gets the average number of bytes per cached stream for off-heap stream caches.
+         */
+        long getCacheOffHeapAverageSize();
+
+        /**
+         * Gets the utilization statistics per route (the key is the route id).
+         */
+        Map<String, RouteStatistics> getRouteStatistics();
+
         /**
          * Reset the counters
          */
@@ -80,6 +102,42 @@ public interface StreamCachingStrategy extends StaticService {
         void setStatisticsEnabled(boolean statisticsEnabled);
     }
 
+    /**
+     * Utilization statistics of stream caching for a route.
+     */
+    interface RouteStatistics {
+
+        /**
+         * Gets the counter for number of in-memory {@link StreamCache} created.
+         */
+        long getCacheMemoryCounter();
+
+        /**
+         * Gets the total accumulated number of bytes which has been stream cached for in-memory stream caches.
+         */
+        long getCacheMemorySize();
+
+        /**
+         * Gets the counter for number of off-heap {@link StreamCache} created.
+         */
+        long getCacheOffHeapCounter();
+
+        /**
+         * Gets the total accumulated number of bytes which has been stream cached for off-heap stream caches.
+         */
+        long getCacheOffHeapSize();
+
+        /**
+         * Gets the counter for number of spooled (not in-memory) {@link StreamCache} created.
+         */
+        long getCacheSpoolCounter();
+
+        /**
+         * Gets the total accumulated number of bytes which has been stream cached for spooled stream caches.
+         */
+        long getCacheSpoolSize();
+    }
+
     /**
      * Used for selecting if the memory limit is <tt>committed</tt> or <tt>maximum</tt> heap memory setting.
      */
@@ -206,6 +264,61 @@ public interface StreamCachingStrategy extends StaticService {
 
     boolean isAnySpoolRules();
 
+    /**
+     * Enables keeping stream caches which are larger than the {@link #setOffHeapThreshold(long)} in pooled direct
+     * (off-heap) byte buffers, instead of on the heap. This reduces the garbage collection pressure for mid-size
+     * streams. If the streams become larger than the spool threshold then they are spooled to disk as usual.
+     * <p/>
+     * <b>Notice:</b> This cannot be changed at runtime.
+     *
+     * Default is disabled.
+     */
+    void setOffHeapEnabled(boolean offHeapEnabled);
+
+    boolean isOffHeapEnabled();
+
+    /**
+     * Threshold in bytes when stream caches are moved from heap to off-heap memory.
+     * <p/>
+     * The default threshold is 64kb.
+     */
+    void setOffHeapThreshold(long threshold);
+
+    long getOffHeapThreshold();
+
+    /**
+     * Sets the maximum number of bytes of off-heap memory which can be used for stream caching in total. When the
+     * memory is used up, then the stream caches are spooled to disk if spooling is enabled, or kept on the heap.
+     * <p/>
+     * The default is 64mb.
+     */
+    void setOffHeapMaxSize(long maxSize);
+
+    long getOffHeapMaxSize();
+
+    /**
+     * Gets the number of bytes of off-heap memory which is currently in use by stream caches.
+     */
+    long getOffHeapUsed();
+
+    /**
+     * Acquires a direct byte buffer from the pool of off-heap memory. The buffer must be released by
+     * {@link #releaseOffHeapBuffer(ByteBuffer)} when it is no longer in use.
+     *
+     * @return the buffer (cleared), or <tt>null</tt> if off-heap is not enabled or the memory is used up
+     */
+    ByteBuffer acquireOffHeapBuffer();
+
+    /**
+     * Releases the buffer back to the pool of off-heap memory.
+     * <p/>
+     * The buffer is reused by {@link #acquireOffHeapBuffer()}, so it must only be released when it is no longer read,
+     * such as by stream caches which are shared by copies of the exchange.
+     *
+     * @param buffer the buffer which was acquired by {@link #acquireOffHeapBuffer()}
+     */
+    void releaseOffHeapBuffer(ByteBuffer buffer);
+
     /**
      * Gets the utilization statistics.
      */
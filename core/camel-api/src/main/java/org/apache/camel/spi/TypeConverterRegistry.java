@@ -60,6 +60,22 @@ public interface TypeConverterRegistry extends StaticService, CamelContextAware
          */
         long getFailedCounter();
 
+        /**
+         * Number of successful conversions that were done by a fallback type converter
+         */
+        long getFallbackCounter();
+
+        /**
+         * Number of type converter lookups that were found in the cache of resolved type converters
+         */
+        long getCacheHitCounter();
+
+        /**
+         * Number of type converter lookups that were not in the cache of resolved type converters, and had to be
+         * resolved
+         */
+        long getCacheMissCounter();
+
         /**
          * Reset the counters
          */
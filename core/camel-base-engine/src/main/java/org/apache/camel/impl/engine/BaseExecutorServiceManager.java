@@ -28,6 +28,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
@@ -68,6 +69,7 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     private long shutdownAwaitTermination = 10000;
     private String defaultThreadPoolProfileId = "defaultThreadPoolProfile";
     private ThreadPoolProfile defaultProfile;
+    private final AtomicBoolean virtualThreadsWarned = new AtomicBoolean();
 
     public BaseExecutorServiceManager(CamelContext camelContext) {
         this.camelContext = camelContext;
@@ -193,7 +195,7 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         ThreadPoolProfile defaultProfile = getDefaultThreadPoolProfile();
         profile.addDefaults(defaultProfile);
 
-        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true);
+        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true, isVirtualThreads(profile));
         ExecutorService executorService = threadPoolFactory.newThreadPool(profile, threadFactory);
         onThreadPoolCreated(executorService, source, profile.getId());
         if (LOG.isDebugEnabled()) {
@@ -219,7 +221,8 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     @Override
     public ExecutorService newCachedThreadPool(Object source, String name) {
         String sanitizedName = URISupport.sanitizeUri(name);
-        ExecutorService answer = threadPoolFactory.newCachedThreadPool(createThreadFactory(sanitizedName, true));
+        ExecutorService answer = threadPoolFactory.newCachedThreadPool(
+                createThreadFactory(sanitizedName, true, isVirtualThreads(getDefaultThreadPoolProfile())));
         onThreadPoolCreated(answer, source, null);
 
         if (LOG.isDebugEnabled()) {
@@ -583,7 +586,27 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     }
 
     protected ThreadFactory createThreadFactory(String name, boolean isDaemon) {
-        return new CamelThreadFactory(threadNamePattern, name, isDaemon);
+        return createThreadFactory(name, isDaemon, false);
+    }
+
+    protected ThreadFactory createThreadFactory(String name, boolean isDaemon, boolean virtual) {
+        return new CamelThreadFactory(threadNamePattern, name, isDaemon, virtual);
+    }
+
+    /**
+     * Whether the thread pool profile should use virtual threads, which is only possible if the JVM supports this.
+     */
+    private boolean isVirtualThreads(ThreadPoolProfile profile) {
+        if (profile == null || profile.getVirtualThreads() == null || !profile.getVirtualThreads()) {
+            return false;
+        }
+        if (!ThreadHelper.isVirtualThreadsSupported()) {
+            if (virtualThreadsWarned.compareAndSet(false, true)) {
+                LOG.warn("Virtual threads is enabled but requires Java 21 or newer. Will use platform threads instead.");
+            }
+            return false;
+        }
+        return true;
     }
 
 }
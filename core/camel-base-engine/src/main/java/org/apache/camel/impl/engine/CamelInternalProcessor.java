@@ -23,6 +23,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.RejectedExecutionException;
 
 import org.apache.camel.AsyncCallback;
+import org.apache.camel.BatchProcessor;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
@@ -55,6 +56,7 @@ import org.apache.camel.spi.Transformer;
 import org.apache.camel.spi.UnitOfWork;
 import org.apache.camel.spi.UnitOfWorkFactory;
 import org.apache.camel.support.CamelContextHelper;
+import org.apache.camel.support.EmptyAsyncCallback;
 import org.apache.camel.support.EventHelper;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.LoggerHelper;
@@ -95,8 +97,11 @@ import org.slf4j.LoggerFactory;
  * {@link #process(org.apache.camel.Exchange, org.apache.camel.AsyncCallback)} method.
  * <p/>
  * The added advices can implement {@link Ordered} to control in which order the advices are executed.
+ * <p/>
+ * A batch of exchanges can be processed in one pass with {@link #processBatch(List)} when the processor is a
+ * {@link BatchProcessor}. The advices are then executed for each exchange before and after the batch is processed.
  */
-public class CamelInternalProcessor extends DelegateAsyncProcessor implements InternalProcessor {
+public class CamelInternalProcessor extends DelegateAsyncProcessor implements InternalProcessor, BatchProcessor {
 
     private static final Logger LOG = LoggerFactory.getLogger(CamelInternalProcessor.class);
 
@@ -395,6 +400,112 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
         }
     }
 
+    @Override
+    public boolean isBatchCapable() {
+        return processor instanceof BatchProcessor && ((BatchProcessor) processor).isBatchCapable();
+    }
+
+    @Override
+    public void processBatch(List<Exchange> exchanges) throws Exception {
+        final int size = exchanges.size();
+        final List<Exchange> batch = new ArrayList<>(size);
+        // the states of the advices for each exchange, which is null if the exchange is not part of the batch
+        final Object[][] states = new Object[size][];
+        AsyncCallback[] afterProcess = null;
+
+        for (int n = 0; n < size; n++) {
+            Exchange exchange = exchanges.get(n);
+            if (processor == null || exchange.isRouteStop()) {
+                // no processor or we should not continue
+                continue;
+            }
+            if (shutdownStrategy.isForceShutdown()) {
+                String msg = "Run not allowed as ShutdownStrategy is forcing shutting down, will reject executing exchange: "
+                             + exchange;
+                LOG.debug(msg);
+                if (exchange.getException() == null) {
+                    exchange.setException(new RejectedExecutionException(msg));
+                }
+                continue;
+            }
+            if (exchange.isTransacted()) {
+                // transacted exchanges must be routed on their own
+                try {
+                    process(exchange);
+                } catch (Throwable e) {
+                    exchange.setException(e);
+                }
+                continue;
+            }
+
+            Object[] state = statefulAdvices > 0 ? new Object[statefulAdvices] : EMPTY_STATES;
+            if (!runBeforeAdvices(exchange, state)) {
+                continue;
+            }
+            states[n] = state;
+
+            final UnitOfWork uow = exchange.getUnitOfWork();
+            if (uow != null && uow.isBeforeAfterProcess()) {
+                if (afterProcess == null) {
+                    afterProcess = new AsyncCallback[size];
+                }
+                afterProcess[n] = uow.beforeProcess(processor, exchange, EmptyAsyncCallback.get());
+            }
+            batch.add(exchange);
+        }
+
+        if (!batch.isEmpty()) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Processing batch of {} exchanges", batch.size());
+            }
+            try {
+                doProcessBatch(batch);
+            } catch (Throwable e) {
+                // the entire batch failed
+                for (Exchange exchange : batch) {
+                    if (exchange.getException() == null) {
+                        exchange.setException(e);
+                    }
+                }
+            }
+        }
+
+        for (int n = 0; n < size; n++) {
+            if (states[n] != null) {
+                Exchange exchange = exchanges.get(n);
+                if (afterProcess != null && afterProcess[n] != null) {
+                    afterProcess[n].done(true);
+                }
+                AdviceIterator.runAfterTasks(advices, states[n], exchange);
+            }
+        }
+    }
+
+    /**
+     * Processes the batch of exchanges with the processor, which happens after the before advices have been executed
+     * for every exchange in the batch.
+     */
+    protected void doProcessBatch(List<Exchange> exchanges) throws Exception {
+        ((BatchProcessor) processor).processBatch(exchanges);
+    }
+
+    private boolean runBeforeAdvices(Exchange exchange, Object[] states) {
+        for (int i = 0, j = 0; i < advices.size(); i++) {
+            CamelInternalProcessorAdvice<?> task = advices.get(i);
+            try {
+                Object state = task.before(exchange);
+                if (task.hasState()) {
+                    states[j++] = state;
+                }
+            } catch (Throwable e) {
+                // error in before so break out
+                exchange.setException(e);
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public String toString() {
         return processor != null ? processor.toString() : super.toString();
@@ -22,10 +22,12 @@ import java.util.List;
 import java.util.Map;
 
 import org.apache.camel.AsyncProcessor;
+import org.apache.camel.BatchProcessor;
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Channel;
 import org.apache.camel.Exchange;
+import org.apache.camel.Message;
 import org.apache.camel.NamedNode;
 import org.apache.camel.NamedRoute;
 import org.apache.camel.Processor;
@@ -51,6 +53,9 @@ import org.slf4j.LoggerFactory;
  * added to the route graph directly. <br/>
  * With this {@link Channel} we can in the future implement better strategies for routing the {@link Exchange} in the
  * route graph, as we have a {@link Channel} between each and every node in the graph.
+ * <p/>
+ * A batch of exchanges is processed by the output directly, and the failures of the exchanges which failed in the
+ * batch are then handed over one at a time to the error handler, as their first delivery attempt.
  */
 public class DefaultChannel extends CamelInternalProcessor implements Channel {
 
@@ -62,6 +67,10 @@ public class DefaultChannel extends CamelInternalProcessor implements Channel {
     // the real output to invoke that has been wrapped
     private Processor output;
     private ManagementInterceptStrategy.InstrumentationProcessor<?> instrumentationProcessor;
+    // whether the instrumentation processor is part of the error handler (instead of an advice)
+    private boolean instrumentationInErrorHandler;
+    // whether the error handler may redeliver
+    private boolean redeliveryEnabled;
     private Route route;
 
     public DefaultChannel(CamelContext camelContext) {
@@ -116,6 +125,58 @@ public class DefaultChannel extends CamelInternalProcessor implements Channel {
         return route;
     }
 
+    @Override
+    public boolean isBatchCapable() {
+        // the batch bypasses the error handler, which must then not be needed for gathering statistics
+        return !instrumentationInErrorHandler && output instanceof BatchProcessor
+                && ((BatchProcessor) output).isBatchCapable();
+    }
+
+    @Override
+    protected void doProcessBatch(List<Exchange> exchanges) throws Exception {
+        Message[] originals = null;
+        if (redeliveryEnabled) {
+            // keep the incoming messages, as the exchanges which fail in the batch may be redelivered
+            originals = new Message[exchanges.size()];
+            for (int i = 0; i < originals.length; i++) {
+                originals[i] = exchanges.get(i).getIn().copy();
+            }
+        }
+
+        try {
+            ((BatchProcessor) output).processBatch(exchanges);
+        } catch (Throwable e) {
+            // the entire batch failed
+            for (Exchange exchange : exchanges) {
+                if (exchange.getException() == null) {
+                    exchange.setException(e);
+                }
+            }
+        }
+
+        // only an error handler which handles redeliveries knows about failures from a previous delivery attempt
+        // (others would just process the exchange again), otherwise the failures are kept as is
+        if (errorHandler instanceof ErrorHandlerRedeliveryCustomizer) {
+            for (int i = 0; i < exchanges.size(); i++) {
+                Exchange exchange = exchanges.get(i);
+                if (exchange.getException() != null) {
+                    // the exchange failed in the batch, which counts as its first delivery attempt, so hand over the
+                    // failure (with the exception kept) to the error handler which decides to redeliver or not
+                    LOG.debug("Exchange failed in batch, handing over the failure to the error handler: {}", exchange);
+                    if (originals != null) {
+                        // the error handler redelivers the message it is given, so restore it as before the batch
+                        exchange.setIn(originals[i]);
+                    }
+                    try {
+                        errorHandler.process(exchange);
+                    } catch (Throwable e) {
+                        exchange.setException(e);
+                    }
+                }
+            }
+        }
+    }
+
     @Override
     protected void doStart() throws Exception {
         // do not call super as we want to be in control here of the lifecycle
@@ -243,19 +304,24 @@ public class DefaultChannel extends CamelInternalProcessor implements Channel {
 
     @Override
     public void postInitChannel() throws Exception {
+        if (errorHandler instanceof ErrorHandlerRedeliveryCustomizer) {
+            redeliveryEnabled = ((ErrorHandlerRedeliveryCustomizer) errorHandler).determineIfRedeliveryIsEnabled();
+        }
+
         // if jmx was enabled for the processor then either add as advice or wrap and change the processor
         // on the error handler. See more details in the class javadoc of InstrumentationProcessor
         if (instrumentationProcessor != null) {
             boolean redeliveryPossible = false;
             if (errorHandler instanceof ErrorHandlerRedeliveryCustomizer) {
                 ErrorHandlerRedeliveryCustomizer erh = (ErrorHandlerRedeliveryCustomizer) errorHandler;
-                redeliveryPossible = erh.determineIfRedeliveryIsEnabled();
+                redeliveryPossible = redeliveryEnabled;
                 if (redeliveryPossible) {
                     // okay we can redeliver then we need to change the output in the error handler
                     // to use us which we then wrap the call so we can capture before/after for redeliveries as well
                     Processor currentOutput = erh.getOutput();
                     instrumentationProcessor.setProcessor(currentOutput);
                     erh.changeOutput(instrumentationProcessor);
+                    instrumentationInErrorHandler = true;
                 }
             }
             if (!redeliveryPossible) {
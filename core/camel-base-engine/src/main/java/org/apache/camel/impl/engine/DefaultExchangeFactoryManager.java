@@ -19,6 +19,7 @@ package org.apache.camel.impl.engine;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.camel.CamelContext;
@@ -26,12 +27,16 @@ import org.apache.camel.CamelContextAware;
 import org.apache.camel.Consumer;
 import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExchangeFactoryManager;
+import org.apache.camel.spi.PooledObjectFactory;
+import org.apache.camel.spi.ProcessorExchangeFactory;
 import org.apache.camel.support.service.ServiceSupport;
 
 public class DefaultExchangeFactoryManager extends ServiceSupport implements ExchangeFactoryManager, CamelContextAware {
 
     private final Map<Consumer, ExchangeFactory> factories = new ConcurrentHashMap<>();
-    private final UtilizationStatistics statistics = new UtilizationStatistics();
+    private final Set<ProcessorExchangeFactory> processorFactories = ConcurrentHashMap.newKeySet();
+    private final UtilizationStatistics statistics = new UtilizationStatistics(factories.values());
+    private final UtilizationStatistics processorStatistics = new UtilizationStatistics(processorFactories);
     private CamelContext camelContext;
     private int capacity;
     private boolean statisticsEnabled;
@@ -62,11 +67,31 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
         return Collections.unmodifiableCollection(factories.values());
     }
 
+    @Override
+    public void addProcessorExchangeFactory(ProcessorExchangeFactory processorExchangeFactory) {
+        processorFactories.add(processorExchangeFactory);
+    }
+
+    @Override
+    public void removeProcessorExchangeFactory(ProcessorExchangeFactory processorExchangeFactory) {
+        processorFactories.remove(processorExchangeFactory);
+    }
+
+    @Override
+    public Collection<ProcessorExchangeFactory> getProcessorExchangeFactories() {
+        return Collections.unmodifiableCollection(processorFactories);
+    }
+
     @Override
     public int getConsumerCounter() {
         return factories.size();
     }
 
+    @Override
+    public int getProcessorCounter() {
+        return processorFactories.size();
+    }
+
     @Override
     public int getCapacity() {
         return capacity;
@@ -78,6 +103,9 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
         for (ExchangeFactory ef : factories.values()) {
             counter += ef.getSize();
         }
+        for (ProcessorExchangeFactory pef : processorFactories) {
+            counter += pef.getSize();
+        }
         return counter;
     }
 
@@ -92,16 +120,21 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
         for (ExchangeFactory ef : factories.values()) {
             ef.setStatisticsEnabled(statisticsEnabled);
         }
+        for (ProcessorExchangeFactory pef : processorFactories) {
+            pef.setStatisticsEnabled(statisticsEnabled);
+        }
     }
 
     @Override
     public void resetStatistics() {
         factories.values().forEach(ExchangeFactory::resetStatistics);
+        processorFactories.forEach(ProcessorExchangeFactory::resetStatistics);
     }
 
     @Override
     public void purge() {
         factories.values().forEach(ExchangeFactory::purge);
+        processorFactories.forEach(ProcessorExchangeFactory::purge);
     }
 
     @Override
@@ -109,22 +142,35 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
         return statistics;
     }
 
+    @Override
+    public ExchangeFactory.Statistics getProcessorStatistics() {
+        return processorStatistics;
+    }
+
     /**
-     * Represents utilization statistics
+     * Represents utilization statistics aggregated from the given factories
      */
     final class UtilizationStatistics implements ExchangeFactory.Statistics {
 
+        private final Collection<? extends PooledObjectFactory<?>> pools;
+
+        UtilizationStatistics(Collection<? extends PooledObjectFactory<?>> pools) {
+            this.pools = pools;
+        }
+
         @Override
         public void reset() {
-            resetStatistics();
+            pools.forEach(PooledObjectFactory::resetStatistics);
         }
 
         @Override
         public long getCreatedCounter() {
             long answer = 0;
             if (statisticsEnabled) {
-                for (ExchangeFactory ef : factories.values()) {
-                    answer += ef.getStatistics().getCreatedCounter();
+                for (PooledObjectFactory<?> pf : pools) {
+                    if (pf.getStatistics() != null) {
+                        answer += pf.getStatistics().getCreatedCounter();
+                    }
                 }
             }
             return answer;
@@ -134,8 +180,10 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
         public long getAcquiredCounter() {
             long answer = 0;
             if (statisticsEnabled) {
-                for (ExchangeFactory ef : factories.values()) {
-                    answer += ef.getStatistics().getAcquiredCounter();
+                for (PooledObjectFactory<?> pf : pools) {
+                    if (pf.getStatistics() != null) {
+                        answer += pf.getStatistics().getAcquiredCounter();
+                    }
                 }
             }
             return answer;
@@ -145,8 +193,10 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
         public long getReleasedCounter() {
             long answer = 0;
             if (statisticsEnabled) {
-                for (ExchangeFactory ef : factories.values()) {
-                    answer += ef.getStatistics().getReleasedCounter();
+                for (PooledObjectFactory<?> pf : pools) {
+                    if (pf.getStatistics() != null) {
+                        answer += pf.getStatistics().getReleasedCounter();
+                    }
                 }
             }
             return answer;
@@ -156,8 +206,10 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
         public long getDiscardedCounter() {
             long answer = 0;
             if (statisticsEnabled) {
-                for (ExchangeFactory ef : factories.values()) {
-                    answer += ef.getStatistics().getDiscardedCounter();
+                for (PooledObjectFactory<?> pf : pools) {
+                    if (pf.getStatistics() != null) {
+                        answer += pf.getStatistics().getDiscardedCounter();
+                    }
                 }
             }
             return answer;
@@ -168,5 +220,6 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
     @Override
     protected void doShutdown() throws Exception {
         factories.clear();
+        processorFactories.clear();
     }
 }
@@ -22,7 +22,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -37,69 +37,91 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Default {@link org.apache.camel.spi.InflightRepository}.
+ * <p/>
+ * The counters use {@link LongAdder} to keep the overhead low under heavy load. The exchanges are only kept for
+ * browsing when enabled, which can be sampled to only keep every Nth exchange.
+ * <p/>
+ * When browsing is disabled the age of the oldest inflight exchange is still reported, by counting the inflight
+ * exchanges in a fixed ring of {@link LongAdder} buckets per second they were created in, so the age is accurate to the
+ * second.
  */
 public class DefaultInflightRepository extends ServiceSupport implements InflightRepository {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultInflightRepository.class);
 
-    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder size = new LongAdder();
     private final ConcurrentMap<String, Exchange> inflight = new ConcurrentHashMap<>();
-    private final ConcurrentMap<String, AtomicInteger> routeCount = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> routeCount = new ConcurrentHashMap<>();
+    private final InflightCreated created = new InflightCreated();
+    private final ConcurrentMap<String, InflightCreated> routeCreated = new ConcurrentHashMap<>();
     private boolean inflightExchangeEnabled;
+    private int inflightBrowseSampleRate = 1;
 
     @Override
     public void add(Exchange exchange) {
-        size.incrementAndGet();
+        size.increment();
+        created.add(exchange.getCreated());
 
-        if (inflightExchangeEnabled) {
+        if (inflightExchangeEnabled && isSampled(exchange)) {
             inflight.put(exchange.getExchangeId(), exchange);
         }
     }
 
     @Override
     public void remove(Exchange exchange) {
-        size.decrementAndGet();
+        size.decrement();
+        created.remove(exchange.getCreated());
 
-        if (inflightExchangeEnabled) {
+        if (inflightExchangeEnabled && isSampled(exchange)) {
             inflight.remove(exchange.getExchangeId());
         }
     }
 
     @Override
     public void add(Exchange exchange, String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
+        LongAdder existing = routeCount.get(routeId);
         if (existing != null) {
-            existing.incrementAndGet();
+            existing.increment();
+        }
+        InflightCreated existingCreated = routeCreated.get(routeId);
+        if (existingCreated != null) {
+            existingCreated.add(exchange.getCreated());
         }
     }
 
     @Override
     public void remove(Exchange exchange, String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
+        LongAdder existing = routeCount.get(routeId);
         if (existing != null) {
-            existing.decrementAndGet();
+            existing.decrement();
+        }
+        InflightCreated existingCreated = routeCreated.get(routeId);
+        if (existingCreated != null) {
+            existingCreated.remove(exchange.getCreated());
         }
     }
 
     @Override
     public int size() {
-        return size.get();
+        return size.intValue();
     }
 
     @Override
     public void addRoute(String routeId) {
-        routeCount.putIfAbsent(routeId, new AtomicInteger());
+        routeCount.putIfAbsent(routeId, new LongAdder());
+        routeCreated.putIfAbsent(routeId, new InflightCreated());
     }
 
     @Override
     public void removeRoute(String routeId) {
         routeCount.remove(routeId);
+        routeCreated.remove(routeId);
     }
 
     @Override
     public int size(String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
-        return existing != null ? existing.get() : 0;
+        LongAdder existing = routeCount.get(routeId);
+        return existing != null ? existing.intValue() : 0;
     }
 
     @Override
@@ -112,6 +134,16 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         this.inflightExchangeEnabled = inflightBrowseEnabled;
     }
 
+    @Override
+    public int getInflightBrowseSampleRate() {
+        return inflightBrowseSampleRate;
+    }
+
+    @Override
+    public void setInflightBrowseSampleRate(int inflightBrowseSampleRate) {
+        this.inflightBrowseSampleRate = inflightBrowseSampleRate;
+    }
+
     @Override
     public Collection<InflightExchange> browse() {
         return browse(null, -1, false);
@@ -167,7 +199,10 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
     @Override
     public InflightExchange oldest(String fromRouteId) {
         if (!inflightExchangeEnabled) {
-            return null;
+            // only the age is known, from the second the oldest inflight exchange was created in
+            InflightCreated counter = fromRouteId == null ? created : routeCreated.get(fromRouteId);
+            long oldest = counter != null ? counter.oldest() : -1;
+            return oldest != -1 ? new InflightAgeEntry(fromRouteId, oldest) : null;
         }
 
         Stream<Exchange> values;
@@ -205,12 +240,128 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
             LOG.debug("Shutting down with no inflight exchanges.");
         }
         routeCount.clear();
+        routeCreated.clear();
+    }
+
+    private boolean isSampled(Exchange exchange) {
+        int rate = inflightBrowseSampleRate;
+        // use the exchange id so the same exchange is sampled when added and removed
+        return rate <= 1 || (exchange.getExchangeId().hashCode() & 0x7fffffff) % rate == 0;
     }
 
     private static long getExchangeDuration(Exchange exchange) {
         return System.currentTimeMillis() - exchange.getCreated();
     }
 
+    /**
+     * Counts the inflight exchanges per second they were created in, using a fixed ring of per-second buckets, so
+     * adding and removing an exchange is only a {@link LongAdder} update and a read of the second of its bucket.
+     * <p/>
+     * A bucket is reused for a newer second after {@link #SECONDS} seconds. If it still has inflight exchanges by then,
+     * the older second is kept as the oldest second of the bucket, until the bucket has no inflight exchanges.
+     */
+    private static final class InflightCreated {
+
+        private static final int SECONDS = 64;
+        private static final long NONE = Long.MAX_VALUE;
+
+        private final Bucket[] buckets = new Bucket[SECONDS];
+
+        InflightCreated() {
+            for (int i = 0; i < SECONDS; i++) {
+                buckets[i] = new Bucket();
+            }
+        }
+
+        void add(long created) {
+            long second = created / 1000;
+            Bucket bucket = buckets[(int) (second & (SECONDS - 1))];
+            bucket.count.increment();
+            long previous = bucket.second;
+            if (previous != second) {
+                // first exchange of this second in the bucket (happens once per second)
+                bucket.second = second;
+                if (previous != NONE && bucket.count.sum() > 1) {
+                    // exchanges of an older second may still be inflight in this bucket
+                    bucket.oldest = Math.min(bucket.oldest, previous);
+                }
+            }
+        }
+
+        void remove(long created) {
+            long second = created / 1000;
+            buckets[(int) (second & (SECONDS - 1))].count.decrement();
+        }
+
+        long oldest() {
+            long answer = NONE;
+            for (Bucket bucket : buckets) {
+                if (bucket.count.sum() <= 0) {
+                    bucket.oldest = NONE;
+                } else {
+                    answer = Math.min(answer, Math.min(bucket.second, bucket.oldest));
+                }
+            }
+            return answer == NONE ? -1 : answer * 1000;
+        }
+    }
+
+    private static final class Bucket {
+
+        private final LongAdder count = new LongAdder();
+        private volatile long second = InflightCreated.NONE;
+        private volatile long oldest = InflightCreated.NONE;
+    }
+
+    /**
+     * The oldest inflight exchange when browsing is disabled, where only its age is known.
+     */
+    private static final class InflightAgeEntry implements InflightExchange {
+
+        private final String fromRouteId;
+        private final long created;
+
+        private InflightAgeEntry(String fromRouteId, long created) {
+            this.fromRouteId = fromRouteId;
+            this.created = created;
+        }
+
+        @Override
+        public Exchange getExchange() {
+            return null;
+        }
+
+        @Override
+        public long getDuration() {
+            return System.currentTimeMillis() - created;
+        }
+
+        @Override
+        public long getElapsed() {
+            return 0;
+        }
+
+        @Override
+        public String getNodeId() {
+            return null;
+        }
+
+        @Override
+        public String getFromRouteId() {
+            return fromRouteId;
+        }
+
+        @Override
+        public String getAtRouteId() {
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return "InflightAgeEntry[created=" + created + "]";
+        }
+    }
+
     private static final class InflightExchangeEntry implements InflightExchange {
 
         private final Exchange exchange;
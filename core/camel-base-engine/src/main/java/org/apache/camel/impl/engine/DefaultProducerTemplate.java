@@ -33,9 +33,12 @@ import org.apache.camel.Message;
 import org.apache.camel.NoSuchEndpointException;
 import org.apache.camel.Processor;
 import org.apache.camel.ProducerTemplate;
+import org.apache.camel.spi.BrowsableEndpoint;
+import org.apache.camel.spi.ProcessorExchangeFactory;
 import org.apache.camel.spi.ProducerCache;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.support.CamelContextHelper;
+import org.apache.camel.support.DefaultEndpoint;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.cache.DefaultProducerCache;
 import org.apache.camel.support.processor.ConvertBodyProcessor;
@@ -49,13 +52,34 @@ import org.apache.camel.util.concurrent.SynchronousExecutorService;
  * {@link Message} instances in an {@link Exchange} to an {@link Endpoint}.
  */
 public class DefaultProducerTemplate extends ServiceSupport implements ProducerTemplate {
+
+    // whether the endpoint creates its exchanges as DefaultEndpoint does, so they can be taken from a pool instead
+    // (browsable endpoints keep the exchanges they receive, which must then not be reused)
+    private static final ClassValue<Boolean> DEFAULT_CREATE_EXCHANGE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            if (BrowsableEndpoint.class.isAssignableFrom(type)) {
+                return false;
+            }
+            try {
+                return type.getMethod("createExchange").getDeclaringClass() == DefaultEndpoint.class
+                        && type.getMethod("createExchange", ExchangePattern.class).getDeclaringClass()
+                                == DefaultEndpoint.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     private final CamelContext camelContext;
     private volatile ProducerCache producerCache;
+    private ProcessorExchangeFactory processorExchangeFactory;
     private volatile ExecutorService executor;
     private Endpoint defaultEndpoint;
     private int maximumCacheSize;
     private boolean eventNotifierEnabled = true;
     private volatile boolean threadedAsyncMode = true;
+    private volatile boolean exchangePooling;
 
     public DefaultProducerTemplate(CamelContext camelContext) {
         this.camelContext = camelContext;
@@ -96,6 +120,20 @@ public class DefaultProducerTemplate extends ServiceSupport implements ProducerT
         this.threadedAsyncMode = useExecutor;
     }
 
+    public boolean isExchangePooling() {
+        return exchangePooling;
+    }
+
+    /**
+     * Whether to take the exchanges from a pool (if exchange pooling is in use) for the methods which do not return
+     * the exchange to the caller, such as sendBody and requestBody. The exchange is reused once the result is
+     * extracted, so this must only be enabled when the endpoints do not keep a reference to the exchanges they
+     * receive. Is default disabled.
+     */
+    public void setExchangePooling(boolean exchangePooling) {
+        this.exchangePooling = exchangePooling;
+    }
+
     @Override
     public int getCurrentCacheSize() {
         if (producerCache == null) {
@@ -178,15 +216,13 @@ public class DefaultProducerTemplate extends ServiceSupport implements ProducerT
 
     @Override
     public Object sendBody(Endpoint endpoint, ExchangePattern pattern, Object body) {
-        Exchange result = send(endpoint, pattern, createSetBodyProcessor(body));
-        return extractResultBody(result, pattern);
+        return sendAndExtractResultBody(endpoint, pattern, createSetBodyProcessor(body), null);
     }
 
     @Override
     public void sendBody(Endpoint endpoint, Object body) throws CamelExecutionException {
-        Exchange result = send(endpoint, createSetBodyProcessor(body));
         // must invoke extract result body in case of exception to be rethrown
-        extractResultBody(result);
+        sendAndExtractResultBody(endpoint, null, createSetBodyProcessor(body), null);
     }
 
     @Override
@@ -216,9 +252,8 @@ public class DefaultProducerTemplate extends ServiceSupport implements ProducerT
     @Override
     public void sendBodyAndHeader(Endpoint endpoint, final Object body, final String header, final Object headerValue)
             throws CamelExecutionException {
-        Exchange result = send(endpoint, createBodyAndHeaderProcessor(body, header, headerValue));
         // must invoke extract result body in case of exception to be rethrown
-        extractResultBody(result);
+        sendAndExtractResultBody(endpoint, null, createBodyAndHeaderProcessor(body, header, headerValue), null);
     }
 
     @Override
@@ -226,8 +261,8 @@ public class DefaultProducerTemplate extends ServiceSupport implements ProducerT
             Endpoint endpoint, ExchangePattern pattern, final Object body,
             final String header, final Object headerValue)
             throws CamelExecutionException {
-        Exchange exchange = send(endpoint, pattern, createBodyAndHeaderProcessor(body, header, headerValue));
-        Object result = extractResultBody(exchange, pattern);
+        Object result
+                = sendAndExtractResultBody(endpoint, pattern, createBodyAndHeaderProcessor(body, header, headerValue), null);
         if (pattern == ExchangePattern.InOnly) {
             // return null if not OUT capable
             return null;
@@ -264,9 +299,8 @@ public class DefaultProducerTemplate extends ServiceSupport implements ProducerT
             Endpoint endpoint, final Object body,
             final String property, final Object propertyValue)
             throws CamelExecutionException {
-        Exchange result = send(endpoint, createBodyAndPropertyProcessor(body, property, propertyValue));
         // must invoke extract result body in case of exception to be rethrown
-        extractResultBody(result);
+        sendAndExtractResultBody(endpoint, null, createBodyAndPropertyProcessor(body, property, propertyValue), null);
     }
 
     @Override
@@ -274,8 +308,8 @@ public class DefaultProducerTemplate extends ServiceSupport implements ProducerT
             Endpoint endpoint, ExchangePattern pattern, final Object body,
             final String property, final Object propertyValue)
             throws CamelExecutionException {
-        Exchange exchange = send(endpoint, pattern, createBodyAndPropertyProcessor(body, property, propertyValue));
-        Object result = extractResultBody(exchange, pattern);
+        Object result = sendAndExtractResultBody(endpoint, pattern,
+                createBodyAndPropertyProcessor(body, property, propertyValue), null);
         if (pattern == ExchangePattern.InOnly) {
             // return null if not OUT capable
             return null;
@@ -308,9 +342,8 @@ public class DefaultProducerTemplate extends ServiceSupport implements ProducerT
     @Override
     public void sendBodyAndHeaders(Endpoint endpoint, final Object body, final Map<String, Object> headers)
             throws CamelExecutionException {
-        Exchange result = send(endpoint, createBodyAndHeaders(body, headers));
         // must invoke extract result body in case of exception to be rethrown
-        extractResultBody(result);
+        sendAndExtractResultBody(endpoint, null, createBodyAndHeaders(body, headers), null);
     }
 
     @Override
@@ -323,8 +356,7 @@ public class DefaultProducerTemplate extends ServiceSupport implements ProducerT
     public Object sendBodyAndHeaders(
             Endpoint endpoint, ExchangePattern pattern, final Object body, final Map<String, Object> headers)
             throws CamelExecutionException {
-        Exchange exchange = send(endpoint, pattern, createBodyAndHeaders(body, headers));
-        Object result = extractResultBody(exchange, pattern);
+        Object result = sendAndExtractResultBody(endpoint, pattern, createBodyAndHeaders(body, headers), null);
         if (pattern == ExchangePattern.InOnly) {
             // return null if not OUT capable
             return null;
@@ -400,52 +432,46 @@ public class DefaultProducerTemplate extends ServiceSupport implements ProducerT
 
     @Override
     public <T> T requestBody(Endpoint endpoint, Object body, Class<T> type) {
-        Exchange exchange
-                = send(endpoint, ExchangePattern.InOut, createSetBodyProcessor(body), new ConvertBodyProcessor(type));
-        Object answer = extractResultBody(exchange);
+        Object answer = sendAndExtractResultBody(endpoint, ExchangePattern.InOut, createSetBodyProcessor(body),
+                new ConvertBodyProcessor(type));
         return camelContext.getTypeConverter().convertTo(type, answer);
     }
 
     @Override
     public <T> T requestBody(String endpointUri, Object body, Class<T> type) {
         Endpoint endpoint = resolveMandatoryEndpoint(endpointUri);
-        Exchange exchange
-                = send(endpoint, ExchangePattern.InOut, createSetBodyProcessor(body), new ConvertBodyProcessor(type));
-        Object answer = extractResultBody(exchange);
+        Object answer = sendAndExtractResultBody(endpoint, ExchangePattern.InOut, createSetBodyProcessor(body),
+                new ConvertBodyProcessor(type));
         return camelContext.getTypeConverter().convertTo(type, answer);
     }
 
     @Override
     public <T> T requestBodyAndHeader(Endpoint endpoint, Object body, String header, Object headerValue, Class<T> type) {
-        Exchange exchange = send(endpoint, ExchangePattern.InOut, createBodyAndHeaderProcessor(body, header, headerValue),
-                new ConvertBodyProcessor(type));
-        Object answer = extractResultBody(exchange);
+        Object answer = sendAndExtractResultBody(endpoint, ExchangePattern.InOut,
+                createBodyAndHeaderProcessor(body, header, headerValue), new ConvertBodyProcessor(type));
         return camelContext.getTypeConverter().convertTo(type, answer);
     }
 
     @Override
     public <T> T requestBodyAndHeader(String endpointUri, Object body, String header, Object headerValue, Class<T> type) {
         Endpoint endpoint = resolveMandatoryEndpoint(endpointUri);
-        Exchange exchange = send(endpoint, ExchangePattern.InOut, createBodyAndHeaderProcessor(body, header, headerValue),
-                new ConvertBodyProcessor(type));
-        Object answer = extractResultBody(exchange);
+        Object answer = sendAndExtractResultBody(endpoint, ExchangePattern.InOut,
+                createBodyAndHeaderProcessor(body, header, headerValue), new ConvertBodyProcessor(type));
         return camelContext.getTypeConverter().convertTo(type, answer);
     }
 
     @Override
     public <T> T requestBodyAndHeaders(String endpointUri, Object body, Map<String, Object> headers, Class<T> type) {
         Endpoint endpoint = resolveMandatoryEndpoint(endpointUri);
-        Exchange exchange
-                = send(endpoint, ExchangePattern.InOut, createBodyAndHeaders(body, headers), new ConvertBodyProcessor(type));
-        Object answer = extractResultBody(exchange);
+        Object answer = sendAndExtractResultBody(endpoint, ExchangePattern.InOut, createBodyAndHeaders(body, headers),
+                new ConvertBodyProcessor(type));
         return camelContext.getTypeConverter().convertTo(type, answer);
     }
 
     @Override
     public <T> T requestBodyAndHeaders(Endpoint endpoint, Object body, Map<String, Object> headers, Class<T> type) {
-        Exchange exchange
-                = send(endpoint, ExchangePattern.InOut, createBodyAndHeaders(body, headers), new ConvertBodyProcessor(type));
-        Object answer = extractResultBody(exchange);
+        Object answer = sendAndExtractResultBody(endpoint, ExchangePattern.InOut, createBodyAndHeaders(body, headers),
+                new ConvertBodyProcessor(type));
         return camelContext.getTypeConverter().convertTo(type, answer);
     }
 
@@ -583,6 +609,51 @@ public class DefaultProducerTemplate extends ServiceSupport implements ProducerT
         return answer;
     }
 
+    /**
+     * Sends a new exchange to the endpoint and extracts the result body. As the exchange is not returned to the caller,
+     * then it is taken from the pool (if exchange pooling is in use and enabled on this template) and released back
+     * once the result is extracted.
+     */
+    protected Object sendAndExtractResultBody(
+            Endpoint endpoint, ExchangePattern pattern, Processor processor, Processor resultProcessor) {
+        if (!exchangePooling || processorExchangeFactory == null || !DEFAULT_CREATE_EXCHANGE.get(endpoint.getClass())) {
+            Exchange result = send(endpoint, pattern, processor, resultProcessor);
+            return extractResultBody(result, pattern);
+        }
+
+        Exchange exchange
+                = processorExchangeFactory.create(endpoint, pattern != null ? pattern : endpoint.getExchangePattern());
+        boolean completed = true;
+        try {
+            endpoint.configureExchange(exchange);
+            boolean processed = true;
+            if (processor != null) {
+                try {
+                    processor.process(exchange);
+                } catch (Exception e) {
+                    exchange.setException(e);
+                    processed = false;
+                }
+            }
+            if (processed) {
+                send(endpoint, exchange, resultProcessor);
+            }
+            // an exchange which was interrupted while waiting for the callback may still be routed by another thread
+            completed = !exchange.getExchangeExtension().isInterrupted()
+                    && !(exchange.getException() instanceof InterruptedException);
+            Exchange result = exchange;
+            if (completed && exchange.getException() != null) {
+                // the thrown exception refers to the exchange, so it must refer to a copy of the released exchange
+                result = exchange.copy();
+            }
+            return extractResultBody(result, pattern);
+        } finally {
+            if (completed) {
+                processorExchangeFactory.release(exchange);
+            }
+        }
+    }
+
     protected Object extractResultBody(Exchange result) {
         return extractResultBody(result, null);
     }
@@ -775,6 +846,12 @@ public class DefaultProducerTemplate extends ServiceSupport implements ProducerT
         producerCache = new DefaultProducerCache(this, camelContext, maximumCacheSize);
         producerCache.setEventNotifierEnabled(isEventNotifierEnabled());
         ServiceHelper.buildService(producerCache);
+        ProcessorExchangeFactory factory = camelContext.getCamelContextExtension().getProcessorExchangeFactory();
+        if (factory.isPooled()) {
+            processorExchangeFactory = factory.newProcessorExchangeFactory(null);
+            processorExchangeFactory.setId("ProducerTemplate");
+            ServiceHelper.buildService(processorExchangeFactory);
+        }
     }
 
     @Override
@@ -783,17 +860,17 @@ public class DefaultProducerTemplate extends ServiceSupport implements ProducerT
         if (defaultEndpoint != null) {
             defaultEndpoint = camelContext.getEndpoint(defaultEndpoint.getEndpointUri());
         }
-        ServiceHelper.initService(producerCache);
+        ServiceHelper.initService(producerCache, processorExchangeFactory);
     }
 
     @Override
     protected void doStart() throws Exception {
-        ServiceHelper.startService(producerCache);
+        ServiceHelper.startService(producerCache, processorExchangeFactory);
     }
 
     @Override
     protected void doStop() throws Exception {
-        ServiceHelper.stopService(producerCache);
+        ServiceHelper.stopService(producerCache, processorExchangeFactory);
         if (executor != null) {
             camelContext.getExecutorServiceManager().shutdownNow(executor);
             executor = null;
@@ -802,7 +879,8 @@ public class DefaultProducerTemplate extends ServiceSupport implements ProducerT
 
     @Override
     protected void doShutdown() throws Exception {
-        ServiceHelper.stopAndShutdownService(producerCache);
+        ServiceHelper.stopAndShutdownServices(producerCache, processorExchangeFactory);
         producerCache = null;
+        processorExchangeFactory = null;
     }
 }
@@ -19,15 +19,24 @@ package org.apache.camel.impl.engine;
 import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.nio.ByteBuffer;
+import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.OffHeapInputStreamCache;
 import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.FilePathResolver;
 import org.apache.camel.util.FileUtil;
@@ -42,6 +51,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultStreamCachingStrategy.class);
 
+    // the size of the pooled off-heap buffers
+    private static final int OFF_HEAP_BUFFER_SIZE = 64 * 1024;
+
     private CamelContext camelContext;
     private boolean enabled;
     private boolean spoolEnabled;
@@ -56,6 +68,11 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private final UtilizationStatistics statistics = new UtilizationStatistics();
     private final Set<SpoolRule> spoolRules = new LinkedHashSet<>();
     private boolean anySpoolRules;
+    private boolean offHeapEnabled;
+    private long offHeapThreshold = 64 * 1024L;
+    private long offHeapMaxSize = 64 * 1024 * 1024L;
+    private final AtomicLong offHeapUsed = new AtomicLong();
+    private final Queue<ByteBuffer> offHeapPool = new ConcurrentLinkedQueue<>();
 
     @Override
     public CamelContext getCamelContext() {
@@ -172,6 +189,70 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.anySpoolRules = anySpoolTasks;
     }
 
+    @Override
+    public boolean isOffHeapEnabled() {
+        return offHeapEnabled;
+    }
+
+    @Override
+    public void setOffHeapEnabled(boolean offHeapEnabled) {
+        this.offHeapEnabled = offHeapEnabled;
+    }
+
+    @Override
+    public long getOffHeapThreshold() {
+        return offHeapThreshold;
+    }
+
+    @Override
+    public void setOffHeapThreshold(long offHeapThreshold) {
+        this.offHeapThreshold = offHeapThreshold;
+    }
+
+    @Override
+    public long getOffHeapMaxSize() {
+        return offHeapMaxSize;
+    }
+
+    @Override
+    public void setOffHeapMaxSize(long offHeapMaxSize) {
+        this.offHeapMaxSize = offHeapMaxSize;
+    }
+
+    @Override
+    public long getOffHeapUsed() {
+        return offHeapUsed.get();
+    }
+
+    @Override
+    public ByteBuffer acquireOffHeapBuffer() {
+        if (!enabled || !offHeapEnabled) {
+            return null;
+        }
+        // reserve the memory first so we never allocate more than the max size
+        long used;
+        do {
+            used = offHeapUsed.get();
+            if (used + OFF_HEAP_BUFFER_SIZE > offHeapMaxSize) {
+                LOG.trace("Off-heap memory used up {} + {} > {}", used, OFF_HEAP_BUFFER_SIZE, offHeapMaxSize);
+                return null;
+            }
+        } while (!offHeapUsed.compareAndSet(used, used + OFF_HEAP_BUFFER_SIZE));
+
+        ByteBuffer buffer = offHeapPool.poll();
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(OFF_HEAP_BUFFER_SIZE);
+        }
+        return buffer;
+    }
+
+    @Override
+    public void releaseOffHeapBuffer(ByteBuffer buffer) {
+        buffer.clear();
+        offHeapPool.offer(buffer);
+        offHeapUsed.addAndGet(-buffer.capacity());
+    }
+
     @Override
     public Statistics getStatistics() {
         return statistics;
@@ -227,10 +308,13 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             }
             if (statistics.isStatisticsEnabled()) {
                 try {
-                    if (cache.inMemory()) {
-                        statistics.updateMemory(cache.length());
+                    String routeId = ExchangeHelper.getRouteId(exchange);
+                    if (cache instanceof OffHeapInputStreamCache) {
+                        statistics.updateOffHeap(routeId, cache.length());
+                    } else if (cache.inMemory()) {
+                        statistics.updateMemory(routeId, cache.length());
                     } else {
-                        statistics.updateSpool(cache.length());
+                        statistics.updateSpool(routeId, cache.length());
                     }
                 } catch (Exception e) {
                     LOG.debug("Error updating cache statistics. This exception is ignored.", e);
@@ -290,7 +374,8 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
 
         // if we can overflow to disk then make sure directory exists / is created
-        if (spoolEnabled && (spoolThreshold > 0 || spoolUsedHeapMemoryThreshold > 0)) {
+        // (off-heap overflows to disk when its memory is used up)
+        if (spoolEnabled && (spoolThreshold > 0 || spoolUsedHeapMemoryThreshold > 0 || offHeapEnabled)) {
             if (spoolDirectory == null && spoolDirectoryName == null) {
                 throw new IllegalArgumentException("SpoolDirectory must be configured when using SpoolThreshold > 0");
             }
@@ -335,6 +420,11 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
 
         LOG.debug("StreamCaching configuration {}", this);
 
+        if (offHeapEnabled) {
+            LOG.info("StreamCaching using off-heap memory > {}K body size with max {}K memory", offHeapThreshold >> 10,
+                    offHeapMaxSize >> 10);
+        }
+
         if (spoolDirectory != null) {
             LOG.info("StreamCaching in use with spool directory: {} and rules: {}", spoolDirectory.getPath(), spoolRules);
         } else if (!spoolRules.isEmpty()) {
@@ -357,6 +447,8 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
 
         statistics.reset();
+        // the buffers in use are released when their exchanges are done, and then they are garbage collected
+        offHeapPool.clear();
     }
 
     private boolean isSpoolRemovable() {
@@ -371,6 +463,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                + ", spoolCipher=" + spoolCipher
                + ", spoolThreshold=" + spoolThreshold
                + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
+               + ", offHeapEnabled=" + offHeapEnabled
+               + ", offHeapThreshold=" + offHeapThreshold
+               + ", offHeapMaxSize=" + offHeapMaxSize
                + ", bufferSize=" + bufferSize
                + ", anySpoolRules=" + anySpoolRules + "]";
     }
@@ -450,17 +545,36 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         private volatile long spoolCounter;
         private volatile long spoolSize;
         private volatile long spoolAverageSize;
+        private volatile long offHeapCounter;
+        private volatile long offHeapSize;
+        private volatile long offHeapAverageSize;
+        private final Map<String, RouteUtilizationStatistics> routeStatistics = new ConcurrentHashMap<>();
 
-        synchronized void updateMemory(long size) {
+        synchronized void updateMemory(String routeId, long size) {
             memoryCounter++;
             memorySize += size;
             memoryAverageSize = memorySize / memoryCounter;
+            if (routeId != null) {
+                routeStatistics.computeIfAbsent(routeId, k -> new RouteUtilizationStatistics()).updateMemory(size);
+            }
         }
 
-        synchronized void updateSpool(long size) {
+        synchronized void updateSpool(String routeId, long size) {
             spoolCounter++;
             spoolSize += size;
             spoolAverageSize = spoolSize / spoolCounter;
+            if (routeId != null) {
+                routeStatistics.computeIfAbsent(routeId, k -> new RouteUtilizationStatistics()).updateSpool(size);
+            }
+        }
+
+        synchronized void updateOffHeap(String routeId, long size) {
+            offHeapCounter++;
+            offHeapSize += size;
+            offHeapAverageSize = offHeapSize / offHeapCounter;
+            if (routeId != null) {
+                routeStatistics.computeIfAbsent(routeId, k -> new RouteUtilizationStatistics()).updateOffHeap(size);
+            }
         }
 
         @Override
@@ -493,6 +607,26 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             return spoolAverageSize;
         }
 
+        @Override
+        public long getCacheOffHeapCounter() {
+            return offHeapCounter;
+        }
+
+        @Override
+        public long getCacheOffHeapSize() {
+            return offHeapSize;
+        }
+
+        @Override
+        public long getCacheOffHeapAverageSize() {
+            return offHeapAverageSize;
+        }
+
+        @Override
+        public Map<String, RouteStatistics> getRouteStatistics() {
+            return Collections.unmodifiableMap(routeStatistics);
+        }
+
         @Override
         public synchronized void reset() {
             memoryCounter = 0;
@@ -501,6 +635,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             spoolCounter = 0;
             spoolSize = 0;
             spoolAverageSize = 0;
+            offHeapCounter = 0;
+            offHeapSize = 0;
+            offHeapAverageSize = 0;
+            routeStatistics.clear();
         }
 
         @Override
@@ -516,8 +654,68 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         @Override
         public String toString() {
             return String.format(
-                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s]",
-                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize);
+                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s"
+                                 + ", offHeapCounter=%s, offHeapSize=%s, offHeapAverageSize=%s]",
+                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize,
+                    offHeapCounter, offHeapSize, offHeapAverageSize);
+        }
+    }
+
+    /**
+     * Represents utilization statistics for a route (updated while holding the lock of {@link UtilizationStatistics}).
+     */
+    private static final class RouteUtilizationStatistics implements RouteStatistics {
+
+        private volatile long memoryCounter;
+        private volatile long memorySize;
+        private volatile long spoolCounter;
+        private volatile long spoolSize;
+        private volatile long offHeapCounter;
+        private volatile long offHeapSize;
+
+        void updateMemory(long size) {
+            memoryCounter++;
+            memorySize += size;
+        }
+
+        void updateSpool(long size) {
+            spoolCounter++;
+            spoolSize += size;
+        }
+
+        void updateOffHeap(long size) {
+            offHeapCounter++;
+            offHeapSize += size;
+        }
+
+        @Override
+        public long getCacheMemoryCounter() {
+            return memoryCounter;
+        }
+
+        @Override
+        public long getCacheMemorySize() {
+            return memorySize;
+        }
+
+        @Override
+        public long getCacheOffHeapCounter() {
+            return offHeapCounter;
+        }
+
+        @Override
+        public long getCacheOffHeapSize() {
+            return offHeapSize;
+        }
+
+        @Override
+        public long getCacheSpoolCounter() {
+            return spoolCounter;
+        }
+
+        @Override
+        public long getCacheSpoolSize() {
+            return spoolSize;
         }
     }
 
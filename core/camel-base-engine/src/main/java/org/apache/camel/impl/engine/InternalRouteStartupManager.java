@@ -23,6 +23,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.camel.Consumer;
 import org.apache.camel.Endpoint;
@@ -38,6 +41,7 @@ import org.apache.camel.SuspendableService;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.spi.LifecycleStrategy;
 import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.support.OrderedComparator;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.URISupport;
@@ -49,6 +53,11 @@ import org.slf4j.LoggerFactory;
  * starting routes.
  * <p>
  * This code has been refactored out of {@link AbstractCamelContext} to its own class.
+ * <p>
+ * The route consumers can be started in parallel (see
+ * {@link org.apache.camel.spi.RouteController#getStartupParallelism()}), where the routes are started in groups
+ * following their startup order. The routes in a group are started concurrently, and the next group is not started
+ * before all the routes in the previous group have been started.
  */
 class InternalRouteStartupManager {
 
@@ -169,20 +178,32 @@ class InternalRouteStartupManager {
             boolean checkClash, boolean startConsumer, boolean resumeConsumer, boolean addingRoutes,
             Collection<RouteService> routeServices)
             throws Exception {
+        final int parallelism = getStartupParallelism();
+
         // list of inputs to start when all the routes have been prepared for
         // starting
         // we use a tree map so the routes will be ordered according to startup
-        // order defined on the route
-        Map<Integer, DefaultRouteStartupOrder> inputs = new TreeMap<>();
+        // order defined on the route (when starting in parallel then the routes
+        // sharing the same startup order are grouped together)
+        Map<Integer, List<DefaultRouteStartupOrder>> inputs = new TreeMap<>();
+        // routes without an explicit startup order are grouped together with the first of these routes
+        Integer autoAssignedGroup = null;
 
         // figure out the order in which the routes should be started
         for (RouteService routeService : routeServices) {
             DefaultRouteStartupOrder order = doPrepareRouteToBeStarted(routeService);
-            // check for clash before we add it as input
-            if (checkClash) {
+            // check for clash before we add it as input (routes may share startup order when starting in parallel)
+            if (checkClash && parallelism <= 1) {
                 doCheckStartupOrderClash(order, inputs);
             }
-            inputs.put(order.getStartupOrder(), order);
+            Integer group = order.getStartupOrder();
+            if (parallelism > 1 && order.getRoute().getStartupOrder() == null) {
+                if (autoAssignedGroup == null) {
+                    autoAssignedGroup = group;
+                }
+                group = autoAssignedGroup;
+            }
+            inputs.computeIfAbsent(group, k -> new ArrayList<>(1)).add(order);
         }
 
         // warm up routes before we start them
@@ -203,14 +224,25 @@ class InternalRouteStartupManager {
 
         // now start the consumers
         if (startConsumer) {
-            if (resumeConsumer) {
-                // and now resume the routes
-                doResumeRouteConsumers(inputs, addingRoutes);
-            } else {
-                // and now start the routes
-                // and check for clash with multiple consumers of the same
-                // endpoints which is not allowed
-                doStartRouteConsumers(inputs, addingRoutes);
+            ExecutorService executor = null;
+            if (parallelism > 1 && inputs.values().stream().anyMatch(group -> group.size() > 1)) {
+                executor = abstractCamelContext.getExecutorServiceManager().newFixedThreadPool(this, "RouteStartup",
+                        parallelism);
+            }
+            try {
+                if (resumeConsumer) {
+                    // and now resume the routes
+                    doResumeRouteConsumers(inputs, addingRoutes, executor);
+                } else {
+                    // and now start the routes
+                    // and check for clash with multiple consumers of the same
+                    // endpoints which is not allowed
+                    doStartRouteConsumers(inputs, addingRoutes, executor);
+                }
+            } finally {
+                if (executor != null) {
+                    abstractCamelContext.getExecutorServiceManager().shutdownNow(executor);
+                }
             }
         }
 
@@ -256,10 +288,12 @@ class InternalRouteStartupManager {
         return new DefaultRouteStartupOrder(startupOrder, route, routeService);
     }
 
-    boolean doCheckStartupOrderClash(DefaultRouteStartupOrder answer, Map<Integer, DefaultRouteStartupOrder> inputs)
+    boolean doCheckStartupOrderClash(
+            DefaultRouteStartupOrder answer, Map<Integer, List<DefaultRouteStartupOrder>> inputs)
             throws FailedToStartRouteException {
         // check for clash by startupOrder id
-        DefaultRouteStartupOrder other = inputs.get(answer.getStartupOrder());
+        List<DefaultRouteStartupOrder> others = inputs.get(answer.getStartupOrder());
+        DefaultRouteStartupOrder other = others != null ? others.get(0) : null;
         if (other != null && answer != other) {
             String otherId = other.getRoute().getId();
             throw new FailedToStartRouteException(
@@ -283,168 +317,264 @@ class InternalRouteStartupManager {
         return true;
     }
 
-    void doWarmUpRoutes(Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup) throws FailedToStartRouteException {
+    void doWarmUpRoutes(Map<Integer, List<DefaultRouteStartupOrder>> inputs, boolean autoStartup)
+            throws FailedToStartRouteException {
         // now prepare the routes by starting its services before we start the
-        // input
-        for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
-            // defer starting inputs till later as we want to prepare the routes
-            // by starting
-            // all their processors and child services etc.
-            // then later we open the floods to Camel by starting the inputs
-            // what this does is to ensure Camel is more robust on starting
-            // routes as all routes
-            // will then be prepared in time before we start inputs which will
-            // consume messages to be routed
-            RouteService routeService = entry.getValue().getRouteService();
-            StartupStep step = abstractCamelContext.getStartupStepRecorder().beginStep(Route.class, routeService.getId(),
-                    "Warump Route");
-            try {
-                LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
-                setupRoute.set(routeService.getRoute());
-                // ensure we setup before warmup
-                routeService.setUp();
-                routeService.warmUp();
-            } finally {
-                setupRoute.remove();
-                abstractCamelContext.getStartupStepRecorder().endStep(step);
+        // input (this is always done one route at a time as the routes are
+        // added to the context and management while warming up)
+        for (List<DefaultRouteStartupOrder> group : inputs.values()) {
+            for (DefaultRouteStartupOrder input : group) {
+                // defer starting inputs till later as we want to prepare the routes
+                // by starting
+                // all their processors and child services etc.
+                // then later we open the floods to Camel by starting the inputs
+                // what this does is to ensure Camel is more robust on starting
+                // routes as all routes
+                // will then be prepared in time before we start inputs which will
+                // consume messages to be routed
+                RouteService routeService = input.getRouteService();
+                StartupStep step = abstractCamelContext.getStartupStepRecorder().beginStep(Route.class,
+                        routeService.getId(), "Warump Route");
+                try {
+                    LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
+                    setupRoute.set(routeService.getRoute());
+                    // ensure we setup before warmup
+                    routeService.setUp();
+                    routeService.warmUp();
+                } finally {
+                    setupRoute.remove();
+                    abstractCamelContext.getStartupStepRecorder().endStep(step);
+                }
             }
         }
     }
 
-    void doResumeRouteConsumers(Map<Integer, DefaultRouteStartupOrder> inputs, boolean addingRoutes) throws Exception {
-        doStartOrResumeRouteConsumers(inputs, true, addingRoutes);
+    void doResumeRouteConsumers(
+            Map<Integer, List<DefaultRouteStartupOrder>> inputs, boolean addingRoutes, ExecutorService executor)
+            throws Exception {
+        doStartOrResumeRouteConsumers(inputs, true, addingRoutes, executor);
     }
 
-    void doStartRouteConsumers(Map<Integer, DefaultRouteStartupOrder> inputs, boolean addingRoutes) throws Exception {
-        doStartOrResumeRouteConsumers(inputs, false, addingRoutes);
+    void doStartRouteConsumers(
+            Map<Integer, List<DefaultRouteStartupOrder>> inputs, boolean addingRoutes, ExecutorService executor)
+            throws Exception {
+        doStartOrResumeRouteConsumers(inputs, false, addingRoutes, executor);
     }
 
     private LoggingLevel getRouteLoggerLogLevel() {
         return abstractCamelContext.getRouteController().getLoggingLevel();
     }
 
+    private int getStartupParallelism() {
+        return abstractCamelContext.getRouteController().getStartupParallelism();
+    }
+
     private void doStartOrResumeRouteConsumers(
-            Map<Integer, DefaultRouteStartupOrder> inputs, boolean resumeOnly, boolean addingRoute)
+            Map<Integer, List<DefaultRouteStartupOrder>> inputs, boolean resumeOnly, boolean addingRoute,
+            ExecutorService executor)
             throws Exception {
         List<Endpoint> routeInputs = new ArrayList<>();
 
-        for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
+        for (Map.Entry<Integer, List<DefaultRouteStartupOrder>> entry : inputs.entrySet()) {
             Integer order = entry.getKey();
-            Route route = entry.getValue().getRoute();
-            RouteService routeService = entry.getValue().getRouteService();
-
-            // if we are starting camel, then skip routes which are configured
-            // to not be auto started
-            boolean autoStartup = routeService.isAutoStartup();
-            if (addingRoute && !autoStartup) {
-                routeLogger.log(
-                        "Skipping starting of route " + routeService.getId() + " as it's configured with autoStartup=false",
-                        getRouteLoggerLogLevel());
-                continue;
-            }
 
-            StartupStep step = abstractCamelContext.getStartupStepRecorder().beginStep(Route.class, route.getRouteId(),
-                    "Start Route");
+            // the routes in this group to be started
+            List<DefaultRouteStartupOrder> group = new ArrayList<>(entry.getValue().size());
+            for (DefaultRouteStartupOrder input : entry.getValue()) {
+                RouteService routeService = input.getRouteService();
+
+                // if we are starting camel, then skip routes which are configured
+                // to not be auto started
+                boolean autoStartup = routeService.isAutoStartup();
+                if (addingRoute && !autoStartup) {
+                    routeLogger.log(
+                            "Skipping starting of route " + routeService.getId()
+                                    + " as it's configured with autoStartup=false",
+                            getRouteLoggerLogLevel());
+                    continue;
+                }
 
-            // do some preparation before starting the consumer on the route
-            Consumer consumer = routeService.getInput();
-            if (consumer != null) {
-                Endpoint endpoint = consumer.getEndpoint();
+                // do some preparation before starting the consumer on the route
+                doPrepareRouteConsumer(input, resumeOnly, routeInputs);
+                group.add(input);
+            }
 
-                // check multiple consumer violation, with the other routes to be started
-                if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
-                    throw new FailedToStartRouteException(
-                            routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+            if (executor != null && group.size() > 1) {
+                // start the routes in the group in parallel, and wait for all of them before the next group
+                StartupStepRecorder recorder = abstractCamelContext.getStartupStepRecorder();
+                StartupStep step = recorder.beginStep(Route.class, String.valueOf(order), "Start Routes");
+                try {
+                    LOG.debug("Starting {} routes (order: {}) in parallel", group.size(), order);
+                    // the worker threads must be marked as starting routes as well (like this thread), so the
+                    // endpoints and services created while starting the consumers are handled as during startup
+                    boolean startingRoutes = abstractCamelContext.isStartingRoutes();
+                    List<Future<?>> futures = new ArrayList<>(group.size());
+                    for (DefaultRouteStartupOrder input : group) {
+                        futures.add(executor.submit(() -> {
+                            abstractCamelContext.setStartingRoutes(startingRoutes);
+                            try {
+                                doStartOrResumeRouteConsumer(input, order, resumeOnly, step);
+                            } finally {
+                                abstractCamelContext.setStartingRoutes(false);
+                            }
+                            return null;
+                        }));
+                    }
+                    awaitRouteConsumers(futures);
+                } finally {
+                    recorder.endStep(step);
+                }
+            } else {
+                for (DefaultRouteStartupOrder input : group) {
+                    doStartOrResumeRouteConsumer(input, order, resumeOnly, null);
                 }
+            }
+        }
+    }
 
-                // check for multiple consumer violations with existing routes
-                // which have already been started, or is currently starting
-                List<Endpoint> existingEndpoints = new ArrayList<>();
-                for (Route existingRoute : abstractCamelContext.getRoutes()) {
-                    if (route.getId().equals(existingRoute.getId())) {
-                        // skip ourselves
-                        continue;
-                    }
-                    Endpoint existing = existingRoute.getEndpoint();
-                    ServiceStatus status = abstractCamelContext.getRouteStatus(existingRoute.getId());
-                    if (status != null && (status.isStarted() || status.isStarting())) {
-                        existingEndpoints.add(existing);
-                    }
+    private void doPrepareRouteConsumer(DefaultRouteStartupOrder input, boolean resumeOnly, List<Endpoint> routeInputs)
+            throws Exception {
+        Route route = input.getRoute();
+        RouteService routeService = input.getRouteService();
+
+        Consumer consumer = routeService.getInput();
+        if (consumer != null) {
+            Endpoint endpoint = consumer.getEndpoint();
+
+            // check multiple consumer violation, with the other routes to be started
+            if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
+                throw new FailedToStartRouteException(
+                        routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+            }
+
+            // check for multiple consumer violations with existing routes
+            // which have already been started, or is currently starting
+            List<Endpoint> existingEndpoints = new ArrayList<>();
+            for (Route existingRoute : abstractCamelContext.getRoutes()) {
+                if (route.getId().equals(existingRoute.getId())) {
+                    // skip ourselves
+                    continue;
                 }
-                if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
-                    throw new FailedToStartRouteException(
-                            routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+                Endpoint existing = existingRoute.getEndpoint();
+                ServiceStatus status = abstractCamelContext.getRouteStatus(existingRoute.getId());
+                if (status != null && (status.isStarted() || status.isStarting())) {
+                    existingEndpoints.add(existing);
                 }
+            }
+            if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
+                throw new FailedToStartRouteException(
+                        routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+            }
 
-                // start the consumer on the route
-                LOG.debug("Route: {} >>> {}", route.getId(), route);
-                if (resumeOnly) {
-                    LOG.debug("Resuming consumer (order: {}) on route: {}", order, route.getId());
-                } else {
-                    LOG.debug("Starting consumer (order: {}) on route: {}", order, route.getId());
+            if (!resumeOnly || !route.supportsSuspension()) {
+                // when starting we should invoke the lifecycle strategies
+                for (LifecycleStrategy strategy : abstractCamelContext.getLifecycleStrategies()) {
+                    strategy.onServiceAdd(abstractCamelContext.getCamelContextReference(), consumer, route);
                 }
+            }
 
-                if (resumeOnly && route.supportsSuspension()) {
-                    // if we are resuming and the route can be resumed
-                    ServiceHelper.resumeService(consumer);
-                    // use basic endpoint uri to not log verbose details or potential sensitive data
-                    String uri = endpoint.getEndpointBaseUri();
-                    uri = URISupport.sanitizeUri(uri);
-                    routeLogger.log("Route: " + route.getId() + " resumed and consuming from: " + uri,
-                            getRouteLoggerLogLevel());
-                } else {
-                    // when starting we should invoke the lifecycle strategies
-                    for (LifecycleStrategy strategy : abstractCamelContext.getLifecycleStrategies()) {
-                        strategy.onServiceAdd(abstractCamelContext.getCamelContextReference(), consumer, route);
-                    }
-                    try {
-                        abstractCamelContext.startService(consumer);
-                        route.getProperties().remove("route.start.exception");
-                    } catch (Exception e) {
-                        route.getProperties().put("route.start.exception", e);
-                        throw e;
-                    }
+            routeInputs.add(endpoint);
+        }
+    }
 
-                    // use basic endpoint uri to not log verbose details or potential sensitive data
-                    String uri = endpoint.getEndpointBaseUri();
-                    uri = URISupport.sanitizeUri(uri);
-                    routeLogger.log("Route: " + route.getId() + " started and consuming from: " + uri,
-                            getRouteLoggerLogLevel());
+    private void doStartOrResumeRouteConsumer(
+            DefaultRouteStartupOrder input, Integer order, boolean resumeOnly, StartupStep parent)
+            throws Exception {
+        Route route = input.getRoute();
+        RouteService routeService = input.getRouteService();
+
+        StartupStepRecorder recorder = abstractCamelContext.getStartupStepRecorder();
+        StartupStep step = parent != null
+                ? recorder.beginStep(parent, Route.class, route.getRouteId(), "Start Route")
+                : recorder.beginStep(Route.class, route.getRouteId(), "Start Route");
+
+        Consumer consumer = routeService.getInput();
+        if (consumer != null) {
+            Endpoint endpoint = consumer.getEndpoint();
+
+            // start the consumer on the route
+            LOG.debug("Route: {} >>> {}", route.getId(), route);
+            if (resumeOnly) {
+                LOG.debug("Resuming consumer (order: {}) on route: {}", order, route.getId());
+            } else {
+                LOG.debug("Starting consumer (order: {}) on route: {}", order, route.getId());
+            }
+
+            if (resumeOnly && route.supportsSuspension()) {
+                // if we are resuming and the route can be resumed
+                ServiceHelper.resumeService(consumer);
+                // use basic endpoint uri to not log verbose details or potential sensitive data
+                String uri = endpoint.getEndpointBaseUri();
+                uri = URISupport.sanitizeUri(uri);
+                routeLogger.log("Route: " + route.getId() + " resumed and consuming from: " + uri,
+                        getRouteLoggerLogLevel());
+            } else {
+                try {
+                    abstractCamelContext.startService(consumer);
+                    route.getProperties().remove("route.start.exception");
+                } catch (Exception e) {
+                    route.getProperties().put("route.start.exception", e);
+                    throw e;
                 }
 
-                routeInputs.add(endpoint);
+                // use basic endpoint uri to not log verbose details or potential sensitive data
+                String uri = endpoint.getEndpointBaseUri();
+                uri = URISupport.sanitizeUri(uri);
+                routeLogger.log("Route: " + route.getId() + " started and consuming from: " + uri,
+                        getRouteLoggerLogLevel());
+            }
 
-                // add to the order which they was started, so we know how to
-                // stop them in reverse order
-                // but only add if we haven't already registered it before (we
-                // dont want to double add when restarting)
+            // add to the order which they was started, so we know how to
+            // stop them in reverse order
+            // but only add if we haven't already registered it before (we
+            // dont want to double add when restarting)
+            List<RouteStartupOrder> startupOrders
+                    = abstractCamelContext.getCamelContextExtension().getRouteStartupOrder();
+            synchronized (startupOrders) {
                 boolean found = false;
-                for (RouteStartupOrder other : abstractCamelContext.getCamelContextExtension().getRouteStartupOrder()) {
+                for (RouteStartupOrder other : startupOrders) {
                     if (other.getRoute().getId().equals(route.getId())) {
                         found = true;
                         break;
                     }
                 }
                 if (!found) {
-                    abstractCamelContext.getCamelContextExtension().getRouteStartupOrder().add(entry.getValue());
+                    startupOrders.add(input);
                 }
             }
+        }
 
-            if (resumeOnly) {
-                routeService.resume();
-            } else {
-                // and start the route service (no need to start children as
-                // they are already warmed up)
-                try {
-                    routeService.start();
-                    route.getProperties().remove("route.start.exception");
-                } catch (Exception e) {
-                    route.getProperties().put("route.start.exception", e);
-                    throw e;
-                }
+        if (resumeOnly) {
+            routeService.resume();
+        } else {
+            // and start the route service (no need to start children as
+            // they are already warmed up)
+            try {
+                routeService.start();
+                route.getProperties().remove("route.start.exception");
+            } catch (Exception e) {
+                route.getProperties().put("route.start.exception", e);
+                throw e;
             }
+        }
 
-            abstractCamelContext.getStartupStepRecorder().endStep(step);
+        recorder.endStep(step);
+    }
+
+    private static void awaitRouteConsumers(List<Future<?>> futures) throws Exception {
+        // wait for all the routes to be started, and then fail with the first error (if any)
+        Exception cause = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (cause == null) {
+                    cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                }
+            }
+        }
+        if (cause != null) {
+            throw cause;
         }
     }
 
@@ -58,13 +58,14 @@ public final class PooledExchangeFactory extends PrototypeExchangeFactory {
         PooledExchangeFactory answer = new PooledExchangeFactory(consumer);
         answer.setCamelContext(camelContext);
         answer.setCapacity(capacity);
+        answer.setThreadCapacity(threadCapacity);
         answer.setStatisticsEnabled(statisticsEnabled);
         return answer;
     }
 
     @Override
     public Exchange create(boolean autoRelease) {
-        Exchange exchange = pool.poll();
+        Exchange exchange = pollPool();
         if (exchange == null) {
             // create a new exchange as there was no free from the pool
             exchange = createPooledExchange(null, autoRelease);
@@ -86,7 +87,7 @@ public final class PooledExchangeFactory extends PrototypeExchangeFactory {
 
     @Override
     public Exchange create(Endpoint fromEndpoint, boolean autoRelease) {
-        Exchange exchange = pool.poll();
+        Exchange exchange = pollPool();
         if (exchange == null) {
             // create a new exchange as there was no free from the pool
             exchange = createPooledExchange(fromEndpoint, autoRelease);
@@ -114,7 +115,7 @@ public final class PooledExchangeFactory extends PrototypeExchangeFactory {
             ee.done();
 
             // only release back in pool if reset was success
-            boolean inserted = pool.offer(exchange);
+            boolean inserted = offerPool(exchange);
 
             if (statisticsEnabled) {
                 if (inserted) {
@@ -160,7 +161,7 @@ public final class PooledExchangeFactory extends PrototypeExchangeFactory {
         }
         if (pool != null) {
             logUsageSummary(LOG, "PooledExchangeFactory", pool.size());
-            pool.clear();
+            purge();
         }
 
         // do not call super
@@ -52,13 +52,14 @@ public class PooledProcessorExchangeFactory extends PrototypeProcessorExchangeFa
         PooledProcessorExchangeFactory answer = new PooledProcessorExchangeFactory(processor);
         answer.setStatisticsEnabled(statisticsEnabled);
         answer.setCapacity(capacity);
+        answer.setThreadCapacity(threadCapacity);
         answer.setCamelContext(camelContext);
         return answer;
     }
 
     @Override
     public Exchange createCopy(Exchange exchange) {
-        Exchange answer = pool.poll();
+        Exchange answer = pollPool();
         if (answer == null) {
             if (statisticsEnabled) {
                 statistics.created.increment();
@@ -81,7 +82,7 @@ public class PooledProcessorExchangeFactory extends PrototypeProcessorExchangeFa
 
     @Override
     public Exchange createCorrelatedCopy(Exchange exchange, boolean handover) {
-        Exchange answer = pool.poll();
+        Exchange answer = pollPool();
         if (answer == null) {
             if (statisticsEnabled) {
                 statistics.created.increment();
@@ -115,7 +116,7 @@ public class PooledProcessorExchangeFactory extends PrototypeProcessorExchangeFa
 
     @Override
     public Exchange create(Endpoint fromEndpoint, ExchangePattern exchangePattern) {
-        Exchange answer = pool.poll();
+        Exchange answer = pollPool();
         if (answer == null) {
             // create a new exchange as there was no free from the pool
             answer = new DefaultPooledExchange(fromEndpoint, exchangePattern);
@@ -126,6 +127,9 @@ public class PooledProcessorExchangeFactory extends PrototypeProcessorExchangeFa
             if (statisticsEnabled) {
                 statistics.acquired.increment();
             }
+            // the exchange may have been created from another endpoint or with another pattern
+            answer.getExchangeExtension().setFromEndpoint(fromEndpoint);
+            answer.setPattern(exchangePattern);
         }
 
         // reset exchange for reuse
@@ -143,7 +147,7 @@ public class PooledProcessorExchangeFactory extends PrototypeProcessorExchangeFa
             ee.done();
 
             // only release back in pool if reset was success
-            boolean inserted = pool.offer(exchange);
+            boolean inserted = offerPool(exchange);
 
             if (statisticsEnabled) {
                 if (inserted) {
@@ -162,4 +166,17 @@ public class PooledProcessorExchangeFactory extends PrototypeProcessorExchangeFa
         }
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        if (exchangeFactoryManager != null) {
+            exchangeFactoryManager.removeProcessorExchangeFactory(this);
+        }
+        if (pool != null) {
+            logUsageSummary(LOG, "PooledProcessorExchangeFactory", pool.size());
+            purge();
+        }
+
+        // do not call super
+    }
+
 }
@@ -79,6 +79,7 @@ public class PrototypeExchangeFactory extends PooledObjectFactorySupport<Exchang
         PrototypeExchangeFactory answer = new PrototypeExchangeFactory(consumer);
         answer.setStatisticsEnabled(statisticsEnabled);
         answer.setCapacity(capacity);
+        answer.setThreadCapacity(threadCapacity);
         answer.setCamelContext(camelContext);
         return answer;
     }
@@ -0,0 +1,422 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.NamedThreadLocal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} which spreads asynchronous continuations over a bounded work-stealing thread pool.
+ * <p/>
+ * The {@link DefaultReactiveExecutor} always runs reactive work on the thread that triggered it, which means that
+ * continuations fired from a few threads (such as a timer, or a non-blocking I/O thread) never spread to idle cores.
+ * This executor keeps the same caller-thread semantics for {@link #scheduleMain(Runnable)},
+ * {@link #scheduleSync(Runnable)} and {@link #scheduleQueue(Runnable)}, and for any work scheduled while a worker is
+ * already running, so the ordering guarantees of the routing engine are the same. However work scheduled with
+ * {@link #schedule(Runnable)} from a thread that is not currently running reactive work, is handed over to a
+ * {@link ForkJoinPool} (in async mode) where idle threads can steal it. Work handed over from the same originating
+ * thread is executed one at a time in FIFO order.
+ */
+@ManagedResource(description = "Managed ReactiveExecutor")
+public class WorkStealingReactiveExecutor extends ServiceSupport
+        implements ReactiveExecutor, StaticService, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkStealingReactiveExecutor.class);
+
+    // how many tasks to run from the same origin before yielding the pool thread
+    private static final int DRAIN_BATCH_SIZE = 16;
+
+    private CamelContext camelContext;
+    private int parallelism;
+    private volatile ForkJoinPool pool;
+
+    // use for statistics so we have insights at runtime
+    private boolean statisticsEnabled;
+    private final AtomicInteger createdWorkers = new AtomicInteger();
+    private final AtomicInteger createdThreads = new AtomicInteger();
+    private final LongAdder runningWorkers = new LongAdder();
+    private final LongAdder pendingTasks = new LongAdder();
+    private final LongAdder offloadedTasks = new LongAdder();
+
+    private final NamedThreadLocal<Worker> workers = new NamedThreadLocal<>("CamelReactiveWorker", () -> {
+        int number = createdWorkers.incrementAndGet();
+        return new Worker(number, WorkStealingReactiveExecutor.this);
+    });
+
+    public WorkStealingReactiveExecutor() {
+    }
+
+    public WorkStealingReactiveExecutor(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @ManagedAttribute(description = "The number of threads in the work-stealing pool")
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the number of threads in the work-stealing pool. Is by default the number of available processors.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public void schedule(Runnable runnable) {
+        final Worker worker = workers.get();
+        final ForkJoinPool fjp = pool;
+        if (worker.running || fjp == null) {
+            // keep the work together with the work this thread is already running
+            worker.schedule(runnable, false, false, false);
+        } else {
+            worker.offload(runnable, fjp);
+        }
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable) {
+        workers.get().schedule(runnable, true, true, false);
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable) {
+        workers.get().schedule(runnable, false, true, true);
+    }
+
+    @Override
+    public void scheduleQueue(Runnable runnable) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("ScheduleQueue: {}", runnable);
+        }
+        workers.get().queue.add(runnable);
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        return workers.get().executeFromQueue();
+    }
+
+    @Override
+    @ManagedAttribute(description = "Whether statistics is enabled")
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    @Override
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    @ManagedAttribute(description = "Number of created workers")
+    public int getCreatedWorkers() {
+        return createdWorkers.get();
+    }
+
+    @ManagedAttribute(description = "Number of running workers")
+    public int getRunningWorkers() {
+        return runningWorkers.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks")
+    public int getPendingTasks() {
+        return pendingTasks.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of tasks handed over to the work-stealing pool")
+    public long getOffloadedTasks() {
+        return offloadedTasks.longValue();
+    }
+
+    @ManagedAttribute(description = "Number of threads currently in the work-stealing pool")
+    public int getPoolSize() {
+        ForkJoinPool fjp = pool;
+        return fjp != null ? fjp.getPoolSize() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of threads in the work-stealing pool that are currently running tasks")
+    public int getActiveThreads() {
+        ForkJoinPool fjp = pool;
+        return fjp != null ? fjp.getActiveThreadCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of tasks stolen between threads in the work-stealing pool")
+    public long getStealCount() {
+        ForkJoinPool fjp = pool;
+        return fjp != null ? fjp.getStealCount() : 0;
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        if (parallelism <= 0) {
+            parallelism = Runtime.getRuntime().availableProcessors();
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (pool == null) {
+            pool = new ForkJoinPool(parallelism, this::newWorkerThread, this::onUncaughtException, true);
+            LOG.debug("Started work-stealing ReactiveExecutor with parallelism: {}", parallelism);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (LOG.isDebugEnabled() && statisticsEnabled) {
+            LOG.debug(
+                    "Stopping WorkStealingReactiveExecutor [createdWorkers: {}, runningWorkers: {}, pendingTasks: {}, offloadedTasks: {}, stealCount: {}]",
+                    getCreatedWorkers(), getRunningWorkers(), getPendingTasks(), getOffloadedTasks(), getStealCount());
+        }
+        ForkJoinPool fjp = pool;
+        pool = null;
+        if (fjp != null) {
+            // let pending work complete as routes may still be in-flight when the context is stopping
+            fjp.shutdown();
+            if (!fjp.awaitTermination(10, TimeUnit.SECONDS)) {
+                LOG.warn("Timeout waiting for work-stealing ReactiveExecutor to complete pending tasks. Forcing shutdown.");
+                fjp.shutdownNow();
+            }
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        workers.remove();
+    }
+
+    private ForkJoinWorkerThread newWorkerThread(ForkJoinPool fjp) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(fjp);
+        String name = "ReactiveExecutor #" + createdThreads.incrementAndGet();
+        if (camelContext != null) {
+            name = camelContext.getExecutorServiceManager().resolveThreadName(name);
+        }
+        thread.setName(name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private void onUncaughtException(Thread thread, Throwable t) {
+        LOG.warn("Error executing reactive work in thread {} due to {}. This exception is ignored.",
+                thread.getName(), t.getMessage(), t);
+    }
+
+    private static class Worker {
+
+        private final int number;
+        private final WorkStealingReactiveExecutor executor;
+        private final boolean stats;
+        private volatile Deque<Runnable> queue = new ArrayDeque<>();
+        private volatile Deque<Deque<Runnable>> back;
+        private volatile boolean running;
+
+        // work scheduled from this thread which is handed over to the pool
+        private final Queue<Runnable> offloaded = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        public Worker(int number, WorkStealingReactiveExecutor executor) {
+            this.number = number;
+            this.executor = executor;
+            this.stats = executor != null && executor.isStatisticsEnabled();
+        }
+
+        void offload(Runnable runnable, ForkJoinPool fjp) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Offloading reactive work: {}", runnable);
+            }
+            offloaded.add(runnable);
+            if (stats) {
+                executor.pendingTasks.increment();
+                executor.offloadedTasks.increment();
+            }
+            // only one pool thread at a time drains the work from this origin, so it runs in the same order
+            if (draining.compareAndSet(false, true)) {
+                submitDrain(fjp);
+            }
+        }
+
+        void submitDrain(ForkJoinPool fjp) {
+            if (fjp != null) {
+                try {
+                    fjp.execute(this::drain);
+                    return;
+                } catch (RejectedExecutionException e) {
+                    // the pool is stopping
+                }
+            }
+            drainOnCaller();
+        }
+
+        void drain() {
+            // the work runs in the worker of the current pool thread, so work it schedules is kept together
+            final Worker local = executor.workers.get();
+            try {
+                for (int i = 0; i < DRAIN_BATCH_SIZE; i++) {
+                    final Runnable polled = offloaded.poll();
+                    if (polled == null) {
+                        break;
+                    }
+                    if (stats) {
+                        executor.pendingTasks.decrement();
+                    }
+                    local.schedule(polled, false, false, false);
+                }
+            } finally {
+                if (!offloaded.isEmpty()) {
+                    // yield the pool thread so work from other origins gets its turn
+                    submitDrain(executor.pool);
+                } else {
+                    draining.set(false);
+                    // work may have been added after we were done polling
+                    if (!offloaded.isEmpty() && draining.compareAndSet(false, true)) {
+                        submitDrain(executor.pool);
+                    }
+                }
+            }
+        }
+
+        void drainOnCaller() {
+            // the pool has been stopped so run the remainder on the current thread
+            try {
+                Runnable polled;
+                while ((polled = offloaded.poll()) != null) {
+                    if (stats) {
+                        executor.pendingTasks.decrement();
+                    }
+                    executor.workers.get().schedule(polled, false, false, false);
+                }
+            } finally {
+                draining.set(false);
+            }
+        }
+
+        void schedule(Runnable runnable, boolean first, boolean main, boolean sync) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Schedule [first={}, main={}, sync={}]: {}", first, main, sync, runnable);
+            }
+            if (main) {
+                if (!queue.isEmpty()) {
+                    if (back == null) {
+                        back = new ArrayDeque<>();
+                    }
+                    back.push(queue);
+                    queue = new ArrayDeque<>();
+                }
+            }
+            if (first) {
+                queue.addFirst(runnable);
+            } else {
+                queue.addLast(runnable);
+            }
+            if (stats) {
+                executor.pendingTasks.increment();
+            }
+            if (!running || sync) {
+                running = true;
+                if (stats) {
+                    executor.runningWorkers.increment();
+                }
+                try {
+                    for (;;) {
+                        final Runnable polled = queue.pollFirst();
+                        if (polled == null) {
+                            if (back != null && !back.isEmpty()) {
+                                queue = back.pollFirst();
+                                continue;
+                            } else {
+                                break;
+                            }
+                        }
+                        try {
+                            if (stats) {
+                                executor.pendingTasks.decrement();
+                            }
+                            if (LOG.isTraceEnabled()) {
+                                LOG.trace("Worker #{} running: {}", number, polled);
+                            }
+                            polled.run();
+                        } catch (Throwable t) {
+                            LOG.warn("Error executing reactive work due to {}. This exception is ignored.",
+                                    t.getMessage(), t);
+                        }
+                    }
+                } finally {
+                    running = false;
+                    if (stats) {
+                        executor.runningWorkers.decrement();
+                    }
+                }
+            } else {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Queuing reactive work: {}", runnable);
+                }
+            }
+        }
+
+        boolean executeFromQueue() {
+            final Runnable polled = queue != null ? queue.pollFirst() : null;
+            if (polled == null) {
+                return false;
+            }
+            try {
+                if (stats) {
+                    executor.pendingTasks.decrement();
+                }
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Running: {}", polled);
+                }
+                polled.run();
+            } catch (Throwable t) {
+                // should not happen
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.", t.getMessage(), t);
+            }
+            return true;
+        }
+
+    }
+
+}
@@ -18,6 +18,8 @@ package org.apache.camel.impl.converter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -57,10 +59,16 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
     private static final Logger LOG = LoggerFactory.getLogger(CoreTypeConverterRegistry.class);
 
+    // upper bound of remembered misses, to not grow the cache unbounded with all sorts of unconvertible types
+    private static final int MAX_MISS_ENTRIES = 1000;
+
     // built-in core type converters that are bulked together in a few classes for optimal performance
     protected final List<BulkTypeConverters> bulkTypeConverters = new ArrayList<>();
     // custom type converters (from camel components and end users)
     protected final DoubleMap<Class<?>, Class<?>, TypeConverter> typeMappings = new DoubleMap<>(16);
+    // lock-free cache of the resolved type converters (including misses) per target type and then per source type
+    private volatile ConverterCache converterCache = new ConverterCache();
+    private final AtomicInteger missEntries = new AtomicInteger();
     // fallback converters
     protected final List<FallbackTypeConverter> fallbackConverters = new CopyOnWriteArrayList<>();
     // special enum converter for optional performance
@@ -72,6 +80,9 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     protected final LongAdder missCounter = new LongAdder();
     protected final LongAdder hitCounter = new LongAdder();
     protected final LongAdder failedCounter = new LongAdder();
+    protected final LongAdder cacheHitCounter = new LongAdder();
+    protected final LongAdder cacheMissCounter = new LongAdder();
+    protected final LongAdder fallbackCounter = new LongAdder();
 
     protected TypeConverterExists typeConverterExists = TypeConverterExists.Ignore;
     protected LoggingLevel typeConverterExistsLoggingLevel = LoggingLevel.DEBUG;
@@ -476,7 +487,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
                 TypeConverter tc = getOrFindTypeConverter(primitiveType, fromType);
                 if (tc != null) {
                     // add the type as a known type converter as we can convert from primitive to object converter
-                    addTypeConverter(type, fromType, tc);
+                    promoteTypeConverter(type, fromType, tc);
                     Object rc;
                     if (tryConvert) {
                         rc = tc.tryConvertTo(primitiveType, exchange, value);
@@ -511,10 +522,13 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             }
 
             if (rc != null) {
+                if (statisticsEnabled) {
+                    fallbackCounter.increment();
+                }
                 // if fallback can promote then let it be promoted to a first class type converter
                 if (fallback.isCanPromote()) {
                     // add it as a known type converter since we found a fallback that could do it
-                    addTypeConverter(type, value.getClass(), fallback.getFallbackTypeConverter());
+                    promoteTypeConverter(type, value.getClass(), fallback.getFallbackTypeConverter());
                 }
                 // return converted value
                 return rc;
@@ -524,7 +538,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         if (!tryConvert) {
             // Could not find suitable conversion, so remember it
             // do not register misses for try conversions
-            typeMappings.put(type, value.getClass(), MISS_CONVERTER);
+            rememberMiss(type, value.getClass());
         }
 
         // Could not find suitable conversion, so return Void to indicate not found
@@ -546,18 +560,33 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
                 this.bulkTypeConverters.add(bulkTypeConverters);
             }
             sumBulkTypeConverters += bulkTypeConverters.size();
+            invalidateConverterCache();
         }
     }
 
     public void addTypeConverter(Class<?> toType, Class<?> fromType, TypeConverter typeConverter) {
-        LOG.trace("Adding type converter: {}", typeConverter);
-        TypeConverter converter = typeMappings.get(toType, fromType);
+        if (doAddTypeConverter(toType, fromType, typeConverter)) {
+            // the new converter may change how other types are resolved
+            invalidateConverterCache();
+        }
+    }
 
-        if (converter == MISS_CONVERTER) {
-            // we have previously attempted to convert but missed so add this converter
-            typeMappings.put(toType, fromType, typeConverter);
-            return;
+    /**
+     * Adds a type converter that has been found while converting, such as a promoted fallback converter, where only the
+     * exact pair of types is updated in the cache.
+     */
+    protected void promoteTypeConverter(Class<?> toType, Class<?> fromType, TypeConverter typeConverter) {
+        if (doAddTypeConverter(toType, fromType, typeConverter)) {
+            TypeConverter old = converterCache.get(toType).put(fromType, typeConverter);
+            if (old == MISS_CONVERTER) {
+                missEntries.decrementAndGet();
+            }
         }
+    }
+
+    private boolean doAddTypeConverter(Class<?> toType, Class<?> fromType, TypeConverter typeConverter) {
+        LOG.trace("Adding type converter: {}", typeConverter);
+        TypeConverter converter = typeMappings.get(toType, fromType);
 
         // only override it if its different
         // as race conditions can lead to many threads trying to promote the same fallback converter
@@ -583,13 +612,19 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
             if (add) {
                 typeMappings.put(toType, fromType, typeConverter);
+                return true;
             }
         }
+        return false;
     }
 
     public boolean removeTypeConverter(Class<?> toType, Class<?> fromType) {
         LOG.trace("Removing type converter from: {} to: {}", fromType, toType);
-        return typeMappings.remove(toType, fromType);
+        boolean removed = typeMappings.remove(toType, fromType);
+        if (removed) {
+            invalidateConverterCache();
+        }
+        return removed;
     }
 
     @Override
@@ -603,6 +638,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         // add in top of fallback as the toString() fallback will nearly always be able to convert
         // the last one which is add to the FallbackTypeConverter will be called at the first place
         fallbackConverters.add(0, new FallbackTypeConverter(typeConverter, canPromote));
+        invalidateConverterCache();
     }
 
     public TypeConverter lookup(Class<?> toType, Class<?> fromType) {
@@ -610,17 +646,45 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     }
 
     protected TypeConverter getOrFindTypeConverter(Class<?> toType, Class<?> fromType) {
-        TypeConverter converter = typeMappings.get(toType, fromType);
-        if (converter == null) {
-            // converter not found, try to lookup then
-            converter = lookup(toType, fromType);
-            if (converter != null) {
-                typeMappings.put(toType, fromType, converter);
+        Map<Class<?>, TypeConverter> cache = converterCache.get(toType);
+        TypeConverter converter = cache.get(fromType);
+        if (converter != null) {
+            if (statistics.isStatisticsEnabled()) {
+                cacheHitCounter.increment();
             }
+            return converter;
+        }
+
+        if (statistics.isStatisticsEnabled()) {
+            cacheMissCounter.increment();
+        }
+        // converter not found, try to lookup then
+        converter = lookup(toType, fromType);
+        if (converter != null) {
+            cache.put(fromType, converter);
         }
         return converter;
     }
 
+    /**
+     * Remembers that there is no type converter for the given types, unless too many misses has already been
+     * remembered.
+     */
+    protected void rememberMiss(Class<?> toType, Class<?> fromType) {
+        if (missEntries.get() < MAX_MISS_ENTRIES
+                && converterCache.get(toType).putIfAbsent(fromType, MISS_CONVERTER) == null) {
+            missEntries.incrementAndGet();
+        }
+    }
+
+    /**
+     * Clears the cache of resolved type converters, which is needed when type converters are added or removed.
+     */
+    protected void invalidateConverterCache() {
+        converterCache = new ConverterCache();
+        missEntries.set(0);
+    }
+
     protected TypeConverter doLookup(Class<?> toType, Class<?> fromType, boolean isSuper) {
 
         if (fromType != null) {
@@ -709,6 +773,13 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         return typeMappings.size() + sumBulkTypeConverters;
     }
 
+    /**
+     * Number of type converter misses that are remembered in the cache
+     */
+    public int getMissEntries() {
+        return missEntries.get();
+    }
+
     public LoggingLevel getTypeConverterExistsLoggingLevel() {
         return typeConverterExistsLoggingLevel;
     }
@@ -731,17 +802,12 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         // log utilization statistics when stopping, including mappings
         if (statistics.isStatisticsEnabled()) {
             String info = statistics.toString();
-            AtomicInteger misses = new AtomicInteger();
-            typeMappings.forEach((k1, k2, v) -> {
-                if (v == MISS_CONVERTER) {
-                    misses.incrementAndGet();
-                }
-            });
-            info += String.format(" mappings[total=%s, misses=%s]", size(), misses);
+            info += String.format(" mappings[total=%s, misses=%s]", size(), missEntries.get());
             LOG.info(info);
         }
 
         typeMappings.clear();
+        invalidateConverterCache();
         statistics.reset();
     }
 
@@ -777,6 +843,21 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             return failedCounter.longValue();
         }
 
+        @Override
+        public long getCacheHitCounter() {
+            return cacheHitCounter.longValue();
+        }
+
+        @Override
+        public long getCacheMissCounter() {
+            return cacheMissCounter.longValue();
+        }
+
+        @Override
+        public long getFallbackCounter() {
+            return fallbackCounter.longValue();
+        }
+
         @Override
         public void reset() {
             noopCounter.reset();
@@ -784,6 +865,9 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             hitCounter.reset();
             missCounter.reset();
             failedCounter.reset();
+            cacheHitCounter.reset();
+            cacheMissCounter.reset();
+            fallbackCounter.reset();
         }
 
         @Override
@@ -798,8 +882,21 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
         @Override
         public String toString() {
-            return String.format("TypeConverterRegistry utilization[noop=%s, attempts=%s, hits=%s, misses=%s, failures=%s]",
-                    getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter());
+            return String.format(
+                    "TypeConverterRegistry utilization[noop=%s, attempts=%s, hits=%s, misses=%s, failures=%s, fallbacks=%s, cacheHits=%s, cacheMisses=%s]",
+                    getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter(),
+                    getFallbackCounter(), getCacheHitCounter(), getCacheMissCounter());
+        }
+    }
+
+    /**
+     * Cache of the resolved type converters, with a table per target type that is keyed by the source type
+     */
+    private static final class ConverterCache extends ClassValue<Map<Class<?>, TypeConverter>> {
+
+        @Override
+        protected Map<Class<?>, TypeConverter> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
         }
     }
 
@@ -54,6 +54,9 @@ public class InflightConsole extends AbstractDevConsole {
         InflightRepository repo = getCamelContext().getInflightRepository();
         sb.append(String.format("\n    Inflight: %s", repo.size()));
         sb.append(String.format("\n    InflightBrowseEnabled: %s", repo.isInflightBrowseEnabled()));
+        if (repo.getInflightBrowseSampleRate() > 1) {
+            sb.append(String.format("\n    InflightBrowseSampleRate: %s", repo.getInflightBrowseSampleRate()));
+        }
         if (repo.isInflightBrowseEnabled()) {
             for (InflightRepository.InflightExchange ie : repo.browse(filter, max, false)) {
                 String age = TimeUtils.printDuration(ie.getDuration(), true);
@@ -76,6 +79,7 @@ public class InflightConsole extends AbstractDevConsole {
         InflightRepository repo = getCamelContext().getInflightRepository();
         root.put("inflight", repo.size());
         root.put("inflightBrowseEnabled", repo.isInflightBrowseEnabled());
+        root.put("inflightBrowseSampleRate", repo.getInflightBrowseSampleRate());
         if (repo.isInflightBrowseEnabled()) {
             final List<JsonObject> list = new ArrayList<>();
             for (InflightRepository.InflightExchange ie : repo.browse(filter, max, false)) {
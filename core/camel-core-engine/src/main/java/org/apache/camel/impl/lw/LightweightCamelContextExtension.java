@@ -730,6 +730,16 @@ class LightweightCamelContextExtension implements ExtendedCamelContext {
                 throw new UnsupportedOperationException();
             }
 
+            @Override
+            public int getStartupParallelism() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void setStartupParallelism(int startupParallelism) {
+                throw new UnsupportedOperationException();
+            }
+
             @Override
             public boolean isSupervising() {
                 return false;
@@ -0,0 +1,290 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.RuntimeExpressionException;
+import org.apache.camel.spi.Language;
+import org.apache.camel.util.OgnlHelper;
+
+/**
+ * A simple OGNL method chain such as <tt>${body.address.zip}</tt> linked to {@link MethodHandle}s, used when the simple
+ * language is in compiled mode.
+ * <p/>
+ * The chain is only compiled when every method in the chain is a plain method or getter name (no parameters, no index
+ * lookups and no nested functions), otherwise the whole chain is evaluated by the bean language. The method to invoke
+ * is resolved once per runtime class using the same rules as the bean language (an exact method name first, then the
+ * getter shorthand), and only when that resolution is unambiguous. Otherwise the remainder of the chain is evaluated by
+ * the bean language on the current result, so the result is the same as interpreted simple. Failures (a method
+ * returning <tt>null</tt> in the middle of the chain without the null safe operator, or a method throwing an exception)
+ * are reported with the same exceptions as the bean language, without invoking any method again.
+ */
+final class OgnlMethodHandleChain {
+
+    private static final Pattern SIMPLE_METHOD = Pattern.compile("\\??\\.[a-zA-Z_$][a-zA-Z0-9_$]*");
+    private static final List<String> EXCLUDED_METHOD_NAMES = Arrays.asList(
+            "class", "getClass", "equals", "finalize", "hashCode", "notify", "notifyAll", "wait",
+            "getInvocationHandler", "getProxyClass", "isProxyClass", "newProxyInstance");
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    static final MethodHandle UNRESOLVED = MethodHandles.constant(Object.class, null);
+    // the exception of the bean language, which is an optional dependency
+    private static final String BEAN_EXCEPTION = "org.apache.camel.language.bean.RuntimeBeanExpressionException";
+
+    private final String ognl;
+    private final Segment[] segments;
+
+    private OgnlMethodHandleChain(String ognl, Segment[] segments) {
+        this.ognl = ognl;
+        this.segments = segments;
+    }
+
+    /**
+     * Compiles the OGNL method chain if the simple language is in compiled mode and the chain only consists of plain
+     * method or getter names.
+     *
+     * @param  context the camel context
+     * @param  ognl    the OGNL method chain, eg <tt>.address?.zip</tt>
+     * @return         the compiled chain, or <tt>null</tt> if not in compiled mode or the chain cannot be compiled
+     */
+    static OgnlMethodHandleChain compile(CamelContext context, String ognl) {
+        Language simple = context.resolveLanguage("simple");
+        if (!(simple instanceof SimpleLanguage) || !((SimpleLanguage) simple).isCompiled()) {
+            return null;
+        }
+        return compile(ognl);
+    }
+
+    static OgnlMethodHandleChain compile(String ognl) {
+        if (ognl == null || ognl.isEmpty()) {
+            return null;
+        }
+        List<String> methods = OgnlHelper.splitOgnl(ognl);
+        if (methods.isEmpty()) {
+            return null;
+        }
+        Segment[] segments = new Segment[methods.size()];
+        StringBuilder remainder = new StringBuilder();
+        for (int i = methods.size() - 1; i >= 0; i--) {
+            String method = methods.get(i);
+            if (!SIMPLE_METHOD.matcher(method).matches()) {
+                return null;
+            }
+            String name = OgnlHelper.removeLeadingOperators(method);
+            if (EXCLUDED_METHOD_NAMES.contains(name)) {
+                return null;
+            }
+            remainder.insert(0, method);
+            segments[i] = new Segment(
+                    name, method.substring(0, method.length() - name.length()), OgnlHelper.isNullSafeOperator(method),
+                    remainder.toString());
+        }
+        return new OgnlMethodHandleChain(ognl, segments);
+    }
+
+    /**
+     * Invokes the chain on the given bean.
+     *
+     * @param  exchange the exchange
+     * @param  bean     the bean language used for any part of the chain that could not be linked
+     * @param  target   the bean to start invoking the chain on
+     * @return          the result of the last method in the chain
+     */
+    Object invoke(Exchange exchange, Language bean, Object target) {
+        Object result = target;
+        for (Segment segment : segments) {
+            if (result == null) {
+                // report the failure the same way as the bean language
+                String message = "last method returned null and therefore cannot continue to invoke method "
+                                 + segment.operator + segment.method + " on a null instance";
+                throw failure(exchange, target.getClass().getCanonicalName(), ognl, message);
+            }
+            MethodHandle handle = segment.handles.get(result.getClass());
+            if (handle == UNRESOLVED) {
+                // let the bean language deal with the rest of the chain
+                return evaluate(exchange, bean, result, segment.remainder);
+            }
+            try {
+                result = (Object) handle.invokeExact(result);
+            } catch (Throwable e) {
+                throw failure(exchange, null, segment.method, e);
+            }
+            if (result == null && segment.nullSafe) {
+                return null;
+            }
+        }
+        return result;
+    }
+
+    private static Object evaluate(Exchange exchange, Language bean, Object target, String ognl) {
+        Expression exp = bean.createExpression(null, new Object[] { target, ognl });
+        exp.init(exchange.getContext());
+        return exp.evaluate(exchange, Object.class);
+    }
+
+    /**
+     * Creates the exception the bean language throws when a method in the chain failed, either due to the given cause
+     * (a {@link Throwable}) or with the given message (a {@link String}).
+     */
+    private static RuntimeException failure(Exchange exchange, String beanName, String method, Object cause) {
+        Class<?> parameter = cause instanceof Throwable ? Throwable.class : String.class;
+        Class<?> type = exchange.getContext().getClassResolver().resolveClass(BEAN_EXCEPTION);
+        if (type != null) {
+            try {
+                return (RuntimeException) type.getConstructor(Exchange.class, String.class, String.class, parameter)
+                        .newInstance(exchange, beanName, method, cause);
+            } catch (ReflectiveOperationException e) {
+                // ignore and use the generic exception
+            }
+        }
+        String message = "Failed to invoke method: " + method + " on " + beanName;
+        if (cause instanceof Throwable) {
+            return new RuntimeExpressionException(message + " due to: " + cause, (Throwable) cause);
+        }
+        return new RuntimeExpressionException(message + " due " + cause);
+    }
+
+    @Override
+    public String toString() {
+        return ognl;
+    }
+
+    /**
+     * Resolves the method to invoke for the given name, or {@link #UNRESOLVED} if the bean language would not
+     * unambiguously invoke a public no-arg method.
+     */
+    static MethodHandle resolve(Class<?> type, String name) {
+        if (!Modifier.isPublic(type.getModifiers()) || type.isArray() || Proxy.isProxyClass(type)
+                || type.getName().contains("$$") || type.getName().endsWith("_ClientProxy")) {
+            return UNRESOLVED;
+        }
+
+        List<Method> candidates = candidates(type, name);
+        if (candidates.isEmpty()) {
+            // try the getter shorthand, eg zip -> getZip or isZip
+            String suffix = name.substring(0, 1).toUpperCase(Locale.ENGLISH) + name.substring(1);
+            List<Method> getters = candidates(type, "get" + suffix);
+            List<Method> bools = candidates(type, "is" + suffix);
+            boolean getter = isGetter(getters);
+            boolean bool = isGetter(bools);
+            if (getter && !bool) {
+                candidates = getters;
+            } else if (bool && !getter) {
+                candidates = bools;
+            } else {
+                return UNRESOLVED;
+            }
+        }
+        if (candidates.size() != 1) {
+            return UNRESOLVED;
+        }
+
+        Method method = candidates.get(0);
+        Class<?> returnType = method.getReturnType();
+        if (!Modifier.isPublic(method.getModifiers()) || Modifier.isStatic(method.getModifiers())
+                || method.getParameterCount() != 0 || returnType == Void.TYPE
+                || Exchange.class.isAssignableFrom(returnType) || Future.class.isAssignableFrom(returnType)
+                || CompletionStage.class.isAssignableFrom(returnType)) {
+            return UNRESOLVED;
+        }
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            return UNRESOLVED;
+        }
+    }
+
+    private static boolean isGetter(List<Method> methods) {
+        if (methods.size() != 1) {
+            return false;
+        }
+        Method method = methods.get(0);
+        if (method.getParameterCount() != 0) {
+            return false;
+        }
+        if (method.getName().startsWith("is")) {
+            return method.getReturnType().getSimpleName().equalsIgnoreCase("boolean");
+        }
+        return method.getReturnType() != Void.TYPE;
+    }
+
+    /**
+     * All the non-private methods with the given name, where overridden methods are only included once.
+     */
+    private static List<Method> candidates(Class<?> type, String name) {
+        List<Method> answer = new ArrayList<>(2);
+        for (Method method : type.getMethods()) {
+            addCandidate(answer, method, name);
+        }
+        for (Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for (Method method : clazz.getDeclaredMethods()) {
+                if (!Modifier.isPrivate(method.getModifiers())) {
+                    addCandidate(answer, method, name);
+                }
+            }
+        }
+        return answer;
+    }
+
+    private static void addCandidate(List<Method> methods, Method method, String name) {
+        if (!method.getName().equals(name) || method.isBridge() || method.isSynthetic()) {
+            return;
+        }
+        for (Method existing : methods) {
+            if (Arrays.equals(existing.getParameterTypes(), method.getParameterTypes())) {
+                return;
+            }
+        }
+        methods.add(method);
+    }
+
+    private static final class Segment {
+        private final String method;
+        private final String operator;
+        private final boolean nullSafe;
+        private final String remainder;
+        private final ClassValue<MethodHandle> handles;
+
+        Segment(String method, String operator, boolean nullSafe, String remainder) {
+            this.method = method;
+            this.operator = operator;
+            this.nullSafe = nullSafe;
+            this.remainder = remainder;
+            this.handles = new ClassValue<>() {
+                @Override
+                protected MethodHandle computeValue(Class<?> type) {
+                    return resolve(type, method);
+                }
+            };
+        }
+    }
+}
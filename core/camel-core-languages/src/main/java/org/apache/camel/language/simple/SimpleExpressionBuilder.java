@@ -665,6 +665,7 @@ public final class SimpleExpressionBuilder {
             private ClassResolver classResolver;
             private Expression exp;
             private Language bean;
+            private OgnlMethodHandleChain chain;
 
             @Override
             public Object evaluate(Exchange exchange) {
@@ -681,6 +682,9 @@ public final class SimpleExpressionBuilder {
                 } catch (InvalidPayloadException e) {
                     throw CamelExecutionException.wrapCamelExecutionException(exchange, e);
                 }
+                if (chain != null) {
+                    return chain.invoke(exchange, bean, body);
+                }
                 Expression ognlExp = bean.createExpression(null, new Object[] { body, ognl });
                 ognlExp.init(exchange.getContext());
                 return ognlExp.evaluate(exchange, Object.class);
@@ -692,6 +696,7 @@ public final class SimpleExpressionBuilder {
                 exp = ExpressionBuilder.simpleExpression(name);
                 exp.init(context);
                 bean = context.resolveLanguage("bean");
+                chain = OgnlMethodHandleChain.compile(context, ognl);
             }
 
             @Override
@@ -748,6 +753,7 @@ public final class SimpleExpressionBuilder {
             private ClassResolver classResolver;
             private Expression exp;
             private Language bean;
+            private OgnlMethodHandleChain chain;
 
             @Override
             public Object evaluate(Exchange exchange) {
@@ -759,7 +765,9 @@ public final class SimpleExpressionBuilder {
                     throw CamelExecutionException.wrapCamelExecutionException(exchange, e);
                 }
                 Object body = exchange.getIn().getBody(type);
-                if (body != null) {
+                if (body != null && chain != null) {
+                    return chain.invoke(exchange, bean, body);
+                } else if (body != null) {
                     // ognl is able to evaluate method name if it contains nested functions
                     // so we should not eager evaluate ognl as a string
                     Expression ognlExp = bean.createExpression(null, new Object[] { body, ognl });
@@ -776,6 +784,7 @@ public final class SimpleExpressionBuilder {
                 exp = ExpressionBuilder.simpleExpression(name);
                 exp.init(context);
                 bean = context.resolveLanguage("bean");
+                chain = OgnlMethodHandleChain.compile(context, ognl);
             }
 
             @Override
@@ -852,6 +861,7 @@ public final class SimpleExpressionBuilder {
     public static Expression bodyOgnlExpression(final String ognl) {
         return new ExpressionAdapter() {
             private Language bean;
+            private OgnlMethodHandleChain chain;
 
             @Override
             public Object evaluate(Exchange exchange) {
@@ -859,6 +869,9 @@ public final class SimpleExpressionBuilder {
                 if (body == null) {
                     return null;
                 }
+                if (chain != null) {
+                    return chain.invoke(exchange, bean, body);
+                }
                 Expression ognlExp = bean.createExpression(null, new Object[] { body, ognl });
                 ognlExp.init(exchange.getContext());
                 return ognlExp.evaluate(exchange, Object.class);
@@ -867,6 +880,7 @@ public final class SimpleExpressionBuilder {
             @Override
             public void init(CamelContext context) {
                 bean = context.resolveLanguage("bean");
+                chain = OgnlMethodHandleChain.compile(context, ognl);
             }
 
             @Override
@@ -1019,6 +1033,7 @@ public final class SimpleExpressionBuilder {
         private Expression keyExpression;
         private Expression ognlExpression;
         private Language beanLanguage;
+        private OgnlMethodHandleChain methodChain;
 
         KeyedOgnlExpressionAdapter(String ognl, String toStringValue,
                                    KeyedEntityRetrievalStrategy keyedEntityRetrievalStrategy) {
@@ -1047,6 +1062,9 @@ public final class SimpleExpressionBuilder {
         @Override
         public void init(CamelContext context) {
             beanLanguage = context.resolveLanguage("bean");
+            if (method != null) {
+                methodChain = OgnlMethodHandleChain.compile(context, method);
+            }
             ognlExpression = ExpressionBuilder.simpleExpression(ognl);
             ognlExpression.init(context);
             // key must be lazy eval as it only used in special situations
@@ -1070,7 +1088,9 @@ public final class SimpleExpressionBuilder {
             if (property == null) {
                 return null;
             }
-            if (method != null) {
+            if (methodChain != null) {
+                return methodChain.invoke(exchange, beanLanguage, property);
+            } else if (method != null) {
                 Expression exp = beanLanguage.createExpression(null, new Object[] { property, method });
                 exp.init(exchange.getContext());
                 return exp.evaluate(exchange, Object.class);
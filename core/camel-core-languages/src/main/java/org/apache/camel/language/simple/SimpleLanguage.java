@@ -49,6 +49,7 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     private static final String CACHE_KEY_PREFIX = "@SIMPLE@";
 
     boolean allowEscape = true;
+    private boolean compiled;
 
     // use caches to avoid re-parsing the same expressions over and over again
     private Map<String, Expression> cacheExpression;
@@ -60,6 +61,20 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     public SimpleLanguage() {
     }
 
+    public boolean isCompiled() {
+        return compiled;
+    }
+
+    /**
+     * Whether to use compiled mode, where OGNL method chains such as <tt>${body.address.zip}</tt> are linked to method
+     * handles once per class, instead of being introspected by the bean language on every evaluation. Chains that cannot
+     * be linked unambiguously (method parameters, index lookups, overloaded methods etc.) are still evaluated by the
+     * bean language, so the outcome is the same as in interpreted mode.
+     */
+    public void setCompiled(boolean compiled) {
+        this.compiled = compiled;
+    }
+
     @Override
     public void init() {
         // setup cache which requires CamelContext to be set first
@@ -0,0 +1,309 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.model;
+
+import java.util.List;
+
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlAttribute;
+import jakarta.xml.bind.annotation.XmlElementRef;
+import jakarta.xml.bind.annotation.XmlRootElement;
+
+import org.apache.camel.spi.Metadata;
+
+/**
+ * Limits the number of messages processed concurrently by its outputs, adapting the limit to the measured latency
+ */
+@Metadata(label = "eip,routing")
+@XmlRootElement(name = "concurrencyLimiter")
+@XmlAccessorType(XmlAccessType.FIELD)
+public class ConcurrencyLimiterDefinition extends OutputDefinition<ConcurrencyLimiterDefinition> {
+
+    @XmlAttribute
+    @Metadata(defaultValue = "20", javaType = "java.lang.Integer")
+    private String initialLimit;
+    @XmlAttribute
+    @Metadata(defaultValue = "1", javaType = "java.lang.Integer")
+    private String minLimit;
+    @XmlAttribute
+    @Metadata(defaultValue = "200", javaType = "java.lang.Integer")
+    private String maxLimit;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Integer")
+    private String maxQueueSize;
+    @XmlAttribute
+    @Metadata(label = "advanced", defaultValue = "1.5", javaType = "java.lang.Double")
+    private String tolerance;
+    @XmlAttribute
+    @Metadata(label = "advanced", defaultValue = "0.2", javaType = "java.lang.Double")
+    private String smoothing;
+
+    public ConcurrencyLimiterDefinition() {
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrencyLimiter[" + getOutputs() + "]";
+    }
+
+    @Override
+    public String getShortName() {
+        return "concurrencyLimiter";
+    }
+
+    @Override
+    public String getLabel() {
+        return "concurrencyLimiter";
+    }
+
+    @Override
+    public List<ProcessorDefinition<?>> getOutputs() {
+        return super.getOutputs();
+    }
+
+    @XmlElementRef
+    @Override
+    public void setOutputs(List<ProcessorDefinition<?>> outputs) {
+        super.setOutputs(outputs);
+    }
+
+    // Fluent API
+    // -------------------------------------------------------------------------
+
+    /**
+     * The number of concurrent messages allowed before any latency has been measured.
+     * <p/>
+     * Is by default <tt>20</tt>
+     *
+     * @param  initialLimit the initial limit
+     * @return              the builder
+     */
+    public ConcurrencyLimiterDefinition initialLimit(int initialLimit) {
+        return initialLimit(Integer.toString(initialLimit));
+    }
+
+    /**
+     * The number of concurrent messages allowed before any latency has been measured.
+     * <p/>
+     * Is by default <tt>20</tt>
+     *
+     * @param  initialLimit the initial limit
+     * @return              the builder
+     */
+    public ConcurrencyLimiterDefinition initialLimit(String initialLimit) {
+        setInitialLimit(initialLimit);
+        return this;
+    }
+
+    /**
+     * The lowest value the limit can be decreased to.
+     * <p/>
+     * Is by default <tt>1</tt>
+     *
+     * @param  minLimit the minimum limit
+     * @return          the builder
+     */
+    public ConcurrencyLimiterDefinition minLimit(int minLimit) {
+        return minLimit(Integer.toString(minLimit));
+    }
+
+    /**
+     * The lowest value the limit can be decreased to.
+     * <p/>
+     * Is by default <tt>1</tt>
+     *
+     * @param  minLimit the minimum limit
+     * @return          the builder
+     */
+    public ConcurrencyLimiterDefinition minLimit(String minLimit) {
+        setMinLimit(minLimit);
+        return this;
+    }
+
+    /**
+     * The highest value the limit can be increased to.
+     * <p/>
+     * Is by default <tt>200</tt>
+     *
+     * @param  maxLimit the maximum limit
+     * @return          the builder
+     */
+    public ConcurrencyLimiterDefinition maxLimit(int maxLimit) {
+        return maxLimit(Integer.toString(maxLimit));
+    }
+
+    /**
+     * The highest value the limit can be increased to.
+     * <p/>
+     * Is by default <tt>200</tt>
+     *
+     * @param  maxLimit the maximum limit
+     * @return          the builder
+     */
+    public ConcurrencyLimiterDefinition maxLimit(String maxLimit) {
+        setMaxLimit(maxLimit);
+        return this;
+    }
+
+    /**
+     * The number of messages which can wait for a free slot when the limit has been reached. Messages exceeding the
+     * limit are rejected with a ConcurrencyLimiterRejectedExecutionException when the queue is full.
+     * <p/>
+     * Is by default <tt>0</tt> which means messages are rejected as soon as the limit has been reached.
+     *
+     * @param  maxQueueSize the maximum number of waiting messages
+     * @return              the builder
+     */
+    public ConcurrencyLimiterDefinition maxQueueSize(int maxQueueSize) {
+        return maxQueueSize(Integer.toString(maxQueueSize));
+    }
+
+    /**
+     * The number of messages which can wait for a free slot when the limit has been reached. Messages exceeding the
+     * limit are rejected with a ConcurrencyLimiterRejectedExecutionException when the queue is full.
+     * <p/>
+     * Is by default <tt>0</tt> which means messages are rejected as soon as the limit has been reached.
+     *
+     * @param  maxQueueSize the maximum number of waiting messages
+     * @return              the builder
+     */
+    public ConcurrencyLimiterDefinition maxQueueSize(String maxQueueSize) {
+        setMaxQueueSize(maxQueueSize);
+        return this;
+    }
+
+    /**
+     * How much the latency may grow above the long term average before the limit is decreased.
+     * <p/>
+     * Is by default <tt>1.5</tt>
+     *
+     * @param  tolerance the tolerance as a ratio of the long term latency
+     * @return           the builder
+     */
+    public ConcurrencyLimiterDefinition tolerance(double tolerance) {
+        return tolerance(Double.toString(tolerance));
+    }
+
+    /**
+     * How much the latency may grow above the long term average before the limit is decreased.
+     * <p/>
+     * Is by default <tt>1.5</tt>
+     *
+     * @param  tolerance the tolerance as a ratio of the long term latency
+     * @return           the builder
+     */
+    public ConcurrencyLimiterDefinition tolerance(String tolerance) {
+        setTolerance(tolerance);
+        return this;
+    }
+
+    /**
+     * How fast the limit moves towards a newly calculated value, between 0 and 1.
+     * <p/>
+     * Is by default <tt>0.2</tt>
+     *
+     * @param  smoothing the smoothing factor
+     * @return           the builder
+     */
+    public ConcurrencyLimiterDefinition smoothing(double smoothing) {
+        return smoothing(Double.toString(smoothing));
+    }
+
+    /**
+     * How fast the limit moves towards a newly calculated value, between 0 and 1.
+     * <p/>
+     * Is by default <tt>0.2</tt>
+     *
+     * @param  smoothing the smoothing factor
+     * @return           the builder
+     */
+    public ConcurrencyLimiterDefinition smoothing(String smoothing) {
+        setSmoothing(smoothing);
+        return this;
+    }
+
+    // Properties
+    // -------------------------------------------------------------------------
+
+    public String getInitialLimit() {
+        return initialLimit;
+    }
+
+    /**
+     * The number of concurrent messages allowed before any latency has been measured.
+     */
+    public void setInitialLimit(String initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public String getMinLimit() {
+        return minLimit;
+    }
+
+    /**
+     * The lowest value the limit can be decreased to.
+     */
+    public void setMinLimit(String minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public String getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * The highest value the limit can be increased to.
+     */
+    public void setMaxLimit(String maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public String getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    /**
+     * The number of messages which can wait for a free slot when the limit has been reached. Messages exceeding the
+     * limit are rejected when the queue is full.
+     */
+    public void setMaxQueueSize(String maxQueueSize) {
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    public String getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * How much the latency may grow above the long term average before the limit is decreased.
+     */
+    public void setTolerance(String tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public String getSmoothing() {
+        return smoothing;
+    }
+
+    /**
+     * How fast the limit moves towards a newly calculated value, between 0 and 1.
+     */
+    public void setSmoothing(String smoothing) {
+        this.smoothing = smoothing;
+    }
+}
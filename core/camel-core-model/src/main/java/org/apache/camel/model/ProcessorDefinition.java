@@ -1834,6 +1834,19 @@ public abstract class ProcessorDefinition<Type extends ProcessorDefinition<Type>
         return answer;
     }
 
+    /**
+     * Concurrency Limiter EIP: Creates a concurrency limiter which caps the number of exchanges being processed
+     * concurrently by its outputs. The limit is adjusted at runtime from the measured latency of the outputs, so it
+     * increases while the outputs keep up and decreases when they become congested.
+     *
+     * @return the builder
+     */
+    public ConcurrencyLimiterDefinition concurrencyLimiter() {
+        ConcurrencyLimiterDefinition answer = new ConcurrencyLimiterDefinition();
+        addOutput(answer);
+        return answer;
+    }
+
     /**
      * <a href="http://camel.apache.org/loop.html">Loop EIP:</a> Creates a loop allowing to process the a message a
      * number of times and possibly process them in a different way. Useful mostly for testing.
@@ -73,6 +73,15 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     @Metadata(label = "advanced", javaType = "java.time.Duration", defaultValue = "0")
     private String timeout;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer", defaultValue = "0")
+    private String maxInflight;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer", defaultValue = "0")
+    private String maxBuffered;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String aggregateInOrder;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.util.concurrent.ExecutorService")
     private String executorService;
     @XmlAttribute
@@ -442,6 +451,95 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * Sets the maximum number of split messages that are processed concurrently, when using parallel processing. In
+     * streaming mode the splitter does not read the next message from the iterator until one of the messages in
+     * progress has completed, which allows splitting large payloads in parallel with constant memory.
+     * <p/>
+     * The default value is 0 which means unbounded.
+     *
+     * @param  maxInflight the maximum number of split messages in progress
+     * @return             the builder
+     */
+    public SplitDefinition maxInflight(int maxInflight) {
+        return maxInflight(Integer.toString(maxInflight));
+    }
+
+    /**
+     * Sets the maximum number of split messages that are processed concurrently, when using parallel processing. In
+     * streaming mode the splitter does not read the next message from the iterator until one of the messages in
+     * progress has completed, which allows splitting large payloads in parallel with constant memory.
+     * <p/>
+     * The default value is 0 which means unbounded.
+     *
+     * @param  maxInflight the maximum number of split messages in progress
+     * @return             the builder
+     */
+    public SplitDefinition maxInflight(String maxInflight) {
+        setMaxInflight(maxInflight);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of completed split messages that can wait to be aggregated in order, when using parallel
+     * processing. The splitter does not read the next message from the iterator while this many replies are waiting
+     * for an earlier reply which is still in progress.
+     * <p/>
+     * The default value is 0 which means unbounded.
+     *
+     * @param  maxBuffered the maximum number of completed split messages waiting to be aggregated
+     * @return             the builder
+     */
+    public SplitDefinition maxBuffered(int maxBuffered) {
+        return maxBuffered(Integer.toString(maxBuffered));
+    }
+
+    /**
+     * Sets the maximum number of completed split messages that can wait to be aggregated in order, when using parallel
+     * processing. The splitter does not read the next message from the iterator while this many replies are waiting
+     * for an earlier reply which is still in progress.
+     * <p/>
+     * The default value is 0 which means unbounded.
+     *
+     * @param  maxBuffered the maximum number of completed split messages waiting to be aggregated
+     * @return             the builder
+     */
+    public SplitDefinition maxBuffered(String maxBuffered) {
+        setMaxBuffered(maxBuffered);
+        return this;
+    }
+
+    /**
+     * Aggregates the replies in the same order as the messages was split, also when using streaming mode. By default
+     * the streaming mode aggregates the replies out-of-order, e.g. in the order they come back.
+     *
+     * @return the builder
+     */
+    public SplitDefinition aggregateInOrder() {
+        return aggregateInOrder(true);
+    }
+
+    /**
+     * Whether to aggregate the replies in the same order as the messages was split, also when using streaming mode. By
+     * default the streaming mode aggregates the replies out-of-order, e.g. in the order they come back.
+     *
+     * @return the builder
+     */
+    public SplitDefinition aggregateInOrder(boolean aggregateInOrder) {
+        return aggregateInOrder(Boolean.toString(aggregateInOrder));
+    }
+
+    /**
+     * Whether to aggregate the replies in the same order as the messages was split, also when using streaming mode. By
+     * default the streaming mode aggregates the replies out-of-order, e.g. in the order they come back.
+     *
+     * @return the builder
+     */
+    public SplitDefinition aggregateInOrder(String aggregateInOrder) {
+        setAggregateInOrder(aggregateInOrder);
+        return this;
+    }
+
     /**
      * Shares the {@link org.apache.camel.spi.UnitOfWork} with the parent and each of the sub messages. Splitter will by
      * default not share unit of work between the parent exchange and each split exchange. This means each split
@@ -600,6 +698,43 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.timeout = timeout;
     }
 
+    public String getMaxInflight() {
+        return maxInflight;
+    }
+
+    /**
+     * Sets the maximum number of split messages that are processed concurrently, when using parallel processing. In
+     * streaming mode the splitter does not read the next message until one of the messages in progress has completed.
+     * The default value is 0 which means unbounded.
+     */
+    public void setMaxInflight(String maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
+    public String getMaxBuffered() {
+        return maxBuffered;
+    }
+
+    /**
+     * Sets the maximum number of completed split messages that can wait to be aggregated in order, when using parallel
+     * processing. The default value is 0 which means unbounded.
+     */
+    public void setMaxBuffered(String maxBuffered) {
+        this.maxBuffered = maxBuffered;
+    }
+
+    public String getAggregateInOrder() {
+        return aggregateInOrder;
+    }
+
+    /**
+     * Whether to aggregate the replies in the same order as the messages was split, also when using streaming mode. By
+     * default the streaming mode aggregates the replies out-of-order, e.g. in the order they come back.
+     */
+    public void setAggregateInOrder(String aggregateInOrder) {
+        this.aggregateInOrder = aggregateInOrder;
+    }
+
     public String getOnPrepare() {
         return onPrepare;
     }
@@ -60,6 +60,9 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String rejectExecution;
+    @XmlAttribute
+    @Metadata(label = "advanced", defaultValue = "DelayQueue", enums = "DelayQueue,TokenBucket")
+    private String mode;
 
     public ThrottleDefinition() {
     }
@@ -251,6 +254,21 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return this;
     }
 
+    /**
+     * Sets the throttling engine to use.
+     * <p/>
+     * The default <tt>DelayQueue</tt> mode uses a rolling window of permits. The <tt>TokenBucket</tt> mode uses a
+     * lock-free token bucket per correlation key which refills at the given rate, and avoids allocating and contending
+     * on permit objects under high request rates.
+     *
+     * @param  mode the mode, either DelayQueue or TokenBucket
+     * @return      the builder
+     */
+    public ThrottleDefinition mode(String mode) {
+        setMode(mode);
+        return this;
+    }
+
     /**
      * To use a custom thread pool (ScheduledExecutorService) by the throttler.
      *
@@ -329,6 +347,18 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         this.rejectExecution = rejectExecution;
     }
 
+    public String getMode() {
+        return mode;
+    }
+
+    /**
+     * Sets the throttling engine to use. The default DelayQueue mode uses a rolling window of permits. The TokenBucket
+     * mode uses a lock-free token bucket per correlation key which refills at the given rate.
+     */
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
     /**
      * The expression used to calculate the correlation key to use for throttle grouping. The Exchange which has the
      * same correlation key is throttled together.
@@ -0,0 +1,384 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.Traceable;
+import org.apache.camel.spi.IdAware;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.spi.RouteIdAware;
+import org.apache.camel.support.processor.DelegateAsyncProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A concurrency limiter which caps the number of exchanges being processed concurrently by its outputs.
+ * <p/>
+ * The limit is not fixed but adapted from the latency measured around the outputs, using a gradient between the long
+ * term and the short term average latency:
+ * <ul>
+ * <li>while the short term latency stays within the tolerance of the long term latency then the limit is increased, so
+ * more exchanges can be processed concurrently</li>
+ * <li>when the short term latency grows above the tolerance, which means the outputs (or the system they call) are
+ * becoming congested, then the limit is decreased proportionally</li>
+ * </ul>
+ * Exchanges arriving when the limit has been reached are queued (without blocking the caller thread) up to the given
+ * maximum queue size, and are continued when an exchange completes. When the queue is full the exchange is rejected
+ * with a {@link ConcurrencyLimiterRejectedExecutionException}.
+ */
+public class ConcurrencyLimiter extends DelegateAsyncProcessor implements Traceable, IdAware, RouteIdAware {
+
+    public static final int DEFAULT_INITIAL_LIMIT = 20;
+    public static final int DEFAULT_MIN_LIMIT = 1;
+    public static final int DEFAULT_MAX_LIMIT = 200;
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConcurrencyLimiter.class);
+
+    // the number of samples the short and long term average latencies are calculated over
+    private static final double SHORT_WINDOW = 10;
+    private static final double LONG_WINDOW = 600;
+
+    private final ReactiveExecutor reactiveExecutor;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private String id;
+    private String routeId;
+    private int initialLimit = DEFAULT_INITIAL_LIMIT;
+    private int minLimit = DEFAULT_MIN_LIMIT;
+    private int maxLimit = DEFAULT_MAX_LIMIT;
+    private int maxQueueSize;
+    private double tolerance = 1.5;
+    private double smoothing = 0.2;
+
+    // guarded by this
+    private double estimatedLimit;
+    private long samples;
+    // the limit and latencies are read without locking by the processing threads and from JMX
+    private volatile int limit;
+    private volatile double shortRtt;
+    private volatile double longRtt;
+
+    public ConcurrencyLimiter(CamelContext camelContext, Processor processor) {
+        super(processor);
+        this.reactiveExecutor = camelContext.getCamelContextExtension().getReactiveExecutor();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        int current = tryAcquire();
+        if (current > 0) {
+            return doProcess(exchange, callback, current, true);
+        }
+
+        if (maxQueueSize > 0) {
+            if (queueSize.incrementAndGet() <= maxQueueSize) {
+                queue.add(new Pending(exchange, callback));
+                // a slot may have been released before the exchange was added to the queue
+                drain();
+                return false;
+            }
+            queueSize.decrementAndGet();
+        }
+
+        rejected.increment();
+        LOG.debug("Rejecting exchange as the concurrency limit of {} has been reached: {}", limit, exchange);
+        exchange.setException(new ConcurrencyLimiterRejectedExecutionException(
+                "Exceeded the concurrency limit of " + limit + " on " + this));
+        callback.done(true);
+        return true;
+    }
+
+    /**
+     * Processes the exchange by the outputs, holding a slot until the outputs are done
+     *
+     * @param inflight the number of exchanges being processed when this exchange acquired its slot
+     */
+    protected boolean doProcess(Exchange exchange, AsyncCallback callback, int inflight, boolean sync) {
+        final long start = System.nanoTime();
+        return processor.process(exchange, doneSync -> {
+            try {
+                release();
+                updateLimit(System.nanoTime() - start, inflight);
+                drain();
+            } finally {
+                // an exchange continued from the queue has already returned false to its caller
+                callback.done(sync && doneSync);
+            }
+        });
+    }
+
+    private int tryAcquire() {
+        for (;;) {
+            int current = inflight.get();
+            if (current >= limit) {
+                return -1;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    private void release() {
+        inflight.decrementAndGet();
+    }
+
+    /**
+     * Continues the queued exchanges for as long as there are free slots
+     */
+    private void drain() {
+        while (queueSize.get() > 0) {
+            int current = tryAcquire();
+            if (current < 0) {
+                return;
+            }
+            Pending next = queue.poll();
+            if (next == null) {
+                // the exchange is being added to the queue by another thread which drains the queue afterwards
+                release();
+                return;
+            }
+            queueSize.decrementAndGet();
+            // continue the exchange from the reactive executor to not process it on the thread of another exchange
+            reactiveExecutor.schedule(() -> doProcess(next.exchange, next.callback, current, false));
+        }
+    }
+
+    /**
+     * Updates the limit from the latency of an exchange, as a gradient between the long term and the short term
+     * average latency.
+     */
+    protected synchronized void updateLimit(long rtt, int inflight) {
+        samples++;
+        double s = shortRtt;
+        double l = longRtt;
+        if (samples == 1) {
+            s = rtt;
+            l = rtt;
+        } else {
+            s += (rtt - s) * 2 / (SHORT_WINDOW + 1);
+            // warm up the long term average as a plain average until the window has been filled
+            l += (rtt - l) / Math.min(samples, LONG_WINDOW);
+            if (l / s > 2) {
+                // the latency has dropped significantly so let the long term average recover faster
+                l *= 0.95;
+            }
+        }
+        shortRtt = s;
+        longRtt = l;
+
+        // do not increase the limit when the current limit is far from being used
+        if (inflight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * l / s));
+        // allow the limit to grow by the square root of the limit which is the number of exchanges considered queueing
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        if ((int) newLimit != limit) {
+            LOG.trace("Concurrency limit changed from {} to {} (short rtt: {}, long rtt: {})",
+                    limit, (int) newLimit, s, l);
+        }
+        estimatedLimit = newLimit;
+        limit = (int) newLimit;
+    }
+
+    @Override
+    public String getTraceLabel() {
+        return "concurrencyLimiter";
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    @Override
+    public String getRouteId() {
+        return routeId;
+    }
+
+    @Override
+    public void setRouteId(String routeId) {
+        this.routeId = routeId;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    public void setMaxQueueSize(int maxQueueSize) {
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    public void setSmoothing(double smoothing) {
+        this.smoothing = smoothing;
+    }
+
+    /**
+     * The current concurrency limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * The number of exchanges currently being processed by the outputs
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * The number of exchanges waiting for a free slot
+     */
+    public int getQueueSize() {
+        return queueSize.get();
+    }
+
+    /**
+     * The number of exchanges rejected as both the limit and the queue were full
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * The short term average latency of the outputs in millis
+     */
+    public double getShortRtt() {
+        return shortRtt / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * The long term average latency of the outputs in millis
+     */
+    public double getLongRtt() {
+        return longRtt / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Resets the limit to the initial limit and clears the measured latencies
+     */
+    public synchronized void reset() {
+        rejected.reset();
+        samples = 0;
+        shortRtt = 0;
+        longRtt = 0;
+        estimatedLimit = initialLimit;
+        limit = initialLimit;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException(
+                    "MinLimit must be a positive number not greater than maxLimit, was: " + minLimit);
+        }
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(
+                    "InitialLimit must be between minLimit and maxLimit, was: " + initialLimit);
+        }
+        if (smoothing <= 0 || smoothing > 1) {
+            throw new IllegalArgumentException("Smoothing must be greater than 0 and at most 1, was: " + smoothing);
+        }
+        reset();
+        super.doStart();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        // fail the exchanges which are still waiting
+        Pending next;
+        while ((next = queue.poll()) != null) {
+            queueSize.decrementAndGet();
+            next.exchange.setException(new ConcurrencyLimiterRejectedExecutionException(
+                    "ConcurrencyLimiter is stopping: " + this));
+            next.callback.done(false);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return id;
+    }
+
+    private static final class Pending {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+
+        private Pending(Exchange exchange, AsyncCallback callback) {
+            this.exchange = exchange;
+            this.callback = callback;
+        }
+    }
+}
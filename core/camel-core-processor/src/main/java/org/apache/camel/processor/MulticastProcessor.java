@@ -166,6 +166,9 @@ public class MulticastProcessor extends AsyncProcessorSupport
     private ExecutorService aggregateExecutorService;
     private boolean shutdownAggregateExecutorService;
     private final long timeout;
+    private int maxInflight;
+    private int maxBuffered;
+    private boolean aggregateInOrder;
     private final ConcurrentMap<Processor, Processor> errorHandlers = new ConcurrentHashMap<>();
     private final boolean shareUnitOfWork;
 
@@ -379,8 +382,10 @@ public class MulticastProcessor extends AsyncProcessorSupport
         final AtomicReference<Exchange> result = new AtomicReference<>();
         final AtomicInteger nbExchangeSent = new AtomicInteger();
         final AtomicInteger nbAggregated = new AtomicInteger();
+        final AtomicInteger nbCompleted = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean suspended = new AtomicBoolean();
         final Map<String, String> mdc;
 
         private MulticastTask() {
@@ -409,10 +414,11 @@ public class MulticastProcessor extends AsyncProcessorSupport
             } else {
                 this.mdc = null;
             }
+            boolean ordered = !isStreaming() || isAggregateInOrder();
             if (capacity > 0) {
-                this.completion = new AsyncCompletionService<>(scheduler, !isStreaming(), lock, capacity);
+                this.completion = new AsyncCompletionService<>(scheduler, ordered, lock, capacity);
             } else {
-                this.completion = new AsyncCompletionService<>(scheduler, !isStreaming(), lock);
+                this.completion = new AsyncCompletionService<>(scheduler, ordered, lock);
             }
         }
 
@@ -447,6 +453,47 @@ public class MulticastProcessor extends AsyncProcessorSupport
                     lock.unlock();
                 }
             }
+            // aggregating may have freed up room in the in-flight window
+            resume();
+        }
+
+        /**
+         * Whether the in-flight window is full, which is when the maximum number of sub exchanges are being processed,
+         * or the maximum number of completed sub exchanges are waiting to be aggregated in order.
+         */
+        protected boolean isWindowFull() {
+            if (!isParallelProcessing()) {
+                return false;
+            }
+            if (maxInflight > 0 && nbExchangeSent.get() - nbCompleted.get() >= maxInflight) {
+                return true;
+            }
+            return maxBuffered > 0 && nbCompleted.get() - nbAggregated.get() >= maxBuffered;
+        }
+
+        /**
+         * Suspends this task if the in-flight window is full, so no further sub exchanges are created from the iterator
+         * until sub exchanges in progress have completed.
+         *
+         * @return <tt>true</tt> if the task was suspended, <tt>false</tt> to continue
+         */
+        protected boolean suspend() {
+            if (!isWindowFull()) {
+                return false;
+            }
+            suspended.set(true);
+            // the window may have been freed up before the task was marked as suspended
+            return isWindowFull() || !suspended.compareAndSet(true, false);
+        }
+
+        /**
+         * Resumes this task if it was suspended and there is room in the in-flight window again.
+         */
+        protected void resume() {
+            if (suspended.get() && !done.get() && !isWindowFull() && suspended.compareAndSet(true, false)) {
+                LOG.trace("Resuming multicast as there is room in the in-flight window");
+                schedule(this);
+            }
         }
 
         protected void timeout() {
@@ -506,6 +553,12 @@ public class MulticastProcessor extends AsyncProcessorSupport
                     return;
                 }
 
+                // wait with reading the next pair until there is room in the in-flight window
+                if (suspend()) {
+                    LOG.trace("Suspending multicast as the in-flight window is full");
+                    return;
+                }
+
                 // Check if the iterator is empty
                 // This can happen the very first time we check the existence
                 // of an item before queuing the run.
@@ -538,6 +591,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
                     AsyncProcessor async = AsyncProcessorConverterHelper.convert(pair.getProcessor());
                     async.process(exchange, doneSync -> {
                         afterSend(pair, watch);
+                        nbCompleted.incrementAndGet();
 
                         // Decide whether to continue with the multicast or not; similar logic to the Pipeline
                         // remember to test for stop on exception and aggregate before copying back results
@@ -1259,6 +1313,52 @@ public class MulticastProcessor extends AsyncProcessorSupport
         return shareUnitOfWork;
     }
 
+    /**
+     * The maximum number of sub exchanges that are processed concurrently when using parallel processing
+     */
+    public int getMaxInflight() {
+        return maxInflight;
+    }
+
+    /**
+     * Sets the maximum number of sub exchanges that are processed concurrently when using parallel processing. The
+     * next sub exchange is not created (for example by reading from the splitter iterator) until one of the sub
+     * exchanges in progress has completed. Is by default 0 which means unbounded.
+     */
+    public void setMaxInflight(int maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
+    /**
+     * The maximum number of completed sub exchanges that can wait to be aggregated in order
+     */
+    public int getMaxBuffered() {
+        return maxBuffered;
+    }
+
+    /**
+     * Sets the maximum number of completed sub exchanges that can wait to be aggregated, when they must be aggregated
+     * in the same order as they were created. Is by default 0 which means unbounded.
+     */
+    public void setMaxBuffered(int maxBuffered) {
+        this.maxBuffered = maxBuffered;
+    }
+
+    /**
+     * Whether to aggregate the replies in the same order as the sub exchanges were created, also in streaming mode
+     */
+    public boolean isAggregateInOrder() {
+        return aggregateInOrder;
+    }
+
+    /**
+     * Sets whether to aggregate the replies in the same order as the sub exchanges were created, also in streaming
+     * mode. In non-streaming mode the replies are always aggregated in order.
+     */
+    public void setAggregateInOrder(boolean aggregateInOrder) {
+        this.aggregateInOrder = aggregateInOrder;
+    }
+
     public ExecutorService getAggregateExecutorService() {
         return aggregateExecutorService;
     }
@@ -23,6 +23,7 @@ import java.util.stream.Collectors;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
+import org.apache.camel.BatchProcessor;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.Navigate;
@@ -44,7 +45,8 @@ import static org.apache.camel.processor.PipelineHelper.continueProcessing;
  * Creates a Pipeline pattern where the output of the previous step is sent as input to the next step, reusing the same
  * message exchanges
  */
-public class Pipeline extends AsyncProcessorSupport implements Navigate<Processor>, Traceable, IdAware, RouteIdAware {
+public class Pipeline extends AsyncProcessorSupport
+        implements Navigate<Processor>, Traceable, IdAware, RouteIdAware, BatchProcessor {
 
     private static final Logger LOG = LoggerFactory.getLogger(Pipeline.class);
 
@@ -171,6 +173,45 @@ public class Pipeline extends AsyncProcessorSupport implements Navigate<Processo
         }
     }
 
+    @Override
+    public boolean isBatchCapable() {
+        for (AsyncProcessor processor : processors) {
+            if (!(processor instanceof BatchProcessor) || !((BatchProcessor) processor).isBatchCapable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void processBatch(List<Exchange> exchanges) throws Exception {
+        List<Exchange> batch = exchanges;
+        for (int index = 0; index < size; index++) {
+            boolean first = index == 0;
+            // only the exchanges which should continue are passed on to the next step
+            List<Exchange> next = new ArrayList<>(batch.size());
+            for (Exchange exchange : batch) {
+                if (!exchange.isRouteStop()
+                        && (first || continueProcessing(exchange, "so breaking out of pipeline", LOG))) {
+                    // prepare for next run
+                    ExchangeHelper.prepareOutToIn(exchange);
+                    next.add(exchange);
+                }
+            }
+            if (next.isEmpty()) {
+                break;
+            }
+            BatchProcessor processor = (BatchProcessor) processors.get(index);
+            processor.processBatch(next);
+            batch = next;
+        }
+
+        for (Exchange exchange : exchanges) {
+            // copyResults is needed in case MEP is OUT and the message is not an OUT message
+            ExchangeHelper.copyResults(exchange, exchange);
+        }
+    }
+
     @Override
     protected void doBuild() throws Exception {
         boolean pooled = camelContext.getCamelContextExtension().getExchangeFactory().isPooled();
@@ -16,16 +16,21 @@
  */
 package org.apache.camel.processor;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProducer;
+import org.apache.camel.BatchProcessor;
+import org.apache.camel.BatchProducer;
 import org.apache.camel.CamelContext;
+import org.apache.camel.DelegateProcessor;
 import org.apache.camel.Endpoint;
 import org.apache.camel.EndpointAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePattern;
 import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.Processor;
 import org.apache.camel.Traceable;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.ProducerCache;
@@ -43,10 +48,14 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Processor for forwarding exchanges to a static endpoint destination.
+ * <p/>
+ * When the destination producer is a {@link BatchProducer} then a batch of exchanges can be sent in one call to the
+ * producer via {@link #processBatch(List)}.
  *
  * @see SendDynamicProcessor
  */
-public class SendProcessor extends AsyncProcessorSupport implements Traceable, EndpointAware, IdAware, RouteIdAware {
+public class SendProcessor extends AsyncProcessorSupport
+        implements Traceable, EndpointAware, IdAware, RouteIdAware, BatchProcessor {
 
     private static final Logger LOG = LoggerFactory.getLogger(SendProcessor.class);
 
@@ -55,6 +64,7 @@ public class SendProcessor extends AsyncProcessorSupport implements Traceable, E
     protected final ExchangePattern pattern;
     protected ProducerCache producerCache;
     protected AsyncProducer producer;
+    protected BatchProducer batchProducer;
     protected Endpoint destination;
     protected ExchangePattern destinationExchangePattern;
     protected String id;
@@ -201,6 +211,59 @@ public class SendProcessor extends AsyncProcessorSupport implements Traceable, E
         }
     }
 
+    @Override
+    public boolean isBatchCapable() {
+        return batchProducer != null;
+    }
+
+    @Override
+    public void processBatch(List<Exchange> exchanges) throws Exception {
+        if (!isStarted()) {
+            throw new IllegalStateException("SendProcessor has not been started: " + this);
+        }
+
+        final int size = exchanges.size();
+        final ExchangePattern[] existingPatterns = new ExchangePattern[size];
+        final boolean[] sending = new boolean[size];
+        final boolean notify = camelContext.getCamelContextExtension().isEventNotificationApplicable();
+        boolean anySending = false;
+
+        for (int i = 0; i < size; i++) {
+            Exchange exchange = exchanges.get(i);
+            // we should preserve existing MEP so remember old MEP
+            existingPatterns[i] = exchange.getPattern();
+            if (extendedStatistics) {
+                counter.incrementAndGet();
+            }
+            // we can send with a different MEP pattern
+            if (destinationExchangePattern != null || pattern != null) {
+                exchange.setPattern(destinationExchangePattern != null ? destinationExchangePattern : pattern);
+            }
+            // set property which endpoint we send to
+            exchange.setProperty(ExchangePropertyKey.TO_ENDPOINT, destination.getEndpointUri());
+            sending[i] = notify && EventHelper.notifyExchangeSending(camelContext, exchange, destination);
+            anySending |= sending[i];
+        }
+
+        // record timing for sending the batch using the producer
+        StopWatch watch = anySending ? new StopWatch() : null;
+        try {
+            LOG.debug(">>>> {} batch of {} exchanges", destination, size);
+            batchProducer.processBatch(exchanges);
+        } finally {
+            long timeTaken = watch != null ? watch.taken() : 0;
+            for (int i = 0; i < size; i++) {
+                Exchange exchange = exchanges.get(i);
+                // restore previous MEP
+                exchange.setPattern(existingPatterns[i]);
+                // emit event that the exchange was sent to the endpoint
+                if (sending[i]) {
+                    EventHelper.notifyExchangeSent(camelContext, exchange, destination, timeTaken);
+                }
+            }
+        }
+    }
+
     public Endpoint getDestination() {
         return destination;
     }
@@ -246,6 +309,10 @@ public class SendProcessor extends AsyncProcessorSupport implements Traceable, E
             this.producer = destination.createAsyncProducer();
             // ensure the producer is managed and started
             camelContext.addService(this.producer, true, true);
+            // the producer may be wrapped when bridging a synchronous producer
+            Processor target = producer instanceof DelegateProcessor
+                    ? ((DelegateProcessor) producer).getProcessor() : producer;
+            this.batchProducer = target instanceof BatchProducer ? (BatchProducer) target : null;
         } else {
             // no we need the producer cache for pooled non-singleton producers
             ServiceHelper.startService(producerCache);
@@ -259,6 +326,7 @@ public class SendProcessor extends AsyncProcessorSupport implements Traceable, E
             camelContext.removeService(this.producer);
         }
         ServiceHelper.stopService(producerCache, producer);
+        this.batchProducer = null;
     }
 
     @Override
@@ -16,7 +16,10 @@
  */
 package org.apache.camel.processor;
 
+import java.util.List;
+
 import org.apache.camel.AsyncCallback;
+import org.apache.camel.BatchProcessor;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.Message;
@@ -25,12 +28,14 @@ import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.support.AsyncProcessorSupport;
 import org.apache.camel.support.DefaultMessage;
+import org.apache.camel.support.EmptyAsyncCallback;
 import org.apache.camel.support.ExchangeHelper;
 
 /**
  * A processor which sets the body on the IN or OUT message with an {@link Expression}
  */
-public class SetBodyProcessor extends AsyncProcessorSupport implements Traceable, IdAware, RouteIdAware {
+public class SetBodyProcessor extends AsyncProcessorSupport
+        implements Traceable, IdAware, RouteIdAware, BatchProcessor {
     private String id;
     private String routeId;
     private final Expression expression;
@@ -75,6 +80,13 @@ public class SetBodyProcessor extends AsyncProcessorSupport implements Traceable
         return true;
     }
 
+    @Override
+    public void processBatch(List<Exchange> exchanges) throws Exception {
+        for (Exchange exchange : exchanges) {
+            process(exchange, EmptyAsyncCallback.get());
+        }
+    }
+
     @Override
     public String toString() {
         return id;
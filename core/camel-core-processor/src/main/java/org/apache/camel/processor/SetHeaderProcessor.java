@@ -16,7 +16,10 @@
  */
 package org.apache.camel.processor;
 
+import java.util.List;
+
 import org.apache.camel.AsyncCallback;
+import org.apache.camel.BatchProcessor;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.Message;
@@ -24,12 +27,14 @@ import org.apache.camel.Traceable;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.support.AsyncProcessorSupport;
+import org.apache.camel.support.EmptyAsyncCallback;
 import org.apache.camel.util.ObjectHelper;
 
 /**
  * A processor which sets the header on the IN or OUT message with an {@link org.apache.camel.Expression}
  */
-public class SetHeaderProcessor extends AsyncProcessorSupport implements Traceable, IdAware, RouteIdAware {
+public class SetHeaderProcessor extends AsyncProcessorSupport
+        implements Traceable, IdAware, RouteIdAware, BatchProcessor {
     private String id;
     private String routeId;
     private final Expression headerName;
@@ -66,6 +71,13 @@ public class SetHeaderProcessor extends AsyncProcessorSupport implements Traceab
         return true;
     }
 
+    @Override
+    public void processBatch(List<Exchange> exchanges) throws Exception {
+        for (Exchange exchange : exchanges) {
+            process(exchange, EmptyAsyncCallback.get());
+        }
+    }
+
     @Override
     public String toString() {
         return id;
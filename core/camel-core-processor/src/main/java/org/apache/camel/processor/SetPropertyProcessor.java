@@ -16,19 +16,24 @@
  */
 package org.apache.camel.processor;
 
+import java.util.List;
+
 import org.apache.camel.AsyncCallback;
+import org.apache.camel.BatchProcessor;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.Traceable;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.support.AsyncProcessorSupport;
+import org.apache.camel.support.EmptyAsyncCallback;
 import org.apache.camel.util.ObjectHelper;
 
 /**
  * A processor which sets the property on the exchange with an {@link org.apache.camel.Expression}
  */
-public class SetPropertyProcessor extends AsyncProcessorSupport implements Traceable, IdAware, RouteIdAware {
+public class SetPropertyProcessor extends AsyncProcessorSupport
+        implements Traceable, IdAware, RouteIdAware, BatchProcessor {
     private String id;
     private String routeId;
     private final Expression propertyName;
@@ -62,6 +67,13 @@ public class SetPropertyProcessor extends AsyncProcessorSupport implements Trace
         return true;
     }
 
+    @Override
+    public void processBatch(List<Exchange> exchanges) throws Exception {
+        for (Exchange exchange : exchanges) {
+            process(exchange, EmptyAsyncCallback.get());
+        }
+    }
+
     @Override
     public String toString() {
         return id;
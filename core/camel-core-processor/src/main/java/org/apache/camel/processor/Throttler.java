@@ -452,6 +452,14 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         return maxRequestsPerPeriodExpression;
     }
 
+    public Expression getCorrelationExpression() {
+        return correlationExpression;
+    }
+
+    protected ScheduledExecutorService getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
     /**
      * Gets the current maximum request per period value. If it is grouped throttling applied with correlationExpression
      * than the max per period within the group will return
@@ -0,0 +1,315 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.RuntimeExchangeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A <a href="http://camel.apache.org/throttler.html">Throttler</a> which uses a lock-free token bucket per correlation
+ * key, instead of a DelayQueue of permits.
+ * <p/>
+ * Each bucket holds up to maxRequestsPerPeriod tokens and is refilled evenly over timePeriodMillis. The bucket is
+ * implemented as a single atomic timestamp (the theoretical arrival time of the next free token) which is updated with
+ * compare-and-set, so there are no permit objects to allocate and no locks to contend on when the request rate is high.
+ * <p/>
+ * When a token is not available then a caller reserves the next free token, and either blocks until it is due, or when
+ * asyncDelayed is enabled, schedules the continuation of the exchange to run when the token is due.
+ */
+public class TokenBucketThrottler extends Throttler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TokenBucketThrottler.class);
+
+    private static final String DEFAULT_KEY = "CamelThrottlerDefaultKey";
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private volatile ScheduledFuture<?> cleanTask;
+
+    public TokenBucketThrottler(final CamelContext camelContext, final Expression maxRequestsPerPeriodExpression,
+                                final long timePeriodMillis,
+                                final ScheduledExecutorService asyncExecutor, final boolean shutdownAsyncExecutor,
+                                final boolean rejectExecution, Expression correlation) {
+        super(camelContext, maxRequestsPerPeriodExpression, timePeriodMillis, asyncExecutor, shutdownAsyncExecutor,
+              rejectExecution, correlation);
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        return doProcess(exchange, callback, true);
+    }
+
+    protected boolean doProcess(final Exchange exchange, final AsyncCallback callback, final boolean doneSync) {
+        try {
+            for (;;) {
+                if (!isRunAllowed()) {
+                    throw new RejectedExecutionException("Run is not allowed");
+                }
+
+                String key = DEFAULT_KEY;
+                if (getCorrelationExpression() != null) {
+                    key = getCorrelationExpression().evaluate(exchange, String.class);
+                }
+                TokenBucket bucket = buckets.get(key);
+                if (bucket == null) {
+                    bucket = buckets.computeIfAbsent(key, TokenBucket::new);
+                }
+                bucket.calculateAndSetMaxRequestsPerPeriod(exchange);
+
+                long delay;
+                if (isRejectExecution()) {
+                    if (!bucket.tryAcquire()) {
+                        throw new ThrottlerRejectedExecutionException(
+                                "Exceeded the max throttle rate of " + bucket.getThrottleRate() + " within "
+                                                                      + getTimePeriodMillis() + "ms");
+                    }
+                    delay = 0;
+                } else {
+                    delay = bucket.reserve();
+                }
+
+                if (delay == 0) {
+                    if (LOG.isTraceEnabled()) {
+                        LOG.trace("No throttling applied to exchangeId: {}", exchange.getExchangeId());
+                    }
+                    break;
+                }
+
+                // a negative delay means there are no tokens at all (throttle rate is zero) so try again after a period
+                boolean reserved = delay > 0;
+                if (!reserved) {
+                    delay = TimeUnit.MILLISECONDS.toNanos(getTimePeriodMillis());
+                }
+
+                if (isAsyncDelayed() && !exchange.isTransacted()
+                        && processAsynchronously(exchange, callback, delay, reserved)) {
+                    return false;
+                }
+
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Throttling for {}ms, exchangeId: {}", TimeUnit.NANOSECONDS.toMillis(delay),
+                            exchange.getExchangeId());
+                }
+                TimeUnit.NANOSECONDS.sleep(delay);
+                if (reserved) {
+                    break;
+                }
+            }
+
+            callback.done(doneSync);
+            return doneSync;
+
+        } catch (final InterruptedException e) {
+            // determine if we can still run, or the camel context is forcing a shutdown
+            boolean forceShutdown = exchange.getContext().getShutdownStrategy().isForceShutdown();
+            if (forceShutdown) {
+                String msg = "Run not allowed as ShutdownStrategy is forcing shutting down, will reject executing exchange: "
+                             + exchange;
+                LOG.debug(msg);
+                exchange.setException(new RejectedExecutionException(msg, e));
+            } else {
+                exchange.setException(e);
+            }
+            callback.done(doneSync);
+            return doneSync;
+        } catch (final Throwable t) {
+            exchange.setException(t);
+            callback.done(doneSync);
+            return doneSync;
+        }
+    }
+
+    /**
+     * Schedules the continuation of the exchange on the asyncExecutor when the delay is due.
+     *
+     * @return <tt>true</tt> if scheduled, or <tt>false</tt> if the executor rejected the task and the caller should
+     *         block instead
+     */
+    protected boolean processAsynchronously(
+            final Exchange exchange, final AsyncCallback callback, long delay, boolean reserved) {
+        try {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(
+                        "Throttle rate exceeded but AsyncDelayed enabled, so scheduling for async processing, exchangeId: {}",
+                        exchange.getExchangeId());
+            }
+            if (reserved) {
+                // the token is reserved so just continue routing when its due
+                getAsyncExecutor().schedule(() -> {
+                    if (!isRunAllowed()) {
+                        exchange.setException(new RejectedExecutionException("Run is not allowed"));
+                    }
+                    callback.done(false);
+                }, delay, TimeUnit.NANOSECONDS);
+            } else {
+                getAsyncExecutor().schedule(() -> doProcess(exchange, callback, false), delay, TimeUnit.NANOSECONDS);
+            }
+            return true;
+        } catch (final RejectedExecutionException e) {
+            if (isCallerRunsWhenRejected()) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("AsyncExecutor is full, rejected exchange will run in the current thread, exchangeId: {}",
+                            exchange.getExchangeId());
+                }
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (getCorrelationExpression() != null && getAsyncExecutor() != null) {
+            // remove buckets that has been idle (and thus are full) for a while
+            long cleanPeriod = getTimePeriodMillis() * 10;
+            cleanTask = getAsyncExecutor().scheduleWithFixedDelay(this::cleanBuckets, cleanPeriod, cleanPeriod,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (cleanTask != null) {
+            cleanTask.cancel(false);
+            cleanTask = null;
+        }
+        super.doStop();
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        buckets.clear();
+        super.doShutdown();
+    }
+
+    protected void cleanBuckets() {
+        long idle = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(getTimePeriodMillis() * 10);
+        // a full bucket is the same as a new bucket, so it is safe to remove
+        buckets.values().removeIf(bucket -> bucket.isIdleSince(idle));
+    }
+
+    @Override
+    public int getCurrentMaximumRequestsPerPeriod() {
+        return buckets.values().stream().mapToInt(TokenBucket::getThrottleRate).max().orElse(0);
+    }
+
+    private final class TokenBucket {
+        private final String key;
+        // the theoretical arrival time of the next free token (in nano time)
+        private final AtomicLong nextFreeTime = new AtomicLong(System.nanoTime());
+        private volatile int throttleRate;
+
+        TokenBucket(String key) {
+            this.key = key;
+        }
+
+        int getThrottleRate() {
+            return throttleRate;
+        }
+
+        boolean isIdleSince(long time) {
+            return nextFreeTime.get() - time < 0;
+        }
+
+        /**
+         * Attempts to take a token without waiting.
+         */
+        boolean tryAcquire() {
+            final int rate = throttleRate;
+            if (rate <= 0) {
+                return false;
+            }
+            final long period = TimeUnit.MILLISECONDS.toNanos(getTimePeriodMillis());
+            final long interval = Math.max(1, period / rate);
+            for (;;) {
+                final long now = System.nanoTime();
+                final long current = nextFreeTime.get();
+                final long next = Math.max(current - now, 0) + now + interval;
+                if (next - now > period) {
+                    return false;
+                }
+                if (nextFreeTime.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Takes the next free token, which may be in the future.
+         *
+         * @return the delay in nanos until the token is due, 0 if the token is available now, or -1 if there are no
+         *         tokens (throttle rate is zero)
+         */
+        long reserve() {
+            final int rate = throttleRate;
+            if (rate <= 0) {
+                return -1;
+            }
+            final long period = TimeUnit.MILLISECONDS.toNanos(getTimePeriodMillis());
+            final long interval = Math.max(1, period / rate);
+            for (;;) {
+                final long now = System.nanoTime();
+                final long current = nextFreeTime.get();
+                final long next = Math.max(current - now, 0) + now + interval;
+                if (nextFreeTime.compareAndSet(current, next)) {
+                    long delay = next - now - period;
+                    return delay > 0 ? delay : 0;
+                }
+            }
+        }
+
+        /**
+         * Evaluates the maxRequestsPerPeriodExpression and adjusts the throttle rate up or down.
+         */
+        void calculateAndSetMaxRequestsPerPeriod(final Exchange exchange) {
+            Integer newThrottle = getMaximumRequestsPerPeriodExpression().evaluate(exchange, Integer.class);
+
+            if (newThrottle != null && newThrottle < 0) {
+                throw new IllegalStateException("The maximumRequestsPerPeriod must be a positive number, was: " + newThrottle);
+            }
+
+            if (newThrottle == null && throttleRate == 0) {
+                throw new RuntimeExchangeException(
+                        "The maxRequestsPerPeriodExpression was evaluated as null: "
+                                                   + getMaximumRequestsPerPeriodExpression(),
+                        exchange);
+            }
+
+            if (newThrottle != null && newThrottle != throttleRate) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Throttle rate for key: {} changed from {} to {}, triggered by ExchangeId: {}", key,
+                            throttleRate, newThrottle, exchange.getExchangeId());
+                }
+                throttleRate = newThrottle;
+            }
+        }
+    }
+
+}
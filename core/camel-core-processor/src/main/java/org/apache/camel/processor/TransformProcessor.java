@@ -16,7 +16,10 @@
  */
 package org.apache.camel.processor;
 
+import java.util.List;
+
 import org.apache.camel.AsyncCallback;
+import org.apache.camel.BatchProcessor;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.Message;
@@ -25,13 +28,15 @@ import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.support.AsyncProcessorSupport;
 import org.apache.camel.support.DefaultMessage;
+import org.apache.camel.support.EmptyAsyncCallback;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.util.ObjectHelper;
 
 /**
  * A processor which sets the body on the OUT message with an {@link Expression}.
  */
-public class TransformProcessor extends AsyncProcessorSupport implements Traceable, IdAware, RouteIdAware {
+public class TransformProcessor extends AsyncProcessorSupport
+        implements Traceable, IdAware, RouteIdAware, BatchProcessor {
     private String id;
     private String routeId;
     private final Expression expression;
@@ -82,6 +87,13 @@ public class TransformProcessor extends AsyncProcessorSupport implements Traceab
         return true;
     }
 
+    @Override
+    public void processBatch(List<Exchange> exchanges) throws Exception {
+        for (Exchange exchange : exchanges) {
+            process(exchange, EmptyAsyncCallback.get());
+        }
+    }
+
     @Override
     public String toString() {
         return id;
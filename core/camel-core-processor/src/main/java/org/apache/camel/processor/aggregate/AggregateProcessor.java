@@ -17,6 +17,7 @@
 package org.apache.camel.processor.aggregate;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -30,6 +31,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 import org.apache.camel.AggregationStrategy;
 import org.apache.camel.AsyncCallback;
@@ -98,6 +100,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
     private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
     private volatile Lock lock;
+    private volatile Lock[] stripedLocks;
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
@@ -121,6 +124,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private ExceptionHandler exceptionHandler;
     private AggregationRepository aggregationRepository;
     private Map<String, String> closedCorrelationKeys;
+    // the underlying closed correlation keys (not synchronized) which may be a service that must be stopped
+    private Map<String, String> closedCorrelationKeysCache;
     private final Set<String> batchConsumerCorrelationKeys = new ConcurrentSkipListSet<>();
     private final Set<String> inProgressCompleteExchanges = ConcurrentHashMap.newKeySet();
     private final Set<String> unconfirmedCompleteExchanges = ConcurrentHashMap.newKeySet();
@@ -228,6 +233,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private Integer closeCorrelationKeyOnCompletion;
     private boolean parallelProcessing;
     private boolean optimisticLocking;
+    private int lockStripes;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -401,13 +407,15 @@ public class AggregateProcessor extends AsyncProcessorSupport
         removeFlagCompleteAllGroupsInclusive(copy);
 
         List<Exchange> aggregated = null;
-        lock.lock();
+        AtomicBoolean forceCompletionOfAllGroups = stripedLocks != null ? new AtomicBoolean() : null;
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
-            aggregated = doAggregation(key, copy);
+            aggregated = doAggregation(key, copy, forceCompletionOfAllGroups);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
 
         // we are completed so do that work outside the lock
@@ -416,6 +424,12 @@ public class AggregateProcessor extends AsyncProcessorSupport
             aggregated.forEach(agg -> onSubmitCompletion(key, agg));
         }
 
+        // when using lock striping then completion of all groups must be done after the lock has been released
+        // as otherwise we could deadlock with another thread holding the lock of another group
+        if (forceCompletionOfAllGroups != null && forceCompletionOfAllGroups.get()) {
+            forceCompletionOfAllGroups();
+        }
+
         // check for the special header to force completion of all groups (inclusive of the message)
         if (isCompleteAllGroupsInclusive(exchange)) {
             removeFlagCompleteAllGroupsInclusive(exchange);
@@ -469,11 +483,15 @@ public class AggregateProcessor extends AsyncProcessorSupport
      *
      * @param  key                                     the correlation key
      * @param  newExchange                             the exchange
+     * @param  forceCompletionOfAllGroups              when using lock striping, then this flag is set to signal that
+     *                                                 all groups should be completed after the lock has been released,
+     *                                                 otherwise <tt>null</tt> to complete all groups immediately
      * @return                                         the aggregated exchange(s) which is complete, or <tt>null</tt> if
      *                                                 not yet complete
      * @throws org.apache.camel.CamelExchangeException is thrown if error aggregating
      */
-    private List<Exchange> doAggregation(String key, Exchange newExchange) throws CamelExchangeException {
+    private List<Exchange> doAggregation(String key, Exchange newExchange, AtomicBoolean forceCompletionOfAllGroups)
+            throws CamelExchangeException {
         LOG.trace("onAggregation +++ start +++ with correlation key: {}", key);
 
         List<Exchange> list = new ArrayList<>();
@@ -573,7 +591,11 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // check for the special exchange property to force completion of all groups
         if (isCompleteAllGroups(answer)) {
             removeFlagCompleteAllGroups(answer);
-            forceCompletionOfAllGroups();
+            if (forceCompletionOfAllGroups != null) {
+                forceCompletionOfAllGroups.set(true);
+            } else {
+                forceCompletionOfAllGroups();
+            }
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
             forceCompletionOfAllGroups();
@@ -1095,6 +1117,19 @@ public class AggregateProcessor extends AsyncProcessorSupport
         this.optimisticLocking = optimisticLocking;
     }
 
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
+    /**
+     * Number of locks to use for lock striping, where exchanges with different correlation keys can be aggregated in
+     * parallel, while exchanges with the same correlation key are still aggregated in sequence. A value of 0 (default)
+     * uses a single shared lock.
+     */
+    public void setLockStripes(int lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public AggregationRepository getAggregationRepository() {
         return aggregationRepository;
     }
@@ -1254,14 +1289,18 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
         private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
             // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
-            super(executor, requestMapPollTimeMillis, optimisticLocking);
+            // (but with lock striping there is no shared lock, so the timeout map must use its own lock)
+            super(executor, requestMapPollTimeMillis, optimisticLocking || lockStripes > 0);
             addListener(this::onEviction);
         }
 
         @Override
         protected void purge() {
-            // wait for lock to be created
-            if (lock != null) {
+            if (stripedLocks != null) {
+                // each evicted group is locked individually during eviction
+                super.purge();
+            } else if (lock != null) {
+                // wait for lock to be created
                 // must acquire the shared aggregation lock to be able to purge
                 lock.lock();
                 try {
@@ -1276,6 +1315,26 @@ public class AggregateProcessor extends AsyncProcessorSupport
             if (type != Listener.Type.Evict) {
                 return;
             }
+            if (stripedLocks != null) {
+                Lock keyLock = getLock(key);
+                keyLock.lock();
+                try {
+                    // a new exchange may have been aggregated to the group after it was evicted from the timeout map
+                    // but before we acquired the lock, and if so then the group is not timed out anymore
+                    if (get(key) != null) {
+                        log.trace("Completion timeout for correlation key: {} is reset due to new activity", key);
+                        return;
+                    }
+                    doEviction(key, exchangeId);
+                } finally {
+                    keyLock.unlock();
+                }
+            } else {
+                doEviction(key, exchangeId);
+            }
+        }
+
+        private void doEviction(String key, String exchangeId) {
             log.debug("Completion timeout triggered for correlation key: {}", key);
 
             boolean inProgress = inProgressCompleteExchanges.contains(exchangeId);
@@ -1331,38 +1390,35 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
             if (keys != null && !keys.isEmpty()) {
                 // must acquire the shared aggregation lock to be able to trigger interval completion
-                lock.lock();
+                doInGroupLocks(keys, this::doIntervalCompletion);
+            }
+
+            LOG.trace("Completion interval task complete");
+        }
+
+        private void doIntervalCompletion(String key) {
+            boolean stolenInterval = false;
+            Exchange exchange = aggregationRepository.get(camelContext, key);
+            if (exchange == null) {
+                stolenInterval = true;
+            } else {
+                LOG.trace("Completion interval triggered for correlation key: {}", key);
+                // indicate it was completed by interval
+                exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
                 try {
-                    for (String key : keys) {
-                        boolean stolenInterval = false;
-                        Exchange exchange = aggregationRepository.get(camelContext, key);
-                        if (exchange == null) {
-                            stolenInterval = true;
-                        } else {
-                            LOG.trace("Completion interval triggered for correlation key: {}", key);
-                            // indicate it was completed by interval
-                            exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
-                            try {
-                                Exchange answer = onCompletion(key, exchange, exchange, false, false);
-                                if (answer != null) {
-                                    onSubmitCompletion(key, answer);
-                                }
-                            } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
-                                stolenInterval = true;
-                            }
-                        }
-                        if (optimisticLocking && stolenInterval) {
-                            LOG.debug(
-                                    "Another Camel instance has already processed this interval aggregation for exchange with correlation id: {}",
-                                    key);
-                        }
+                    Exchange answer = onCompletion(key, exchange, exchange, false, false);
+                    if (answer != null) {
+                        onSubmitCompletion(key, answer);
                     }
-                } finally {
-                    lock.unlock();
+                } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+                    stolenInterval = true;
                 }
             }
-
-            LOG.trace("Completion interval task complete");
+            if (optimisticLocking && stolenInterval) {
+                LOG.debug(
+                        "Another Camel instance has already processed this interval aggregation for exchange with correlation id: {}",
+                        key);
+            }
         }
     }
 
@@ -1399,83 +1455,22 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         LOG.info("We are shutting down so stop recovering");
                         return;
                     }
-                    lock.lock();
-                    try {
-                        // consider in progress if it was in progress before we did the scan, or currently after we did the scan
-                        // its safer to consider it in progress than risk duplicates due both in progress + recovered
-                        final boolean inProgress = inProgressCompleteExchangesForRecoveryTask.contains(exchangeId);
-                        if (inProgress) {
-                            LOG.trace("Aggregated exchange with id: {} is already in progress.", exchangeId);
-                            if (unconfirmedCompleteExchanges.contains(exchangeId)) {
-                                retryConfirm(exchangeId);
-                            }
-                        } else {
-                            LOG.debug("Loading aggregated exchange with id: {} to be recovered.", exchangeId);
-                            Exchange exchange = recoverable.recover(camelContext, exchangeId);
-                            if (exchange != null) {
-                                // get the correlation key
-                                String key = exchange.getProperty(ExchangePropertyKey.AGGREGATED_CORRELATION_KEY, String.class);
-                                // and mark it as redelivered
-                                exchange.getIn().setHeader(Exchange.REDELIVERED, Boolean.TRUE);
-
-                                // get the current redelivery data
-                                RedeliveryData data = redeliveryState.get(exchange.getExchangeId());
-
-                                // if we are exhausted, then move to dead letter channel
-                                if (data != null && recoverable.getMaximumRedeliveries() > 0
-                                        && data.redeliveryCounter >= recoverable.getMaximumRedeliveries()) {
-                                    LOG.warn("The recovered exchange is exhausted after {} attempts, will now be moved to "
-                                             + "dead letter channel: {}",
-                                            recoverable.getMaximumRedeliveries(), recoverable.getDeadLetterUri());
-
-                                    // send to DLC
-                                    try {
-                                        // set redelivery counter
-                                        exchange.getIn().setHeader(Exchange.REDELIVERY_COUNTER, data.redeliveryCounter);
-                                        // and prepare for sending to DLC
-                                        exchange.getExchangeExtension().setRedeliveryExhausted(false);
-                                        exchange.setRollbackOnly(false);
-                                        deadLetterProducerTemplate.send(recoverable.getDeadLetterUri(), exchange);
-                                    } catch (Throwable e) {
-                                        exchange.setException(e);
-                                    }
-
-                                    // handle if failed
-                                    if (exchange.getException() != null) {
-                                        getExceptionHandler()
-                                                .handleException("Failed to move recovered Exchange to dead letter channel: "
-                                                                 + recoverable.getDeadLetterUri(),
-                                                        exchange.getException());
-                                    } else {
-                                        // it was ok, so confirm after it has been moved to dead letter channel, so we wont recover it again
-                                        recoverable.confirm(camelContext, exchangeId);
-                                    }
-                                } else {
-                                    // update current redelivery state
-                                    if (data == null) {
-                                        // create new data
-                                        data = new RedeliveryData();
-                                        redeliveryState.put(exchange.getExchangeId(), data);
-                                    }
-                                    data.redeliveryCounter++;
-
-                                    // set redelivery counter
-                                    exchange.getIn().setHeader(Exchange.REDELIVERY_COUNTER, data.redeliveryCounter);
-                                    if (recoverable.getMaximumRedeliveries() > 0) {
-                                        exchange.getIn().setHeader(Exchange.REDELIVERY_MAX_COUNTER,
-                                                recoverable.getMaximumRedeliveries());
-                                    }
-
-                                    LOG.debug("Delivery attempt: {} to recover aggregated exchange with id: {}",
-                                            data.redeliveryCounter, exchangeId);
-
-                                    // not exhaust so resubmit the recovered exchange
-                                    onSubmitCompletion(key, exchange);
-                                }
-                            }
+                    Lock groupLock = lock;
+                    if (stripedLocks != null && !inProgressCompleteExchangesForRecoveryTask.contains(exchangeId)) {
+                        // the groups are completed while holding their own lock, so find the correlation key of the
+                        // exchange, and then recover it again while holding the lock of its group
+                        Exchange exchange = recoverable.recover(camelContext, exchangeId);
+                        String key = exchange != null
+                                ? exchange.getProperty(ExchangePropertyKey.AGGREGATED_CORRELATION_KEY, String.class) : null;
+                        if (key != null) {
+                            groupLock = getLock(key);
                         }
+                    }
+                    groupLock.lock();
+                    try {
+                        recover(exchangeId);
                     } finally {
-                        lock.unlock();
+                        groupLock.unlock();
                     }
                 }
             } finally {
@@ -1485,6 +1480,86 @@ public class AggregateProcessor extends AsyncProcessorSupport
             LOG.trace("Recover check complete");
         }
 
+        /**
+         * Recovers the exchange, or retries to confirm it if it was completed but not confirmed. Must be invoked while
+         * holding the lock of the group of the exchange.
+         */
+        private void recover(String exchangeId) {
+            // consider in progress if it was in progress before we did the scan, or currently after we did the scan
+            // its safer to consider it in progress than risk duplicates due both in progress + recovered
+            final boolean inProgress = inProgressCompleteExchangesForRecoveryTask.contains(exchangeId);
+            if (inProgress) {
+                LOG.trace("Aggregated exchange with id: {} is already in progress.", exchangeId);
+                if (unconfirmedCompleteExchanges.contains(exchangeId)) {
+                    retryConfirm(exchangeId);
+                }
+            } else {
+                LOG.debug("Loading aggregated exchange with id: {} to be recovered.", exchangeId);
+                Exchange exchange = recoverable.recover(camelContext, exchangeId);
+                if (exchange != null) {
+                    // get the correlation key
+                    String key = exchange.getProperty(ExchangePropertyKey.AGGREGATED_CORRELATION_KEY, String.class);
+                    // and mark it as redelivered
+                    exchange.getIn().setHeader(Exchange.REDELIVERED, Boolean.TRUE);
+
+                    // get the current redelivery data
+                    RedeliveryData data = redeliveryState.get(exchange.getExchangeId());
+
+                    // if we are exhausted, then move to dead letter channel
+                    if (data != null && recoverable.getMaximumRedeliveries() > 0
+                            && data.redeliveryCounter >= recoverable.getMaximumRedeliveries()) {
+                        LOG.warn("The recovered exchange is exhausted after {} attempts, will now be moved to "
+                                 + "dead letter channel: {}",
+                                recoverable.getMaximumRedeliveries(), recoverable.getDeadLetterUri());
+
+                        // send to DLC
+                        try {
+                            // set redelivery counter
+                            exchange.getIn().setHeader(Exchange.REDELIVERY_COUNTER, data.redeliveryCounter);
+                            // and prepare for sending to DLC
+                            exchange.getExchangeExtension().setRedeliveryExhausted(false);
+                            exchange.setRollbackOnly(false);
+                            deadLetterProducerTemplate.send(recoverable.getDeadLetterUri(), exchange);
+                        } catch (Throwable e) {
+                            exchange.setException(e);
+                        }
+
+                        // handle if failed
+                        if (exchange.getException() != null) {
+                            getExceptionHandler()
+                                    .handleException("Failed to move recovered Exchange to dead letter channel: "
+                                                     + recoverable.getDeadLetterUri(),
+                                            exchange.getException());
+                        } else {
+                            // it was ok, so confirm after it has been moved to dead letter channel, so we wont recover it again
+                            recoverable.confirm(camelContext, exchangeId);
+                        }
+                    } else {
+                        // update current redelivery state
+                        if (data == null) {
+                            // create new data
+                            data = new RedeliveryData();
+                            redeliveryState.put(exchange.getExchangeId(), data);
+                        }
+                        data.redeliveryCounter++;
+
+                        // set redelivery counter
+                        exchange.getIn().setHeader(Exchange.REDELIVERY_COUNTER, data.redeliveryCounter);
+                        if (recoverable.getMaximumRedeliveries() > 0) {
+                            exchange.getIn().setHeader(Exchange.REDELIVERY_MAX_COUNTER,
+                                    recoverable.getMaximumRedeliveries());
+                        }
+
+                        LOG.debug("Delivery attempt: {} to recover aggregated exchange with id: {}",
+                                data.redeliveryCounter, exchangeId);
+
+                        // not exhaust so resubmit the recovered exchange
+                        onSubmitCompletion(key, exchange);
+                    }
+                }
+            }
+        }
+
         private void retryConfirm(String exchangeId) {
             // Confirm that the exchange was processed
             if (recoverable.confirmWithResult(camelContext, exchangeId)) {
@@ -1521,10 +1596,17 @@ public class AggregateProcessor extends AsyncProcessorSupport
             if (getCloseCorrelationKeyOnCompletion() > 0) {
                 LOG.info("Using ClosedCorrelationKeys with a LRUCache with a capacity of {}",
                         getCloseCorrelationKeyOnCompletion());
-                closedCorrelationKeys = LRUCacheFactory.newLRUCache(getCloseCorrelationKeyOnCompletion());
+                closedCorrelationKeysCache = LRUCacheFactory.newLRUCache(getCloseCorrelationKeyOnCompletion());
+                if (lockStripes > 0) {
+                    // the closed keys are updated concurrently when using lock striping
+                    closedCorrelationKeys = Collections.synchronizedMap(closedCorrelationKeysCache);
+                } else {
+                    closedCorrelationKeys = closedCorrelationKeysCache;
+                }
             } else {
                 LOG.info("Using ClosedCorrelationKeys with unbounded capacity");
-                closedCorrelationKeys = new ConcurrentHashMap<>();
+                closedCorrelationKeysCache = new ConcurrentHashMap<>();
+                closedCorrelationKeys = closedCorrelationKeysCache;
             }
         }
 
@@ -1538,7 +1620,20 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 throw new IllegalArgumentException(
                         "Optimistic locking cannot be enabled without using an AggregationRepository that implements OptimisticLockingAggregationRepository");
             }
+            if (lockStripes > 0) {
+                throw new IllegalArgumentException("Lock striping cannot be used together with optimistic locking");
+            }
             LOG.info("Optimistic locking is enabled");
+        } else if (lockStripes > 0) {
+            // these completions operate across all groups while aggregating and therefore require the shared lock
+            if (isCompletionFromBatchConsumer()) {
+                throw new IllegalArgumentException("Lock striping cannot be used together with completionFromBatchConsumer");
+            }
+            if (isCompletionOnNewCorrelationGroup()) {
+                throw new IllegalArgumentException(
+                        "Lock striping cannot be used together with completionOnNewCorrelationGroup");
+            }
+            LOG.info("Lock striping is enabled with {} locks", lockStripes);
         }
 
         ServiceHelper.startService(aggregationStrategy, processor, aggregationRepository);
@@ -1624,11 +1719,58 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         .newSingleThreadScheduledExecutor(this, AGGREGATE_OPTIMISTIC_LOCKING_EXECUTOR));
                 shutdownOptimisticLockingExecutorService = true;
             }
+        } else if (lockStripes > 0) {
+            Lock[] locks = new Lock[lockStripes];
+            for (int i = 0; i < locks.length; i++) {
+                locks[i] = new ReentrantLock();
+            }
+            stripedLocks = locks;
+            // the shared lock is only used by the recover task
+            lock = new ReentrantLock();
         } else {
             lock = new ReentrantLock();
         }
     }
 
+    /**
+     * Gets the lock that guards the aggregation of the given correlation key
+     */
+    private Lock getLock(String key) {
+        Lock[] locks = stripedLocks;
+        if (locks != null) {
+            // spread the hash code so keys with similar lower bits do not end up on the same lock
+            int hash = key.hashCode();
+            hash ^= hash >>> 16;
+            return locks[Math.floorMod(hash, locks.length)];
+        }
+        return lock;
+    }
+
+    /**
+     * Runs the task for each of the given correlation keys while holding the lock that guards the group.
+     */
+    private void doInGroupLocks(Set<String> keys, Consumer<String> task) {
+        if (stripedLocks != null) {
+            // lock one group at a time so other groups can continue to aggregate
+            for (String key : keys) {
+                Lock keyLock = getLock(key);
+                keyLock.lock();
+                try {
+                    task.accept(key);
+                } finally {
+                    keyLock.unlock();
+                }
+            }
+        } else {
+            lock.lock();
+            try {
+                keys.forEach(task);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
     @Override
     protected void doStop() throws Exception {
         // note: we cannot do doForceCompletionOnStop from this doStop method
@@ -1653,7 +1795,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
         if (closedCorrelationKeys != null) {
             // it may be a service so stop it as well
-            ServiceHelper.stopService(closedCorrelationKeys);
+            ServiceHelper.stopService(closedCorrelationKeysCache);
             closedCorrelationKeys.clear();
         }
         batchConsumerCorrelationKeys.clear();
@@ -1736,7 +1878,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1750,7 +1893,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 }
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         LOG.trace("Completed force completion of group {}", key);
 
@@ -1778,24 +1921,19 @@ public class AggregateProcessor extends AsyncProcessorSupport
         int total = 0;
         if (keys != null && !keys.isEmpty()) {
             // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
             total = keys.size();
-            try {
-                for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        LOG.trace("Force completion triggered for correlation key: {}", key);
-                        // indicate it was completed by a force completion request
-                        exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
-                        Exchange answer = onCompletion(key, exchange, exchange, false, false);
-                        if (answer != null) {
-                            onSubmitCompletion(key, answer);
-                        }
+            doInGroupLocks(keys, key -> {
+                Exchange exchange = aggregationRepository.get(camelContext, key);
+                if (exchange != null) {
+                    LOG.trace("Force completion triggered for correlation key: {}", key);
+                    // indicate it was completed by a force completion request
+                    exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
+                    Exchange answer = onCompletion(key, exchange, exchange, false, false);
+                    if (answer != null) {
+                        onSubmitCompletion(key, answer);
                     }
                 }
-            } finally {
-                lock.unlock();
-            }
+            });
         }
         LOG.trace("Completed force completion of all groups task");
 
@@ -1809,7 +1947,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = getLock(key);
+        keyLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1819,7 +1958,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 onCompletion(key, exchange, exchange, false, true);
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         LOG.trace("Completed force discarded of group {}", key);
 
@@ -1847,20 +1986,15 @@ public class AggregateProcessor extends AsyncProcessorSupport
         int total = 0;
         if (keys != null && !keys.isEmpty()) {
             // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
             total = keys.size();
-            try {
-                for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        LOG.trace("Force discarded triggered for correlation key: {}", key);
-                        // force discarding by setting aggregate failed as true
-                        onCompletion(key, exchange, exchange, false, true);
-                    }
+            doInGroupLocks(keys, key -> {
+                Exchange exchange = aggregationRepository.get(camelContext, key);
+                if (exchange != null) {
+                    LOG.trace("Force discarded triggered for correlation key: {}", key);
+                    // force discarding by setting aggregate failed as true
+                    onCompletion(key, exchange, exchange, false, true);
                 }
-            } finally {
-                lock.unlock();
-            }
+            });
         }
         LOG.trace("Completed force discarding of all groups task");
 
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.reifier;
+
+import org.apache.camel.Processor;
+import org.apache.camel.Route;
+import org.apache.camel.model.ConcurrencyLimiterDefinition;
+import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.processor.ConcurrencyLimiter;
+
+public class ConcurrencyLimiterReifier extends ProcessorReifier<ConcurrencyLimiterDefinition> {
+
+    public ConcurrencyLimiterReifier(Route route, ProcessorDefinition<?> definition) {
+        super(route, (ConcurrencyLimiterDefinition) definition);
+    }
+
+    @Override
+    public Processor createProcessor() throws Exception {
+        Processor childProcessor = this.createChildProcessor(true);
+
+        ConcurrencyLimiter answer = new ConcurrencyLimiter(camelContext, childProcessor);
+        answer.setInitialLimit(parseInt(definition.getInitialLimit(), ConcurrencyLimiter.DEFAULT_INITIAL_LIMIT));
+        answer.setMinLimit(parseInt(definition.getMinLimit(), ConcurrencyLimiter.DEFAULT_MIN_LIMIT));
+        answer.setMaxLimit(parseInt(definition.getMaxLimit(), ConcurrencyLimiter.DEFAULT_MAX_LIMIT));
+        answer.setMaxQueueSize(parseInt(definition.getMaxQueueSize(), 0));
+        Double tolerance = parse(Double.class, definition.getTolerance());
+        if (tolerance != null) {
+            answer.setTolerance(tolerance);
+        }
+        Double smoothing = parse(Double.class, definition.getSmoothing());
+        if (smoothing != null) {
+            answer.setSmoothing(smoothing);
+        }
+        return answer;
+    }
+
+}
@@ -40,6 +40,7 @@ import org.apache.camel.model.CatchDefinition;
 import org.apache.camel.model.ChoiceDefinition;
 import org.apache.camel.model.CircuitBreakerDefinition;
 import org.apache.camel.model.ClaimCheckDefinition;
+import org.apache.camel.model.ConcurrencyLimiterDefinition;
 import org.apache.camel.model.ConvertBodyDefinition;
 import org.apache.camel.model.DelayDefinition;
 import org.apache.camel.model.DynamicRouterDefinition;
@@ -198,6 +199,8 @@ public abstract class ProcessorReifier<T extends ProcessorDefinition<?>> extends
             return new CircuitBreakerReifier(route, definition);
         } else if (definition instanceof ClaimCheckDefinition) {
             return new ClaimCheckReifier(route, definition);
+        } else if (definition instanceof ConcurrencyLimiterDefinition) {
+            return new ConcurrencyLimiterReifier(route, definition);
         } else if (definition instanceof ConvertBodyDefinition) {
             return new ConvertBodyReifier(route, definition);
         } else if (definition instanceof DelayDefinition) {
@@ -55,6 +55,13 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
         if (timeout > 0 && !isParallelProcessing) {
             throw new IllegalArgumentException("Timeout is used but ParallelProcessing has not been enabled.");
         }
+        int maxInflight = parseInt(definition.getMaxInflight(), 0);
+        int maxBuffered = parseInt(definition.getMaxBuffered(), 0);
+        if ((maxInflight > 0 || maxBuffered > 0) && !isParallelProcessing) {
+            throw new IllegalArgumentException(
+                    "MaxInflight or MaxBuffered is used but ParallelProcessing has not been enabled.");
+        }
+        boolean isAggregateInOrder = parseBoolean(definition.getAggregateInOrder(), false);
         Processor prepare = definition.getOnPrepareProcessor();
         if (prepare == null && definition.getOnPrepare() != null) {
             prepare = mandatoryLookup(definition.getOnPrepare(), Processor.class);
@@ -75,6 +82,9 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
                     threadPool, shutdownThreadPool, isStreaming, isStopOnException, timeout, prepare,
                     isShareUnitOfWork, isParallelAggregate);
         }
+        answer.setMaxInflight(maxInflight);
+        answer.setMaxBuffered(maxBuffered);
+        answer.setAggregateInOrder(isAggregateInOrder);
 
         return answer;
     }
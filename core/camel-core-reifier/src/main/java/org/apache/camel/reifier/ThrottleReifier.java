@@ -24,6 +24,7 @@ import org.apache.camel.Route;
 import org.apache.camel.model.ProcessorDefinition;
 import org.apache.camel.model.ThrottleDefinition;
 import org.apache.camel.processor.Throttler;
+import org.apache.camel.processor.TokenBucketThrottler;
 
 public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
 
@@ -52,8 +53,17 @@ public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
         }
 
         boolean reject = parseBoolean(definition.getRejectExecution(), false);
-        Throttler answer = new Throttler(
-                camelContext, maxRequestsExpression, period, threadPool, shutdownThreadPool, reject, correlation);
+        String mode = parseString(definition.getMode());
+        Throttler answer;
+        if ("TokenBucket".equals(mode)) {
+            answer = new TokenBucketThrottler(
+                    camelContext, maxRequestsExpression, period, threadPool, shutdownThreadPool, reject, correlation);
+        } else if (mode == null || "DelayQueue".equals(mode)) {
+            answer = new Throttler(
+                    camelContext, maxRequestsExpression, period, threadPool, shutdownThreadPool, reject, correlation);
+        } else {
+            throw new IllegalArgumentException("Unknown throttle mode: " + mode + " on " + this);
+        }
 
         answer.setAsyncDelayed(async);
         // should be true by default
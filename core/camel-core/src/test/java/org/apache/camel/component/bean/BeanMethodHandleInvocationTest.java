@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.util.Map;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Header;
+import org.apache.camel.Headers;
+import org.apache.camel.Message;
+import org.apache.camel.RuntimeExchangeException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BeanMethodHandleInvocationTest extends ContextTestSupport {
+
+    @Test
+    public void testBindings() throws Exception {
+        assertEquals("Hello World", template.requestBody("direct:body", "World"));
+        assertEquals("Hello World from Camel",
+                template.requestBodyAndHeader("direct:headers", "World", "from", "Camel"));
+        assertEquals("Hello World from Camel",
+                template.requestBodyAndHeader("direct:header", "World", "from", "Camel"));
+        assertEquals("Hello World", template.requestBody("direct:exchange", "World"));
+        assertEquals("Hello World", template.requestBody("direct:message", "World"));
+        assertEquals("Hello World", template.requestBody("direct:static", "World"));
+        assertEquals("Hello World", template.requestBody("direct:private", "World"));
+    }
+
+    @Test
+    public void testConvertedArguments() throws Exception {
+        // body must be converted to the primitive parameter type
+        assertEquals(124L, template.requestBody("direct:primitive", "123"));
+        // null for a primitive parameter fails as before
+        Exception e = assertThrows(Exception.class, () -> template.requestBody("direct:primitive", (Object) null));
+        assertIsInstanceOf(RuntimeExchangeException.class, e.getCause());
+        // the argument is widened from int to long by reflection
+        assertEquals(124L, template.requestBody("direct:primitive", 123));
+    }
+
+    @Test
+    public void testVoidMethod() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:void");
+        mock.expectedBodiesReceived("World");
+
+        template.sendBody("direct:void", "World");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testMethodThrowsException() throws Exception {
+        Exception e = assertThrows(Exception.class, () -> template.requestBody("direct:fail", "World"));
+        IllegalArgumentException cause = assertIsInstanceOf(IllegalArgumentException.class, e.getCause());
+        assertEquals("Forced World", cause.getMessage());
+
+        Exchange out = template.send("direct:fail", exchange -> exchange.getIn().setBody("Camel"));
+        assertSame(IllegalArgumentException.class, out.getException().getClass());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                MyBean bean = new MyBean();
+                from("direct:body").bean(bean, "hello");
+                from("direct:headers").bean(bean, "helloHeaders");
+                from("direct:header").bean(bean, "helloHeader");
+                from("direct:exchange").bean(bean, "helloExchange");
+                from("direct:message").bean(bean, "helloMessage");
+                from("direct:static").bean(MyBean.class, "helloStatic");
+                from("direct:private").bean(new MyPrivateBean(), "hello");
+                from("direct:primitive").bean(bean, "increment");
+                from("direct:void").bean(bean, "nothing").to("mock:void");
+                from("direct:fail").bean(bean, "fail");
+            }
+        };
+    }
+
+    public static class MyBean {
+
+        public String hello(String name) {
+            return "Hello " + name;
+        }
+
+        public String helloHeaders(String name, @Headers Map<String, Object> headers) {
+            return "Hello " + name + " from " + headers.get("from");
+        }
+
+        public String helloHeader(String name, @Header("from") String from) {
+            return "Hello " + name + " from " + from;
+        }
+
+        public String helloExchange(Exchange exchange) {
+            return "Hello " + exchange.getIn().getBody();
+        }
+
+        public String helloMessage(String name, Message message) {
+            return "Hello " + message.getBody();
+        }
+
+        public static String helloStatic(String name) {
+            return "Hello " + name;
+        }
+
+        public long increment(long number) {
+            return number + 1;
+        }
+
+        public void nothing(String name) {
+            // noop
+        }
+
+        public String fail(String name) {
+            throw new IllegalArgumentException("Forced " + name);
+        }
+    }
+
+    private static class MyPrivateBean {
+
+        public String hello(String name) {
+            return "Hello " + name;
+        }
+    }
+}
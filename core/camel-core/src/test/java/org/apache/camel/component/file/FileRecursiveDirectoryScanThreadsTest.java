@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FileRecursiveDirectoryScanThreadsTest extends ContextTestSupport {
+
+    @Test
+    public void testRecursiveDirectoryScanThreads() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("a", "a2", "b2", "a3", "b", "c");
+
+        template.sendBodyAndHeader(fileUri(), "a", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader(fileUri("foo"), "a2", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader(fileUri("foo/bar"), "a3", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader(fileUri("foo"), "b2", Exchange.FILE_NAME, "b.txt");
+        template.sendBodyAndHeader(fileUri("zoo"), "b", Exchange.FILE_NAME, "b.txt");
+        template.sendBodyAndHeader(fileUri(), "c", Exchange.FILE_NAME, "zzz.txt");
+
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+
+        // the file length is taken from the attributes read when listing the directory
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            String body = exchange.getIn().getBody(String.class);
+            assertEquals(body.length(), exchange.getIn().getHeader(Exchange.FILE_LENGTH, Long.class));
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(fileUri("?initialDelay=0&delay=10&recursive=true&preSort=true&directoryScanThreads=4"))
+                        .routeId("foo").noAutoStartup().convertBodyTo(String.class).to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CachedOutputStreamOffHeapTest extends ContextTestSupport {
+
+    private static final byte[] DATA = createData(200 * 1024);
+
+    private Exchange exchange;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory(testDirectory(true).toFile());
+        context.getStreamCachingStrategy().setSpoolThreshold(-1);
+        context.getStreamCachingStrategy().setOffHeapEnabled(true);
+        context.getStreamCachingStrategy().setOffHeapThreshold(1024);
+        context.getStreamCachingStrategy().getStatistics().setStatisticsEnabled(true);
+        return context;
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        exchange = new DefaultExchange(context);
+        UnitOfWork uow = new DefaultUnitOfWork(exchange);
+        exchange.getExchangeExtension().setUnitOfWork(uow);
+    }
+
+    @Test
+    public void testCacheOffHeap() throws Exception {
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        write(cos);
+        assertTrue(strategy.getOffHeapUsed() >= DATA.length);
+
+        StreamCache cache = cos.newStreamCache();
+        assertInstanceOf(OffHeapInputStreamCache.class, cache);
+        assertTrue(cache.inMemory());
+        assertEquals(DATA.length, cache.length());
+        assertArrayEquals(DATA, ((InputStream) cache).readAllBytes());
+
+        // can be read again, and copies share the off-heap memory
+        cache.reset();
+        assertArrayEquals(DATA, ((InputStream) cache).readAllBytes());
+        StreamCache copy = cache.copy(exchange);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        copy.writeTo(bos);
+        assertArrayEquals(DATA, bos.toByteArray());
+
+        // the memory is kept when the exchange is done, as long as the stream caches are not closed
+        exchange.getUnitOfWork().done(exchange);
+        assertTrue(strategy.getOffHeapUsed() >= DATA.length);
+        copy.reset();
+        assertArrayEquals(DATA, ((InputStream) copy).readAllBytes());
+
+        // and is released when the last stream cache is closed
+        ((InputStream) cache).close();
+        assertTrue(strategy.getOffHeapUsed() >= DATA.length);
+        ((InputStream) copy).close();
+        assertEquals(0, strategy.getOffHeapUsed());
+        copy.reset();
+        assertThrows(IOException.class, () -> ((InputStream) copy).read());
+    }
+
+    @Test
+    public void testReuseReleasedOffHeap() throws Exception {
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+        // only room for a single stream
+        strategy.setOffHeapMaxSize(DATA.length * 2L);
+
+        for (int i = 0; i < 3; i++) {
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getExchangeExtension().setUnitOfWork(new DefaultUnitOfWork(exchange));
+
+            CachedOutputStream cos = new CachedOutputStream(exchange);
+            write(cos);
+            StreamCache cache = cos.newStreamCache();
+            assertInstanceOf(OffHeapInputStreamCache.class, cache);
+            assertArrayEquals(DATA, ((InputStream) cache).readAllBytes());
+
+            ((InputStream) cache).close();
+            exchange.getUnitOfWork().done(exchange);
+            assertEquals(0, strategy.getOffHeapUsed());
+        }
+    }
+
+    @Test
+    public void testOffHeapUsedUpSpoolToDisk() throws Exception {
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+        strategy.setSpoolEnabled(true);
+        strategy.setOffHeapMaxSize(64 * 1024);
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        write(cos);
+        assertEquals(0, strategy.getOffHeapUsed());
+
+        StreamCache cache = cos.newStreamCache();
+        assertInstanceOf(FileInputStreamCache.class, cache);
+        assertArrayEquals(DATA, ((InputStream) cache).readAllBytes());
+        exchange.getUnitOfWork().done(exchange);
+    }
+
+    @Test
+    public void testOffHeapUsedUpBackToHeap() throws Exception {
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+        strategy.setOffHeapMaxSize(64 * 1024);
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        write(cos);
+        assertEquals(0, strategy.getOffHeapUsed());
+
+        StreamCache cache = cos.newStreamCache();
+        assertInstanceOf(InputStreamCache.class, cache);
+        assertArrayEquals(DATA, ((InputStream) cache).readAllBytes());
+        exchange.getUnitOfWork().done(exchange);
+    }
+
+    @Test
+    public void testRouteStatistics() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(2);
+
+        // not a ByteArrayInputStream as they are cached as-is
+        template.sendBody("direct:start", new BufferedInputStream(new ByteArrayInputStream(DATA)));
+        template.sendBody("direct:start", new BufferedInputStream(new ByteArrayInputStream(new byte[] { 1, 2, 3 })));
+
+        assertMockEndpointsSatisfied();
+
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+        assertEquals(1, statistics.getCacheOffHeapCounter());
+        assertEquals(DATA.length, statistics.getCacheOffHeapSize());
+        assertEquals(1, statistics.getCacheMemoryCounter());
+
+        StreamCachingStrategy.RouteStatistics route = statistics.getRouteStatistics().get("foo");
+        assertEquals(1, route.getCacheOffHeapCounter());
+        assertEquals(1, route.getCacheMemoryCounter());
+        assertEquals(0, route.getCacheSpoolCounter());
+
+        // the off-heap memory is released once the stream cache is closed
+        InputStream body
+                = getMockEndpoint("mock:result").getReceivedExchanges().get(0).getIn().getBody(InputStream.class);
+        assertInstanceOf(OffHeapInputStreamCache.class, body);
+        body.close();
+        assertEquals(0, context.getStreamCachingStrategy().getOffHeapUsed());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").routeId("foo").to("mock:result");
+            }
+        };
+    }
+
+    private static void write(CachedOutputStream cos) throws IOException {
+        // write in smaller pieces like when copying a stream
+        for (int i = 0; i < DATA.length; i += 4096) {
+            cos.write(DATA, i, Math.min(4096, DATA.length - i));
+        }
+    }
+
+    private static byte[] createData(int size) {
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) i;
+        }
+        return data;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.impl.engine.ArrayHeadersMapFactory;
+import org.apache.camel.support.DefaultMessage;
+import org.apache.camel.support.MessageHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ArrayHeadersMapFactoryTest {
+
+    @Test
+    public void testLookupCaseAgnostic() {
+        Map<String, Object> map = new ArrayHeadersMapFactory().newMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+        assertEquals("cheese", map.get("FOO"));
+
+        // keeps the original key
+        map.put("FOO", "cake");
+        assertEquals(1, map.size());
+        assertEquals("foo", map.keySet().iterator().next());
+        assertEquals("cake", map.get("foo"));
+    }
+
+    @Test
+    public void testKnownHeaders() {
+        Map<String, Object> map = new ArrayHeadersMapFactory().newMap();
+        map.put(new String(Exchange.FILE_NAME), "hello.txt");
+        map.put("content-type", "text/plain");
+
+        assertEquals("hello.txt", map.get(Exchange.FILE_NAME));
+        assertEquals("hello.txt", map.get("camelfilename"));
+        assertEquals("text/plain", map.get(Exchange.CONTENT_TYPE));
+        assertEquals("text/plain", map.get("Content-Type"));
+        // the key is interned
+        assertSame(Exchange.FILE_NAME, map.keySet().iterator().next());
+    }
+
+    @Test
+    public void testManyHeaders() {
+        Map<String, Object> map = new ArrayHeadersMapFactory().newMap();
+        for (int i = 0; i < 100; i++) {
+            map.put("header" + i, i);
+        }
+        assertEquals(100, map.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, map.get("HEADER" + i));
+        }
+
+        for (int i = 0; i < 100; i += 2) {
+            assertEquals(i, map.remove("Header" + i));
+        }
+        assertEquals(50, map.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 1, map.containsKey("header" + i));
+        }
+
+        // keeps the insertion order
+        List<String> keys = new ArrayList<>(map.keySet());
+        assertEquals("header1", keys.get(0));
+        assertEquals("header99", keys.get(49));
+
+        Iterator<Map.Entry<String, Object>> it = map.entrySet().iterator();
+        while (it.hasNext()) {
+            if (((Integer) it.next().getValue()) > 10) {
+                it.remove();
+            }
+        }
+        assertEquals(5, map.size());
+        assertEquals(9, map.get("header9"));
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get("header1"));
+    }
+
+    @Test
+    public void testConstructFromOther() {
+        Map<String, Object> other = new ArrayHeadersMapFactory().newMap();
+        other.put("Foo", "cheese");
+        other.put("bar", 123);
+
+        Map<String, Object> map = new ArrayHeadersMapFactory().newMap(other);
+        map.put("baz", true);
+
+        assertEquals("cheese", map.get("FOO"));
+        assertEquals(123, map.get("BaR"));
+        assertEquals(3, map.size());
+        assertEquals(2, other.size());
+
+        Map<String, Object> hash = new HashMap<>();
+        hash.put("Foo", "cheese");
+        map = new ArrayHeadersMapFactory().newMap(hash);
+        assertEquals("cheese", map.get("foo"));
+    }
+
+    @Test
+    public void testCopyHeaders() {
+        CamelContext context = new DefaultCamelContext();
+        context.getCamelContextExtension().setHeadersMapFactory(new ArrayHeadersMapFactory());
+        Message source = new DefaultMessage(context);
+        source.setHeader("foo", "source");
+        source.setHeader("bar", "source");
+        Message target = new DefaultMessage(context);
+        target.setHeader("FOO", "target");
+
+        MessageHelper.copyHeaders(source, target, false);
+        assertEquals("target", target.getHeader("foo"));
+        assertEquals("source", target.getHeader("bar"));
+
+        MessageHelper.copyHeaders(source, target, true);
+        assertEquals("source", target.getHeader("foo"));
+        assertEquals(2, target.getHeaders().size());
+    }
+
+    @Test
+    public void testIsInstance() {
+        Map<String, Object> map = new ArrayHeadersMapFactory().newMap();
+        Map<String, Object> other = new ArrayHeadersMapFactory().newMap(map);
+
+        assertTrue(new ArrayHeadersMapFactory().isInstanceOf(map));
+        assertTrue(new ArrayHeadersMapFactory().isInstanceOf(other));
+        assertFalse(new ArrayHeadersMapFactory().isInstanceOf(new HashMap<>()));
+    }
+
+}
@@ -24,6 +24,7 @@ import java.util.concurrent.TimeUnit;
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
+import org.apache.camel.util.concurrent.ThreadHelper;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -523,6 +524,51 @@ public class DefaultExecutorServiceManagerTest extends ContextTestSupport {
         assertTrue(thread.getName().contains("Cool"));
     }
 
+    @Test
+    public void testVirtualThreads() throws Exception {
+        ThreadPoolProfile profile = new ThreadPoolProfile("virtual");
+        profile.setVirtualThreads(true);
+
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "Cool", profile);
+        // should still be a thread pool executor so it can be managed
+        ThreadPoolExecutor tp = assertIsInstanceOf(ThreadPoolExecutor.class, pool);
+        if (ThreadHelper.isVirtualThreadsSupported()) {
+            // a new thread per task
+            assertEquals(0, tp.getCorePoolSize());
+            assertEquals(Integer.MAX_VALUE, tp.getMaximumPoolSize());
+        } else {
+            // fallback to use platform threads
+            assertEquals(10, tp.getCorePoolSize());
+            assertEquals(20, tp.getMaximumPoolSize());
+        }
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        final String[] name = new String[1];
+        pool.execute(() -> {
+            name[0] = Thread.currentThread().getName();
+            latch.countDown();
+        });
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(name[0].contains("Cool"));
+
+        context.getExecutorServiceManager().shutdown(pool);
+        assertTrue(pool.isShutdown());
+    }
+
+    @Test
+    public void testVirtualThreadsSingleThreadExecutor() throws Exception {
+        context.getExecutorServiceManager().getDefaultThreadPoolProfile().setVirtualThreads(true);
+
+        ExecutorService pool = context.getExecutorServiceManager().newSingleThreadExecutor(this, "Cool");
+        // single threaded pool must still execute one task at a time
+        ThreadPoolExecutor tp = assertIsInstanceOf(ThreadPoolExecutor.class, pool);
+        assertEquals(1, tp.getCorePoolSize());
+        assertEquals(1, tp.getMaximumPoolSize());
+
+        context.getExecutorServiceManager().shutdown(pool);
+        assertTrue(pool.isShutdown());
+    }
+
     @Disabled("This is a manual test, by looking at the logs")
     public void xxxtestLongShutdownOfThreadPool() throws Exception {
         final CountDownLatch latch = new CountDownLatch(1);
@@ -16,6 +16,9 @@
  */
 package org.apache.camel.impl;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.Exchange;
 import org.apache.camel.impl.engine.DefaultInflightRepository;
@@ -24,6 +27,11 @@ import org.apache.camel.support.DefaultExchange;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class DefaultInflightRepositoryTest extends ContextTestSupport {
 
@@ -47,4 +55,102 @@ public class DefaultInflightRepositoryTest extends ContextTestSupport {
         repo.remove(e1);
         assertEquals(0, repo.size());
     }
+
+    @Test
+    public void testSampledBrowse() throws Exception {
+        InflightRepository repo = new DefaultInflightRepository();
+        repo.setInflightBrowseEnabled(true);
+        repo.setInflightBrowseSampleRate(10);
+        repo.addRoute("foo");
+
+        List<Exchange> exchanges = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Exchange e = new DefaultExchange(context);
+            exchanges.add(e);
+            repo.add(e);
+            repo.add(e, "foo");
+        }
+
+        // the counters are accurate
+        assertEquals(1000, repo.size());
+        assertEquals(1000, repo.size("foo"));
+        // but only some exchanges can be browsed
+        int browsed = repo.browse().size();
+        assertTrue(browsed > 0 && browsed < 1000, "Should only browse sampled exchanges: " + browsed);
+        assertNotNull(repo.oldest(null));
+
+        for (Exchange e : exchanges) {
+            repo.remove(e, "foo");
+            repo.remove(e);
+        }
+        assertEquals(0, repo.size());
+        assertEquals(0, repo.size("foo"));
+        assertEquals(0, repo.browse().size());
+        assertNull(repo.oldest(null));
+    }
+
+    @Test
+    public void testOldestWithoutBrowse() throws Exception {
+        InflightRepository repo = new DefaultInflightRepository();
+        repo.addRoute("foo");
+
+        Exchange e1 = new DefaultExchange(context);
+        Exchange e2 = new DefaultExchange(context);
+        repo.add(e1);
+        repo.add(e1, "foo");
+        repo.add(e2);
+        repo.add(e2, "foo");
+
+        // the exchanges cannot be browsed, but the age of the oldest is known
+        assertEquals(0, repo.browse().size());
+        InflightRepository.InflightExchange oldest = repo.oldest("foo");
+        assertNotNull(oldest);
+        assertNull(oldest.getExchange());
+        assertTrue(oldest.getDuration() >= System.currentTimeMillis() - e1.getCreated(),
+                "Should be at least as old as the first exchange");
+        assertNotNull(repo.oldest(null));
+        assertNull(repo.oldest("bar"));
+
+        repo.remove(e1, "foo");
+        repo.remove(e1);
+        repo.remove(e2, "foo");
+        repo.remove(e2);
+        assertNull(repo.oldest("foo"));
+        assertNull(repo.oldest(null));
+    }
+
+    @Test
+    public void testOldestWithoutBrowseLongRunning() throws Exception {
+        InflightRepository repo = new DefaultInflightRepository();
+
+        // two exchanges which are counted in the same bucket, as they are created 64 seconds apart
+        long now = System.currentTimeMillis();
+        Exchange e1 = createExchange(now - 100000);
+        Exchange e2 = createExchange(now - 36000);
+        repo.add(e1);
+        repo.add(e2);
+
+        // the bucket is reused for the newer second, but the older exchange is still reported
+        InflightRepository.InflightExchange oldest = repo.oldest(null);
+        assertNotNull(oldest);
+        assertTrue(oldest.getDuration() >= 100000, "Should be at least as old as the first exchange");
+
+        repo.remove(e1);
+        repo.remove(e2);
+        assertNull(repo.oldest(null));
+
+        // the bucket is then used for the newer second only
+        repo.add(e2);
+        oldest = repo.oldest(null);
+        assertNotNull(oldest);
+        assertTrue(oldest.getDuration() < 100000, "Should be as old as the second exchange");
+        repo.remove(e2);
+    }
+
+    private static Exchange createExchange(long created) {
+        Exchange exchange = mock(Exchange.class);
+        when(exchange.getCreated()).thenReturn(created);
+        when(exchange.getExchangeId()).thenReturn("ID-" + created);
+        return exchange;
+    }
 }
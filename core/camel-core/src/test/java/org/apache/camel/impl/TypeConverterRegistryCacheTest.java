@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.lang.reflect.Array;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.converter.CoreTypeConverterRegistry;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.support.TypeConverterSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TypeConverterRegistryCacheTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setTypeConverterStatisticsEnabled(true);
+        return context;
+    }
+
+    @Test
+    public void testCacheStatistics() {
+        TypeConverterRegistry reg = context.getTypeConverterRegistry();
+        reg.getStatistics().reset();
+
+        // a custom converter (not bulked) is resolved once and then cached
+        reg.addTypeConverter(MyOrder.class, String.class, new MyOrderTypeConverter());
+        assertNotNull(context.getTypeConverter().convertTo(MyOrder.class, "123"));
+        assertEquals(1, reg.getStatistics().getCacheMissCounter());
+        assertEquals(0, reg.getStatistics().getCacheHitCounter());
+        assertNotNull(context.getTypeConverter().convertTo(MyOrder.class, "456"));
+        assertEquals(1, reg.getStatistics().getCacheMissCounter());
+        assertEquals(1, reg.getStatistics().getCacheHitCounter());
+
+        // no converter then its a miss which is remembered
+        assertNull(context.getTypeConverter().convertTo(MyOrder.class, new MyInvoice()));
+        assertNull(context.getTypeConverter().convertTo(MyOrder.class, new MyInvoice()));
+        assertEquals(2, reg.getStatistics().getMissCounter());
+        assertEquals(2, reg.getStatistics().getCacheMissCounter());
+        assertEquals(2, reg.getStatistics().getCacheHitCounter());
+
+        reg.getStatistics().reset();
+        assertEquals(0, reg.getStatistics().getCacheHitCounter());
+        assertEquals(0, reg.getStatistics().getCacheMissCounter());
+        assertEquals(0, reg.getStatistics().getFallbackCounter());
+    }
+
+    @Test
+    public void testMissesAreBounded() {
+        CoreTypeConverterRegistry reg = (CoreTypeConverterRegistry) context.getTypeConverterRegistry();
+
+        Object[] values = { new MyOrder(), new MyInvoice(), new MyCustomer(), new MyProduct(), new MyCart() };
+        Class<?> type = MyOrder.class;
+        for (int i = 0; i < 250; i++) {
+            type = Array.newInstance(type, 0).getClass();
+            for (Object value : values) {
+                assertNull(context.getTypeConverter().convertTo(type, value));
+            }
+        }
+
+        assertEquals(1000, reg.getMissEntries());
+
+        // adding a type converter clears the cache
+        reg.addTypeConverter(MyOrder.class, MyInvoice.class, new MyOrderTypeConverter());
+        assertEquals(0, reg.getMissEntries());
+    }
+
+    private static class MyOrder {
+    }
+
+    private static class MyInvoice {
+    }
+
+    private static class MyCustomer {
+    }
+
+    private static class MyProduct {
+    }
+
+    private static class MyCart {
+    }
+
+    private static class MyOrderTypeConverter extends TypeConverterSupport {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+            return (T) new MyOrder();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import org.apache.camel.CamelContext;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs all the simple language tests in compiled mode.
+ */
+public class SimpleCompiledTest extends SimpleTest {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        SimpleLanguage simple = (SimpleLanguage) context.resolveLanguage("simple");
+        simple.setCompiled(true);
+        return context;
+    }
+
+    @Test
+    public void testCompiledMode() {
+        assertTrue(((SimpleLanguage) context.resolveLanguage("simple")).isCompiled());
+    }
+
+    @Test
+    public void testCompileChain() {
+        assertNotNull(OgnlMethodHandleChain.compile(".friend?.name"));
+        assertNotNull(OgnlMethodHandleChain.compile("?.getFriend.getAge"));
+        // method parameters, index lookups and nested functions are left to the bean language
+        assertNull(OgnlMethodHandleChain.compile(".substring(1)"));
+        assertNull(OgnlMethodHandleChain.compile(".lines[0].name"));
+        assertNull(OgnlMethodHandleChain.compile(".class.name"));
+    }
+
+    @Test
+    public void testResolveMethod() {
+        assertNotSame(OgnlMethodHandleChain.UNRESOLVED, OgnlMethodHandleChain.resolve(Pet.class, "name"));
+        assertNotSame(OgnlMethodHandleChain.UNRESOLVED, OgnlMethodHandleChain.resolve(Pet.class, "getName"));
+        assertNotSame(OgnlMethodHandleChain.UNRESOLVED, OgnlMethodHandleChain.resolve(Pet.class, "dangerous"));
+        assertNotSame(OgnlMethodHandleChain.UNRESOLVED, OgnlMethodHandleChain.resolve(ArrayList.class, "size"));
+        assertNotSame(OgnlMethodHandleChain.UNRESOLVED, OgnlMethodHandleChain.resolve(String.class, "length"));
+
+        // setters and unknown methods
+        assertSame(OgnlMethodHandleChain.UNRESOLVED, OgnlMethodHandleChain.resolve(Pet.class, "setFriend"));
+        assertSame(OgnlMethodHandleChain.UNRESOLVED, OgnlMethodHandleChain.resolve(HashMap.class, "foo"));
+        // overloaded methods are ambiguous
+        assertSame(OgnlMethodHandleChain.UNRESOLVED, OgnlMethodHandleChain.resolve(String.class, "toUpperCase"));
+        // arrays and non-public classes
+        assertSame(OgnlMethodHandleChain.UNRESOLVED, OgnlMethodHandleChain.resolve(String[].class, "length"));
+        assertSame(OgnlMethodHandleChain.UNRESOLVED, OgnlMethodHandleChain.resolve(Hidden.class, "name"));
+    }
+
+    @Test
+    public void testCompiledChainFallback() throws Exception {
+        Pet tiger = new Pet("Tony the Tiger", 13);
+        Pet camel = new Pet("Camel", 6);
+        camel.setFriend(tiger);
+        exchange.getIn().setBody(camel);
+
+        assertPredicate("${body.friend.dangerous} == true");
+        assertPredicate("${body.friend.age} > 10 && ${body.name} == 'Camel'");
+        assertExpression("${body.friend.name.toUpperCase()}", "TONY THE TIGER");
+        assertExpression("${body.friend.name.substring(5)}", "the Tiger");
+
+        exchange.getIn().setBody(new Hidden());
+        assertExpression("${body.name}", "hidden");
+    }
+
+    @Test
+    public void testCompiledChainFailureInvokedOnce() throws Exception {
+        Pet camel = new Pet("Camel", 6);
+        exchange.getIn().setBody(camel);
+
+        // the friend is null, and the chain must not be invoked again to report it
+        Exception e = assertThrows(Exception.class, () -> assertExpression("${body.friend.name}", ""));
+        assertTrue(e.getMessage().contains("cannot continue to invoke method .name on a null instance"), e.getMessage());
+        assertEquals(1, camel.getFriendCalls());
+
+        // and a method throwing an exception is only invoked once
+        e = assertThrows(Exception.class, () -> assertExpression("${body.kaboom}", ""));
+        assertIsInstanceOf(IllegalStateException.class, e.getCause());
+        assertEquals(1, camel.getKaboomCalls());
+    }
+
+    public static final class Pet {
+        private final String name;
+        private final int age;
+        private Pet friend;
+        private int friendCalls;
+        private int kaboomCalls;
+
+        public Pet(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public Pet getFriend() {
+            friendCalls++;
+            return friend;
+        }
+
+        public int getFriendCalls() {
+            return friendCalls;
+        }
+
+        public String getKaboom() {
+            kaboomCalls++;
+            throw new IllegalStateException("Kaboom");
+        }
+
+        public int getKaboomCalls() {
+            return kaboomCalls;
+        }
+
+        public void setFriend(Pet friend) {
+            this.friend = friend;
+        }
+
+        public boolean isDangerous() {
+            return name.contains("Tiger");
+        }
+    }
+
+    static class Hidden {
+        public String getName() {
+            return "hidden";
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.tokenizer;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.builder.ExpressionBuilder;
+import org.apache.camel.util.ChannelTokenizer;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.Scanner;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TokenizeFileChannelTest extends ContextTestSupport {
+
+    @Test
+    public void testSplitFile() throws Exception {
+        getMockEndpoint("mock:line").expectedBodiesReceived("Hello", "World", "Bye");
+
+        Path file = testDirectory("data", true).resolve("lines.txt");
+        Files.writeString(file, "Hello\nWorld\nBye\n");
+        template.sendBody("direct:line", file.toFile());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSplitFileFromConsumer() throws Exception {
+        getMockEndpoint("mock:line").expectedBodiesReceived("Hello", "World", "Bye");
+
+        template.sendBodyAndHeader(fileUri("inbox"), "Hello\nWorld\nBye\n", Exchange.FILE_NAME, "lines.txt");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSplitPairFile() throws Exception {
+        getMockEndpoint("mock:order").expectedBodiesReceived("<order>1</order>", "<order>2</order>");
+
+        Path file = testDirectory("data", true).resolve("orders.xml");
+        Files.writeString(file, "<orders>\n<order>1</order>\n<order>2</order>\n</orders>");
+        template.sendBody("direct:order", file.toFile());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testTokenizerSelection() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+
+        exchange.getIn().setBody("a,b,c".getBytes(StandardCharsets.UTF_8));
+        Object value = tokenize(",").evaluate(exchange, Object.class);
+        assertIsInstanceOf(ChannelTokenizer.class, value);
+        IOHelper.closeIterator(value);
+
+        // regular expressions are scanned
+        value = tokenize("[,;]").evaluate(exchange, Object.class);
+        assertIsInstanceOf(Scanner.class, value);
+        IOHelper.closeIterator(value);
+
+        // and so are charsets with more than one byte per character
+        exchange.setProperty(Exchange.CHARSET_NAME, "UTF-16");
+        exchange.getIn().setBody("a,b,c".getBytes(StandardCharsets.UTF_16));
+        value = tokenize(",").evaluate(exchange, Object.class);
+        assertIsInstanceOf(Scanner.class, value);
+        IOHelper.closeIterator(value);
+    }
+
+    private Expression tokenize(String token) {
+        Expression expression = ExpressionBuilder.tokenizeExpression(ExpressionBuilder.bodyExpression(), token);
+        expression.init(context);
+        return expression;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:line").split().tokenize("\\n").streaming().to("mock:line");
+
+                from(fileUri("inbox?initialDelay=0&delay=10")).to("direct:line");
+
+                from("direct:order").split().tokenizePair("<order>", "</order>", true).streaming().to("mock:order");
+            }
+        };
+    }
+}
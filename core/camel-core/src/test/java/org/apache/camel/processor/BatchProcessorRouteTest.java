@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.BatchProducer;
+import org.apache.camel.Component;
+import org.apache.camel.Consumer;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.Producer;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.DefaultComponent;
+import org.apache.camel.support.DefaultEndpoint;
+import org.apache.camel.support.DefaultProducer;
+import org.apache.camel.support.ScheduledBatchPollingConsumer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchProcessorRouteTest extends ContextTestSupport {
+
+    @Test
+    public void testBatchRoutedInOnePass() throws Exception {
+        MyBatchConsumer consumer = (MyBatchConsumer) context.getRoute("batch").getConsumer();
+        assertTrue(consumer.isRouteBatchCapable());
+
+        assertEquals(3, consumer.poll("A", "B", "C"));
+
+        MyBatchEndpoint out = context.getEndpoint("batch:out", MyBatchEndpoint.class);
+        assertEquals(List.of(3), out.batches);
+        assertEquals(List.of("A", "B", "C"), out.received);
+        assertTrue(out.singles.isEmpty());
+
+        for (Exchange exchange : consumer.exchanges) {
+            assertNull(exchange.getException());
+            assertEquals("bar", exchange.getMessage().getHeader("foo"));
+        }
+    }
+
+    @Test
+    public void testFailedExchangeHandedOverToErrorHandler() throws Exception {
+        getMockEndpoint("mock:dead").expectedBodiesReceived("Kaboom");
+
+        MyBatchConsumer consumer = (MyBatchConsumer) context.getRoute("dead").getConsumer();
+        assertTrue(consumer.isRouteBatchCapable());
+
+        assertEquals(3, consumer.poll("A", "Kaboom", "C"));
+
+        assertMockEndpointsSatisfied();
+
+        MyBatchEndpoint out = context.getEndpoint("batch:dead", MyBatchEndpoint.class);
+        assertEquals(List.of(3), out.batches);
+        assertEquals(List.of("A", "C"), out.received);
+        // the failure in the batch was the only delivery attempt allowed
+        assertTrue(out.singles.isEmpty());
+
+        for (Exchange exchange : consumer.exchanges) {
+            assertNull(exchange.getException());
+        }
+    }
+
+    @Test
+    public void testFailedExchangeRedelivered() throws Exception {
+        getMockEndpoint("mock:dead2").expectedBodiesReceived("Kaboom");
+        getMockEndpoint("mock:dead2").expectedHeaderReceived(Exchange.REDELIVERY_COUNTER, 2);
+
+        MyBatchConsumer consumer = (MyBatchConsumer) context.getRoute("redeliver").getConsumer();
+        assertTrue(consumer.isRouteBatchCapable());
+
+        assertEquals(3, consumer.poll("A", "Kaboom", "C"));
+
+        assertMockEndpointsSatisfied();
+
+        MyBatchEndpoint out = context.getEndpoint("batch:redeliver", MyBatchEndpoint.class);
+        assertEquals(List.of(3), out.batches);
+        assertEquals(List.of("A", "C"), out.received);
+        // the failure in the batch was the first delivery attempt, so it is only redelivered twice, and the message
+        // is redelivered as it was before the batch
+        assertEquals(List.of("Kaboom", "Kaboom"), out.singles);
+        assertTrue(out.batched.isEmpty());
+    }
+
+    @Test
+    public void testRouteNotBatchCapable() throws Exception {
+        MyBatchConsumer consumer = (MyBatchConsumer) context.getRoute("single").getConsumer();
+        assertFalse(consumer.isRouteBatchCapable());
+
+        assertEquals(3, consumer.poll("A", "B", "C"));
+
+        MyBatchEndpoint out = context.getEndpoint("batch:single", MyBatchEndpoint.class);
+        assertTrue(out.batches.isEmpty());
+        assertEquals(List.of("A", "B", "C"), out.singles);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                getContext().addComponent("batch", new MyBatchComponent());
+
+                from("batch:in").routeId("batch")
+                        .setHeader("foo", constant("bar"))
+                        .to("batch:out");
+
+                from("batch:in2").routeId("dead")
+                        .errorHandler(deadLetterChannel("mock:dead"))
+                        .to("batch:dead");
+
+                from("batch:in4").routeId("redeliver")
+                        .errorHandler(deadLetterChannel("mock:dead2").maximumRedeliveries(2).redeliveryDelay(0))
+                        .to("batch:redeliver");
+
+                from("batch:in3").routeId("single")
+                        .process(e -> e.getMessage().setHeader("foo", "bar"))
+                        .to("batch:single");
+            }
+        };
+    }
+
+    public static class MyBatchComponent extends DefaultComponent {
+
+        @Override
+        protected Endpoint createEndpoint(String uri, String remaining, Map<String, Object> parameters) throws Exception {
+            return new MyBatchEndpoint(uri, this);
+        }
+    }
+
+    public static class MyBatchEndpoint extends DefaultEndpoint {
+
+        private final List<Integer> batches = new CopyOnWriteArrayList<>();
+        private final List<String> received = new CopyOnWriteArrayList<>();
+        private final List<String> singles = new CopyOnWriteArrayList<>();
+        private final List<String> batched = new CopyOnWriteArrayList<>();
+
+        public MyBatchEndpoint(String endpointUri, Component component) {
+            super(endpointUri, component);
+        }
+
+        @Override
+        public Producer createProducer() throws Exception {
+            return new MyBatchProducer(this);
+        }
+
+        @Override
+        public Consumer createConsumer(Processor processor) throws Exception {
+            MyBatchConsumer answer = new MyBatchConsumer(this, processor);
+            // the test polls manually
+            answer.setStartScheduler(false);
+            configureConsumer(answer);
+            return answer;
+        }
+    }
+
+    public static class MyBatchProducer extends DefaultProducer implements BatchProducer {
+
+        public MyBatchProducer(MyBatchEndpoint endpoint) {
+            super(endpoint);
+        }
+
+        @Override
+        public MyBatchEndpoint getEndpoint() {
+            return (MyBatchEndpoint) super.getEndpoint();
+        }
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            String body = exchange.getMessage().getBody(String.class);
+            getEndpoint().singles.add(body);
+            if (exchange.getMessage().getHeader("batched") != null) {
+                getEndpoint().batched.add(body);
+            }
+            if ("Kaboom".equals(body)) {
+                throw new IllegalArgumentException("Forced");
+            }
+        }
+
+        @Override
+        public void processBatch(List<Exchange> exchanges) throws Exception {
+            getEndpoint().batches.add(exchanges.size());
+            for (Exchange exchange : exchanges) {
+                String body = exchange.getMessage().getBody(String.class);
+                if ("Kaboom".equals(body)) {
+                    exchange.getMessage().setHeader("batched", true);
+                    exchange.setException(new IllegalArgumentException("Forced"));
+                } else {
+                    getEndpoint().received.add(body);
+                }
+            }
+        }
+    }
+
+    public static class MyBatchConsumer extends ScheduledBatchPollingConsumer {
+
+        private final List<Exchange> exchanges = new ArrayList<>();
+        private String[] bodies = new String[0];
+
+        public MyBatchConsumer(Endpoint endpoint, Processor processor) {
+            super(endpoint, processor);
+        }
+
+        @Override
+        protected boolean isRouteBatchCapable() {
+            return super.isRouteBatchCapable();
+        }
+
+        int poll(String... bodies) throws Exception {
+            this.bodies = bodies;
+            return poll();
+        }
+
+        @Override
+        protected int poll() throws Exception {
+            Queue<Object> queue = new LinkedList<>();
+            for (String body : bodies) {
+                Exchange exchange = getEndpoint().createExchange();
+                exchange.getMessage().setBody(body);
+                queue.add(exchange);
+            }
+            return processBatch(queue);
+        }
+
+        @Override
+        public int processBatch(Queue<Object> queue) throws Exception {
+            List<Exchange> batch = new ArrayList<>(queue.size());
+            for (Object exchange : queue) {
+                batch.add((Exchange) exchange);
+            }
+            exchanges.addAll(batch);
+
+            if (isRouteBatchCapable()) {
+                processExchangesInBatch(batch);
+            } else {
+                for (Exchange exchange : batch) {
+                    getProcessor().process(exchange);
+                }
+            }
+            return batch.size();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrencyLimiterTest extends ContextTestSupport {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch entered = new CountDownLatch(2);
+
+    @Test
+    public void testRejectWhenLimitReached() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(2);
+
+        List<Future<Exchange>> futures = new ArrayList<>();
+        futures.add(template.asyncSend("direct:reject", e -> e.getMessage().setBody("A")));
+        futures.add(template.asyncSend("direct:reject", e -> e.getMessage().setBody("B")));
+        assertTrue(entered.await(10, TimeUnit.SECONDS));
+
+        // the limit is reached so the 3rd exchange is rejected
+        Exchange out = template.send("direct:reject", e -> e.getMessage().setBody("C"));
+        assertInstanceOf(ConcurrencyLimiterRejectedExecutionException.class, out.getException());
+
+        release.countDown();
+        for (Future<Exchange> future : futures) {
+            assertNull(future.get(10, TimeUnit.SECONDS).getException());
+        }
+        assertMockEndpointsSatisfied();
+
+        ConcurrencyLimiter limiter = context.getProcessor("reject", ConcurrencyLimiter.class);
+        assertEquals(1, limiter.getRejectedCount());
+        assertEquals(0, limiter.getInflight());
+    }
+
+    @Test
+    public void testQueueWhenLimitReached() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceivedInAnyOrder("A", "B", "C");
+
+        List<Future<Exchange>> futures = new ArrayList<>();
+        futures.add(template.asyncSend("direct:queue", e -> e.getMessage().setBody("A")));
+        futures.add(template.asyncSend("direct:queue", e -> e.getMessage().setBody("B")));
+        assertTrue(entered.await(10, TimeUnit.SECONDS));
+
+        // the 3rd exchange waits in the queue, and then the queue is full
+        futures.add(template.asyncSend("direct:queue", e -> e.getMessage().setBody("C")));
+        ConcurrencyLimiter limiter = context.getProcessor("queue", ConcurrencyLimiter.class);
+        for (int i = 0; i < 100 && limiter.getQueueSize() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, limiter.getQueueSize());
+        Exchange out = template.send("direct:queue", e -> e.getMessage().setBody("D"));
+        assertInstanceOf(ConcurrencyLimiterRejectedExecutionException.class, out.getException());
+
+        release.countDown();
+        for (Future<Exchange> future : futures) {
+            assertNull(future.get(10, TimeUnit.SECONDS).getException());
+        }
+        assertMockEndpointsSatisfied();
+        assertEquals(0, limiter.getQueueSize());
+        assertEquals(0, limiter.getInflight());
+    }
+
+    @Test
+    public void testLimitAdaptsToLatency() throws Exception {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(context, e -> {
+        });
+        limiter.setInitialLimit(20);
+        limiter.setMaxLimit(100);
+        limiter.start();
+
+        // the limit increases while the latency is stable
+        for (int i = 0; i < 100; i++) {
+            limiter.updateLimit(TimeUnit.MILLISECONDS.toNanos(10), limiter.getLimit());
+        }
+        int limit = limiter.getLimit();
+        assertTrue(limit > 20, "Limit should increase: " + limit);
+
+        // and decreases when the latency grows
+        for (int i = 0; i < 20; i++) {
+            limiter.updateLimit(TimeUnit.MILLISECONDS.toNanos(100), limiter.getLimit());
+        }
+        assertTrue(limiter.getLimit() < limit, "Limit should decrease: " + limiter.getLimit());
+        assertTrue(limiter.getShortRtt() > limiter.getLongRtt());
+
+        limiter.stop();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:reject")
+                        .concurrencyLimiter().id("reject").initialLimit(2).maxLimit(2)
+                            .process(e -> {
+                                entered.countDown();
+                                assertTrue(release.await(10, TimeUnit.SECONDS));
+                            })
+                            .to("mock:result")
+                        .end();
+
+                from("direct:queue")
+                        .concurrencyLimiter().id("queue").initialLimit(2).maxLimit(2).maxQueueSize(1)
+                            .process(e -> {
+                                entered.countDown();
+                                assertTrue(release.await(10, TimeUnit.SECONDS));
+                            })
+                            .to("mock:result")
+                        .end();
+            }
+        };
+    }
+}
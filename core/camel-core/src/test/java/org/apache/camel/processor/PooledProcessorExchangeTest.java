@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.browse.BrowseEndpoint;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.engine.DefaultProducerTemplate;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
+import org.apache.camel.spi.ExchangeFactoryManager;
+import org.apache.camel.spi.PooledObjectFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PooledProcessorExchangeTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext camelContext = super.createCamelContext();
+        ExtendedCamelContext ecc = camelContext.getCamelContextExtension();
+
+        ecc.setExchangeFactory(new PooledExchangeFactory());
+        ecc.setProcessorExchangeFactory(new PooledProcessorExchangeFactory());
+        ecc.getExchangeFactory().setStatisticsEnabled(true);
+        ecc.getProcessorExchangeFactory().setStatisticsEnabled(true);
+        ecc.getProcessorExchangeFactory().setThreadCapacity(10);
+
+        return camelContext;
+    }
+
+    @BeforeEach
+    void enableTemplateExchangePooling() {
+        ((DefaultProducerTemplate) template).setExchangePooling(true);
+    }
+
+    @Test
+    void testSplitAndEnrichReuseExchanges() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:line");
+        mock.expectedBodiesReceived("A", "B", "C", "A", "B", "C", "A", "B", "C");
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("a,b,c", template.requestBody("direct:start", "a,b,c"));
+        }
+
+        assertMockEndpointsSatisfied();
+
+        ExchangeFactoryManager manager = context.getCamelContextExtension().getExchangeFactoryManager();
+        // the splitter, the enricher and the producer template
+        assertEquals(3, manager.getProcessorCounter());
+
+        PooledObjectFactory.Statistics stat = manager.getProcessorStatistics();
+        assertTrue(stat.getCreatedCounter() > 0);
+        // the exchanges of the 2nd and 3rd message are taken from the pool
+        assertTrue(stat.getAcquiredCounter() >= 2 * stat.getCreatedCounter(),
+                "created: " + stat.getCreatedCounter() + ", acquired: " + stat.getAcquiredCounter());
+        // and there are no leaks
+        assertEquals(stat.getCreatedCounter() + stat.getAcquiredCounter(),
+                stat.getReleasedCounter() + stat.getDiscardedCounter());
+    }
+
+    @Test
+    void testFailedExchangeReleased() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            CamelExecutionException e = assertThrows(CamelExecutionException.class,
+                    () -> template.requestBody("direct:fail", "Hello"));
+            // the exception refers to a copy of the exchange, which is released
+            assertEquals("Hello", e.getExchange().getMessage().getBody());
+            assertEquals("Forced", e.getCause().getMessage());
+        }
+
+        PooledObjectFactory.Statistics stat
+                = context.getCamelContextExtension().getExchangeFactoryManager().getProcessorStatistics();
+        assertEquals(1, stat.getCreatedCounter());
+        assertEquals(2, stat.getAcquiredCounter());
+        assertEquals(3, stat.getReleasedCounter() + stat.getDiscardedCounter());
+    }
+
+    @Test
+    void testBrowsableEndpointExchangesNotReused() throws Exception {
+        template.sendBody("browse:foo", "Hello");
+        template.sendBody("browse:foo", "World");
+
+        // the browse endpoint keeps the exchanges it receives, so they are not taken from the pool
+        BrowseEndpoint browse = context.getEndpoint("browse:foo", BrowseEndpoint.class);
+        assertEquals(2, browse.getExchanges().size());
+        assertNotSame(browse.getExchanges().get(0), browse.getExchanges().get(1));
+        assertEquals("Hello", browse.getExchanges().get(0).getMessage().getBody());
+        assertEquals("World", browse.getExchanges().get(1).getMessage().getBody());
+    }
+
+    @Test
+    void testPurgeThreadPool() throws Exception {
+        PooledProcessorExchangeFactory factory = new PooledProcessorExchangeFactory();
+        factory.setCamelContext(context);
+        factory.setStatisticsEnabled(true);
+        factory.setThreadCapacity(10);
+        factory.start();
+        try {
+            Exchange exchange = factory.create(context.getEndpoint("direct:upper"), ExchangePattern.InOnly);
+            factory.release(exchange);
+            assertSame(exchange, factory.create(context.getEndpoint("direct:upper"), ExchangePattern.InOnly));
+            factory.release(exchange);
+
+            // the exchange is dropped from the pool of this thread when purged
+            factory.purge();
+            assertNotSame(exchange, factory.create(context.getEndpoint("direct:upper"), ExchangePattern.InOnly));
+            assertEquals(2, factory.getStatistics().getCreatedCounter());
+        } finally {
+            factory.stop();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .split(body().tokenize(","))
+                            .enrich("direct:upper", (oldExchange, newExchange) -> newExchange)
+                            .to("mock:line")
+                        .end();
+
+                from("direct:fail")
+                        .throwException(new IllegalArgumentException("Forced"));
+
+                from("direct:upper")
+                        .process(e -> e.getMessage().setBody(e.getMessage().getBody(String.class).toUpperCase()));
+            }
+        };
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Component;
+import org.apache.camel.Consumer;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Processor;
+import org.apache.camel.Producer;
+import org.apache.camel.StartupStep;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.support.DefaultComponent;
+import org.apache.camel.support.DefaultConsumer;
+import org.apache.camel.support.DefaultEndpoint;
+import org.apache.camel.support.startup.DefaultStartupStepRecorder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RouteStartupParallelTest extends ContextTestSupport {
+
+    // the routes in the same group can only start when all of them are starting at the same time
+    private final CountDownLatch first = new CountDownLatch(2);
+    private final CountDownLatch last = new CountDownLatch(2);
+    private final List<String> started = new CopyOnWriteArrayList<>();
+    private final List<StartupStep> steps = new CopyOnWriteArrayList<>();
+    private final List<String> notStarting = new CopyOnWriteArrayList<>();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getRouteController().setStartupParallelism(4);
+
+        DefaultStartupStepRecorder recorder = new DefaultStartupStepRecorder() {
+            @Override
+            protected void onEndStep(StartupStep step) {
+                steps.add(step);
+            }
+        };
+        recorder.setEnabled(true);
+        context.getCamelContextExtension().setStartupStepRecorder(recorder);
+        return context;
+    }
+
+    @Test
+    public void testRouteStartupParallel() throws Exception {
+        // the groups are started in order
+        assertEquals(5, started.size());
+        assertEquals(Set.of("a", "b"), Set.copyOf(started.subList(0, 2)));
+        assertEquals("c", started.get(2));
+        assertEquals(Set.of("d", "e"), Set.copyOf(started.subList(3, 5)));
+        // the consumers were started while marked as starting routes (also on the worker threads)
+        assertTrue(notStarting.isEmpty(), "Routes not marked as starting: " + notStarting);
+
+        List<RouteStartupOrder> order = context.getCamelContextExtension().getRouteStartupOrder();
+        assertEquals(5, order.size());
+        assertEquals(Set.of("a", "b"), Set.of(order.get(0).getRoute().getId(), order.get(1).getRoute().getId()));
+        assertEquals("c", order.get(2).getRoute().getId());
+        assertEquals(Set.of("d", "e"), Set.of(order.get(3).getRoute().getId(), order.get(4).getRoute().getId()));
+
+        // the routes started in parallel are recorded as children of the group
+        StartupStep group = steps.stream()
+                .filter(s -> "Start Routes".equals(s.getDescription()) && "1".equals(s.getName()))
+                .findFirst().orElseThrow();
+        for (String id : List.of("a", "b")) {
+            StartupStep step = steps.stream()
+                    .filter(s -> "Start Route".equals(s.getDescription()) && id.equals(s.getName()))
+                    .findFirst().orElseThrow();
+            assertEquals(group.getId(), step.getParentId());
+            assertEquals(group.getLevel() + 1, step.getLevel());
+        }
+        StartupStep step = steps.stream()
+                .filter(s -> "Start Route".equals(s.getDescription()) && "c".equals(s.getName()))
+                .findFirst().orElseThrow();
+        assertNotEquals(group.getId(), step.getParentId());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                getContext().addComponent("slow", new SlowComponent());
+
+                from("slow:d").routeId("d").to("mock:result");
+                from("slow:c").routeId("c").startupOrder(2).to("mock:result");
+                from("slow:a").routeId("a").startupOrder(1).to("mock:result");
+                from("slow:e").routeId("e").to("mock:result");
+                from("slow:b").routeId("b").startupOrder(1).to("mock:result");
+            }
+        };
+    }
+
+    private final class SlowComponent extends DefaultComponent {
+
+        @Override
+        protected Endpoint createEndpoint(String uri, String remaining, Map<String, Object> parameters) throws Exception {
+            CountDownLatch latch = switch (remaining) {
+                case "a", "b" -> first;
+                case "d", "e" -> last;
+                default -> null;
+            };
+            return new SlowEndpoint(uri, this, remaining, latch);
+        }
+    }
+
+    private final class SlowEndpoint extends DefaultEndpoint {
+
+        private final String name;
+        private final CountDownLatch latch;
+
+        private SlowEndpoint(String endpointUri, Component component, String name, CountDownLatch latch) {
+            super(endpointUri, component);
+            this.name = name;
+            this.latch = latch;
+        }
+
+        @Override
+        public Producer createProducer() throws Exception {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Consumer createConsumer(Processor processor) throws Exception {
+            return new DefaultConsumer(this, processor) {
+                @Override
+                protected void doStart() throws Exception {
+                    super.doStart();
+                    if (!getEndpoint().getCamelContext().getRouteController().isStartingRoutes()) {
+                        notStarting.add(name);
+                    }
+                    if (latch != null) {
+                        latch.countDown();
+                        assertTrue(latch.await(10, TimeUnit.SECONDS), "Route " + name + " not started in parallel");
+                    }
+                    started.add(name);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.FailedToCreateRouteException;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitterParallelStreamingWindowTest extends ContextTestSupport {
+
+    private static final int SIZE = 100;
+
+    private final AtomicInteger read = new AtomicInteger();
+    private final AtomicInteger finished = new AtomicInteger();
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger maxInflight = new AtomicInteger();
+    private final AtomicInteger maxReadAhead = new AtomicInteger();
+
+    @Test
+    public void testMaxInflight() throws Exception {
+        template.sendBody("direct:window", new CountingIterator());
+
+        assertEquals(SIZE, read.get());
+        assertEquals(SIZE, finished.get());
+        assertTrue(maxInflight.get() <= 3, "Should process at most 3 concurrently but was " + maxInflight.get());
+        assertTrue(maxReadAhead.get() <= 3, "Should read at most 3 ahead but was " + maxReadAhead.get());
+    }
+
+    @Test
+    public void testAggregateInOrder() throws Exception {
+        Object out = template.requestBody("direct:ordered", new CountingIterator());
+
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < SIZE; i++) {
+            expected.append(i).append(',');
+        }
+        assertEquals(expected.toString(), out);
+        assertTrue(maxInflight.get() <= 4, "Should process at most 4 concurrently but was " + maxInflight.get());
+    }
+
+    @Test
+    public void testMaxInflightRequiresParallelProcessing() throws Exception {
+        RouteBuilder builder = new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:invalid").split(body()).streaming().maxInflight(5).to("mock:invalid");
+            }
+        };
+        Exception e = assertThrows(FailedToCreateRouteException.class, () -> context.addRoutes(builder));
+        assertIsInstanceOf(IllegalArgumentException.class, e.getCause());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:window")
+                    .split(body()).streaming().parallelProcessing().maxInflight(3)
+                        .process(new WindowProcessor())
+                    .end();
+
+                from("direct:ordered")
+                    .split(body(), new ConcatAggregationStrategy()).streaming().parallelProcessing()
+                        .aggregateInOrder().maxInflight(4).maxBuffered(2)
+                        .process(new WindowProcessor())
+                    .end();
+            }
+        };
+    }
+
+    private class CountingIterator implements Iterator<Integer> {
+
+        @Override
+        public boolean hasNext() {
+            return read.get() < SIZE;
+        }
+
+        @Override
+        public Integer next() {
+            int index = read.getAndIncrement();
+            maxReadAhead.accumulateAndGet(index + 1 - finished.get(), Math::max);
+            return index;
+        }
+    }
+
+    private class WindowProcessor implements Processor {
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            maxInflight.accumulateAndGet(inflight.incrementAndGet(), Math::max);
+            try {
+                // later messages complete before earlier messages
+                int index = exchange.getIn().getBody(Integer.class);
+                Thread.sleep(5 - index % 5);
+            } finally {
+                inflight.decrementAndGet();
+                finished.incrementAndGet();
+            }
+        }
+    }
+
+    private static class ConcatAggregationStrategy implements AggregationStrategy {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            String body = newExchange.getIn().getBody(String.class) + ",";
+            if (oldExchange == null) {
+                newExchange.getIn().setBody(body);
+                return newExchange;
+            }
+            oldExchange.getIn().setBody(oldExchange.getIn().getBody(String.class) + body);
+            return oldExchange;
+        }
+    }
+}
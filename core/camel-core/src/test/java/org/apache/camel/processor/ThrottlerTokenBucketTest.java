@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThrottlerTokenBucketTest extends ContextTestSupport {
+
+    private static final int INTERVAL = 500;
+
+    @Test
+    public void testTokenBucket() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(6);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 6; i++) {
+            template.sendBody("direct:start", "Message " + i);
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertMockEndpointsSatisfied();
+        // 3 tokens are available up front, and the last 3 are refilled evenly over the period
+        assertTrue(elapsed >= INTERVAL - 50, "Should take at least " + (INTERVAL - 50) + "ms, was: " + elapsed);
+    }
+
+    @Test
+    public void testTokenBucketAsyncDelayedPerGroup() throws Exception {
+        getMockEndpoint("mock:async").expectedMessageCount(8);
+
+        for (int i = 0; i < 8; i++) {
+            template.sendBodyAndHeader("seda:async", "Message " + i, "key", i % 2);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testTokenBucketRejectExecution() throws Exception {
+        getMockEndpoint("mock:reject").expectedMessageCount(2);
+
+        template.sendBody("direct:reject", "Hello World");
+        template.sendBody("direct:reject", "Bye World");
+
+        Exception e = assertThrows(CamelExecutionException.class,
+                () -> template.sendBody("direct:reject", "Kaboom"),
+                "Should throw exception");
+        assertIsInstanceOf(ThrottlerRejectedExecutionException.class, e.getCause());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .throttle(3).timePeriodMillis(INTERVAL).mode("TokenBucket")
+                        .to("mock:result");
+
+                from("seda:async")
+                        .throttle(2).timePeriodMillis(INTERVAL).mode("TokenBucket").asyncDelayed()
+                        .correlationExpression(header("key"))
+                        .to("mock:async");
+
+                from("direct:reject")
+                        .throttle(2).timePeriodMillis(10000).mode("TokenBucket").rejectExecution(true)
+                        .to("mock:reject");
+            }
+        };
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.apache.camel.processor.aggregate.ClosedCorrelationKeyException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AggregateLockStripesTest extends ContextTestSupport {
+
+    private final int size = 400;
+    private final CountDownLatch waiting = new CountDownLatch(1);
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private volatile boolean concurrent;
+
+    @Test
+    public void testAggregateLockStripes() throws Exception {
+        ExecutorService service = Executors.newFixedThreadPool(20);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final int id = i % 10;
+            final int count = i;
+            tasks.add(() -> {
+                template.sendBodyAndHeader("direct:start", "" + count, "id", id);
+                return null;
+            });
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+
+        // submit all tasks
+        service.invokeAll(tasks);
+
+        assertMockEndpointsSatisfied();
+        service.shutdownNow();
+    }
+
+    @Test
+    public void testAggregateLockStripesOrderPerKey() throws Exception {
+        ExecutorService service = Executors.newFixedThreadPool(10);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final int id = i;
+            tasks.add(() -> {
+                // each key is sent in order from its own thread
+                for (int j = 0; j < 40; j++) {
+                    template.sendBodyAndHeader("direct:start", id + "-" + j, "id", id);
+                }
+                return null;
+            });
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+
+        service.invokeAll(tasks);
+
+        assertMockEndpointsSatisfied();
+        service.shutdownNow();
+
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            String id = exchange.getProperty(Exchange.AGGREGATED_CORRELATION_KEY, String.class);
+            String expected = IntStream.range(0, 40).mapToObj(j -> id + "-" + j).collect(Collectors.joining("+"));
+            assertEquals(expected, exchange.getIn().getBody(String.class));
+        }
+    }
+
+    @Test
+    public void testAggregateLockStripesDifferentKeysConcurrently() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:concurrent");
+        mock.expectedMessageCount(2);
+
+        ExecutorService service = Executors.newFixedThreadPool(2);
+        // the aggregation of key 1 waits until key 2 is aggregated, which is only possible when the keys (which are
+        // guarded by different locks) are aggregated at the same time
+        service.submit(() -> template.sendBodyAndHeader("direct:concurrent", "wait", "id", 1));
+        assertTrue(waiting.await(10, TimeUnit.SECONDS));
+        service.submit(() -> template.sendBodyAndHeader("direct:concurrent", "go", "id", 2));
+
+        assertMockEndpointsSatisfied();
+        service.shutdownNow();
+
+        assertTrue(concurrent, "Key 1 and 2 should aggregate concurrently");
+    }
+
+    @Test
+    public void testAggregateLockStripesTimeout() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("A+B");
+        mock.expectedPropertyReceived(Exchange.AGGREGATED_COMPLETED_BY, "timeout");
+
+        template.sendBodyAndHeader("direct:start", "A", "id", 123);
+        template.sendBodyAndHeader("direct:start", "B", "id", 123);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testAggregateLockStripesClosedCorrelationKey() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+
+        for (int i = 0; i < 40; i++) {
+            template.sendBodyAndHeader("direct:start", "" + i, "id", 1);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        // should be closed
+        Exception e = assertThrows(CamelExecutionException.class,
+                () -> template.sendBodyAndHeader("direct:start", "41", "id", 1),
+                "Should throw an exception");
+        ClosedCorrelationKeyException cause = assertIsInstanceOf(ClosedCorrelationKeyException.class, e.getCause());
+        assertEquals("1", cause.getCorrelationKey());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").aggregate(header("id"), new BodyInAggregatingStrategy())
+                        .lockStripes(8).completionSize(40).completionTimeout(500).closeCorrelationKeyOnCompletion(100)
+                        .to("mock:result");
+
+                from("direct:concurrent").aggregate(header("id"), new ConcurrentAggregationStrategy())
+                        .lockStripes(8).completionSize(1)
+                        .to("mock:concurrent");
+            }
+        };
+    }
+
+    private class ConcurrentAggregationStrategy implements AggregationStrategy {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            if ("wait".equals(newExchange.getIn().getBody(String.class))) {
+                waiting.countDown();
+                try {
+                    concurrent = latch.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            } else {
+                latch.countDown();
+            }
+            return newExchange;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.camel.support.service.ServiceSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentLRUCacheTest {
+
+    @Test
+    public void testLRUCache() {
+        LRUCache<String, String> cache = new ConcurrentLRUCache<>(3);
+        cache.put("A", "a");
+        cache.put("B", "b");
+        cache.put("C", "c");
+
+        // access A so B is the least recently used
+        assertEquals("a", cache.get("A"));
+        cache.put("D", "d");
+        cache.cleanUp();
+
+        assertEquals(3, cache.size());
+        assertTrue(cache.containsKey("A"));
+        assertFalse(cache.containsKey("B"));
+        assertTrue(cache.containsKey("C"));
+        assertTrue(cache.containsKey("D"));
+
+        assertNull(cache.get("B"));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getEvicted());
+
+        cache.resetStatistics();
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+        assertEquals(0, cache.getEvicted());
+    }
+
+    @Test
+    public void testStopOnEviction() {
+        Map<String, MyService> cache = new DefaultLRUCacheFactory().createLRUCache(16, 2, true);
+        MyService one = new MyService();
+        MyService two = new MyService();
+        MyService three = new MyService();
+        one.start();
+        two.start();
+        three.start();
+
+        cache.put("one", one);
+        cache.put("two", two);
+        cache.put("three", three);
+
+        assertEquals(2, cache.size());
+        assertTrue(one.isStopped());
+        assertTrue(two.isStarted());
+        assertTrue(three.isStarted());
+
+        // replace and remove is not eviction
+        cache.put("two", new MyService());
+        cache.remove("three");
+        assertTrue(two.isStarted());
+        assertTrue(three.isStarted());
+    }
+
+    @Test
+    public void testComputeIfAbsent() {
+        LRUCache<String, String> cache = new ConcurrentLRUCache<>(10);
+        assertEquals("a", cache.computeIfAbsent("A", k -> "a"));
+        assertEquals("a", cache.computeIfAbsent("A", k -> "b"));
+        assertNull(cache.computeIfAbsent("B", k -> null));
+        assertEquals(1, cache.size());
+        assertEquals("a", cache.putIfAbsent("A", "c"));
+        assertEquals("a", cache.get("A"));
+    }
+
+    @Test
+    public void testConcurrent() throws Exception {
+        LRUCache<Integer, Integer> cache = new ConcurrentLRUCache<>(100);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Object>> tasks = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                final int offset = i;
+                tasks.add(() -> {
+                    for (int j = 0; j < 10000; j++) {
+                        int key = (j * 31 + offset) % 500;
+                        Integer value = cache.get(key);
+                        if (value == null) {
+                            cache.put(key, key);
+                        } else {
+                            assertEquals(key, value.intValue());
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (Future<Object> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        cache.cleanUp();
+        assertEquals(100, cache.size());
+        assertEquals(80000, cache.getHits() + cache.getMisses());
+        assertTrue(cache.getEvicted() > 0);
+    }
+
+    private static class MyService extends ServiceSupport {
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.TestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappedFileIdempotentRepositoryTest extends TestSupport {
+
+    private File directory;
+    private MappedFileIdempotentRepository repo;
+
+    @BeforeEach
+    public void setup() {
+        directory = testDirectory(true).resolve("store").toFile();
+        repo = new MappedFileIdempotentRepository(directory);
+        // small segments so the tests roll over segments
+        repo.setSegmentSize(1024);
+        repo.start();
+    }
+
+    @AfterEach
+    public void teardown() {
+        repo.stop();
+    }
+
+    @Test
+    public void testAddContainsRemove() {
+        assertTrue(repo.add("A"));
+        assertFalse(repo.add("A"));
+        assertTrue(repo.contains("A"));
+        assertFalse(repo.contains("B"));
+        assertTrue(repo.add("B"));
+        assertTrue(repo.add(""));
+        assertEquals(3, repo.getSize());
+
+        assertTrue(repo.remove("A"));
+        assertFalse(repo.remove("A"));
+        assertFalse(repo.contains("A"));
+        assertTrue(repo.contains("B"));
+        assertTrue(repo.contains(""));
+        assertEquals(2, repo.getSize());
+
+        repo.clear();
+        assertFalse(repo.contains("B"));
+        assertEquals(0, repo.getSize());
+        assertEquals(1, repo.getSegments());
+    }
+
+    @Test
+    public void testReload() {
+        for (int i = 0; i < 5000; i++) {
+            repo.add("key-" + i);
+        }
+        for (int i = 0; i < 5000; i += 2) {
+            repo.remove("key-" + i);
+        }
+        assertTrue(repo.getSegments() > 1);
+        assertTrue(repo.getIndexCapacity() > 1024);
+
+        repo.stop();
+        repo.start();
+
+        assertEquals(2500, repo.getSize());
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i % 2 == 1, repo.contains("key-" + i), "key-" + i);
+        }
+        assertTrue(repo.add("key-0"));
+        assertFalse(repo.add("key-1"));
+    }
+
+    @Test
+    public void testCompact() {
+        for (int i = 0; i < 1000; i++) {
+            repo.add("key-" + i);
+        }
+        int segments = repo.getSegments();
+        for (int i = 0; i < 900; i++) {
+            repo.remove("key-" + i);
+        }
+
+        repo.compact();
+
+        assertTrue(repo.getCompactions() > 0);
+        assertTrue(repo.getSegments() < segments);
+        assertEquals(100, repo.getSize());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i >= 900, repo.contains("key-" + i), "key-" + i);
+        }
+
+        // and the compacted store can be reloaded
+        repo.stop();
+        repo.start();
+        assertEquals(100, repo.getSize());
+        assertTrue(repo.contains("key-999"));
+        assertFalse(repo.contains("key-0"));
+    }
+
+    @Test
+    public void testMaxFileStoreSize() {
+        repo.setMaxFileStoreSize(4096);
+        for (int i = 0; i < 1000; i++) {
+            repo.add("key-" + i);
+        }
+
+        assertTrue(repo.getSegments() <= 4);
+        // the oldest keys are dropped
+        assertFalse(repo.contains("key-0"));
+        assertTrue(repo.contains("key-999"));
+    }
+
+    @Test
+    public void testConcurrent() throws Exception {
+        AtomicInteger added = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Object>> tasks = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                tasks.add(() -> {
+                    for (int j = 0; j < 2000; j++) {
+                        if (repo.add("key-" + j)) {
+                            added.incrementAndGet();
+                        }
+                        assertTrue(repo.contains("key-" + j));
+                    }
+                    return null;
+                });
+            }
+            for (Future<Object> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(2000, added.get());
+        assertEquals(2000, repo.getSize());
+    }
+}
@@ -93,6 +93,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "ExchangeFactoryCapacity": target.setExchangeFactoryCapacity(property(camelContext, int.class, value)); return true;
         case "exchangefactorystatisticsenabled":
         case "ExchangeFactoryStatisticsEnabled": target.setExchangeFactoryStatisticsEnabled(property(camelContext, boolean.class, value)); return true;
+        case "exchangefactorythreadcapacity":
+        case "ExchangeFactoryThreadCapacity": target.setExchangeFactoryThreadCapacity(property(camelContext, int.class, value)); return true;
         case "extrashutdowntimeout":
         case "ExtraShutdownTimeout": target.setExtraShutdownTimeout(property(camelContext, int.class, value)); return true;
         case "fileconfigurations":
@@ -101,6 +103,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "GlobalOptions": target.setGlobalOptions(property(camelContext, java.util.Map.class, value)); return true;
         case "inflightrepositorybrowseenabled":
         case "InflightRepositoryBrowseEnabled": target.setInflightRepositoryBrowseEnabled(property(camelContext, boolean.class, value)); return true;
+        case "inflightrepositorybrowsesamplerate":
+        case "InflightRepositoryBrowseSampleRate": target.setInflightRepositoryBrowseSampleRate(property(camelContext, int.class, value)); return true;
         case "javaroutesexcludepattern":
         case "JavaRoutesExcludePattern": target.setJavaRoutesExcludePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "javaroutesincludepattern":
@@ -137,6 +141,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "Name": target.setName(property(camelContext, java.lang.String.class, value)); return true;
         case "producertemplatecachesize":
         case "ProducerTemplateCacheSize": target.setProducerTemplateCacheSize(property(camelContext, int.class, value)); return true;
+        case "reactiveexecutor":
+        case "ReactiveExecutor": target.setReactiveExecutor(property(camelContext, java.lang.String.class, value)); return true;
+        case "reactiveexecutorparallelism":
+        case "ReactiveExecutorParallelism": target.setReactiveExecutorParallelism(property(camelContext, int.class, value)); return true;
         case "routecontrollerbackoffdelay":
         case "RouteControllerBackOffDelay": target.setRouteControllerBackOffDelay(property(camelContext, long.class, value)); return true;
         case "routecontrollerbackoffmaxattempts":
@@ -154,6 +162,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routecontrollerinitialdelay":
         case "RouteControllerInitialDelay": target.setRouteControllerInitialDelay(property(camelContext, long.class, value)); return true;
         case "routecontrollersuperviseenabled":
+        case "RouteControllerStartupParallelism": target.setRouteControllerStartupParallelism(property(camelContext, int.class, value)); return true;
         case "RouteControllerSuperviseEnabled": target.setRouteControllerSuperviseEnabled(property(camelContext, boolean.class, value)); return true;
         case "routecontrollerthreadpoolsize":
         case "RouteControllerThreadPoolSize": target.setRouteControllerThreadPoolSize(property(camelContext, int.class, value)); return true;
@@ -185,6 +194,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RoutesReloadRemoveAllRoutes": target.setRoutesReloadRemoveAllRoutes(property(camelContext, boolean.class, value)); return true;
         case "routesreloadrestartduration":
         case "RoutesReloadRestartDuration": target.setRoutesReloadRestartDuration(property(camelContext, boolean.class, value)); return true;
+        case "routessnapshotfile":
+        case "RoutesSnapshotFile": target.setRoutesSnapshotFile(property(camelContext, java.lang.String.class, value)); return true;
         case "shutdownloginflightexchangesontimeout":
         case "ShutdownLogInflightExchangesOnTimeout": target.setShutdownLogInflightExchangesOnTimeout(property(camelContext, boolean.class, value)); return true;
         case "shutdownnowontimeout":
@@ -217,6 +228,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingBufferSize": target.setStreamCachingBufferSize(property(camelContext, int.class, value)); return true;
         case "streamcachingenabled":
         case "StreamCachingEnabled": target.setStreamCachingEnabled(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingoffheapenabled":
+        case "StreamCachingOffHeapEnabled": target.setStreamCachingOffHeapEnabled(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingoffheapmaxsize":
+        case "StreamCachingOffHeapMaxSize": target.setStreamCachingOffHeapMaxSize(property(camelContext, long.class, value)); return true;
+        case "streamcachingoffheapthreshold":
+        case "StreamCachingOffHeapThreshold": target.setStreamCachingOffHeapThreshold(property(camelContext, long.class, value)); return true;
         case "streamcachingremovespooldirectorywhenstopping":
         case "StreamCachingRemoveSpoolDirectoryWhenStopping": target.setStreamCachingRemoveSpoolDirectoryWhenStopping(property(camelContext, boolean.class, value)); return true;
         case "streamcachingspoolcipher":
@@ -332,6 +349,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "ExchangeFactoryCapacity": return int.class;
         case "exchangefactorystatisticsenabled":
         case "ExchangeFactoryStatisticsEnabled": return boolean.class;
+        case "exchangefactorythreadcapacity":
+        case "ExchangeFactoryThreadCapacity": return int.class;
         case "extrashutdowntimeout":
         case "ExtraShutdownTimeout": return int.class;
         case "fileconfigurations":
@@ -340,6 +359,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "GlobalOptions": return java.util.Map.class;
         case "inflightrepositorybrowseenabled":
         case "InflightRepositoryBrowseEnabled": return boolean.class;
+        case "inflightrepositorybrowsesamplerate":
+        case "InflightRepositoryBrowseSampleRate": return int.class;
         case "javaroutesexcludepattern":
         case "JavaRoutesExcludePattern": return java.lang.String.class;
         case "javaroutesincludepattern":
@@ -376,6 +397,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "Name": return java.lang.String.class;
         case "producertemplatecachesize":
         case "ProducerTemplateCacheSize": return int.class;
+        case "reactiveexecutor":
+        case "ReactiveExecutor": return java.lang.String.class;
+        case "reactiveexecutorparallelism":
+        case "ReactiveExecutorParallelism": return int.class;
         case "routecontrollerbackoffdelay":
         case "RouteControllerBackOffDelay": return long.class;
         case "routecontrollerbackoffmaxattempts":
@@ -393,6 +418,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routecontrollerinitialdelay":
         case "RouteControllerInitialDelay": return long.class;
         case "routecontrollersuperviseenabled":
+        case "RouteControllerStartupParallelism": return int.class;
         case "RouteControllerSuperviseEnabled": return boolean.class;
         case "routecontrollerthreadpoolsize":
         case "RouteControllerThreadPoolSize": return int.class;
@@ -424,6 +450,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RoutesReloadRemoveAllRoutes": return boolean.class;
         case "routesreloadrestartduration":
         case "RoutesReloadRestartDuration": return boolean.class;
+        case "routessnapshotfile":
+        case "RoutesSnapshotFile": return java.lang.String.class;
         case "shutdownloginflightexchangesontimeout":
         case "ShutdownLogInflightExchangesOnTimeout": return boolean.class;
         case "shutdownnowontimeout":
@@ -456,6 +484,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingBufferSize": return int.class;
         case "streamcachingenabled":
         case "StreamCachingEnabled": return boolean.class;
+        case "streamcachingoffheapenabled":
+        case "StreamCachingOffHeapEnabled": return boolean.class;
+        case "streamcachingoffheapmaxsize":
+        case "StreamCachingOffHeapMaxSize": return long.class;
+        case "streamcachingoffheapthreshold":
+        case "StreamCachingOffHeapThreshold": return long.class;
         case "streamcachingremovespooldirectorywhenstopping":
         case "StreamCachingRemoveSpoolDirectoryWhenStopping": return boolean.class;
         case "streamcachingspoolcipher":
@@ -572,6 +606,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "ExchangeFactoryCapacity": return target.getExchangeFactoryCapacity();
         case "exchangefactorystatisticsenabled":
         case "ExchangeFactoryStatisticsEnabled": return target.isExchangeFactoryStatisticsEnabled();
+        case "exchangefactorythreadcapacity":
+        case "ExchangeFactoryThreadCapacity": return target.getExchangeFactoryThreadCapacity();
         case "extrashutdowntimeout":
         case "ExtraShutdownTimeout": return target.getExtraShutdownTimeout();
         case "fileconfigurations":
@@ -580,6 +616,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "GlobalOptions": return target.getGlobalOptions();
         case "inflightrepositorybrowseenabled":
         case "InflightRepositoryBrowseEnabled": return target.isInflightRepositoryBrowseEnabled();
+        case "inflightrepositorybrowsesamplerate":
+        case "InflightRepositoryBrowseSampleRate": return target.getInflightRepositoryBrowseSampleRate();
         case "javaroutesexcludepattern":
         case "JavaRoutesExcludePattern": return target.getJavaRoutesExcludePattern();
         case "javaroutesincludepattern":
@@ -616,6 +654,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "Name": return target.getName();
         case "producertemplatecachesize":
         case "ProducerTemplateCacheSize": return target.getProducerTemplateCacheSize();
+        case "reactiveexecutor":
+        case "ReactiveExecutor": return target.getReactiveExecutor();
+        case "reactiveexecutorparallelism":
+        case "ReactiveExecutorParallelism": return target.getReactiveExecutorParallelism();
         case "routecontrollerbackoffdelay":
         case "RouteControllerBackOffDelay": return target.getRouteControllerBackOffDelay();
         case "routecontrollerbackoffmaxattempts":
@@ -633,6 +675,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routecontrollerinitialdelay":
         case "RouteControllerInitialDelay": return target.getRouteControllerInitialDelay();
         case "routecontrollersuperviseenabled":
+        case "RouteControllerStartupParallelism": return target.getRouteControllerStartupParallelism();
         case "RouteControllerSuperviseEnabled": return target.isRouteControllerSuperviseEnabled();
         case "routecontrollerthreadpoolsize":
         case "RouteControllerThreadPoolSize": return target.getRouteControllerThreadPoolSize();
@@ -664,6 +707,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RoutesReloadRemoveAllRoutes": return target.isRoutesReloadRemoveAllRoutes();
         case "routesreloadrestartduration":
         case "RoutesReloadRestartDuration": return target.isRoutesReloadRestartDuration();
+        case "routessnapshotfile":
+        case "RoutesSnapshotFile": return target.getRoutesSnapshotFile();
         case "shutdownloginflightexchangesontimeout":
         case "ShutdownLogInflightExchangesOnTimeout": return target.isShutdownLogInflightExchangesOnTimeout();
         case "shutdownnowontimeout":
@@ -696,6 +741,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingBufferSize": return target.getStreamCachingBufferSize();
         case "streamcachingenabled":
         case "StreamCachingEnabled": return target.isStreamCachingEnabled();
+        case "streamcachingoffheapenabled":
+        case "StreamCachingOffHeapEnabled": return target.isStreamCachingOffHeapEnabled();
+        case "streamcachingoffheapmaxsize":
+        case "StreamCachingOffHeapMaxSize": return target.getStreamCachingOffHeapMaxSize();
+        case "streamcachingoffheapthreshold":
+        case "StreamCachingOffHeapThreshold": return target.getStreamCachingOffHeapThreshold();
         case "streamcachingremovespooldirectorywhenstopping":
         case "StreamCachingRemoveSpoolDirectoryWhenStopping": return target.isStreamCachingRemoveSpoolDirectoryWhenStopping();
         case "streamcachingspoolcipher":
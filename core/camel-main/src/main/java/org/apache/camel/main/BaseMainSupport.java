@@ -108,6 +108,7 @@ public abstract class BaseMainSupport extends BaseService {
     protected Properties initialProperties;
     protected Properties overrideProperties;
     protected boolean standalone = true;
+    private RoutesConfigurer modelineRoutesConfigurer;
     protected final MainHelper helper;
 
     protected BaseMainSupport() {
@@ -619,8 +620,13 @@ public abstract class BaseMainSupport extends BaseService {
         configurer.setJavaRoutesIncludePattern(mainConfigurationProperties.getJavaRoutesIncludePattern());
         configurer.setRoutesExcludePattern(mainConfigurationProperties.getRoutesExcludePattern());
         configurer.setRoutesIncludePattern(mainConfigurationProperties.getRoutesIncludePattern());
+        if (!mainConfigurationProperties.isRoutesReloadEnabled()) {
+            configurer.setRoutesSnapshotFile(mainConfigurationProperties.getRoutesSnapshotFile());
+        }
 
         configurer.configureModeline(camelContext);
+        // keep the route resources from the routes snapshot, so they are not loaded again when configuring the routes
+        modelineRoutesConfigurer = configurer;
     }
 
     protected void configureRoutes(CamelContext camelContext) throws Exception {
@@ -642,6 +648,17 @@ public abstract class BaseMainSupport extends BaseService {
         configurer.setJavaRoutesIncludePattern(mainConfigurationProperties.getJavaRoutesIncludePattern());
         configurer.setRoutesExcludePattern(mainConfigurationProperties.getRoutesExcludePattern());
         configurer.setRoutesIncludePattern(mainConfigurationProperties.getRoutesIncludePattern());
+        if (!mainConfigurationProperties.isRoutesReloadEnabled()) {
+            configurer.setRoutesSnapshotFile(mainConfigurationProperties.getRoutesSnapshotFile());
+        }
+        RoutesConfigurer modeline = modelineRoutesConfigurer;
+        modelineRoutesConfigurer = null;
+        if (modeline != null && configurer.getRoutesSnapshotFile() != null
+                && Objects.equals(modeline.getRoutesSnapshotFile(), configurer.getRoutesSnapshotFile())
+                && Objects.equals(modeline.getRoutesIncludePattern(), configurer.getRoutesIncludePattern())
+                && Objects.equals(modeline.getRoutesExcludePattern(), configurer.getRoutesExcludePattern())) {
+            configurer.setRouteResources(modeline.getRouteResources());
+        }
 
         configurer.configureRoutes(camelContext);
     }
@@ -38,6 +38,7 @@ import org.apache.camel.impl.engine.PooledExchangeFactory;
 import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeProcessorExchangeFactory;
+import org.apache.camel.impl.engine.WorkStealingReactiveExecutor;
 import org.apache.camel.model.Model;
 import org.apache.camel.model.ModelCamelContext;
 import org.apache.camel.model.ModelLifecycleStrategy;
@@ -151,9 +152,21 @@ public final class DefaultConfigurationConfigurer {
         }
         ecc.getExchangeFactory().setCapacity(config.getExchangeFactoryCapacity());
         ecc.getProcessorExchangeFactory().setCapacity(config.getExchangeFactoryCapacity());
+        ecc.getExchangeFactory().setThreadCapacity(config.getExchangeFactoryThreadCapacity());
+        ecc.getProcessorExchangeFactory().setThreadCapacity(config.getExchangeFactoryThreadCapacity());
         ecc.getExchangeFactory().setStatisticsEnabled(config.isExchangeFactoryStatisticsEnabled());
         ecc.getProcessorExchangeFactory().setStatisticsEnabled(config.isExchangeFactoryStatisticsEnabled());
 
+        if ("work-stealing".equals(config.getReactiveExecutor())) {
+            WorkStealingReactiveExecutor re = new WorkStealingReactiveExecutor();
+            re.setParallelism(config.getReactiveExecutorParallelism());
+            ecc.setReactiveExecutor(re);
+        } else if (config.getReactiveExecutor() != null && !"default".equals(config.getReactiveExecutor())) {
+            throw new IllegalArgumentException(
+                    "Unknown reactiveExecutor: " + config.getReactiveExecutor()
+                                               + ". Supported values: default, work-stealing");
+        }
+
         if (!config.isJmxEnabled()) {
             camelContext.disableJMX();
         }
@@ -177,6 +190,7 @@ public final class DefaultConfigurationConfigurer {
         camelContext.getShutdownStrategy().setLogInflightExchangesOnTimeout(config.isShutdownLogInflightExchangesOnTimeout());
 
         camelContext.getInflightRepository().setInflightBrowseEnabled(config.isInflightRepositoryBrowseEnabled());
+        camelContext.getInflightRepository().setInflightBrowseSampleRate(config.getInflightRepositoryBrowseSampleRate());
 
         if (config.getLogDebugMaxChars() != 0) {
             camelContext.getGlobalOptions().put(Exchange.LOG_DEBUG_BODY_MAX_CHARS, "" + config.getLogDebugMaxChars());
@@ -213,6 +227,13 @@ public final class DefaultConfigurationConfigurer {
             camelContext.getStreamCachingStrategy()
                     .setSpoolUsedHeapMemoryThreshold(config.getStreamCachingSpoolUsedHeapMemoryThreshold());
         }
+        camelContext.getStreamCachingStrategy().setOffHeapEnabled(config.isStreamCachingOffHeapEnabled());
+        if (config.getStreamCachingOffHeapThreshold() != 0) {
+            camelContext.getStreamCachingStrategy().setOffHeapThreshold(config.getStreamCachingOffHeapThreshold());
+        }
+        if (config.getStreamCachingOffHeapMaxSize() != 0) {
+            camelContext.getStreamCachingStrategy().setOffHeapMaxSize(config.getStreamCachingOffHeapMaxSize());
+        }
 
         if ("default".equals(config.getUuidGenerator())) {
             camelContext.setUuidGenerator(new DefaultUuidGenerator());
@@ -314,6 +335,10 @@ public final class DefaultConfigurationConfigurer {
                     config.getRouteFilterExcludePattern());
         }
 
+        if (config.getRouteControllerStartupParallelism() > 1) {
+            camelContext.getRouteController().setStartupParallelism(config.getRouteControllerStartupParallelism());
+        }
+
         // supervising route controller
         if (config.isRouteControllerSuperviseEnabled()) {
             SupervisingRouteController src = camelContext.getRouteController().supervising();
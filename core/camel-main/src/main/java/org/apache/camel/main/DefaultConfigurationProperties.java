@@ -47,6 +47,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean shutdownRoutesInReverseOrder = true;
     private boolean shutdownLogInflightExchangesOnTimeout = true;
     private boolean inflightRepositoryBrowseEnabled;
+    private int inflightRepositoryBrowseSampleRate = 1;
     private String fileConfigurations;
     private boolean jmxEnabled = true;
     @Metadata(enums = "classic,default,short,simple,off", defaultValue = "default")
@@ -69,6 +70,9 @@ public abstract class DefaultConfigurationProperties<T> {
     private int streamCachingBufferSize;
     private boolean streamCachingRemoveSpoolDirectoryWhenStopping = true;
     private boolean streamCachingStatisticsEnabled;
+    private boolean streamCachingOffHeapEnabled;
+    private long streamCachingOffHeapThreshold;
+    private long streamCachingOffHeapMaxSize;
     private boolean debugging;
     private boolean backlogTracing;
     private boolean backlogTracingStandby;
@@ -112,6 +116,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private String javaRoutesExcludePattern;
     private String routesIncludePattern = "classpath:camel/*,classpath:camel-template/*,classpath:camel-rest/*";
     private String routesExcludePattern;
+    private String routesSnapshotFile;
     private boolean routesReloadEnabled;
     @Metadata(defaultValue = "src/main/resources/camel")
     private String routesReloadDirectory = "src/main/resources/camel";
@@ -125,6 +130,10 @@ public abstract class DefaultConfigurationProperties<T> {
     private String exchangeFactory = "default";
     private int exchangeFactoryCapacity = 100;
     private boolean exchangeFactoryStatisticsEnabled;
+    private int exchangeFactoryThreadCapacity;
+    @Metadata(defaultValue = "default", enums = "default,work-stealing")
+    private String reactiveExecutor = "default";
+    private int reactiveExecutorParallelism;
     private boolean dumpRoutes;
     private Map<String, String> globalOptions;
     // route controller
@@ -139,6 +148,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private long routeControllerBackOffMaxAttempts;
     private double routeControllerBackOffMultiplier;
     private boolean routeControllerUnhealthyOnExhausted;
+    private int routeControllerStartupParallelism = 1;
     // startup recorder
     @Metadata(enums = "false,off,java-flight-recorder,jfr,logging")
     private String startupRecorder;
@@ -310,6 +320,21 @@ public abstract class DefaultConfigurationProperties<T> {
         this.inflightRepositoryBrowseEnabled = inflightRepositoryBrowseEnabled;
     }
 
+    public int getInflightRepositoryBrowseSampleRate() {
+        return inflightRepositoryBrowseSampleRate;
+    }
+
+    /**
+     * Sets the sample rate when browsing inflight exchanges is enabled, where only every Nth exchange is kept for
+     * browsing. This reduces the overhead of browsing under heavy load, while the inflight counters are still accurate.
+     * The browsed exchanges, and the oldest inflight exchange, are then based on the sampled exchanges only.
+     *
+     * The default value is 1 which means all exchanges are kept for browsing.
+     */
+    public void setInflightRepositoryBrowseSampleRate(int inflightRepositoryBrowseSampleRate) {
+        this.inflightRepositoryBrowseSampleRate = inflightRepositoryBrowseSampleRate;
+    }
+
     public String getFileConfigurations() {
         return fileConfigurations;
     }
@@ -583,6 +608,44 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingStatisticsEnabled = streamCachingStatisticsEnabled;
     }
 
+    public boolean isStreamCachingOffHeapEnabled() {
+        return streamCachingOffHeapEnabled;
+    }
+
+    /**
+     * Sets whether stream caching can use off-heap memory (pooled direct buffers) for larger streams, which overflows
+     * to disk (if spooling is enabled) or back to heap when the off-heap memory is used up.
+     */
+    public void setStreamCachingOffHeapEnabled(boolean streamCachingOffHeapEnabled) {
+        this.streamCachingOffHeapEnabled = streamCachingOffHeapEnabled;
+    }
+
+    public long getStreamCachingOffHeapThreshold() {
+        return streamCachingOffHeapThreshold;
+    }
+
+    /**
+     * Stream caching threshold in bytes when moving from heap to off-heap memory (if off-heap is enabled).
+     *
+     * The default threshold is 65536 (64kb).
+     */
+    public void setStreamCachingOffHeapThreshold(long streamCachingOffHeapThreshold) {
+        this.streamCachingOffHeapThreshold = streamCachingOffHeapThreshold;
+    }
+
+    public long getStreamCachingOffHeapMaxSize() {
+        return streamCachingOffHeapMaxSize;
+    }
+
+    /**
+     * Maximum off-heap memory in bytes which stream caching can use in total (if off-heap is enabled).
+     *
+     * The default maximum is 67108864 (64mb).
+     */
+    public void setStreamCachingOffHeapMaxSize(long streamCachingOffHeapMaxSize) {
+        this.streamCachingOffHeapMaxSize = streamCachingOffHeapMaxSize;
+    }
+
     public boolean isTypeConverterStatisticsEnabled() {
         return typeConverterStatisticsEnabled;
     }
@@ -1169,6 +1232,23 @@ public abstract class DefaultConfigurationProperties<T> {
         this.routesExcludePattern = routesExcludePattern;
     }
 
+    public String getRoutesSnapshotFile() {
+        return routesSnapshotFile;
+    }
+
+    /**
+     * Name of a file to store a snapshot of the route resources discovered by the routes include and exclude patterns.
+     *
+     * When the snapshot exists then the routes are loaded from the snapshot, instead of discovering the routes by
+     * scanning the classpath and file system, which speeds up startup. The snapshot is created on the first startup,
+     * and is created again when the routes include or exclude pattern, the Camel version, the class path, or any of the
+     * route files is changed (including route files being added or deleted). The snapshot is not in use when routes
+     * reloading is enabled.
+     */
+    public void setRoutesSnapshotFile(String routesSnapshotFile) {
+        this.routesSnapshotFile = routesSnapshotFile;
+    }
+
     public boolean isRoutesReloadEnabled() {
         return routesReloadEnabled;
     }
@@ -1312,6 +1392,50 @@ public abstract class DefaultConfigurationProperties<T> {
         this.exchangeFactoryStatisticsEnabled = exchangeFactoryStatisticsEnabled;
     }
 
+    /**
+     * The capacity of the pool each thread uses for storing exchanges, in front of the pool shared by all threads (for
+     * each consumer and EIP). Exchanges are then acquired and released again by the same thread without contention on
+     * the shared pool. The default capacity is 0, which means that only the shared pool is used. This is only in use
+     * when the exchange factory is pooled.
+     */
+    public int getExchangeFactoryThreadCapacity() {
+        return exchangeFactoryThreadCapacity;
+    }
+
+    /**
+     * The capacity of the pool each thread uses for storing exchanges, in front of the pool shared by all threads (for
+     * each consumer and EIP). Exchanges are then acquired and released again by the same thread without contention on
+     * the shared pool. The default capacity is 0, which means that only the shared pool is used. This is only in use
+     * when the exchange factory is pooled.
+     */
+    public void setExchangeFactoryThreadCapacity(int exchangeFactoryThreadCapacity) {
+        this.exchangeFactoryThreadCapacity = exchangeFactoryThreadCapacity;
+    }
+
+    public String getReactiveExecutor() {
+        return reactiveExecutor;
+    }
+
+    /**
+     * Controls which reactive executor the asynchronous routing engine uses. The default executor runs reactive work
+     * on the thread that triggered it. Using work-stealing will spread asynchronous continuations over a bounded
+     * work-stealing thread pool so they can use idle cores.
+     */
+    public void setReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+    }
+
+    public int getReactiveExecutorParallelism() {
+        return reactiveExecutorParallelism;
+    }
+
+    /**
+     * The number of threads in the work-stealing reactive executor. The default is the number of available processors.
+     */
+    public void setReactiveExecutorParallelism(int reactiveExecutorParallelism) {
+        this.reactiveExecutorParallelism = reactiveExecutorParallelism;
+    }
+
     public boolean isDumpRoutes() {
         return dumpRoutes;
     }
@@ -1377,6 +1501,18 @@ public abstract class DefaultConfigurationProperties<T> {
         return routeControllerIncludeRoutes;
     }
 
+    /**
+     * The number of threads used for starting routes in parallel. The routes are started in groups following their
+     * startup order, where routes that share the same startup order (and routes without an explicit startup order) are
+     * in the same group. The routes in a group are started concurrently, and the next group is not started before all
+     * the routes in the previous group have been started. The default is 1, which starts the routes one after the
+     * other. This is not in use by the supervising route controller, which uses its own thread pool.
+     */
+    public T withRouteControllerStartupParallelism(int routeControllerStartupParallelism) {
+        this.routeControllerStartupParallelism = routeControllerStartupParallelism;
+        return (T) this;
+    }
+
     /**
      * Pattern for filtering routes to be included as supervised.
      *
@@ -1420,6 +1556,21 @@ public abstract class DefaultConfigurationProperties<T> {
         this.routeControllerThreadPoolSize = routeControllerThreadPoolSize;
     }
 
+    public int getRouteControllerStartupParallelism() {
+        return routeControllerStartupParallelism;
+    }
+
+    /**
+     * The number of threads used for starting routes in parallel. The routes are started in groups following their
+     * startup order, where routes that share the same startup order (and routes without an explicit startup order) are
+     * in the same group. The routes in a group are started concurrently, and the next group is not started before all
+     * the routes in the previous group have been started. The default is 1, which starts the routes one after the
+     * other. This is not in use by the supervising route controller, which uses its own thread pool.
+     */
+    public void setRouteControllerStartupParallelism(int routeControllerStartupParallelism) {
+        this.routeControllerStartupParallelism = routeControllerStartupParallelism;
+    }
+
     public long getRouteControllerInitialDelay() {
         return routeControllerInitialDelay;
     }
@@ -1703,6 +1854,18 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets the sample rate when browsing inflight exchanges is enabled, where only every Nth exchange is kept for
+     * browsing. This reduces the overhead of browsing under heavy load, while the inflight counters are still accurate.
+     * The browsed exchanges, and the oldest inflight exchange, are then based on the sampled exchanges only.
+     *
+     * The default value is 1 which means all exchanges are kept for browsing.
+     */
+    public T withInflightRepositoryBrowseSampleRate(int inflightRepositoryBrowseSampleRate) {
+        this.inflightRepositoryBrowseSampleRate = inflightRepositoryBrowseSampleRate;
+        return (T) this;
+    }
+
     /**
      * Directory to load additional configuration files that contains configuration values that takes precedence over
      * any other configuration. This can be used to refer to files that may have secret configuration that has been
@@ -1902,6 +2065,35 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets whether stream caching can use off-heap memory (pooled direct buffers) for larger streams, which overflows
+     * to disk (if spooling is enabled) or back to heap when the off-heap memory is used up.
+     */
+    public T withStreamCachingOffHeapEnabled(boolean streamCachingOffHeapEnabled) {
+        this.streamCachingOffHeapEnabled = streamCachingOffHeapEnabled;
+        return (T) this;
+    }
+
+    /**
+     * Stream caching threshold in bytes when moving from heap to off-heap memory (if off-heap is enabled).
+     *
+     * The default threshold is 65536 (64kb).
+     */
+    public T withStreamCachingOffHeapThreshold(long streamCachingOffHeapThreshold) {
+        this.streamCachingOffHeapThreshold = streamCachingOffHeapThreshold;
+        return (T) this;
+    }
+
+    /**
+     * Maximum off-heap memory in bytes which stream caching can use in total (if off-heap is enabled).
+     *
+     * The default maximum is 67108864 (64mb).
+     */
+    public T withStreamCachingOffHeapMaxSize(long streamCachingOffHeapMaxSize) {
+        this.streamCachingOffHeapMaxSize = streamCachingOffHeapMaxSize;
+        return (T) this;
+    }
+
     /**
      * Sets whether type converter statistics is enabled.
      *
@@ -2358,6 +2550,20 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Name of a file to store a snapshot of the route resources discovered by the routes include and exclude patterns.
+     *
+     * When the snapshot exists then the routes are loaded from the snapshot, instead of discovering the routes by
+     * scanning the classpath and file system, which speeds up startup. The snapshot is created on the first startup,
+     * and is created again when the routes include or exclude pattern, the Camel version, the class path, or any of the
+     * route files is changed (including route files being added or deleted). The snapshot is not in use when routes
+     * reloading is enabled.
+     */
+    public T withRoutesSnapshotFile(String routesSnapshotFile) {
+        this.routesSnapshotFile = routesSnapshotFile;
+        return (T) this;
+    }
+
     /**
      * Used for enabling context reloading. If enabled then Camel allow external systems such as security vaults (AWS
      * secrets manager, etc.) to trigger refreshing Camel by updating property placeholders and reload all existing
@@ -2467,6 +2673,35 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * The capacity of the pool each thread uses for storing exchanges, in front of the pool shared by all threads (for
+     * each consumer and EIP). Exchanges are then acquired and released again by the same thread without contention on
+     * the shared pool. The default capacity is 0, which means that only the shared pool is used. This is only in use
+     * when the exchange factory is pooled.
+     */
+    public T withExchangeFactoryThreadCapacity(int exchangeFactoryThreadCapacity) {
+        this.exchangeFactoryThreadCapacity = exchangeFactoryThreadCapacity;
+        return (T) this;
+    }
+
+    /**
+     * Controls which reactive executor the asynchronous routing engine uses. The default executor runs reactive work
+     * on the thread that triggered it. Using work-stealing will spread asynchronous continuations over a bounded
+     * work-stealing thread pool so they can use idle cores.
+     */
+    public T withReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+        return (T) this;
+    }
+
+    /**
+     * The number of threads in the work-stealing reactive executor. The default is the number of available processors.
+     */
+    public T withReactiveExecutorParallelism(int reactiveExecutorParallelism) {
+        this.reactiveExecutorParallelism = reactiveExecutorParallelism;
+        return (T) this;
+    }
+
     /**
      * If enable then Camel will during startup dump all loaded routes (incl rests and route templates) represented as
      * XML DSL into the log. This is intended for trouble shooting or to assist during development.
@@ -138,20 +138,15 @@ public class DefaultRoutesCollector implements RoutesCollector {
             String excludePattern,
             String includePattern) {
 
-        final ExtendedCamelContext ecc = camelContext.getCamelContextExtension();
         final List<RoutesBuilder> answer = new ArrayList<>();
         final String[] includes = includePattern != null ? includePattern.split(",") : null;
 
         StopWatch watch = new StopWatch();
         Collection<Resource> accepted = findRouteResourcesFromDirectory(camelContext, excludePattern, includePattern);
-        try {
-            Collection<RoutesBuilder> builders = ecc.getRoutesLoader().findRoutesBuilders(accepted);
-            if (!builders.isEmpty()) {
-                log.debug("Found {} route builder from locations: {}", builders.size(), includes);
-                answer.addAll(builders);
-            }
-        } catch (Exception e) {
-            throw RuntimeCamelException.wrapRuntimeException(e);
+        Collection<RoutesBuilder> builders = collectRoutesFromResources(camelContext, accepted);
+        if (!builders.isEmpty()) {
+            log.debug("Found {} route builder from locations: {}", builders.size(), includes);
+            answer.addAll(builders);
         }
         if (!answer.isEmpty()) {
             log.debug("Loaded {} ({} millis) additional RoutesBuilder from: {}, pattern: {}", answer.size(), watch.taken(),
@@ -20,6 +20,7 @@ import java.util.Collection;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.RoutesBuilder;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.spi.Resource;
 
 /**
@@ -51,6 +52,23 @@ public interface RoutesCollector {
     Collection<RoutesBuilder> collectRoutesFromDirectory(
             CamelContext camelContext, String excludePattern, String includePattern);
 
+    /**
+     * Collects all {@link RoutesBuilder} from the given route resources, such as the resources found from the
+     * directory, or loaded from the routes snapshot.
+     *
+     * @param  camelContext the Camel Context
+     * @param  resources    the route resources
+     * @return              the loaded RoutesBuilder or an empty collection
+     */
+    default Collection<RoutesBuilder> collectRoutesFromResources(
+            CamelContext camelContext, Collection<Resource> resources) {
+        try {
+            return camelContext.getCamelContextExtension().getRoutesLoader().findRoutesBuilders(resources);
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeException(e);
+        }
+    }
+
     /**
      * Finds all routes as {@link Resource} from the given directory.
      *
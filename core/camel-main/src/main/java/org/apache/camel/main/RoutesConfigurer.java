@@ -16,6 +16,8 @@
  */
 package org.apache.camel.main;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -51,6 +53,8 @@ public class RoutesConfigurer {
     private String javaRoutesIncludePattern;
     private String routesExcludePattern;
     private String routesIncludePattern;
+    private String routesSnapshotFile;
+    private Collection<Resource> routeResources;
 
     public List<RoutesBuilder> getRoutesBuilders() {
         return routesBuilders;
@@ -108,6 +112,26 @@ public class RoutesConfigurer {
         this.routesIncludePattern = routesIncludePattern;
     }
 
+    public String getRoutesSnapshotFile() {
+        return routesSnapshotFile;
+    }
+
+    public void setRoutesSnapshotFile(String routesSnapshotFile) {
+        this.routesSnapshotFile = routesSnapshotFile;
+    }
+
+    public Collection<Resource> getRouteResources() {
+        return routeResources;
+    }
+
+    /**
+     * The route resources which were already found from the routes snapshot, using the same patterns and snapshot file,
+     * during this startup (such as when scanning for modeline), so the snapshot is not loaded again.
+     */
+    public void setRouteResources(Collection<Resource> routeResources) {
+        this.routeResources = routeResources;
+    }
+
     public RoutesCollector getRoutesCollector() {
         return routesCollector;
     }
@@ -184,10 +208,16 @@ public class RoutesConfigurer {
 
                 // add discovered routes from directories
                 StopWatch watch = new StopWatch();
-                Collection<RoutesBuilder> routesFromDirectory = getRoutesCollector().collectRoutesFromDirectory(
-                        camelContext,
-                        getRoutesExcludePattern(),
-                        getRoutesIncludePattern());
+                Collection<RoutesBuilder> routesFromDirectory;
+                if (getRoutesSnapshotFile() != null) {
+                    Collection<Resource> resources = findRouteResources(camelContext);
+                    routesFromDirectory = getRoutesCollector().collectRoutesFromResources(camelContext, resources);
+                } else {
+                    routesFromDirectory = getRoutesCollector().collectRoutesFromDirectory(
+                            camelContext,
+                            getRoutesExcludePattern(),
+                            getRoutesIncludePattern());
+                }
                 routes.addAll(routesFromDirectory);
 
                 if (LOG.isDebugEnabled() && !routesFromDirectory.isEmpty()) {
@@ -253,10 +283,7 @@ public class RoutesConfigurer {
 
             // we can only scan for modeline for routes that we can load from directory as modelines
             // are comments in the source files
-            resources = getRoutesCollector().findRouteResourcesFromDirectory(
-                    camelContext,
-                    getRoutesExcludePattern(),
-                    getRoutesIncludePattern());
+            resources = findRouteResources(camelContext);
 
         } catch (Exception e) {
             throw RuntimeCamelException.wrapRuntimeException(e);
@@ -278,4 +305,41 @@ public class RoutesConfigurer {
 
     }
 
+    /**
+     * Finds the route resources from directories, or from the routes snapshot if enabled, in which case a snapshot is
+     * created if there is no up to date snapshot for the current routes. The resources from the snapshot are kept, so
+     * they are only found once.
+     */
+    private Collection<Resource> findRouteResources(CamelContext camelContext) throws Exception {
+        if (getRoutesSnapshotFile() == null) {
+            return getRoutesCollector().findRouteResourcesFromDirectory(
+                    camelContext,
+                    getRoutesExcludePattern(),
+                    getRoutesIncludePattern());
+        }
+        if (routeResources == null) {
+            routeResources = findRouteResourcesFromSnapshot(camelContext);
+        }
+        return routeResources;
+    }
+
+    private Collection<Resource> findRouteResourcesFromSnapshot(CamelContext camelContext) throws Exception {
+
+        Path file = Paths.get(getRoutesSnapshotFile());
+        Collection<Resource> answer
+                = RoutesSnapshot.load(camelContext, file, getRoutesIncludePattern(), getRoutesExcludePattern());
+        if (answer != null) {
+            LOG.debug("Loaded {} route resources from snapshot: {}", answer.size(), file);
+            return answer;
+        }
+
+        answer = getRoutesCollector().findRouteResourcesFromDirectory(
+                camelContext,
+                getRoutesExcludePattern(),
+                getRoutesIncludePattern());
+        answer = RoutesSnapshot.save(camelContext, file, getRoutesIncludePattern(), getRoutesExcludePattern(), answer);
+        LOG.info("Saved {} route resources to snapshot: {}", answer.size(), file);
+        return answer;
+    }
+
 }
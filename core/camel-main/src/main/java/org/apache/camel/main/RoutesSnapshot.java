@@ -0,0 +1,329 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.support.ResourceHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A snapshot of the route resources discovered by the routes include and exclude patterns, which is stored in a
+ * compact binary file, so the resources can be loaded on the following startups without scanning the classpath and
+ * file system.
+ * <p/>
+ * The snapshot is only in use when it is up to date, which is checked without scanning for the resources: the
+ * snapshot holds the patterns which were used for discovering the resources, the Camel version, the size and last
+ * modified time of each class path entry and of the file each resource was loaded from (which is the jar for a
+ * resource in a jar), and the names of the files in the directories the patterns are matched in (up to a depth of 8
+ * directories), so adding or deleting a route file is detected as well. When any of these has changed then the
+ * resources are discovered again, and the snapshot is created again.
+ */
+final class RoutesSnapshot {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RoutesSnapshot.class);
+
+    private static final int MAGIC = 0x43524F55;
+    private static final int VERSION = 2;
+    private static final String WILDCARDS = "*?{";
+    // the max depth of the directories which are listed for the ** wildcard
+    private static final int MAX_DEPTH = 8;
+
+    private RoutesSnapshot() {
+    }
+
+    /**
+     * Loads the route resources from the snapshot.
+     *
+     * @param  camelContext   the Camel context
+     * @param  file           the snapshot file
+     * @param  includePattern the routes include pattern
+     * @param  excludePattern the routes exclude pattern
+     * @return                the resources, or <tt>null</tt> if there is no up to date snapshot of routes discovered by
+     *                        the given patterns
+     */
+    static List<Resource> load(CamelContext camelContext, Path file, String includePattern, String excludePattern)
+            throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                LOG.info("Ignoring routes snapshot: {} as it is not a snapshot of this version", file);
+                return null;
+            }
+            if (!Objects.equals(readString(in), includePattern) || !Objects.equals(readString(in), excludePattern)) {
+                LOG.info("Ignoring routes snapshot: {} as the routes include or exclude pattern is changed", file);
+                return null;
+            }
+            byte[] fingerprint = new byte[in.readInt()];
+            in.readFully(fingerprint);
+            if (!Arrays.equals(fingerprint, fingerprint(camelContext, file, includePattern))) {
+                LOG.info("Ignoring routes snapshot: {} as the Camel version, class path or routes are changed", file);
+                return null;
+            }
+            int size = in.readInt();
+            List<Resource> answer = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String location = in.readUTF();
+                String source = readString(in);
+                long length = in.readLong();
+                long lastModified = in.readLong();
+                if (source != null && !isUnchanged(Paths.get(source), length, lastModified)) {
+                    LOG.info("Ignoring routes snapshot: {} as the route: {} is changed", file, location);
+                    return null;
+                }
+                byte[] content = new byte[in.readInt()];
+                in.readFully(content);
+                answer.add(ResourceHelper.fromBytes(location, content));
+            }
+            return answer;
+        }
+    }
+
+    /**
+     * Saves the route resources to the snapshot, which is written to a temporary file first and then moved, so a
+     * concurrent startup never reads a partially written snapshot.
+     *
+     * @param  camelContext   the Camel context
+     * @param  file           the snapshot file
+     * @param  includePattern the routes include pattern
+     * @param  excludePattern the routes exclude pattern
+     * @param  resources      the discovered resources
+     * @return                the resources, which are cached as the content has been read
+     */
+    static List<Resource> save(
+            CamelContext camelContext, Path file, String includePattern, String excludePattern,
+            Collection<Resource> resources)
+            throws IOException {
+        List<Resource> answer = new ArrayList<>(resources.size());
+        Path dir = file.toAbsolutePath().getParent();
+        if (dir != null) {
+            Files.createDirectories(dir);
+        }
+        Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                writeString(out, includePattern);
+                writeString(out, excludePattern);
+                byte[] fingerprint = fingerprint(camelContext, file, includePattern);
+                out.writeInt(fingerprint.length);
+                out.write(fingerprint);
+                out.writeInt(resources.size());
+                for (Resource resource : resources) {
+                    // stat the source before reading the content, so a concurrent change is detected on next startup
+                    Path source = getSource(resource);
+                    long length = -1;
+                    long lastModified = -1;
+                    if (source != null && Files.exists(source)) {
+                        length = Files.size(source);
+                        lastModified = Files.getLastModifiedTime(source).toMillis();
+                    }
+                    byte[] content;
+                    try (InputStream is = resource.getInputStream()) {
+                        content = is.readAllBytes();
+                    }
+                    out.writeUTF(resource.getLocation());
+                    writeString(out, source != null ? source.toString() : null);
+                    out.writeLong(length);
+                    out.writeLong(lastModified);
+                    out.writeInt(content.length);
+                    out.write(content);
+                    answer.add(ResourceHelper.fromBytes(resource.getLocation(), content));
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return answer;
+    }
+
+    /**
+     * The fingerprint of what the discovered resources depend on, besides the resources themselves: the Camel version,
+     * the class path entries, and the files in the directories the include patterns are matched in.
+     */
+    private static byte[] fingerprint(CamelContext camelContext, Path file, String includePattern) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        update(digest, camelContext.getVersion());
+
+        List<Path> classpath = new ArrayList<>();
+        String cp = System.getProperty("java.class.path");
+        if (cp != null) {
+            for (String entry : cp.split(File.pathSeparator)) {
+                if (!entry.isEmpty()) {
+                    Path path = Paths.get(entry);
+                    classpath.add(path);
+                    update(digest, path);
+                }
+            }
+        }
+
+        if (includePattern != null) {
+            for (String include : includePattern.split(",")) {
+                include = include.trim();
+                if (include.startsWith("file:")) {
+                    include = include.substring(5);
+                    Path base = Paths.get(getBaseDirectory(include));
+                    updateFileNames(digest, base, getDepth(include), file);
+                } else if (include.startsWith("classpath:")) {
+                    include = include.substring(10);
+                    String base = getBaseDirectory(include);
+                    for (Path entry : classpath) {
+                        if (Files.isDirectory(entry)) {
+                            updateFileNames(digest, entry.resolve(base), getDepth(include), file);
+                        }
+                    }
+                }
+            }
+        }
+        return digest.digest();
+    }
+
+    /**
+     * The directory of the pattern before the first wildcard, which is where the resources are matched.
+     */
+    private static String getBaseDirectory(String pattern) {
+        int slash = getBaseDirectoryEnd(pattern);
+        return slash > 0 ? pattern.substring(0, slash) : slash == 0 ? "/" : "";
+    }
+
+    private static int getBaseDirectoryEnd(String pattern) {
+        int end = pattern.length();
+        for (int i = 0; i < pattern.length(); i++) {
+            if (WILDCARDS.indexOf(pattern.charAt(i)) != -1) {
+                end = i;
+                break;
+            }
+        }
+        return pattern.lastIndexOf('/', end - 1);
+    }
+
+    /**
+     * The depth of the files matched by the pattern below its base directory, which is at most {@link #MAX_DEPTH}, so a
+     * route file which is added or deleted in a deeper directory is not detected (a changed route file is detected
+     * from the file itself).
+     */
+    private static int getDepth(String pattern) {
+        if (pattern.contains("**")) {
+            return MAX_DEPTH;
+        }
+        int slash = getBaseDirectoryEnd(pattern);
+        return (int) Math.min(pattern.substring(slash + 1).chars().filter(c -> c == '/').count() + 1, MAX_DEPTH);
+    }
+
+    private static void updateFileNames(MessageDigest digest, Path base, int depth, Path file) throws IOException {
+        if (!Files.isDirectory(base)) {
+            return;
+        }
+        // the snapshot file, and its temporary file, may be in the same directory as the routes
+        String snapshot = file.getFileName().toString();
+        List<String> names;
+        try (Stream<Path> stream = Files.walk(base, depth)) {
+            names = stream.filter(p -> p.getFileName() == null || !p.getFileName().toString().startsWith(snapshot))
+                    .map(Path::toString).sorted().collect(Collectors.toList());
+        }
+        for (String name : names) {
+            update(digest, name);
+        }
+    }
+
+    private static void update(MessageDigest digest, Path path) throws IOException {
+        update(digest, path.toString());
+        if (Files.exists(path)) {
+            update(digest, Files.size(path) + ":" + Files.getLastModifiedTime(path).toMillis());
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static boolean isUnchanged(Path source, long length, long lastModified) throws IOException {
+        return Files.exists(source) && Files.size(source) == length
+                && Files.getLastModifiedTime(source).toMillis() == lastModified;
+    }
+
+    /**
+     * The file the resource is loaded from, which is the jar file for a resource in a jar, or <tt>null</tt> if not
+     * loaded from a file, in which case any change is detected by the class path fingerprint only.
+     */
+    private static Path getSource(Resource resource) {
+        try {
+            URI uri = resource.getURI();
+            if (uri == null) {
+                return null;
+            }
+            if ("file".equals(uri.getScheme())) {
+                return Paths.get(uri);
+            }
+            if ("jar".equals(uri.getScheme())) {
+                String path = uri.getRawSchemeSpecificPart();
+                int pos = path.indexOf("!/");
+                if (pos != -1 && path.startsWith("file:")) {
+                    return Paths.get(URI.create(path.substring(0, pos)));
+                }
+            }
+        } catch (RuntimeException e) {
+            LOG.debug("Cannot resolve the file of resource: {} due to: {}", resource.getLocation(), e.getMessage(), e);
+        }
+        return null;
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.DefaultRoutesLoader;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.spi.RoutesBuilderLoader;
+import org.apache.camel.support.service.ServiceSupport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MainRoutesSnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testRoutesSnapshot() throws Exception {
+        Files.writeString(dir.resolve("foo.routes"), "direct:foo mock:foo");
+        Files.writeString(dir.resolve("bar.routes"), "direct:bar mock:bar");
+        Path snapshot = dir.resolve("snapshot/routes.snapshot");
+
+        // the first startup discovers the routes and creates the snapshot
+        assertEquals(2, startAndCountRoutes("file:" + dir + "/*.routes", snapshot));
+        assertTrue(Files.exists(snapshot));
+
+        // the following startups load the routes from the snapshot
+        FileTime created = Files.getLastModifiedTime(snapshot);
+        assertEquals(2, startAndCountRoutes("file:" + dir + "/*.routes", snapshot));
+        assertEquals(created, Files.getLastModifiedTime(snapshot));
+
+        // and the routes are discovered again when a route is deleted, added or changed
+        Files.delete(dir.resolve("foo.routes"));
+        assertEquals(1, startAndCountRoutes("file:" + dir + "/*.routes", snapshot));
+        Files.writeString(dir.resolve("baz.routes"), "direct:baz mock:baz");
+        assertEquals(2, startAndCountRoutes("file:" + dir + "/*.routes", snapshot));
+        Files.writeString(dir.resolve("bar.routes"), "direct:bar2 mock:bar2");
+        Main main = start("file:" + dir + "/*.routes", snapshot);
+        try {
+            assertNotNull(main.getCamelContext().hasEndpoint("direct:bar2"));
+        } finally {
+            main.stop();
+        }
+
+        // and when the include pattern is changed
+        assertEquals(0, startAndCountRoutes("file:" + dir + "/*.other", snapshot));
+    }
+
+    private static Main start(String includePattern, Path snapshot) throws Exception {
+        Main main = new Main();
+        main.configure().withRoutesIncludePattern(includePattern);
+        main.configure().withRoutesSnapshotFile(snapshot.toString());
+        main.bind(DefaultRoutesLoader.ROUTES_LOADER_KEY_PREFIX + "routes", new MyRoutesBuilderLoader());
+        main.start();
+        return main;
+    }
+
+    private static int startAndCountRoutes(String includePattern, Path snapshot) throws Exception {
+        Main main = start(includePattern, snapshot);
+        try {
+            CamelContext camelContext = main.getCamelContext();
+            assertNotNull(camelContext);
+            return camelContext.getRoutes().size();
+        } finally {
+            main.stop();
+        }
+    }
+
+    /**
+     * Loads a route from a resource with the from and to endpoint separated by a space.
+     */
+    private static class MyRoutesBuilderLoader extends ServiceSupport implements RoutesBuilderLoader {
+
+        private CamelContext camelContext;
+
+        @Override
+        public String getSupportedExtension() {
+            return "routes";
+        }
+
+        @Override
+        public RoutesBuilder loadRoutesBuilder(Resource resource) throws Exception {
+            String[] uris;
+            try (InputStream is = resource.getInputStream()) {
+                uris = new String(is.readAllBytes(), StandardCharsets.UTF_8).trim().split(" ");
+            }
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from(uris[0]).to(uris[1]);
+                }
+            };
+        }
+
+        @Override
+        public CamelContext getCamelContext() {
+            return camelContext;
+        }
+
+        @Override
+        public void setCamelContext(CamelContext camelContext) {
+            this.camelContext = camelContext;
+        }
+    }
+}
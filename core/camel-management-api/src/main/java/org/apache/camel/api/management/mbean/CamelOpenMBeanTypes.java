@@ -201,6 +201,27 @@ public final class CamelOpenMBeanTypes {
                 new OpenType[] { SimpleType.STRING, SimpleType.LONG });
     }
 
+    public static TabularType listStreamCachingRouteStatisticsTabularType() throws OpenDataException {
+        CompositeType ct = listStreamCachingRouteStatisticsCompositeType();
+        return new TabularType(
+                "listStreamCachingRouteStatistics", "Stream caching utilization statistics per route", ct,
+                new String[] { "routeId" });
+    }
+
+    public static CompositeType listStreamCachingRouteStatisticsCompositeType() throws OpenDataException {
+        return new CompositeType(
+                "routes", "Routes",
+                new String[] {
+                        "routeId", "memoryCounter", "memorySize", "offHeapCounter", "offHeapSize", "spoolCounter",
+                        "spoolSize" },
+                new String[] {
+                        "Route Id", "Memory Counter", "Memory Size", "Off-heap Counter", "Off-heap Size", "Spool Counter",
+                        "Spool Size" },
+                new OpenType[] {
+                        SimpleType.STRING, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG,
+                        SimpleType.LONG });
+    }
+
     public static TabularType listTransformersTabularType() throws OpenDataException {
         CompositeType ct = listTransformersCompositeType();
         return new TabularType(
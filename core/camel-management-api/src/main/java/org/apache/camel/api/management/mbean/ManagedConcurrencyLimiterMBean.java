@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.api.management.mbean;
+
+import org.apache.camel.api.management.ManagedAttribute;
+
+public interface ManagedConcurrencyLimiterMBean extends ManagedProcessorMBean {
+
+    @ManagedAttribute(description = "Current concurrency limit")
+    int getLimit();
+
+    @ManagedAttribute(description = "Number of exchanges currently being processed")
+    int getInflight();
+
+    @ManagedAttribute(description = "Number of exchanges waiting for a free slot")
+    int getQueueSize();
+
+    @ManagedAttribute(description = "Number of exchanges rejected as the limit and the queue were full")
+    long getRejectedCount();
+
+    @ManagedAttribute(description = "Short term average latency in millis")
+    double getShortRtt();
+
+    @ManagedAttribute(description = "Long term average latency in millis")
+    double getLongRtt();
+
+    @ManagedAttribute(description = "Initial concurrency limit")
+    int getInitialLimit();
+
+    @ManagedAttribute(description = "Minimum concurrency limit")
+    int getMinLimit();
+
+    @ManagedAttribute(description = "Maximum concurrency limit")
+    int getMaxLimit();
+
+    @ManagedAttribute(description = "Maximum number of exchanges waiting for a free slot")
+    int getMaxQueueSize();
+
+    @ManagedAttribute(description = "How much the latency may grow above the long term average before the limit is decreased")
+    double getTolerance();
+
+    @ManagedAttribute(description = "How fast the limit moves towards a newly calculated value")
+    double getSmoothing();
+
+}
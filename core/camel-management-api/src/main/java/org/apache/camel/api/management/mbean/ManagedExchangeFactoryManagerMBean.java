@@ -26,6 +26,9 @@ public interface ManagedExchangeFactoryManagerMBean extends ManagedServiceMBean
     @ManagedAttribute(description = "Number of consumers managed")
     Integer getConsumerCounter();
 
+    @ManagedAttribute(description = "Number of processors (EIPs) managed")
+    Integer getProcessorCounter();
+
     @ManagedAttribute(description = "Max capacity per consumer for exchange pooling")
     Integer getCapacity();
 
@@ -56,6 +59,25 @@ public interface ManagedExchangeFactoryManagerMBean extends ManagedServiceMBean
     @ManagedAttribute(description = "Total number of exchanges discarded (such as when capacity is full)")
     Long getTotalDiscarded();
 
+    @ManagedAttribute(description = "Total number of new exchanges created by processors (EIPs)")
+    Long getTotalProcessorCreated();
+
+    @ManagedAttribute(description = "Total number of exchanges reused by processors (EIPs) (if pooling is in use)")
+    Long getTotalProcessorAcquired();
+
+    @ManagedAttribute(description = "Total number of exchanges released back to the pool by processors (EIPs)")
+    Long getTotalProcessorReleased();
+
+    @ManagedAttribute(description = "Total number of exchanges discarded by processors (EIPs), such as when capacity is full")
+    Long getTotalProcessorDiscarded();
+
+    @ManagedAttribute(description = "Ratio (0.0 to 1.0) of exchanges reused from the pool, by both consumers and processors")
+    Double getReuseRatio();
+
+    @ManagedAttribute(description = "Number of exchanges in use (not released or discarded) by both consumers and processors."
+                                    + " A number that keeps growing indicates a leak")
+    Long getTotalInUse();
+
     @ManagedOperation(description = "Lists all the statistics in tabular form")
     TabularData listStatistics();
 
@@ -29,6 +29,9 @@ public interface ManagedInflightRepositoryMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Whether browsing inflight exchanges is enabled. This is required to be enabled for the browse operations to function.")
     boolean isInflightBrowseEnabled();
 
+    @ManagedAttribute(description = "The sample rate when browsing inflight exchanges, where only every Nth exchange is kept for browsing.")
+    int getInflightBrowseSampleRate();
+
     @ManagedOperation(description = "Current size of inflight exchanges which are from the given route.")
     int size(String routeId);
 
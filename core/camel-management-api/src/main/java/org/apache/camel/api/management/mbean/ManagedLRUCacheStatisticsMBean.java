@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.api.management.mbean;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+
+public interface ManagedLRUCacheStatisticsMBean {
+
+    @ManagedAttribute(description = "Number of caches in use")
+    int getSize();
+
+    @ManagedAttribute(description = "Total number of entries in the caches")
+    long getEntries();
+
+    @ManagedAttribute(description = "Total number of cache hits")
+    long getHits();
+
+    @ManagedAttribute(description = "Total number of cache misses")
+    long getMisses();
+
+    @ManagedAttribute(description = "Total number of evicted entries")
+    long getEvicted();
+
+    @ManagedOperation(description = "Resets the statistics of the caches")
+    void resetStatistics();
+
+}
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.api.management.mbean;
 
+import javax.management.openmbean.TabularData;
+
 import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedOperation;
 
@@ -77,6 +79,24 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Whether any or all spool rules determines whether to spool")
     boolean isAnySpoolRules();
 
+    @ManagedAttribute(description = "Whether caching in off-heap memory is enabled")
+    boolean isOffHeapEnabled();
+
+    @ManagedAttribute(description = "Threshold in bytes when moving from heap to off-heap memory")
+    void setOffHeapThreshold(long threshold);
+
+    @ManagedAttribute(description = "Threshold in bytes when moving from heap to off-heap memory")
+    long getOffHeapThreshold();
+
+    @ManagedAttribute(description = "Maximum off-heap memory in bytes to use for caching")
+    void setOffHeapMaxSize(long maxSize);
+
+    @ManagedAttribute(description = "Maximum off-heap memory in bytes to use for caching")
+    long getOffHeapMaxSize();
+
+    @ManagedAttribute(description = "Off-heap memory in bytes currently in use for caching")
+    long getOffHeapUsed();
+
     @ManagedAttribute(description = "Number of in-memory StreamCache created")
     long getCacheMemoryCounter();
 
@@ -95,6 +115,18 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Average number of bytes per cached stream for spooled (not in-memory) stream caches.")
     long getCacheSpoolAverageSize();
 
+    @ManagedAttribute(description = "Number of off-heap StreamCache created")
+    long getCacheOffHeapCounter();
+
+    @ManagedAttribute(description = "Total accumulated number of bytes which has been stream cached for off-heap StreamCache")
+    long getCacheOffHeapSize();
+
+    @ManagedAttribute(description = "Average number of bytes per cached stream for off-heap stream caches.")
+    long getCacheOffHeapAverageSize();
+
+    @ManagedOperation(description = "Lists the utilization statistics per route")
+    TabularData listRouteStatistics();
+
     @ManagedAttribute(description = "Whether utilization statistics is enabled")
     boolean isStatisticsEnabled();
 
@@ -36,6 +36,15 @@ public interface ManagedTypeConverterRegistryMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Number of type conversion failures (failed conversions)")
     long getFailedCounter();
 
+    @ManagedAttribute(description = "Number of type conversions done by fallback type converters")
+    long getFallbackCounter();
+
+    @ManagedAttribute(description = "Number of type converter lookups found in the converter cache")
+    long getCacheHitCounter();
+
+    @ManagedAttribute(description = "Number of type converter lookups not found in the converter cache")
+    long getCacheMissCounter();
+
     @ManagedOperation(description = "Resets the type conversion counters")
     void resetTypeConversionCounters();
 
@@ -43,6 +43,7 @@ import org.apache.camel.management.mbean.ManagedConsumer;
 import org.apache.camel.management.mbean.ManagedDataFormat;
 import org.apache.camel.management.mbean.ManagedEndpoint;
 import org.apache.camel.management.mbean.ManagedEventNotifier;
+import org.apache.camel.management.mbean.ManagedLRUCacheStatistics;
 import org.apache.camel.management.mbean.ManagedProcessor;
 import org.apache.camel.management.mbean.ManagedProducer;
 import org.apache.camel.management.mbean.ManagedRoute;
@@ -83,6 +84,7 @@ public class DefaultManagementObjectNameStrategy implements ManagementObjectName
     public static final String TYPE_THREAD_POOL = "threadpools";
     public static final String TYPE_SERVICE = "services";
     public static final String TYPE_HA = "clusterservices";
+    public static final String TYPE_CACHE = "caches";
 
     protected String domainName;
     protected String hostName = "localhost";
@@ -124,6 +126,9 @@ public class DefaultManagementObjectNameStrategy implements ManagementObjectName
         } else if (managedObject instanceof ManagedCamelHealth) {
             ManagedCamelHealth mch = (ManagedCamelHealth) managedObject;
             objectName = getObjectNameForCamelHealth(mch.getContext());
+        } else if (managedObject instanceof ManagedLRUCacheStatistics) {
+            ManagedLRUCacheStatistics mcs = (ManagedLRUCacheStatistics) managedObject;
+            objectName = getObjectNameForLRUCacheStatistics(mcs.getContext());
         } else if (managedObject instanceof ManagedRouteController) {
             ManagedRouteController mrc = (ManagedRouteController) managedObject;
             objectName = getObjectNameForRouteController(mrc.getContext(), mrc.getRouteController());
@@ -225,6 +230,22 @@ public class DefaultManagementObjectNameStrategy implements ManagementObjectName
         return createObjectName(buffer);
     }
 
+    public ObjectName getObjectNameForLRUCacheStatistics(CamelContext context) throws MalformedObjectNameException {
+        // prefer to use the given management name if previously assigned
+        String managementName = context.getManagementName();
+        if (managementName == null) {
+            managementName = context.getManagementNameStrategy().getName();
+        }
+
+        StringBuilder buffer = new StringBuilder();
+        buffer.append(domainName).append(":");
+        buffer.append(KEY_CONTEXT + "=").append(getContextId(managementName)).append(",");
+        buffer.append(KEY_TYPE + "=" + TYPE_CACHE + ",");
+        buffer.append(KEY_NAME + "=").append("LRUCacheStatistics");
+
+        return createObjectName(buffer);
+    }
+
     @Override
     public ObjectName getObjectNameForRouteController(CamelContext context, RouteController routeController)
             throws MalformedObjectNameException {
@@ -42,6 +42,7 @@ import org.apache.camel.management.mbean.ManagedChoice;
 import org.apache.camel.management.mbean.ManagedClaimCheck;
 import org.apache.camel.management.mbean.ManagedClusterService;
 import org.apache.camel.management.mbean.ManagedComponent;
+import org.apache.camel.management.mbean.ManagedConcurrencyLimiter;
 import org.apache.camel.management.mbean.ManagedConsumer;
 import org.apache.camel.management.mbean.ManagedConvertBody;
 import org.apache.camel.management.mbean.ManagedCustomLoadBalancer;
@@ -126,6 +127,7 @@ import org.apache.camel.model.ValidateDefinition;
 import org.apache.camel.model.loadbalancer.CustomLoadBalancerDefinition;
 import org.apache.camel.processor.ChoiceProcessor;
 import org.apache.camel.processor.ClaimCheckProcessor;
+import org.apache.camel.processor.ConcurrencyLimiter;
 import org.apache.camel.processor.Delayer;
 import org.apache.camel.processor.DisabledProcessor;
 import org.apache.camel.processor.DynamicRouter;
@@ -350,6 +352,8 @@ public class DefaultManagementObjectStrategy implements ManagementObjectStrategy
                 answer = new ManagedDisabled(context, (DisabledProcessor) target, definition);
             } else if (target instanceof Throttler) {
                 answer = new ManagedThrottler(context, (Throttler) target, definition);
+            } else if (target instanceof ConcurrencyLimiter) {
+                answer = new ManagedConcurrencyLimiter(context, (ConcurrencyLimiter) target, definition);
             } else if (target instanceof DynamicRouter) {
                 answer = new ManagedDynamicRouter(context, (DynamicRouter) target, (DynamicRouterDefinition) definition);
             } else if (target instanceof RoutingSlip) {
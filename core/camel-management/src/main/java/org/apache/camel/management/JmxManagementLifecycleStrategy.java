@@ -61,6 +61,7 @@ import org.apache.camel.management.mbean.ManagedEndpoint;
 import org.apache.camel.management.mbean.ManagedEndpointRegistry;
 import org.apache.camel.management.mbean.ManagedExchangeFactoryManager;
 import org.apache.camel.management.mbean.ManagedInflightRepository;
+import org.apache.camel.management.mbean.ManagedLRUCacheStatistics;
 import org.apache.camel.management.mbean.ManagedProducerCache;
 import org.apache.camel.management.mbean.ManagedRestRegistry;
 import org.apache.camel.management.mbean.ManagedRoute;
@@ -104,6 +105,8 @@ import org.apache.camel.spi.TransformerRegistry;
 import org.apache.camel.spi.TypeConverterRegistry;
 import org.apache.camel.spi.UnitOfWork;
 import org.apache.camel.spi.ValidatorRegistry;
+import org.apache.camel.support.DefaultLRUCacheFactory;
+import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.TimerListenerManager;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.throttling.ThrottlingExceptionRoutePolicy;
@@ -131,6 +134,7 @@ public class JmxManagementLifecycleStrategy extends ServiceSupport implements Li
     private final TimerListenerManagerStartupListener loadTimerStartupListener = new TimerListenerManagerStartupListener();
     private volatile CamelContext camelContext;
     private volatile ManagedCamelContext camelContextMBean;
+    private volatile ManagedLRUCacheStatistics lruCacheStatistics;
     private volatile boolean initialized;
     private final Set<String> knowRouteIds = new HashSet<>();
     private final Map<BacklogTracer, ManagedBacklogTracer> managedBacklogTracers = new HashMap<>();
@@ -239,6 +243,19 @@ public class JmxManagementLifecycleStrategy extends ServiceSupport implements Li
         // register any pre registered now that we are initialized
         enlistPreRegisteredServices();
 
+        // the LRUCacheFactory is shared by all contexts, so its statistics are registered along with the context
+        LRUCacheFactory lruCacheFactory = LRUCacheFactory.getInstance();
+        if (lruCacheFactory instanceof DefaultLRUCacheFactory) {
+            try {
+                ManagedLRUCacheStatistics me
+                        = new ManagedLRUCacheStatistics(camelContext, (DefaultLRUCacheFactory) lruCacheFactory);
+                manageObject(me);
+                lruCacheStatistics = me;
+            } catch (Exception e) {
+                LOG.warn("Could not register LRUCacheStatistics MBean. This exception will be ignored.", e);
+            }
+        }
+
         // register health check if detected
         HealthCheckRegistry hcr = context.getExtension(HealthCheckRegistry.class);
         if (hcr != null) {
@@ -339,6 +356,18 @@ public class JmxManagementLifecycleStrategy extends ServiceSupport implements Li
             LOG.warn("Could not unregister CamelContext MBean", e);
         }
 
+        if (lruCacheStatistics != null) {
+            try {
+                // the context could have been removed already
+                if (getManagementStrategy().isManaged(lruCacheStatistics)) {
+                    unmanageObject(lruCacheStatistics);
+                }
+            } catch (Exception e) {
+                LOG.warn("Could not unregister LRUCacheStatistics MBean", e);
+            }
+            lruCacheStatistics = null;
+        }
+
         HealthCheckRegistry hcr = context.getExtension(HealthCheckRegistry.class);
         if (hcr != null) {
             try {
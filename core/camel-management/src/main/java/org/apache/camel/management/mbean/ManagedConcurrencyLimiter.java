@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.api.management.mbean.ManagedConcurrencyLimiterMBean;
+import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.processor.ConcurrencyLimiter;
+
+@ManagedResource(description = "Managed ConcurrencyLimiter")
+public class ManagedConcurrencyLimiter extends ManagedProcessor implements ManagedConcurrencyLimiterMBean {
+    private final ConcurrencyLimiter processor;
+
+    public ManagedConcurrencyLimiter(CamelContext context, ConcurrencyLimiter processor,
+                                     ProcessorDefinition<?> definition) {
+        super(context, processor, definition);
+        this.processor = processor;
+    }
+
+    @Override
+    public ConcurrencyLimiter getProcessor() {
+        return processor;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        processor.reset();
+    }
+
+    @Override
+    public int getLimit() {
+        return processor.getLimit();
+    }
+
+    @Override
+    public int getInflight() {
+        return processor.getInflight();
+    }
+
+    @Override
+    public int getQueueSize() {
+        return processor.getQueueSize();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return processor.getRejectedCount();
+    }
+
+    @Override
+    public double getShortRtt() {
+        return processor.getShortRtt();
+    }
+
+    @Override
+    public double getLongRtt() {
+        return processor.getLongRtt();
+    }
+
+    @Override
+    public int getInitialLimit() {
+        return processor.getInitialLimit();
+    }
+
+    @Override
+    public int getMinLimit() {
+        return processor.getMinLimit();
+    }
+
+    @Override
+    public int getMaxLimit() {
+        return processor.getMaxLimit();
+    }
+
+    @Override
+    public int getMaxQueueSize() {
+        return processor.getMaxQueueSize();
+    }
+
+    @Override
+    public double getTolerance() {
+        return processor.getTolerance();
+    }
+
+    @Override
+    public double getSmoothing() {
+        return processor.getSmoothing();
+    }
+}
@@ -56,6 +56,11 @@ public class ManagedExchangeFactoryManager extends ManagedService implements Man
         return exchangeFactoryManager.getConsumerCounter();
     }
 
+    @Override
+    public Integer getProcessorCounter() {
+        return exchangeFactoryManager.getProcessorCounter();
+    }
+
     @Override
     public Integer getTotalPooled() {
         return exchangeFactoryManager.getPooledCounter();
@@ -106,6 +111,45 @@ public class ManagedExchangeFactoryManager extends ManagedService implements Man
         return exchangeFactoryManager.getStatistics().getDiscardedCounter();
     }
 
+    @Override
+    public Long getTotalProcessorCreated() {
+        return exchangeFactoryManager.getProcessorStatistics().getCreatedCounter();
+    }
+
+    @Override
+    public Long getTotalProcessorAcquired() {
+        return exchangeFactoryManager.getProcessorStatistics().getAcquiredCounter();
+    }
+
+    @Override
+    public Long getTotalProcessorReleased() {
+        return exchangeFactoryManager.getProcessorStatistics().getReleasedCounter();
+    }
+
+    @Override
+    public Long getTotalProcessorDiscarded() {
+        return exchangeFactoryManager.getProcessorStatistics().getDiscardedCounter();
+    }
+
+    @Override
+    public Double getReuseRatio() {
+        long created = getTotalCreated() + getTotalProcessorCreated();
+        long acquired = getTotalAcquired() + getTotalProcessorAcquired();
+        long total = created + acquired;
+        if (total == 0) {
+            return 0d;
+        }
+        return (double) acquired / total;
+    }
+
+    @Override
+    public Long getTotalInUse() {
+        long used = getTotalCreated() + getTotalAcquired() + getTotalProcessorCreated() + getTotalProcessorAcquired();
+        long returned
+                = getTotalReleased() + getTotalDiscarded() + getTotalProcessorReleased() + getTotalProcessorDiscarded();
+        return Math.max(0, used - returned);
+    }
+
     @Override
     public TabularData listStatistics() {
         try {
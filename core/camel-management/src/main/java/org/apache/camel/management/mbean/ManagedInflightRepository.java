@@ -58,6 +58,11 @@ public class ManagedInflightRepository extends ManagedService implements Managed
         return inflightRepository.isInflightBrowseEnabled();
     }
 
+    @Override
+    public int getInflightBrowseSampleRate() {
+        return inflightRepository.getInflightBrowseSampleRate();
+    }
+
     @Override
     public int size(String routeId) {
         return inflightRepository.size(routeId);
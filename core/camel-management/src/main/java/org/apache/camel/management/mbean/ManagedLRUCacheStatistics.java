@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.api.management.mbean.ManagedLRUCacheStatisticsMBean;
+import org.apache.camel.spi.ManagementStrategy;
+import org.apache.camel.support.DefaultLRUCacheFactory;
+
+/**
+ * Exposes the total statistics of the caches created by the {@link DefaultLRUCacheFactory}.
+ * <p/>
+ * The factory is shared by all the CamelContexts in the JVM, and so are the statistics.
+ */
+@ManagedResource(description = "Managed LRUCacheStatistics")
+public class ManagedLRUCacheStatistics implements ManagedLRUCacheStatisticsMBean {
+    private final CamelContext context;
+    private final DefaultLRUCacheFactory factory;
+
+    public ManagedLRUCacheStatistics(CamelContext context, DefaultLRUCacheFactory factory) {
+        this.context = context;
+        this.factory = factory;
+    }
+
+    public void init(ManagementStrategy strategy) {
+        // do nothing
+    }
+
+    public CamelContext getContext() {
+        return context;
+    }
+
+    @Override
+    public int getSize() {
+        return factory.getSize();
+    }
+
+    @Override
+    public long getEntries() {
+        return factory.getEntries();
+    }
+
+    @Override
+    public long getHits() {
+        return factory.getHits();
+    }
+
+    @Override
+    public long getMisses() {
+        return factory.getMisses();
+    }
+
+    @Override
+    public long getEvicted() {
+        return factory.getEvicted();
+    }
+
+    @Override
+    public void resetStatistics() {
+        factory.resetStatistics();
+    }
+}
@@ -485,7 +485,7 @@ public class ManagedRoute extends ManagedPerformanceCounter implements TimerList
             answer.append(" oldestInflightExchangeId=\"\"");
             answer.append(" oldestInflightDuration=\"\"");
         } else {
-            answer.append(" oldestInflightExchangeId=\"").append(oldest.getExchange().getExchangeId()).append("\"");
+            answer.append(" oldestInflightExchangeId=\"").append(getExchangeId(oldest, "")).append("\"");
             answer.append(" oldestInflightDuration=\"").append(oldest.getDuration()).append("\"");
         }
         answer.append(" ").append(stat, 7, stat.length() - 2).append(">\n");
@@ -553,7 +553,7 @@ public class ManagedRoute extends ManagedPerformanceCounter implements TimerList
             answer.append(" oldestInflightExchangeId=\"\"");
             answer.append(" oldestInflightDuration=\"\"");
         } else {
-            answer.append(" oldestInflightExchangeId=\"").append(oldest.getExchange().getExchangeId()).append("\"");
+            answer.append(" oldestInflightExchangeId=\"").append(getExchangeId(oldest, "")).append("\"");
             answer.append(" oldestInflightDuration=\"").append(oldest.getDuration()).append("\"");
         }
         answer.append(" ").append(stat, 7, stat.length() - 2).append(">\n");
@@ -664,11 +664,12 @@ public class ManagedRoute extends ManagedPerformanceCounter implements TimerList
     @Override
     public String getOldestInflightExchangeId() {
         InflightRepository.InflightExchange oldest = getOldestInflightEntry();
-        if (oldest == null) {
-            return null;
-        } else {
-            return oldest.getExchange().getExchangeId();
-        }
+        return oldest != null ? getExchangeId(oldest, null) : null;
+    }
+
+    private static String getExchangeId(InflightRepository.InflightExchange oldest, String defaultValue) {
+        // the exchange is only known when inflight browsing is enabled
+        return oldest.getExchange() != null ? oldest.getExchange().getExchangeId() : defaultValue;
     }
 
     @Override
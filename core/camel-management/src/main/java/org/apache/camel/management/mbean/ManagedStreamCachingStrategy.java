@@ -16,8 +16,18 @@
  */
 package org.apache.camel.management.mbean;
 
+import java.util.Map;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+
 import org.apache.camel.CamelContext;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.api.management.mbean.CamelOpenMBeanTypes;
 import org.apache.camel.api.management.mbean.ManagedStreamCachingStrategyMBean;
 import org.apache.camel.spi.StreamCachingStrategy;
 
@@ -152,6 +162,36 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.isAnySpoolRules();
     }
 
+    @Override
+    public boolean isOffHeapEnabled() {
+        return streamCachingStrategy.isOffHeapEnabled();
+    }
+
+    @Override
+    public void setOffHeapThreshold(long threshold) {
+        streamCachingStrategy.setOffHeapThreshold(threshold);
+    }
+
+    @Override
+    public long getOffHeapThreshold() {
+        return streamCachingStrategy.getOffHeapThreshold();
+    }
+
+    @Override
+    public void setOffHeapMaxSize(long maxSize) {
+        streamCachingStrategy.setOffHeapMaxSize(maxSize);
+    }
+
+    @Override
+    public long getOffHeapMaxSize() {
+        return streamCachingStrategy.getOffHeapMaxSize();
+    }
+
+    @Override
+    public long getOffHeapUsed() {
+        return streamCachingStrategy.getOffHeapUsed();
+    }
+
     @Override
     public long getCacheMemoryCounter() {
         return streamCachingStrategy.getStatistics().getCacheMemoryCounter();
@@ -182,6 +222,46 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getStatistics().getCacheSpoolAverageSize();
     }
 
+    @Override
+    public long getCacheOffHeapCounter() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapCounter();
+    }
+
+    @Override
+    public long getCacheOffHeapSize() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapSize();
+    }
+
+    @Override
+    public long getCacheOffHeapAverageSize() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapAverageSize();
+    }
+
+    @Override
+    public TabularData listRouteStatistics() {
+        try {
+            TabularData answer = new TabularDataSupport(CamelOpenMBeanTypes.listStreamCachingRouteStatisticsTabularType());
+            CompositeType ct = CamelOpenMBeanTypes.listStreamCachingRouteStatisticsCompositeType();
+            for (Map.Entry<String, StreamCachingStrategy.RouteStatistics> entry : streamCachingStrategy.getStatistics()
+                    .getRouteStatistics().entrySet()) {
+                StreamCachingStrategy.RouteStatistics stats = entry.getValue();
+                CompositeData data = new CompositeDataSupport(
+                        ct,
+                        new String[] {
+                                "routeId", "memoryCounter", "memorySize", "offHeapCounter", "offHeapSize", "spoolCounter",
+                                "spoolSize" },
+                        new Object[] {
+                                entry.getKey(), stats.getCacheMemoryCounter(), stats.getCacheMemorySize(),
+                                stats.getCacheOffHeapCounter(), stats.getCacheOffHeapSize(), stats.getCacheSpoolCounter(),
+                                stats.getCacheSpoolSize() });
+                answer.put(data);
+            }
+            return answer;
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
     @Override
     public boolean isStatisticsEnabled() {
         return streamCachingStrategy.getStatistics().isStatisticsEnabled();
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.support.LRUCacheFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_CACHE;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedLRUCacheStatisticsTest extends ManagementTestSupport {
+
+    @Test
+    public void testLRUCacheStatistics() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = getCamelObjectName(TYPE_CACHE, "LRUCacheStatistics");
+        assertTrue(mbeanServer.isRegistered(on), "Should be registered");
+
+        Map<String, String> cache = LRUCacheFactory.newLRUCache(2);
+        cache.put("A", "a");
+        cache.put("B", "b");
+        cache.put("C", "c");
+        cache.get("C");
+        cache.get("D");
+
+        Integer size = (Integer) mbeanServer.getAttribute(on, "Size");
+        assertTrue(size >= 1, "Should have caches");
+        Long hits = (Long) mbeanServer.getAttribute(on, "Hits");
+        assertTrue(hits >= 1, "Should have hits");
+        Long misses = (Long) mbeanServer.getAttribute(on, "Misses");
+        assertTrue(misses >= 1, "Should have misses");
+        Long evicted = (Long) mbeanServer.getAttribute(on, "Evicted");
+        assertTrue(evicted >= 1, "Should have evicted");
+    }
+
+}
@@ -102,6 +102,12 @@ public class ManagedPooledExchangeTest extends ManagementTestSupport {
 
         num = (Long) mbeanServer.getAttribute(on, "TotalDiscarded");
         assertEquals(0, num.intValue());
+
+        num = (Long) mbeanServer.getAttribute(on, "TotalInUse");
+        assertEquals(0, num.intValue());
+
+        Double ratio = (Double) mbeanServer.getAttribute(on, "ReuseRatio");
+        assertEquals(2d / 3d, ratio, 0.001);
     }
 
     @Override
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.WorkStealingReactiveExecutor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_SERVICE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedWorkStealingReactiveExecutorTest extends ManagementTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor(2);
+        executor.setStatisticsEnabled(true);
+        context.getCamelContextExtension().setReactiveExecutor(executor);
+        return context;
+    }
+
+    @Test
+    public void testReactiveExecutor() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World", "Bye World");
+
+        template.sendBody("seda:start", "Hello World");
+        template.sendBody("seda:start", "Bye World");
+
+        assertMockEndpointsSatisfied();
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = getCamelObjectName(TYPE_SERVICE, "WorkStealingReactiveExecutor");
+        assertTrue(mbeanServer.isRegistered(on), "Should be registered");
+
+        Integer parallelism = (Integer) mbeanServer.getAttribute(on, "Parallelism");
+        assertEquals(2, parallelism.intValue());
+
+        // the continuations after the asynchronous delays are handed over to the pool
+        Long offloaded = (Long) mbeanServer.getAttribute(on, "OffloadedTasks");
+        assertTrue(offloaded >= 2, "Should have offloaded tasks");
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:start")
+                        .delay(10).asyncDelayed()
+                        .process(exchange -> {
+                            // continued routing in the work-stealing pool
+                            String name = Thread.currentThread().getName();
+                            assertTrue(name.contains("ReactiveExecutor"), "Should run in reactive executor: " + name);
+
+                            MBeanServer mbeanServer = getMBeanServer();
+                            ObjectName on = getCamelObjectName(TYPE_SERVICE, "WorkStealingReactiveExecutor");
+
+                            // should be at least this worker running
+                            Integer running = (Integer) mbeanServer.getAttribute(on, "RunningWorkers");
+                            assertTrue(running >= 1, "Should be running workers");
+                        })
+                        .to("mock:result");
+            }
+        };
+    }
+
+}
@@ -36,12 +36,17 @@ import org.apache.camel.spi.StreamCachingStrategy;
  * You can get a cached input stream of this stream. The temp file which is created with this output stream will be
  * deleted when you close this output stream or the cached fileInputStream(s) is/are closed after all the exchanges
  * using the temp file are completed.
+ * <p/>
+ * If off-heap is enabled on the {@link StreamCachingStrategy} then content larger than the off-heap threshold is moved
+ * from the heap to pooled off-heap buffers, which overflows to disk (or back to heap) when the off-heap memory is used
+ * up.
  */
 public class CachedOutputStream extends OutputStream {
 
     private final StreamCachingStrategy strategy;
     private OutputStream currentStream;
     private boolean inMemory = true;
+    private boolean offHeapExhausted;
     private int totalLength;
     private final TempFileManager tempFileManager;
     private final boolean closedOnCompletion;
@@ -66,9 +71,10 @@ public class CachedOutputStream extends OutputStream {
     @Override
     public void close() throws IOException {
         currentStream.close();
-        // need to clean up the temp file this time
+        // need to clean up the temp file (or off-heap memory) this time
         if (!closedOnCompletion) {
             tempFileManager.closeFileInputStreams();
+            tempFileManager.releaseOffHeap();
             tempFileManager.cleanUpTempFile();
         }
     }
@@ -95,27 +101,21 @@ public class CachedOutputStream extends OutputStream {
     @Override
     public void write(byte[] b, int off, int len) throws IOException {
         this.totalLength += len;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
-        }
+        prepareWrite(len);
         currentStream.write(b, off, len);
     }
 
     @Override
     public void write(byte[] b) throws IOException {
         this.totalLength += b.length;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
-        }
+        prepareWrite(b.length);
         currentStream.write(b);
     }
 
     @Override
     public void write(int b) throws IOException {
         this.totalLength++;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
-        }
+        prepareWrite(1);
         currentStream.write(b);
     }
 
@@ -134,7 +134,10 @@ public class CachedOutputStream extends OutputStream {
     public StreamCache newStreamCache() throws IOException {
         flush();
 
-        if (inMemory) {
+        if (currentStream instanceof OffHeapOutputStream) {
+            // shares the off-heap buffers
+            return ((OffHeapOutputStream) currentStream).newStreamCache(tempFileManager);
+        } else if (inMemory) {
             if (currentStream instanceof CachedByteArrayOutputStream) {
                 return ((CachedByteArrayOutputStream) currentStream).newInputStreamCache();
             } else {
@@ -147,19 +150,81 @@ public class CachedOutputStream extends OutputStream {
         }
     }
 
+    /**
+     * Moves the content between heap, off-heap and disk before writing the given number of bytes.
+     */
+    private void prepareWrite(int len) throws IOException {
+        if (!inMemory) {
+            return;
+        }
+        if (currentStream instanceof OffHeapOutputStream) {
+            OffHeapOutputStream out = (OffHeapOutputStream) currentStream;
+            if (strategy.shouldSpoolCache(totalLength)) {
+                pageToFileStream();
+            } else if (!out.ensureCapacity(len)) {
+                // the off-heap memory is used up, so overflow to disk if possible, otherwise back to heap
+                offHeapExhausted = true;
+                if (canSpool()) {
+                    pageToFileStream();
+                } else {
+                    pageToHeap(out);
+                }
+            }
+        } else if (currentStream instanceof ByteArrayOutputStream) {
+            if (strategy.shouldSpoolCache(totalLength)) {
+                pageToFileStream();
+            } else if (strategy.isOffHeapEnabled() && !offHeapExhausted && totalLength > strategy.getOffHeapThreshold()) {
+                pageToOffHeap();
+            }
+        }
+    }
+
+    private boolean canSpool() {
+        return strategy.isSpoolEnabled() && strategy.getSpoolDirectory() != null;
+    }
+
     private void pageToFileStream() throws IOException {
         flush();
-        ByteArrayOutputStream bout = (ByteArrayOutputStream) currentStream;
+        OutputStream previous = currentStream;
         try {
             // creates a tmp file and a file output stream
             currentStream = tempFileManager.createOutputStream(strategy);
-            bout.writeTo(currentStream);
+            if (previous instanceof OffHeapOutputStream) {
+                ((OffHeapOutputStream) previous).writeTo(currentStream);
+                ((OffHeapOutputStream) previous).release();
+            } else {
+                ((ByteArrayOutputStream) previous).writeTo(currentStream);
+            }
         } finally {
             // ensure flag is flipped to file based
             inMemory = false;
         }
     }
 
+    private void pageToOffHeap() throws IOException {
+        flush();
+        ByteArrayOutputStream bout = (ByteArrayOutputStream) currentStream;
+        OffHeapOutputStream out = new OffHeapOutputStream(strategy);
+        // reserve room for what is already written and the pending write
+        if (out.ensureCapacity(totalLength)) {
+            bout.writeTo(out);
+            currentStream = out;
+            tempFileManager.setOffHeapStream(out);
+        } else {
+            // not enough off-heap memory so stay on heap
+            out.release();
+            offHeapExhausted = true;
+        }
+    }
+
+    private void pageToHeap(OffHeapOutputStream out) throws IOException {
+        CachedByteArrayOutputStream bout
+                = new CachedByteArrayOutputStream((int) Math.min(out.length() * 2, Integer.MAX_VALUE - 8));
+        out.writeTo(bout);
+        out.release();
+        currentStream = bout;
+    }
+
     public int getStrategyBufferSize() {
         return strategy.getBufferSize();
     }
@@ -205,6 +205,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         private File tempFile;
         private OutputStream outputStream; // file output stream
         private CipherPair ciphers;
+        private volatile OffHeapOutputStream offHeapStream;
 
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
         private List<FileInputStreamCache> fileInputStreamCaches;
@@ -249,6 +250,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                             } catch (Exception e) {
                                 LOG.warn("Error closing streams. This exception will be ignored.", e);
                             }
+                            releaseOffHeap();
                             try {
                                 cleanUpTempFile();
                             } catch (Exception e) {
@@ -282,6 +284,20 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             }
         }
 
+        /**
+         * Sets the off-heap stream which buffers are released when the exchanges are done.
+         */
+        void setOffHeapStream(OffHeapOutputStream offHeapStream) {
+            this.offHeapStream = offHeapStream;
+        }
+
+        void releaseOffHeap() {
+            OffHeapOutputStream stream = offHeapStream;
+            if (stream != null) {
+                stream.release();
+            }
+        }
+
         OutputStream createOutputStream(StreamCachingStrategy strategy) throws IOException {
             // should only be called once
             if (tempFile != null) {
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+
+/**
+ * A {@link StreamCache} for caching using off-heap memory.
+ * <p/>
+ * The off-heap buffers are shared (no copying) by all the copies of this stream cache, and are released to the
+ * {@link org.apache.camel.spi.StreamCachingStrategy} when all the exchanges using them are done, and all the copies are
+ * closed. A copy which is not closed is closed when it is garbage collected. The buffers are therefore never reused by
+ * other streams while they can still be read, and are counted as used off-heap memory until then.
+ */
+public final class OffHeapInputStreamCache extends InputStream implements StreamCache {
+
+    // closes the copies which are garbage collected without being closed
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final OffHeapOutputStream owner;
+    private final List<ByteBuffer> chunks;
+    private final long length;
+    private final FileInputStreamCache.TempFileManager tempFileManager;
+    private int current;
+    private Cleaner.Cleanable cleanable;
+
+    OffHeapInputStreamCache(OffHeapOutputStream owner, List<ByteBuffer> chunks, long length,
+                            FileInputStreamCache.TempFileManager tempFileManager) throws IOException {
+        this.owner = owner;
+        this.chunks = chunks;
+        this.length = length;
+        this.tempFileManager = tempFileManager;
+        open();
+    }
+
+    @Override
+    public synchronized void reset() {
+        for (ByteBuffer chunk : chunks) {
+            chunk.rewind();
+        }
+        current = 0;
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        byte[] buf = new byte[8192];
+        int n;
+        while ((n = read(buf, 0, buf.length)) != -1) {
+            os.write(buf, 0, n);
+        }
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        List<ByteBuffer> views = new ArrayList<>(chunks.size());
+        for (ByteBuffer chunk : chunks) {
+            views.add(chunk.duplicate().rewind());
+        }
+        StreamCache answer = new OffHeapInputStreamCache(owner, views, length, tempFileManager);
+        tempFileManager.addExchange(exchange);
+        return answer;
+    }
+
+    @Override
+    public boolean inMemory() {
+        return true;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public synchronized int available() throws IOException {
+        open();
+        long remaining = 0;
+        for (int i = current; i < chunks.size(); i++) {
+            remaining += chunks.get(i).remaining();
+        }
+        return (int) Math.min(remaining, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public synchronized int read() throws IOException {
+        ByteBuffer chunk = nextChunk();
+        return chunk != null ? chunk.get() & 0xff : -1;
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        ByteBuffer chunk = nextChunk();
+        if (chunk == null) {
+            return -1;
+        }
+        int n = Math.min(len, chunk.remaining());
+        chunk.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public synchronized long skip(long n) throws IOException {
+        long skipped = 0;
+        ByteBuffer chunk;
+        while (skipped < n && (chunk = nextChunk()) != null) {
+            int step = (int) Math.min(n - skipped, chunk.remaining());
+            chunk.position(chunk.position() + step);
+            skipped += step;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        // reset is supported but goes back to the beginning
+        return false;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (cleanable != null) {
+            cleanable.clean();
+            cleanable = null;
+        }
+    }
+
+    private ByteBuffer nextChunk() throws IOException {
+        open();
+        while (current < chunks.size()) {
+            ByteBuffer chunk = chunks.get(current);
+            if (chunk.hasRemaining()) {
+                return chunk;
+            }
+            current++;
+        }
+        return null;
+    }
+
+    private void open() throws IOException {
+        // a closed stream cache can be read again (after reset) as long as the buffers are not released
+        if (cleanable == null) {
+            if (!owner.retainView()) {
+                throw new IOException("Off-heap stream cache is already released as the exchange is done");
+            }
+            cleanable = CLEANER.register(this, owner::releaseView);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapInputStreamCache[size: " + length + "]";
+    }
+}
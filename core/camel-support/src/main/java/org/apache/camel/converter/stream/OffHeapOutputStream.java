@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.spi.StreamCachingStrategy;
+
+/**
+ * An {@link OutputStream} which stores the content in pooled off-heap buffers acquired from the
+ * {@link StreamCachingStrategy}.
+ * <p/>
+ * The buffers are shared with the {@link OffHeapInputStreamCache} views (no copying) and must be released back to the
+ * strategy when the exchanges using them are done. Once views have been created the buffers are not reused, as the views
+ * may still be read (such as by a copy of the exchange) after the exchanges are done.
+ */
+final class OffHeapOutputStream extends OutputStream {
+
+    private final StreamCachingStrategy strategy;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private int current;
+    private long length;
+    private int openViews;
+    private boolean released;
+    private boolean freed;
+
+    OffHeapOutputStream(StreamCachingStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Ensures there is room for the given number of bytes, by acquiring more off-heap buffers from the strategy.
+     *
+     * @return <tt>false</tt> if the off-heap memory is used up
+     */
+    boolean ensureCapacity(long bytes) {
+        long free = 0;
+        for (int i = current; i < chunks.size(); i++) {
+            free += chunks.get(i).remaining();
+        }
+        while (free < bytes) {
+            ByteBuffer chunk = strategy.acquireOffHeapBuffer();
+            if (chunk == null) {
+                return false;
+            }
+            chunks.add(chunk);
+            free += chunk.remaining();
+        }
+        return true;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (!ensureCapacity(1)) {
+            throw new IOException("Off-heap memory used up");
+        }
+        currentChunk().put((byte) b);
+        length++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (!ensureCapacity(len)) {
+            throw new IOException("Off-heap memory used up");
+        }
+        int remaining = len;
+        while (remaining > 0) {
+            ByteBuffer chunk = currentChunk();
+            int n = Math.min(remaining, chunk.remaining());
+            chunk.put(b, off, n);
+            off += n;
+            remaining -= n;
+        }
+        length += len;
+    }
+
+    /**
+     * Writes the content to the given stream (used when moving the content to another tier).
+     */
+    void writeTo(OutputStream os) throws IOException {
+        byte[] buf = new byte[Math.min(strategy.getBufferSize(), (int) Math.min(length, Integer.MAX_VALUE))];
+        for (ByteBuffer chunk : chunks) {
+            ByteBuffer view = chunk.duplicate().flip();
+            while (view.hasRemaining()) {
+                int n = Math.min(buf.length, view.remaining());
+                view.get(buf, 0, n);
+                os.write(buf, 0, n);
+            }
+        }
+    }
+
+    /**
+     * Creates a new {@link OffHeapInputStreamCache} view of the buffers.
+     */
+    OffHeapInputStreamCache newStreamCache(FileInputStreamCache.TempFileManager tempFileManager) throws IOException {
+        List<ByteBuffer> views = new ArrayList<>(chunks.size());
+        for (ByteBuffer chunk : chunks) {
+            views.add(chunk.duplicate().flip().asReadOnlyBuffer());
+        }
+        return new OffHeapInputStreamCache(this, views, length, tempFileManager);
+    }
+
+    long length() {
+        return length;
+    }
+
+    /**
+     * Registers an open view of the buffers, which keeps the buffers until the view is closed.
+     *
+     * @return <tt>false</tt> if the buffers are already released back to the strategy
+     */
+    synchronized boolean retainView() {
+        if (freed) {
+            return false;
+        }
+        openViews++;
+        return true;
+    }
+
+    /**
+     * Unregisters a view of the buffers, when it is closed.
+     */
+    synchronized void releaseView() {
+        openViews--;
+        if (released && openViews == 0) {
+            free();
+        }
+    }
+
+    /**
+     * Releases the off-heap buffers back to the strategy, once all the views of the buffers are closed as well.
+     */
+    synchronized void release() {
+        if (!released) {
+            released = true;
+            if (openViews == 0) {
+                free();
+            }
+        }
+    }
+
+    private void free() {
+        freed = true;
+        for (ByteBuffer chunk : chunks) {
+            strategy.releaseOffHeapBuffer(chunk);
+        }
+        chunks.clear();
+    }
+
+    private ByteBuffer currentChunk() {
+        // ensureCapacity has acquired the buffers, so move to the next one with room
+        ByteBuffer chunk = chunks.get(current);
+        while (!chunk.hasRemaining()) {
+            chunk = chunks.get(++current);
+        }
+        return chunk;
+    }
+}
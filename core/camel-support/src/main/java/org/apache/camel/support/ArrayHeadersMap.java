@@ -0,0 +1,466 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.apache.camel.Exchange;
+
+/**
+ * A case insensitive map for message headers, which preserves the original key cases and the insertion order.
+ * <p/>
+ * The entries are stored in plain arrays together with their case insensitive hash, so small maps are a few array
+ * scans, and larger maps use an open-addressed index on top of the arrays. Copying a map copies the arrays without
+ * computing the hashes again. The case insensitive hashes of well-known headers (such as the Camel headers from
+ * {@link Exchange} and common HTTP and JMS headers) are computed once, and their keys are interned so lookups by the
+ * constants are resolved by identity.
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed by the
+ * Camel routing engine.
+ */
+public final class ArrayHeadersMap extends AbstractMap<String, Object> {
+
+    // maps up to this size are scanned without the index
+    private static final int SMALL_SIZE = 8;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private static final String[] KNOWN_KEYS;
+    private static final int[] KNOWN_CODES;
+    private static final int[] KNOWN_HASHES;
+
+    static {
+        List<String> names = new ArrayList<>();
+        for (Field field : Exchange.class.getFields()) {
+            if (field.getType() == String.class && Modifier.isStatic(field.getModifiers())) {
+                try {
+                    names.add((String) field.get(null));
+                } catch (IllegalAccessException e) {
+                    // ignore
+                }
+            }
+        }
+        names.addAll(Arrays.asList(
+                "Accept", "Accept-Encoding", "Accept-Language", "Authorization", "Cache-Control", "Connection",
+                "Content-Encoding", "Content-Length", "Content-Type", "Cookie", "Date", "ETag", "Host", "Location",
+                "Origin", "Referer", "Server", "Set-Cookie", "Transfer-Encoding", "User-Agent", "X-Forwarded-For",
+                "JMSCorrelationID", "JMSDeliveryMode", "JMSDestination", "JMSExpiration", "JMSMessageID", "JMSPriority",
+                "JMSRedelivered", "JMSReplyTo", "JMSTimestamp", "JMSType", "JMSXGroupID", "JMSXUserID"));
+
+        int capacity = Integer.highestOneBit(names.size() * 4 - 1) << 1;
+        KNOWN_KEYS = new String[capacity];
+        KNOWN_CODES = new int[capacity];
+        KNOWN_HASHES = new int[capacity];
+        for (String name : names) {
+            if (name != null && knownKey(name) < 0) {
+                int code = name.hashCode();
+                int i = code & (capacity - 1);
+                while (KNOWN_KEYS[i] != null) {
+                    i = (i + 1) & (capacity - 1);
+                }
+                KNOWN_KEYS[i] = name;
+                KNOWN_CODES[i] = code;
+                KNOWN_HASHES[i] = foldHash(name);
+            }
+        }
+    }
+
+    private String[] keys;
+    private Object[] values;
+    private int[] hashes;
+    private int size;
+    // open-addressed index holding the array position + 1 of the entries (only for larger maps)
+    private int[] index;
+    private int modCount;
+    private EntrySet entrySet;
+
+    public ArrayHeadersMap() {
+    }
+
+    public ArrayHeadersMap(Map<String, Object> map) {
+        if (map instanceof ArrayHeadersMap) {
+            ArrayHeadersMap other = (ArrayHeadersMap) map;
+            if (other.size > 0) {
+                keys = Arrays.copyOf(other.keys, other.size);
+                values = Arrays.copyOf(other.values, other.size);
+                hashes = Arrays.copyOf(other.hashes, other.size);
+                size = other.size;
+                index = other.index != null ? other.index.clone() : null;
+            }
+        } else {
+            putAll(map);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && find((String) key, hash((String) key)) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (key instanceof String) {
+            int pos = find((String) key, hash((String) key));
+            return pos >= 0 ? values[pos] : null;
+        }
+        return null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return put(key, hash(key), value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        if (map instanceof ArrayHeadersMap) {
+            // use the computed hashes from the other map
+            ArrayHeadersMap other = (ArrayHeadersMap) map;
+            for (int i = 0; i < other.size; i++) {
+                put(other.keys[i], other.hashes[i], other.values[i]);
+            }
+        } else {
+            for (Map.Entry<? extends String, ?> entry : map.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Copies the entries from the given map, where existing entries are only replaced when override is enabled.
+     *
+     * @param map      the map to copy from
+     * @param override whether to override existing entries
+     */
+    public void putAll(ArrayHeadersMap map, boolean override) {
+        for (int i = 0; i < map.size; i++) {
+            int pos = find(map.keys[i], map.hashes[i]);
+            if (pos < 0) {
+                add(map.keys[i], map.hashes[i], map.values[i]);
+            } else if (override || values[pos] == null) {
+                values[pos] = map.values[i];
+            }
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (key instanceof String) {
+            int pos = find((String) key, hash((String) key));
+            if (pos >= 0) {
+                Object answer = values[pos];
+                removeAt(pos);
+                return answer;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, 0, size, null);
+            Arrays.fill(values, 0, size, null);
+            size = 0;
+            index = null;
+            modCount++;
+        }
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        int expected = modCount;
+        for (int i = 0; i < size; i++) {
+            action.accept(keys[i], values[i]);
+        }
+        if (expected != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private Object put(String key, int hash, Object value) {
+        int pos = find(key, hash);
+        if (pos >= 0) {
+            // keep the original key case
+            Object answer = values[pos];
+            values[pos] = value;
+            return answer;
+        }
+        add(key, hash, value);
+        return null;
+    }
+
+    private void add(String key, int hash, Object value) {
+        if (keys == null) {
+            keys = new String[INITIAL_CAPACITY];
+            values = new Object[INITIAL_CAPACITY];
+            hashes = new int[INITIAL_CAPACITY];
+        } else if (size == keys.length) {
+            int capacity = size * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+        }
+        int pos = size++;
+        keys[pos] = intern(key);
+        values[pos] = value;
+        hashes[pos] = hash;
+        modCount++;
+
+        if (index != null && size * 2 <= index.length) {
+            addToIndex(index, pos);
+        } else if (size > SMALL_SIZE) {
+            rebuildIndex();
+        }
+    }
+
+    private void removeAt(int pos) {
+        int moved = size - pos - 1;
+        if (moved > 0) {
+            System.arraycopy(keys, pos + 1, keys, pos, moved);
+            System.arraycopy(values, pos + 1, values, pos, moved);
+            System.arraycopy(hashes, pos + 1, hashes, pos, moved);
+        }
+        size--;
+        keys[size] = null;
+        values[size] = null;
+        modCount++;
+        if (index != null) {
+            if (size > SMALL_SIZE) {
+                rebuildIndex();
+            } else {
+                index = null;
+            }
+        }
+    }
+
+    private int find(String key, int hash) {
+        if (index == null) {
+            for (int i = 0; i < size; i++) {
+                if (hashes[i] == hash && matches(keys[i], key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int mask = index.length - 1;
+        int i = spread(hash) & mask;
+        int pos;
+        while ((pos = index[i]) != 0) {
+            pos--;
+            if (hashes[pos] == hash && matches(keys[pos], key)) {
+                return pos;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void rebuildIndex() {
+        int[] newIndex = new int[Integer.highestOneBit(size * 4 - 1) << 1];
+        for (int i = 0; i < size; i++) {
+            addToIndex(newIndex, i);
+        }
+        index = newIndex;
+    }
+
+    private void addToIndex(int[] index, int pos) {
+        int mask = index.length - 1;
+        int i = spread(hashes[pos]) & mask;
+        while (index[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        index[i] = pos + 1;
+    }
+
+    private static boolean matches(String existing, String key) {
+        return existing == key || existing.equalsIgnoreCase(key);
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int hash(String key) {
+        int known = knownKey(key);
+        return known >= 0 ? KNOWN_HASHES[known] : foldHash(key);
+    }
+
+    private static String intern(String key) {
+        int known = knownKey(key);
+        return known >= 0 ? KNOWN_KEYS[known] : key;
+    }
+
+    private static int knownKey(String key) {
+        // the hash code of the key is cached by the string
+        int code = key.hashCode();
+        int mask = KNOWN_KEYS.length - 1;
+        int i = code & mask;
+        String known;
+        while ((known = KNOWN_KEYS[i]) != null) {
+            if (KNOWN_CODES[i] == code && (known == key || known.equals(key))) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Computes the hash code with the characters folded the same way as {@link String#equalsIgnoreCase(String)}
+     * compares them.
+     */
+    private static int foldHash(String key) {
+        int h = 0;
+        for (int i = 0; i < key.length(); i++) {
+            h = 31 * h + Character.toLowerCase(Character.toUpperCase(key.charAt(i)));
+        }
+        return h;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            ArrayHeadersMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+        private int cursor;
+        private int last = -1;
+        private int expected = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (expected != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            last = cursor++;
+            return new ArrayEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (expected != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last);
+            cursor = last;
+            last = -1;
+            expected = modCount;
+        }
+    }
+
+    private final class ArrayEntry implements Map.Entry<String, Object> {
+
+        private final int pos;
+
+        ArrayEntry(int pos) {
+            this.pos = pos;
+        }
+
+        @Override
+        public String getKey() {
+            return keys[pos];
+        }
+
+        @Override
+        public Object getValue() {
+            return values[pos];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Object answer = values[pos];
+            values[pos] = value;
+            return answer;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return getKey().equals(e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            Object value = getValue();
+            return getKey().hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,489 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A thread-safe {@link LRUCache} which does not require any external dependencies.
+ * <p/>
+ * The entries are kept in a {@link ConcurrentHashMap} so reads are lock-free. The access order is kept in a linked list
+ * which is only updated while holding a lock, however reads do not take this lock. Instead reads are recorded in small
+ * striped buffers which are replayed against the list in batches, and if a buffer is full the read is just not recorded
+ * (which means the access order is approximate under very high read contention). Writes are recorded in a queue which
+ * is replayed before evicting the least recently used entries, when the cache has exceeded its maximum size.
+ * <p/>
+ * The eviction callback is invoked outside the lock, after the entry has been removed from the cache.
+ */
+public class ConcurrentLRUCache<K, V> extends AbstractMap<K, V> implements LRUCache<K, V> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConcurrentLRUCache.class);
+
+    private static final int READ_BUFFERS = ceilingPowerOfTwo(Math.min(Runtime.getRuntime().availableProcessors(), 16));
+    private static final int READ_BUFFER_SIZE = 64;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    private static final int READ_BUFFER_DRAIN_THRESHOLD = 16;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+    private final int maximumCacheSize;
+    private final Consumer<V> evict;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final Queue<Runnable> writeBuffer = new ConcurrentLinkedQueue<>();
+    private final ReadBuffer<K, V>[] readBuffers;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    // access order (guarded by evictionLock)
+    private Node<K, V> head;
+    private Node<K, V> tail;
+    private int linkedSize;
+
+    public ConcurrentLRUCache(int maximumCacheSize) {
+        this(16, maximumCacheSize, v -> {
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    public ConcurrentLRUCache(int initialCapacity, int maximumCacheSize, Consumer<V> evicted) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        this.data = new ConcurrentHashMap<>(initialCapacity);
+        this.maximumCacheSize = maximumCacheSize;
+        this.evict = Objects.requireNonNull(evicted);
+        this.readBuffers = new ReadBuffer[READ_BUFFERS];
+        for (int i = 0; i < READ_BUFFERS; i++) {
+            this.readBuffers[i] = new ReadBuffer<>();
+        }
+    }
+
+    @Override
+    public V get(Object key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        afterRead(node);
+        return node.value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return data.containsKey(key);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return doPut(key, value, false);
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        return doPut(key, value, true);
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Objects.requireNonNull(mappingFunction);
+        Node<K, V> existing = data.get(key);
+        if (existing != null) {
+            hits.increment();
+            afterRead(existing);
+            return existing.value;
+        }
+        misses.increment();
+        Object[] added = new Object[1];
+        Node<K, V> node = data.computeIfAbsent(key, k -> {
+            V value = mappingFunction.apply(k);
+            if (value == null) {
+                return null;
+            }
+            Node<K, V> answer = new Node<>(k, value);
+            added[0] = answer;
+            return answer;
+        });
+        if (node == null) {
+            return null;
+        }
+        if (added[0] == node) {
+            afterWrite(() -> onAdd(node));
+        } else {
+            afterRead(node);
+        }
+        return node.value;
+    }
+
+    @Override
+    public V remove(Object key) {
+        Node<K, V> node = data.remove(key);
+        if (node == null) {
+            return null;
+        }
+        node.alive = false;
+        afterWrite(() -> onRemove(node));
+        return node.value;
+    }
+
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return data.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        for (K key : data.keySet()) {
+            remove(key);
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new EntrySet();
+    }
+
+    @Override
+    public void cleanUp() {
+        List<V> victims = new ArrayList<>();
+        evictionLock.lock();
+        try {
+            drain(victims);
+        } finally {
+            evictionLock.unlock();
+        }
+        notifyEvicted(victims);
+    }
+
+    @Override
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evicted.reset();
+    }
+
+    @Override
+    public long getEvicted() {
+        return evicted.longValue();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.longValue();
+    }
+
+    @Override
+    public long getHits() {
+        return hits.longValue();
+    }
+
+    @Override
+    public int getMaxCacheSize() {
+        return maximumCacheSize;
+    }
+
+    private V doPut(K key, V value, boolean onlyIfAbsent) {
+        Objects.requireNonNull(key);
+        Object[] old = new Object[1];
+        Object[] added = new Object[1];
+        Node<K, V> node = data.compute(key, (k, n) -> {
+            if (n == null) {
+                n = new Node<>(k, value);
+                added[0] = n;
+            } else {
+                old[0] = n.value;
+                if (!onlyIfAbsent) {
+                    n.value = value;
+                }
+            }
+            return n;
+        });
+        if (added[0] == node) {
+            afterWrite(() -> onAdd(node));
+        } else {
+            afterRead(node);
+        }
+        @SuppressWarnings("unchecked")
+        V answer = (V) old[0];
+        return answer;
+    }
+
+    private void afterRead(Node<K, V> node) {
+        int index = threadProbe() & (READ_BUFFERS - 1);
+        if (readBuffers[index].offer(node) >= READ_BUFFER_DRAIN_THRESHOLD) {
+            tryDrain();
+        }
+    }
+
+    private void afterWrite(Runnable task) {
+        writeBuffer.add(task);
+        List<V> victims = new ArrayList<>();
+        evictionLock.lock();
+        try {
+            drain(victims);
+        } finally {
+            evictionLock.unlock();
+        }
+        notifyEvicted(victims);
+    }
+
+    private void tryDrain() {
+        if (evictionLock.tryLock()) {
+            List<V> victims = new ArrayList<>();
+            try {
+                drain(victims);
+            } finally {
+                evictionLock.unlock();
+            }
+            notifyEvicted(victims);
+        }
+    }
+
+    /**
+     * Replays the recorded reads and writes, and evicts the least recently used entries. Must be called while holding
+     * the eviction lock.
+     */
+    private void drain(List<V> victims) {
+        for (ReadBuffer<K, V> buffer : readBuffers) {
+            buffer.drainTo(this::onAccess);
+        }
+        Runnable task;
+        while ((task = writeBuffer.poll()) != null) {
+            task.run();
+        }
+        while (linkedSize > maximumCacheSize && head != null) {
+            Node<K, V> victim = head;
+            unlink(victim);
+            // it may have been removed concurrently, then its not evicted
+            if (data.remove(victim.key, victim)) {
+                victim.alive = false;
+                evicted.increment();
+                victims.add(victim.value);
+            }
+        }
+    }
+
+    private void notifyEvicted(List<V> victims) {
+        for (V value : victims) {
+            try {
+                evict.accept(value);
+            } catch (Exception e) {
+                LOG.warn("Error during eviction of value: {}. This exception will be ignored.", value, e);
+            }
+        }
+    }
+
+    private void onAdd(Node<K, V> node) {
+        if (node.alive && !node.linked) {
+            linkLast(node);
+        }
+    }
+
+    private void onRemove(Node<K, V> node) {
+        if (node.linked) {
+            unlink(node);
+        }
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (node.alive && node.linked && node != tail) {
+            unlink(node);
+            linkLast(node);
+        }
+    }
+
+    private void linkLast(Node<K, V> node) {
+        node.prev = tail;
+        node.next = null;
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.next = node;
+        }
+        tail = node;
+        node.linked = true;
+        linkedSize++;
+    }
+
+    private void unlink(Node<K, V> node) {
+        Node<K, V> prev = node.prev;
+        Node<K, V> next = node.next;
+        if (prev == null) {
+            head = next;
+        } else {
+            prev.next = next;
+        }
+        if (next == null) {
+            tail = prev;
+        } else {
+            next.prev = prev;
+        }
+        node.prev = null;
+        node.next = null;
+        node.linked = false;
+        linkedSize--;
+    }
+
+    private static int threadProbe() {
+        int h = System.identityHashCode(Thread.currentThread());
+        return h ^ (h >>> 16);
+    }
+
+    private static int ceilingPowerOfTwo(int x) {
+        return 1 << -Integer.numberOfLeadingZeros(x - 1);
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private volatile V value;
+        private volatile boolean alive = true;
+        // guarded by evictionLock
+        private Node<K, V> prev;
+        private Node<K, V> next;
+        private boolean linked;
+
+        private Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * A lossy buffer of reads, which is written by any thread and drained while holding the eviction lock.
+     */
+    private static final class ReadBuffer<K, V> {
+        private final AtomicLong writeCounter = new AtomicLong();
+        private final AtomicReferenceArray<Node<K, V>> buffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        private volatile long readCounter;
+
+        /**
+         * Records the read, unless the buffer is full or contended.
+         *
+         * @return the number of pending reads in the buffer
+         */
+        private long offer(Node<K, V> node) {
+            long read = readCounter;
+            long write = writeCounter.get();
+            long size = write - read;
+            if (size >= READ_BUFFER_SIZE) {
+                return size;
+            }
+            if (writeCounter.compareAndSet(write, write + 1)) {
+                buffer.lazySet((int) (write & READ_BUFFER_MASK), node);
+                return size + 1;
+            }
+            return size;
+        }
+
+        private void drainTo(Consumer<Node<K, V>> consumer) {
+            long read = readCounter;
+            long write = writeCounter.get();
+            while (read < write) {
+                int index = (int) (read & READ_BUFFER_MASK);
+                Node<K, V> node = buffer.get(index);
+                if (node == null) {
+                    // the writer has not published it yet
+                    break;
+                }
+                buffer.lazySet(index, null);
+                consumer.accept(node);
+                read++;
+            }
+            readCounter = read;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            Iterator<Node<K, V>> it = data.values().iterator();
+            return new Iterator<>() {
+                private Node<K, V> current;
+
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public Entry<K, V> next() {
+                    current = it.next();
+                    return new CacheEntry(current.key, current.value);
+                }
+
+                @Override
+                public void remove() {
+                    if (current == null) {
+                        throw new IllegalStateException();
+                    }
+                    ConcurrentLRUCache.this.remove(current.key);
+                    current = null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return data.size();
+        }
+
+        @Override
+        public void clear() {
+            ConcurrentLRUCache.this.clear();
+        }
+    }
+
+    private final class CacheEntry extends SimpleEntry<K, V> {
+
+        private CacheEntry(K key, V value) {
+            super(key, value);
+        }
+
+        @Override
+        public V setValue(V value) {
+            put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+
+}
@@ -16,22 +16,33 @@
  */
 package org.apache.camel.support;
 
-import java.util.LinkedHashMap;
+import java.lang.ref.WeakReference;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
 
 import org.apache.camel.support.service.ServiceHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Default {@link LRUCacheFactory} which uses a {@link LinkedHashMap} based implementation.
+ * Default {@link LRUCacheFactory} which uses the {@link ConcurrentLRUCache} implementation.
+ * <p/>
+ * The factory keeps track of the caches it has created (using weak references), so their statistics can be reported in
+ * total via JMX.
  */
 public class DefaultLRUCacheFactory extends LRUCacheFactory {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultLRUCacheFactory.class);
 
+    private static final int PURGE_INTERVAL = 256;
+
+    private final Queue<WeakReference<LRUCache<?, ?>>> caches = new ConcurrentLinkedQueue<>();
+    private final AtomicLong created = new AtomicLong();
+
     /**
      * Constructs an empty <tt>LRUCache</tt> instance with the specified maximumCacheSize, and will stop on eviction.
      *
@@ -41,7 +52,7 @@ public class DefaultLRUCacheFactory extends LRUCacheFactory {
     @Override
     public <K, V> Map<K, V> createLRUCache(int maximumCacheSize) {
         LOG.trace("Creating LRUCache with maximumCacheSize: {}", maximumCacheSize);
-        return new SimpleLRUCache<>(maximumCacheSize);
+        return createCache(16, maximumCacheSize, maximumCacheSize > 0);
     }
 
     /**
@@ -53,7 +64,7 @@ public class DefaultLRUCacheFactory extends LRUCacheFactory {
     @Override
     public <K, V> Map<K, V> createLRUCache(int maximumCacheSize, Consumer<V> onEvict) {
         LOG.trace("Creating LRUCache with maximumCacheSize: {}", maximumCacheSize);
-        return new SimpleLRUCache<>(16, maximumCacheSize, onEvict);
+        return createCache(16, maximumCacheSize, onEvict);
     }
 
     /**
@@ -67,7 +78,7 @@ public class DefaultLRUCacheFactory extends LRUCacheFactory {
     @Override
     public <K, V> Map<K, V> createLRUCache(int initialCapacity, int maximumCacheSize) {
         LOG.trace("Creating LRUCache with initialCapacity: {}, maximumCacheSize: {}", initialCapacity, maximumCacheSize);
-        return new SimpleLRUCache<>(initialCapacity, maximumCacheSize);
+        return createCache(initialCapacity, maximumCacheSize, maximumCacheSize > 0);
     }
 
     /**
@@ -83,7 +94,7 @@ public class DefaultLRUCacheFactory extends LRUCacheFactory {
     public <K, V> Map<K, V> createLRUCache(int initialCapacity, int maximumCacheSize, boolean stopOnEviction) {
         LOG.trace("Creating LRUCache with initialCapacity: {}, maximumCacheSize: {}, stopOnEviction: {}", initialCapacity,
                 maximumCacheSize, stopOnEviction);
-        return new SimpleLRUCache<>(initialCapacity, maximumCacheSize, stopOnEviction);
+        return createCache(initialCapacity, maximumCacheSize, stopOnEviction);
     }
 
     /**
@@ -96,20 +107,20 @@ public class DefaultLRUCacheFactory extends LRUCacheFactory {
     @Override
     public <K, V> Map<K, V> createLRUSoftCache(int maximumCacheSize) {
         LOG.trace("Creating LRUSoftCache with maximumCacheSize: {}", maximumCacheSize);
-        return new SimpleLRUCache<>(maximumCacheSize);
+        return createCache(16, maximumCacheSize, maximumCacheSize > 0);
     }
 
     @Override
     public <K, V> Map<K, V> createLRUSoftCache(int initialCapacity, int maximumCacheSize) {
         LOG.trace("Creating LRUCache with initialCapacity: {}, maximumCacheSize: {}", initialCapacity, maximumCacheSize);
-        return new SimpleLRUCache<>(initialCapacity, maximumCacheSize);
+        return createCache(initialCapacity, maximumCacheSize, maximumCacheSize > 0);
     }
 
     @Override
     public <K, V> Map<K, V> createLRUSoftCache(int initialCapacity, int maximumCacheSize, boolean stopOnEviction) {
         LOG.trace("Creating LRUCache with initialCapacity: {}, maximumCacheSize: {}, stopOnEviction: {}", initialCapacity,
                 maximumCacheSize, stopOnEviction);
-        return new SimpleLRUCache<>(initialCapacity, maximumCacheSize, stopOnEviction);
+        return createCache(initialCapacity, maximumCacheSize, stopOnEviction);
     }
 
     /**
@@ -122,58 +133,96 @@ public class DefaultLRUCacheFactory extends LRUCacheFactory {
     @Override
     public <K, V> Map<K, V> createLRUWeakCache(int maximumCacheSize) {
         LOG.trace("Creating LRUWeakCache with maximumCacheSize: {}", maximumCacheSize);
-        return new SimpleLRUCache<>(maximumCacheSize);
+        return createCache(16, maximumCacheSize, maximumCacheSize > 0);
     }
 
     @Override
     public <K, V> Map<K, V> createLRUWeakCache(int initialCapacity, int maximumCacheSize) {
         LOG.trace("Creating LRUCache with initialCapacity: {}, maximumCacheSize: {}", initialCapacity, maximumCacheSize);
-        return new SimpleLRUCache<>(initialCapacity, maximumCacheSize);
+        return createCache(initialCapacity, maximumCacheSize, maximumCacheSize > 0);
     }
 
     @Override
     public <K, V> Map<K, V> createLRUWeakCache(int initialCapacity, int maximumCacheSize, boolean stopOnEviction) {
         LOG.trace("Creating LRUCache with initialCapacity: {}, maximumCacheSize: {}, stopOnEviction: {}", initialCapacity,
                 maximumCacheSize, stopOnEviction);
-        return new SimpleLRUCache<>(initialCapacity, maximumCacheSize, stopOnEviction);
+        return createCache(initialCapacity, maximumCacheSize, stopOnEviction);
     }
 
-    private class SimpleLRUCache<K, V> extends LinkedHashMap<K, V> {
+    private <K, V> Map<K, V> createCache(int initialCapacity, int maximumCacheSize, Consumer<V> evicted) {
+        ConcurrentLRUCache<K, V> answer = new ConcurrentLRUCache<>(initialCapacity, maximumCacheSize, evicted);
+        caches.add(new WeakReference<>(answer));
+        if (created.incrementAndGet() % PURGE_INTERVAL == 0) {
+            purge();
+        }
+        return answer;
+    }
 
-        static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private <K, V> Map<K, V> createCache(int initialCapacity, int maximumCacheSize, boolean stopOnEviction) {
+        return createCache(initialCapacity, maximumCacheSize, stopOnEviction ? this::doStop : this::doNothing);
+    }
 
-        private final int maximumCacheSize;
-        private final Consumer<V> evict;
+    private void purge() {
+        caches.removeIf(ref -> ref.get() == null);
+    }
 
-        public SimpleLRUCache(int maximumCacheSize) {
-            this(16, maximumCacheSize, maximumCacheSize > 0);
+    private long sum(ToLongFunction<LRUCache<?, ?>> function) {
+        long answer = 0;
+        for (WeakReference<LRUCache<?, ?>> ref : caches) {
+            LRUCache<?, ?> cache = ref.get();
+            if (cache != null) {
+                answer += function.applyAsLong(cache);
+            }
         }
+        return answer;
+    }
 
-        public SimpleLRUCache(int initialCapacity, int maximumCacheSize) {
-            this(initialCapacity, maximumCacheSize, maximumCacheSize > 0);
-        }
+    /**
+     * Number of caches in use
+     */
+    public int getSize() {
+        purge();
+        return caches.size();
+    }
 
-        public SimpleLRUCache(int initialCapacity, int maximumCacheSize, boolean stopOnEviction) {
-            this(initialCapacity, maximumCacheSize,
-                 stopOnEviction ? DefaultLRUCacheFactory.this::doStop : DefaultLRUCacheFactory.this::doNothing);
-        }
+    /**
+     * Total number of entries in the caches
+     */
+    public long getEntries() {
+        return sum(LRUCache::size);
+    }
 
-        public SimpleLRUCache(int initialCapacity, int maximumCacheSize, Consumer<V> evicted) {
-            super(initialCapacity, DEFAULT_LOAD_FACTOR, true);
-            this.maximumCacheSize = maximumCacheSize;
-            this.evict = Objects.requireNonNull(evicted);
-        }
+    /**
+     * Total number of cache hits
+     */
+    public long getHits() {
+        return sum(LRUCache::getHits);
+    }
+
+    /**
+     * Total number of cache misses
+     */
+    public long getMisses() {
+        return sum(LRUCache::getMisses);
+    }
 
-        @Override
-        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-            if (size() > maximumCacheSize) {
-                V value = eldest.getValue();
-                evict.accept(value);
-                return true;
+    /**
+     * Total number of evicted entries
+     */
+    public long getEvicted() {
+        return sum(LRUCache::getEvicted);
+    }
+
+    /**
+     * Resets the statistics of the caches
+     */
+    public void resetStatistics() {
+        for (WeakReference<LRUCache<?, ?>> ref : caches) {
+            LRUCache<?, ?> cache = ref.get();
+            if (cache != null) {
+                cache.resetStatistics();
             }
-            return false;
         }
-
     }
 
     <V> void doNothing(V value) {
@@ -34,9 +34,11 @@ import org.apache.camel.StaticService;
 import org.apache.camel.spi.ThreadPoolFactory;
 import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.apache.camel.util.concurrent.RejectableScheduledThreadPoolExecutor;
 import org.apache.camel.util.concurrent.RejectableThreadPoolExecutor;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
+import org.apache.camel.util.concurrent.ThreadHelper;
 
 /**
  * Factory for thread pools that uses the JDK {@link Executors} for creating the thread pools.
@@ -57,11 +59,20 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
 
     @Override
     public ExecutorService newCachedThreadPool(ThreadFactory threadFactory) {
+        if (threadFactory instanceof CamelThreadFactory && ((CamelThreadFactory) threadFactory).isVirtual()) {
+            // virtual threads should not be kept around in a cache
+            return newVirtualThreadPerTaskPool(null, threadFactory);
+        }
         return Executors.newCachedThreadPool(threadFactory);
     }
 
     @Override
     public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+        if (isVirtualThreads(profile) && profile.getMaxPoolSize() > 1) {
+            // a new virtual thread per task (but single threaded pools must still execute tasks one at a time)
+            return newVirtualThreadPerTaskPool(profile.getRejectedExecutionHandler(), factory);
+        }
+
         // allow core thread timeout is default true if not configured
         boolean allow = profile.getAllowCoreThreadTimeOut() != null ? profile.getAllowCoreThreadTimeOut() : true;
         return newThreadPool(profile.getPoolSize(),
@@ -117,6 +128,30 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
         return answer;
     }
 
+    /**
+     * Creates a thread pool which creates a new thread per task, which is intended to be used with virtual threads.
+     * <p/>
+     * The pool is still a {@link ThreadPoolExecutor} so it can be managed and have its statistics exposed the same way
+     * as other thread pools.
+     */
+    public ExecutorService newVirtualThreadPerTaskPool(
+            RejectedExecutionHandler rejectedExecutionHandler, ThreadFactory threadFactory) {
+        // no core threads and no keep alive so the thread terminates when its task is done
+        ThreadPoolExecutor answer = new RejectableThreadPoolExecutor(
+                0, Integer.MAX_VALUE, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>());
+        answer.setThreadFactory(threadFactory);
+        if (rejectedExecutionHandler == null) {
+            rejectedExecutionHandler = new ThreadPoolExecutor.CallerRunsPolicy();
+        }
+        answer.setRejectedExecutionHandler(rejectedExecutionHandler);
+        return answer;
+    }
+
+    private static boolean isVirtualThreads(ThreadPoolProfile profile) {
+        return profile.getVirtualThreads() != null && profile.getVirtualThreads()
+                && ThreadHelper.isVirtualThreadsSupported();
+    }
+
     @Override
     public ScheduledExecutorService newScheduledThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
         RejectedExecutionHandler rejectedExecutionHandler = profile.getRejectedExecutionHandler();
@@ -19,8 +19,11 @@ package org.apache.camel.support;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -50,6 +53,7 @@ import org.apache.camel.TypeConversionException;
 import org.apache.camel.WrappedFile;
 import org.apache.camel.spi.NormalizedEndpointUri;
 import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.util.ChannelTokenizer;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.Scanner;
@@ -1013,6 +1017,106 @@ public final class ExchangeHelper {
         return scanner;
     }
 
+    /**
+     * Creates a {@link ChannelTokenizer} for tokenizing the given value directly from its bytes, without decoding all
+     * the content into characters first. This is supported for files, file channels and byte arrays, when the
+     * delimiter is literal text and the charset is UTF-8 or a single byte charset.
+     *
+     * @param  exchange  the current exchange
+     * @param  value     the value, typically the message IN body
+     * @param  delimiter the delimiter pattern to use
+     * @return           the tokenizer, or <tt>null</tt> if not supported, in which case
+     *                   {@link #getScanner(Exchange, Object, String)} should be used
+     */
+    public static ChannelTokenizer getChannelTokenizer(Exchange exchange, Object value, String delimiter) {
+        String literal = ChannelTokenizer.toLiteral(delimiter);
+        if (literal == null) {
+            return null;
+        }
+        String charset = exchange.getProperty(ExchangePropertyKey.CHARSET_NAME, String.class);
+        if (!ChannelTokenizer.isSupportedCharset(charset)) {
+            return null;
+        }
+        Object source = getTokenizerSource(value);
+        if (source instanceof FileChannel) {
+            FileChannel channel = (FileChannel) source;
+            try {
+                return new ChannelTokenizer(channel, charset, literal);
+            } catch (IOException e) {
+                // the tokenizer closes the channel, so close it when the tokenizer could not be created
+                IOHelper.close(channel);
+                throw new RuntimeCamelException(e);
+            } catch (RuntimeException e) {
+                IOHelper.close(channel);
+                throw e;
+            }
+        } else if (source instanceof ByteBuffer) {
+            return new ChannelTokenizer((ByteBuffer) source, charset, literal);
+        }
+        return null;
+    }
+
+    /**
+     * Creates a {@link ChannelTokenizer} in pair mode for tokenizing the given value directly from its bytes, without
+     * decoding all the content into characters first. This is supported for files, file channels and byte arrays, when
+     * the tokens are literal text and the charset is UTF-8 or a single byte charset.
+     *
+     * @param  exchange      the current exchange
+     * @param  value         the value, typically the message IN body
+     * @param  startToken    the start token
+     * @param  endToken      the end token
+     * @param  includeTokens whether to include the tokens in the returned text
+     * @return               the tokenizer, or <tt>null</tt> if not supported
+     */
+    public static ChannelTokenizer getChannelTokenizer(
+            Exchange exchange, Object value, String startToken, String endToken, boolean includeTokens) {
+        if (!endToken.equals(ChannelTokenizer.toLiteral(endToken))) {
+            return null;
+        }
+        String charset = exchange.getProperty(ExchangePropertyKey.CHARSET_NAME, String.class);
+        if (!ChannelTokenizer.isSupportedCharset(charset)) {
+            return null;
+        }
+        Object source = getTokenizerSource(value);
+        if (source instanceof FileChannel) {
+            FileChannel channel = (FileChannel) source;
+            try {
+                return new ChannelTokenizer(channel, charset, startToken, endToken, includeTokens);
+            } catch (IOException e) {
+                // the tokenizer closes the channel, so close it when the tokenizer could not be created
+                IOHelper.close(channel);
+                throw new RuntimeCamelException(e);
+            } catch (RuntimeException e) {
+                IOHelper.close(channel);
+                throw e;
+            }
+        } else if (source instanceof ByteBuffer) {
+            return new ChannelTokenizer((ByteBuffer) source, charset, startToken, endToken, includeTokens);
+        }
+        return null;
+    }
+
+    private static Object getTokenizerSource(Object value) {
+        if (value instanceof WrappedFile) {
+            WrappedFile<?> gf = (WrappedFile<?>) value;
+            Object body = gf.getBody();
+            // use the content if loaded into the body, otherwise the real file
+            value = body != null ? body : gf.getFile();
+        }
+        if (value instanceof File) {
+            try {
+                return FileChannel.open(((File) value).toPath(), StandardOpenOption.READ);
+            } catch (IOException e) {
+                throw new RuntimeCamelException(e);
+            }
+        } else if (value instanceof FileChannel) {
+            return value;
+        } else if (value instanceof byte[]) {
+            return ByteBuffer.wrap((byte[]) value);
+        }
+        return null;
+    }
+
     public static String getRouteId(Exchange exchange) {
         String answer = getAtRouteId(exchange);
         if (answer == null) {
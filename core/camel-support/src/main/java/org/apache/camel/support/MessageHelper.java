@@ -652,6 +652,18 @@ public final class MessageHelper {
             return;
         }
 
+        if (strategy == null) {
+            Map<String, Object> sourceHeaders = source.getHeaders();
+            if (sourceHeaders instanceof ArrayHeadersMap) {
+                Map<String, Object> targetHeaders = target.getHeaders();
+                if (targetHeaders instanceof ArrayHeadersMap) {
+                    // copy the entries with their computed hashes
+                    ((ArrayHeadersMap) targetHeaders).putAll((ArrayHeadersMap) sourceHeaders, override);
+                    return;
+                }
+            }
+        }
+
         for (Map.Entry<String, Object> entry : source.getHeaders().entrySet()) {
             String key = entry.getKey();
             Object value = entry.getValue();
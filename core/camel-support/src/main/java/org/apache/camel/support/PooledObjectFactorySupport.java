@@ -16,6 +16,7 @@
  */
 package org.apache.camel.support;
 
+import java.util.ArrayDeque;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.atomic.LongAdder;
@@ -34,7 +35,11 @@ public abstract class PooledObjectFactorySupport<T> extends ServiceSupport imple
     protected CamelContext camelContext;
     protected BlockingQueue<T> pool;
     protected int capacity = 100;
+    protected int threadCapacity;
     protected boolean statisticsEnabled;
+    private volatile ThreadLocal<ThreadPool<T>> threadPool;
+    // incremented on purge, so each thread clears its own pool when it is used next time
+    private volatile int generation;
 
     public PooledObjectFactorySupport() {
         this.source = null;
@@ -49,6 +54,9 @@ public abstract class PooledObjectFactorySupport<T> extends ServiceSupport imple
         super.doBuild();
         if (isPooled()) {
             this.pool = new ArrayBlockingQueue<>(capacity);
+            if (threadCapacity > 0) {
+                this.threadPool = ThreadLocal.withInitial(() -> new ThreadPool<>(generation));
+            }
         }
         if (isStatisticsEnabled()) {
             this.statistics = new UtilizationStatistics();
@@ -94,6 +102,16 @@ public abstract class PooledObjectFactorySupport<T> extends ServiceSupport imple
         this.capacity = capacity;
     }
 
+    @Override
+    public int getThreadCapacity() {
+        return threadCapacity;
+    }
+
+    @Override
+    public void setThreadCapacity(int threadCapacity) {
+        this.threadCapacity = threadCapacity;
+    }
+
     @Override
     public void resetStatistics() {
         if (statistics != null) {
@@ -111,6 +129,56 @@ public abstract class PooledObjectFactorySupport<T> extends ServiceSupport imple
         if (pool != null) {
             pool.clear();
         }
+        ThreadLocal<ThreadPool<T>> local = threadPool;
+        if (local != null) {
+            // the pools of the other threads cannot be cleared from this thread, so they are cleared by their own
+            // thread when used next time
+            generation++;
+            getThreadPool(local);
+        }
+    }
+
+    /**
+     * Polls an object from the pool of the current thread, or from the shared pool if the former is empty.
+     *
+     * @return the object, or <tt>null</tt> if the pools are empty
+     */
+    protected T pollPool() {
+        ThreadLocal<ThreadPool<T>> local = threadPool;
+        if (local != null) {
+            T answer = getThreadPool(local).pollLast();
+            if (answer != null) {
+                return answer;
+            }
+        }
+        return pool.poll();
+    }
+
+    /**
+     * Offers the object to the pool of the current thread, or to the shared pool if the former is full.
+     *
+     * @return true if the object was inserted, or false if the pools are full
+     */
+    protected boolean offerPool(T t) {
+        ThreadLocal<ThreadPool<T>> local = threadPool;
+        if (local != null) {
+            ArrayDeque<T> deque = getThreadPool(local);
+            if (deque.size() < threadCapacity) {
+                deque.addLast(t);
+                return true;
+            }
+        }
+        return pool.offer(t);
+    }
+
+    private ArrayDeque<T> getThreadPool(ThreadLocal<ThreadPool<T>> local) {
+        ThreadPool<T> answer = local.get();
+        int current = generation;
+        if (answer.generation != current) {
+            answer.clear();
+            answer.generation = current;
+        }
+        return answer;
     }
 
     @Override
@@ -129,6 +197,19 @@ public abstract class PooledObjectFactorySupport<T> extends ServiceSupport imple
             pool.clear();
             pool = null;
         }
+        threadPool = null;
+    }
+
+    /**
+     * The pool of a thread, which is cleared when the factory has been purged since it was used.
+     */
+    private static final class ThreadPool<T> extends ArrayDeque<T> {
+
+        private int generation;
+
+        private ThreadPool(int generation) {
+            this.generation = generation;
+        }
     }
 
     /**
@@ -56,6 +56,16 @@ public abstract class PrototypeObjectFactorySupport<T> extends ServiceSupport im
         // not in use
     }
 
+    @Override
+    public int getThreadCapacity() {
+        return 0;
+    }
+
+    @Override
+    public void setThreadCapacity(int threadCapacity) {
+        // not in use
+    }
+
     @Override
     public boolean isStatisticsEnabled() {
         return statisticsEnabled;
@@ -16,9 +16,11 @@
  */
 package org.apache.camel.support;
 
+import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
 
 import org.apache.camel.BatchConsumer;
+import org.apache.camel.BatchProcessor;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
@@ -117,6 +119,38 @@ public abstract class ScheduledBatchPollingConsumer extends ScheduledPollConsume
         return ShutdownRunningTask.CompleteAllTasks == shutdownRunningTask;
     }
 
+    /**
+     * Whether the route this consumer feeds is capable of routing a whole batch of exchanges in one pass, which allows
+     * to use {@link #processExchangesInBatch(List)} instead of processing the exchanges one by one.
+     */
+    protected boolean isRouteBatchCapable() {
+        Processor processor = getProcessor();
+        return processor instanceof BatchProcessor && ((BatchProcessor) processor).isBatchCapable();
+    }
+
+    /**
+     * Routes the polled exchanges as a single batch (the route must be batch capable).
+     * <p/>
+     * The exchanges are enriched with the batch details before being routed, and any failure is set on the individual
+     * exchanges, which the consumer should inspect afterwards (like when processing the exchanges one by one).
+     *
+     * @param exchanges the exchanges to route
+     * @see             #isRouteBatchCapable()
+     */
+    protected void processExchangesInBatch(List<Exchange> exchanges) throws Exception {
+        final int total = exchanges.size();
+        for (int index = 0; index < total; index++) {
+            Exchange exchange = exchanges.get(index);
+            // add current index and total as properties
+            exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, index);
+            exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, total);
+            exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, index == total - 1);
+        }
+        pendingExchanges = 0;
+        LOG.debug("Routing batch of {} exchanges from: {}", total, getEndpoint());
+        ((BatchProcessor) getProcessor()).processBatch(exchanges);
+    }
+
     @Override
     protected void processEmptyMessage() throws Exception {
         Exchange exchange = getEndpoint().createExchange();
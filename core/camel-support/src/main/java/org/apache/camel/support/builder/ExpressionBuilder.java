@@ -1292,6 +1292,11 @@ public class ExpressionBuilder {
             public Object evaluate(Exchange exchange) {
                 String text = token.evaluate(exchange, String.class);
                 Object value = expression.evaluate(exchange, Object.class);
+                // tokenize files and bytes directly when possible, which avoids decoding all the content
+                Iterator<String> tokenizer = ExchangeHelper.getChannelTokenizer(exchange, value, text);
+                if (tokenizer != null) {
+                    return tokenizer;
+                }
                 Scanner scanner = ExchangeHelper.getScanner(exchange, value, text);
                 return scanner;
             }
@@ -92,6 +92,14 @@ public class TokenPairExpressionIterator extends ExpressionAdapter {
      * @return             the evaluated value
      */
     protected Object doEvaluate(Exchange exchange, boolean closeStream) {
+        if (!closeStream) {
+            // tokenize files and bytes directly when possible, which avoids decoding all the content
+            Iterator<?> it = createChannelIterator(exchange);
+            if (it != null) {
+                return it;
+            }
+        }
+
         InputStream in = null;
         try {
             in = exchange.getIn().getMandatoryBody(InputStream.class);
@@ -132,6 +140,24 @@ public class TokenPairExpressionIterator extends ExpressionAdapter {
         return iterator;
     }
 
+    /**
+     * Strategy to create the iterator which tokenizes the message body directly from its bytes
+     *
+     * @param  exchange the exchange
+     * @return          the iterator, or <tt>null</tt> if the message body cannot be tokenized directly
+     */
+    protected Iterator<?> createChannelIterator(Exchange exchange) {
+        String start = startToken;
+        if (startExp != null) {
+            start = startExp.evaluate(exchange, String.class);
+        }
+        String end = endToken;
+        if (endExp != null) {
+            end = endExp.evaluate(exchange, String.class);
+        }
+        return ExchangeHelper.getChannelTokenizer(exchange, exchange.getIn().getBody(), start, end, includeTokens);
+    }
+
     @Override
     public String toString() {
         return "tokenize[body() using tokens: " + startToken + "..." + endToken + "]";
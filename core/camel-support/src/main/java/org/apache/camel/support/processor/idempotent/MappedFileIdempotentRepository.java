@@ -0,0 +1,886 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file based implementation of {@link org.apache.camel.spi.IdempotentRepository} which uses memory-mapped files, and
+ * is intended for stores with a large number of keys.
+ * <p/>
+ * The keys are stored in an append-only log which is split into segment files of {@link #getSegmentSize()} bytes in
+ * the given directory. The keys are looked up using a hash index (open addressing) which is also stored in a
+ * memory-mapped file, so the keys are not held on the heap, and there is no need for a 1st-level cache. Lookups (such
+ * as {@link #contains(String)}) are lock-free, while changes are serialized.
+ * <p/>
+ * Removing a key marks its record as deleted. Segments which have many deleted records are compacted in the
+ * background, one segment at a time, by copying the remaining keys to the end of the log and deleting the segment
+ * file. If the store grows bigger than {@link #getMaxFileStoreSize()} then the oldest segment is dropped.
+ * <p/>
+ * The hash index is rebuilt from the log when the repository is started.
+ */
+@ManagedResource(description = "Memory mapped file based idempotent repository")
+public class MappedFileIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MappedFileIdempotentRepository.class);
+
+    private static final VarHandle SLOTS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final long EMPTY = 0L;
+    private static final long DELETED = -1L;
+    private static final int RETRY = -2;
+    private static final int NOT_FOUND = -1;
+    // a record is a header (length of key + 1, negative if deleted), the hash of the key, and then the key
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int INITIAL_INDEX_CAPACITY = 1024;
+    private static final int MAX_INDEX_CAPACITY = 1 << 27;
+    private static final float MAX_LOAD_FACTOR = 0.7f;
+    private static final int COMPACTION_BATCH = 256;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String INDEX_PREFIX = "index-";
+    private static final String INDEX_SUFFIX = ".idx";
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong compactions = new AtomicLong();
+
+    private CamelContext camelContext;
+    private File directory;
+    private int segmentSize = 16 * 1024 * 1024; // 16mb segments
+    private long maxFileStoreSize;
+    private double compactionThreshold = 0.5d;
+    private long compactionInterval = 10000;
+
+    private ScheduledExecutorService executorService;
+    private volatile State state;
+    // guarded by lock
+    private int size;
+    private int deleted;
+    private int nextSegmentId;
+    private int nextIndexId;
+
+    public MappedFileIdempotentRepository() {
+    }
+
+    public MappedFileIdempotentRepository(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Creates a new memory mapped file based repository which stores its files in the given directory.
+     *
+     * @param directory the directory for the segment and index files
+     */
+    public static IdempotentRepository mappedFileIdempotentRepository(File directory) {
+        return new MappedFileIdempotentRepository(directory);
+    }
+
+    /**
+     * Creates a new memory mapped file based repository which stores its files in the given directory.
+     *
+     * @param directory        the directory for the segment and index files
+     * @param maxFileStoreSize the max size in bytes of the segment files
+     */
+    public static IdempotentRepository mappedFileIdempotentRepository(File directory, long maxFileStoreSize) {
+        MappedFileIdempotentRepository repository = new MappedFileIdempotentRepository(directory);
+        repository.setMaxFileStoreSize(maxFileStoreSize);
+        return repository;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(key);
+        // lock-free check first as most of the time the key is a duplicate or new
+        if (contains(bytes, hash)) {
+            return false;
+        }
+
+        lock.lock();
+        try {
+            if (find(state, bytes, hash) >= 0) {
+                return false;
+            }
+            long location = append(bytes, hash);
+            insert(location, hash);
+            size++;
+
+            if (maxFileStoreSize > 0) {
+                trimStore();
+            }
+            return true;
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        return contains(key.getBytes(StandardCharsets.UTF_8), hash(key));
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(key);
+
+        lock.lock();
+        try {
+            State current = state;
+            int slot = find(current, bytes, hash);
+            if (slot < 0) {
+                return false;
+            }
+            long location = current.table.get(slot);
+            current.table.set(slot, DELETED);
+            deleted++;
+            size--;
+            markDeleted(current.segment(segmentId(location)), offset(location));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public void clear() {
+        lock.lock();
+        try {
+            State old = state;
+            Segment segment = createSegment(nextSegmentId++);
+            Table table = createTable(INITIAL_INDEX_CAPACITY);
+            state = new State(new Segment[] { segment }, segment.id, table);
+            size = 0;
+            deleted = 0;
+            for (Segment s : old.segments) {
+                if (s != null) {
+                    deleteFile(s.file);
+                }
+            }
+            deleteFile(old.table.file);
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Compacts the segments which have more deleted records than the compaction threshold.
+     */
+    @ManagedOperation(description = "Compacts the segments which have more deleted records than the compaction threshold")
+    public void compact() {
+        Segment candidate;
+        while ((candidate = nextCompactionCandidate()) != null) {
+            compactSegment(candidate);
+        }
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * The directory for the segment and index files
+     */
+    public void setDirectory(File directory) {
+        this.directory = directory;
+    }
+
+    @ManagedAttribute(description = "The directory path for the store")
+    public String getDirectoryPath() {
+        return directory.getPath();
+    }
+
+    @ManagedAttribute(description = "The size in bytes of a segment file")
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Sets the size in bytes of a segment file. The default is 16mb.
+     * <p/>
+     * A segment is compacted or dropped as a whole, so smaller segments means the work is more incremental.
+     */
+    public void setSegmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    @ManagedAttribute(description = "The maximum size for the file store in bytes")
+    public long getMaxFileStoreSize() {
+        return maxFileStoreSize;
+    }
+
+    /**
+     * Sets the maximum size of the segment files in bytes. If the store grows bigger then the oldest segment is dropped
+     * to make room for newer entries. The default is 0 which means unlimited.
+     */
+    @ManagedAttribute(description = "The maximum size for the file store in bytes")
+    public void setMaxFileStoreSize(long maxFileStoreSize) {
+        this.maxFileStoreSize = maxFileStoreSize;
+    }
+
+    @ManagedAttribute(description = "The ratio of deleted records in a segment which triggers compaction")
+    public double getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    /**
+     * Sets the ratio (between 0 and 1) of deleted records in a segment, which triggers compaction of the segment. The
+     * default is 0.5.
+     */
+    @ManagedAttribute(description = "The ratio of deleted records in a segment which triggers compaction")
+    public void setCompactionThreshold(double compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public long getCompactionInterval() {
+        return compactionInterval;
+    }
+
+    /**
+     * Sets the interval in millis to check for segments to compact in the background. The default is 10000. Use 0 or
+     * negative to turn off background compaction, then you can use {@link #compact()} to compact the segments.
+     */
+    public void setCompactionInterval(long compactionInterval) {
+        this.compactionInterval = compactionInterval;
+    }
+
+    @ManagedAttribute(description = "Number of keys in the store")
+    public int getSize() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "Number of segment files")
+    public int getSegments() {
+        State current = state;
+        if (current == null) {
+            return 0;
+        }
+        return (int) Arrays.stream(current.segments).filter(Objects::nonNull).count();
+    }
+
+    @ManagedAttribute(description = "Number of slots in the hash index")
+    public int getIndexCapacity() {
+        State current = state;
+        return current != null ? current.table.capacity : 0;
+    }
+
+    @ManagedAttribute(description = "Number of segments which has been compacted")
+    public long getCompactions() {
+        return compactions.get();
+    }
+
+    private boolean contains(byte[] bytes, int hash) {
+        for (;;) {
+            int slot = find(state, bytes, hash);
+            if (slot != RETRY) {
+                return slot >= 0;
+            }
+        }
+    }
+
+    /**
+     * Finds the slot in the index for the given key
+     *
+     * @return the slot, {@link #NOT_FOUND} if not found, or {@link #RETRY} if the index was changed concurrently
+     */
+    private int find(State current, byte[] bytes, int hash) {
+        Table table = current.table;
+        int slot = hash & table.mask;
+        for (int i = 0; i < table.capacity; i++) {
+            long location = table.get(slot);
+            if (location == EMPTY) {
+                return NOT_FOUND;
+            }
+            if (location != DELETED) {
+                Segment segment = current.segment(segmentId(location));
+                if (segment == null) {
+                    // the segment is newer, or has been compacted since we got the state
+                    return state != current ? RETRY : NOT_FOUND;
+                }
+                if (matches(segment, offset(location), bytes, hash)) {
+                    return slot;
+                }
+            }
+            slot = (slot + 1) & table.mask;
+        }
+        return NOT_FOUND;
+    }
+
+    private static boolean matches(Segment segment, int offset, byte[] bytes, int hash) {
+        MappedByteBuffer buffer = segment.buffer;
+        if (buffer.getInt(offset) != bytes.length + 1 || buffer.getInt(offset + 4) != hash) {
+            return false;
+        }
+        int start = offset + RECORD_HEADER_SIZE;
+        for (int i = 0; i < bytes.length; i++) {
+            if (buffer.get(start + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Appends the record to the active segment. Must be called while holding the lock.
+     *
+     * @return the location of the record
+     */
+    private long append(byte[] bytes, int hash) throws IOException {
+        int length = RECORD_HEADER_SIZE + bytes.length;
+        if (length > segmentSize) {
+            throw new IllegalArgumentException(
+                    "The key is too large (" + bytes.length + " bytes) for the segment size of " + segmentSize + " bytes");
+        }
+        Segment segment = state.active();
+        if (segment.position + length > segment.capacity) {
+            segment = rollSegment();
+        }
+        int offset = segment.position;
+        MappedByteBuffer buffer = segment.buffer;
+        buffer.putInt(offset + 4, hash);
+        buffer.put(offset + RECORD_HEADER_SIZE, bytes);
+        // write the header last as a zero header marks the end of the log
+        buffer.putInt(offset, bytes.length + 1);
+        segment.position += length;
+        segment.live++;
+        return location(segment.id, offset);
+    }
+
+    /**
+     * Inserts the location of a new key to the index. Must be called while holding the lock.
+     */
+    private void insert(long location, int hash) throws IOException {
+        Table table = state.table;
+        if (size + deleted + 1 > table.capacity * MAX_LOAD_FACTOR) {
+            table = rehash();
+        }
+        int slot = hash & table.mask;
+        for (;;) {
+            long current = table.get(slot);
+            if (current == EMPTY || current == DELETED) {
+                if (current == DELETED) {
+                    deleted--;
+                }
+                table.set(slot, location);
+                return;
+            }
+            slot = (slot + 1) & table.mask;
+        }
+    }
+
+    /**
+     * Finds the slot in the index which has the given location. Must be called while holding the lock.
+     */
+    private int findLocation(Table table, long location, int hash) {
+        int slot = hash & table.mask;
+        for (int i = 0; i < table.capacity; i++) {
+            long current = table.get(slot);
+            if (current == EMPTY) {
+                return NOT_FOUND;
+            }
+            if (current == location) {
+                return slot;
+            }
+            slot = (slot + 1) & table.mask;
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Creates a new index (in a new file) with room for the keys, and copies the keys from the current index. The
+     * current index is left untouched, so lookups in progress can continue using it. Must be called while holding the
+     * lock.
+     */
+    private Table rehash() throws IOException {
+        State current = state;
+        Table old = current.table;
+        int capacity = old.capacity;
+        while ((size + 1) > capacity * MAX_LOAD_FACTOR / 2 && capacity < MAX_INDEX_CAPACITY) {
+            capacity <<= 1;
+        }
+        if ((size + 1) > capacity * MAX_LOAD_FACTOR) {
+            throw new IllegalStateException("The index is full with " + size + " keys");
+        }
+        LOG.debug("Rehashing index with {} keys from capacity {} to {}", size, old.capacity, capacity);
+
+        Table table = createTable(capacity);
+        for (int i = 0; i < old.capacity; i++) {
+            long location = old.get(i);
+            if (location != EMPTY && location != DELETED) {
+                int hash = current.segment(segmentId(location)).buffer.getInt(offset(location) + 4);
+                int slot = hash & table.mask;
+                while (table.get(slot) != EMPTY) {
+                    slot = (slot + 1) & table.mask;
+                }
+                table.set(slot, location);
+            }
+        }
+        deleted = 0;
+        state = new State(current.segments, current.firstSegmentId, table);
+        deleteFile(old.file);
+        return table;
+    }
+
+    private Segment rollSegment() throws IOException {
+        State current = state;
+        Segment segment = createSegment(nextSegmentId++);
+        Segment[] segments = Arrays.copyOf(current.segments, segment.id - current.firstSegmentId + 1);
+        segments[segments.length - 1] = segment;
+        state = new State(segments, current.firstSegmentId, current.table);
+        LOG.debug("Rolled to new segment: {}", segment.file);
+        return segment;
+    }
+
+    /**
+     * Removes the segment from the state (the active segment cannot be removed). Must be called while holding the lock.
+     */
+    private void removeSegment(Segment segment) {
+        State current = state;
+        Segment[] segments = current.segments.clone();
+        segments[segment.id - current.firstSegmentId] = null;
+        int first = 0;
+        while (segments[first] == null) {
+            first++;
+        }
+        segments = Arrays.copyOfRange(segments, first, segments.length);
+        state = new State(segments, current.firstSegmentId + first, current.table);
+        deleteFile(segment.file);
+    }
+
+    private void markDeleted(Segment segment, int offset) {
+        MappedByteBuffer buffer = segment.buffer;
+        buffer.putInt(offset, -buffer.getInt(offset));
+        segment.live--;
+        segment.dead++;
+    }
+
+    /**
+     * Drops the oldest segments if the store is bigger than the maximum capacity. Must be called while holding the
+     * lock.
+     */
+    private void trimStore() {
+        State current = state;
+        long total = 0;
+        for (Segment segment : current.segments) {
+            if (segment != null) {
+                total += segment.capacity;
+            }
+        }
+        while (total > maxFileStoreSize) {
+            current = state;
+            Segment oldest = current.segments[0];
+            if (oldest == current.active()) {
+                return;
+            }
+            LOG.warn("Maximum capacity of file store: {} hit at {} bytes. Dropping oldest segment: {} from the file store",
+                    directory, maxFileStoreSize, oldest.file);
+            int offset = 0;
+            int header;
+            while (offset + RECORD_HEADER_SIZE <= oldest.capacity && (header = oldest.buffer.getInt(offset)) != 0) {
+                if (header > 0) {
+                    long location = location(oldest.id, offset);
+                    int slot = findLocation(current.table, location, oldest.buffer.getInt(offset + 4));
+                    if (slot >= 0) {
+                        current.table.set(slot, DELETED);
+                        deleted++;
+                        size--;
+                    }
+                }
+                offset += RECORD_HEADER_SIZE + Math.abs(header) - 1;
+            }
+            total -= oldest.capacity;
+            removeSegment(oldest);
+        }
+    }
+
+    private Segment nextCompactionCandidate() {
+        lock.lock();
+        try {
+            State current = state;
+            if (current == null) {
+                // stopped
+                return null;
+            }
+            Segment active = current.active();
+            for (Segment segment : current.segments) {
+                if (segment != null && segment != active && segment.dead > 0
+                        && segment.dead >= (segment.live + segment.dead) * compactionThreshold) {
+                    return segment;
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Compacts the segment by appending its keys to the active segment, and then deleting the segment. The lock is
+     * only held for a batch of records at a time, so the repository can be used while compacting.
+     */
+    private void compactSegment(Segment segment) {
+        LOG.debug("Compacting segment: {} with {} live and {} deleted records", segment.file, segment.live, segment.dead);
+        int offset = 0;
+        boolean done = false;
+        while (!done) {
+            lock.lock();
+            try {
+                if (state == null || state.segment(segment.id) != segment) {
+                    // the segment was dropped or cleared in the meantime (or stopped)
+                    return;
+                }
+                for (int i = 0; i < COMPACTION_BATCH && !done; i++) {
+                    int header;
+                    if (offset + RECORD_HEADER_SIZE > segment.capacity || (header = segment.buffer.getInt(offset)) == 0) {
+                        done = true;
+                    } else {
+                        int length = Math.abs(header) - 1;
+                        if (header > 0) {
+                            int hash = segment.buffer.getInt(offset + 4);
+                            int slot = findLocation(state.table, location(segment.id, offset), hash);
+                            if (slot >= 0) {
+                                byte[] bytes = new byte[length];
+                                segment.buffer.get(offset + RECORD_HEADER_SIZE, bytes);
+                                long location = append(bytes, hash);
+                                // the index may not have changed as appending does not rehash
+                                state.table.set(slot, location);
+                                segment.live--;
+                            }
+                        }
+                        offset += RECORD_HEADER_SIZE + length;
+                    }
+                }
+                if (done) {
+                    removeSegment(segment);
+                    compactions.incrementAndGet();
+                }
+            } catch (IOException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void compactInBackground() {
+        try {
+            compact();
+        } catch (Exception e) {
+            LOG.warn("Error compacting idempotent filestore: {}. This exception is ignored.", directory, e);
+        }
+    }
+
+    private Segment createSegment(int id) throws IOException {
+        File file = new File(directory, String.format("%s%010d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+        return new Segment(id, file, map(file, segmentSize));
+    }
+
+    private Table createTable(int capacity) throws IOException {
+        File file = new File(directory, INDEX_PREFIX + nextIndexId++ + INDEX_SUFFIX);
+        return new Table(file, map(file, capacity * 8L), capacity);
+    }
+
+    private static MappedByteBuffer map(File file, long length) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            if (raf.length() < length) {
+                raf.setLength(length);
+            }
+            // the mapping stays valid after the file is closed
+            return raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, raf.length());
+        }
+    }
+
+    private static void deleteFile(File file) {
+        // the file may still be mapped on some platforms until the buffer is garbage collected
+        if (!FileUtil.deleteFile(file)) {
+            LOG.debug("Cannot delete file: {}. Will delete the file on exit.", file);
+            file.deleteOnExit();
+        }
+    }
+
+    /**
+     * Loads the segment files from the directory and builds the index
+     */
+    protected void loadStore() throws IOException {
+        if (!directory.exists()) {
+            LOG.debug("Creating filestore directory: {}", directory);
+            if (!directory.mkdirs()) {
+                throw new IOException("Cannot create filestore directory: " + directory);
+            }
+        }
+
+        // the index is always rebuilt
+        File[] files = directory.listFiles((dir, name) -> name.startsWith(INDEX_PREFIX) && name.endsWith(INDEX_SUFFIX));
+        if (files != null) {
+            for (File file : files) {
+                deleteFile(file);
+            }
+        }
+
+        files = directory.listFiles((dir, name) -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX));
+        int[] ids = files != null ? new int[files.length] : new int[0];
+        for (int i = 0; i < ids.length; i++) {
+            String name = files[i].getName();
+            ids[i] = Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        }
+        Arrays.sort(ids);
+
+        LOG.trace("Loading {} segments from idempotent filestore: {}", ids.length, directory);
+
+        size = 0;
+        deleted = 0;
+        nextSegmentId = ids.length > 0 ? ids[ids.length - 1] + 1 : 1;
+        Table table = createTable(INITIAL_INDEX_CAPACITY);
+        if (ids.length == 0) {
+            Segment segment = createSegment(nextSegmentId++);
+            state = new State(new Segment[] { segment }, segment.id, table);
+        } else {
+            int first = ids[0];
+            Segment[] segments = new Segment[ids[ids.length - 1] - first + 1];
+            state = new State(segments, first, table);
+            for (int id : ids) {
+                File file = new File(directory, String.format("%s%010d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+                Segment segment = new Segment(id, file, map(file, 0));
+                segments[id - first] = segment;
+                loadSegment(segment);
+            }
+        }
+
+        LOG.debug("Loaded {} keys from idempotent filestore: {}", size, directory);
+    }
+
+    private void loadSegment(Segment segment) throws IOException {
+        MappedByteBuffer buffer = segment.buffer;
+        int offset = 0;
+        while (offset + RECORD_HEADER_SIZE <= segment.capacity) {
+            int header = buffer.getInt(offset);
+            if (header == 0) {
+                break;
+            }
+            int length = Math.abs(header) - 1;
+            if (offset + RECORD_HEADER_SIZE + length > segment.capacity) {
+                LOG.warn("Segment: {} is corrupt at position: {}. The remainder of the segment is ignored.", segment.file,
+                        offset);
+                break;
+            }
+            if (header > 0) {
+                byte[] bytes = new byte[length];
+                buffer.get(offset + RECORD_HEADER_SIZE, bytes);
+                int hash = buffer.getInt(offset + 4);
+                int slot = find(state, bytes, hash);
+                if (slot >= 0) {
+                    // a duplicate key can happen if the compaction was interrupted, so keep the newest
+                    long location = state.table.get(slot);
+                    state.table.set(slot, location(segment.id, offset));
+                    markDeleted(state.segment(segmentId(location)), offset(location));
+                } else {
+                    insert(location(segment.id, offset), hash);
+                    size++;
+                }
+                segment.live++;
+            } else {
+                segment.dead++;
+            }
+            offset += RECORD_HEADER_SIZE + length;
+        }
+        segment.position = offset;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(directory, "directory", this);
+        if (segmentSize <= RECORD_HEADER_SIZE) {
+            throw new IllegalArgumentException("SegmentSize must be larger than " + RECORD_HEADER_SIZE);
+        }
+
+        lock.lock();
+        try {
+            loadStore();
+        } finally {
+            lock.unlock();
+        }
+
+        if (compactionInterval > 0 && camelContext != null) {
+            executorService = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this,
+                    "MappedFileIdempotentRepositoryCompaction");
+            executorService.scheduleWithFixedDelay(this::compactInBackground, compactionInterval, compactionInterval,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(executorService);
+            executorService = null;
+        }
+
+        lock.lock();
+        try {
+            State current = state;
+            if (current != null) {
+                for (Segment segment : current.segments) {
+                    if (segment != null) {
+                        segment.buffer.force();
+                    }
+                }
+                deleteFile(current.table.file);
+            }
+            state = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static int hash(String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static long location(int segmentId, int offset) {
+        // add one so a location is never empty
+        return ((long) segmentId << 32) | (offset + 1);
+    }
+
+    private static int segmentId(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int offset(long location) {
+        return (int) location - 1;
+    }
+
+    /**
+     * The segments and the index, which is replaced as a whole when a segment is added or removed or the index is
+     * rehashed, so lookups can use it without locking.
+     */
+    private static final class State {
+        private final Segment[] segments;
+        private final int firstSegmentId;
+        private final Table table;
+
+        private State(Segment[] segments, int firstSegmentId, Table table) {
+            this.segments = segments;
+            this.firstSegmentId = firstSegmentId;
+            this.table = table;
+        }
+
+        private Segment segment(int id) {
+            int index = id - firstSegmentId;
+            return index >= 0 && index < segments.length ? segments[index] : null;
+        }
+
+        private Segment active() {
+            return segments[segments.length - 1];
+        }
+    }
+
+    private static final class Segment {
+        private final int id;
+        private final File file;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        // guarded by lock
+        private int position;
+        private int live;
+        private int dead;
+
+        private Segment(int id, File file, MappedByteBuffer buffer) {
+            this.id = id;
+            this.file = file;
+            this.buffer = buffer;
+            this.capacity = buffer.capacity();
+        }
+    }
+
+    private static final class Table {
+        private final File file;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private final int mask;
+
+        private Table(File file, MappedByteBuffer buffer, int capacity) {
+            this.file = file;
+            this.buffer = buffer;
+            this.capacity = capacity;
+            this.mask = capacity - 1;
+        }
+
+        private long get(int slot) {
+            return (long) SLOTS.getAcquire(buffer, slot << 3);
+        }
+
+        private void set(int slot, long location) {
+            SLOTS.setRelease(buffer, slot << 3, location);
+        }
+    }
+}
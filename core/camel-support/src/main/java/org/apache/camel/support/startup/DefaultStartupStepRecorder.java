@@ -26,6 +26,9 @@ import org.apache.camel.support.service.ServiceSupport;
 
 /**
  * Default {@link StartupStepRecorder} that is always disabled.
+ * <p/>
+ * The current steps are kept per thread, so steps can be recorded from other threads, such as when starting routes in
+ * parallel.
  */
 public class DefaultStartupStepRecorder extends ServiceSupport implements StartupStepRecorder {
 
@@ -73,7 +76,7 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     };
 
     private final AtomicInteger stepCounter = new AtomicInteger();
-    private final Deque<Integer> currentSteps = new ArrayDeque<>();
+    private final ThreadLocal<Deque<StartupStep>> currentSteps = ThreadLocal.withInitial(ArrayDeque::new);
 
     private boolean enabled;
     private int maxDepth = -1;
@@ -82,10 +85,6 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     private String recordingDir;
     private String recordingProfile = "default";
 
-    public DefaultStartupStepRecorder() {
-        currentSteps.offerFirst(0);
-    }
-
     public boolean isEnabled() {
         return enabled;
     }
@@ -151,30 +150,44 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     @Override
     public void doStop() throws Exception {
         enabled = false;
-        currentSteps.clear();
+        currentSteps.remove();
     }
 
     public StartupStep beginStep(Class<?> type, String name, String description) {
         if (enabled) {
-            int level = currentSteps.size() - 1;
-            if (maxDepth != -1 && level >= maxDepth) {
-                return DISABLED_STEP;
-            }
-            int id = stepCounter.incrementAndGet();
-            Integer parent = currentSteps.peekFirst();
-            int pid = parent != null ? parent : 0;
-            StartupStep step = createStartupStep(type.getSimpleName(), name, description, id, pid, level);
-            onBeginStep(step);
-            currentSteps.offerFirst(id);
-            return step;
+            Deque<StartupStep> steps = currentSteps.get();
+            return doBeginStep(steps, steps.peekFirst(), type, name, description);
+        } else {
+            return DISABLED_STEP;
+        }
+    }
+
+    @Override
+    public StartupStep beginStep(StartupStep parent, Class<?> type, String name, String description) {
+        if (enabled && parent != DISABLED_STEP) {
+            return doBeginStep(currentSteps.get(), parent, type, name, description);
         } else {
             return DISABLED_STEP;
         }
     }
 
+    private StartupStep doBeginStep(
+            Deque<StartupStep> steps, StartupStep parent, Class<?> type, String name, String description) {
+        int level = parent != null ? parent.getLevel() + 1 : 0;
+        if (maxDepth != -1 && level >= maxDepth) {
+            return DISABLED_STEP;
+        }
+        int id = stepCounter.incrementAndGet();
+        int pid = parent != null ? parent.getId() : 0;
+        StartupStep step = createStartupStep(type.getSimpleName(), name, description, id, pid, level);
+        onBeginStep(step);
+        steps.offerFirst(step);
+        return step;
+    }
+
     public void endStep(StartupStep step) {
         if (step != DISABLED_STEP) {
-            currentSteps.pollFirst();
+            currentSteps.get().remove(step);
             step.endStep();
             onEndStep(step);
         }
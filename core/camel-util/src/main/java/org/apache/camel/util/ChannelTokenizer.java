@@ -0,0 +1,394 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A tokenizer which splits the bytes of a {@link FileChannel} or {@link ByteBuffer} by a literal delimiter, without
+ * decoding the content into characters first.
+ * <p/>
+ * A file is read through a window which is moved along the file, and only the bytes of each token are decoded into a
+ * {@link String}. The file is read through the channel rather than memory-mapped, so the file is not kept mapped (and
+ * locked on Windows) after the tokenizer is closed, and a file which is truncated while being read fails with an
+ * {@link java.io.EOFException} instead of a fault in the JVM. The tokens are the same as returned by a {@link Scanner} using the same delimiter,
+ * which means a leading delimiter is skipped, and a trailing delimiter does not yield an empty token. Likewise the
+ * tokenizer stops at content which is malformed for the charset, and the error is thrown when the tokenizer is closed.
+ * <p/>
+ * The tokenizer can also operate in pair mode, where the content between the end tokens is used as delimiter, and each
+ * token is the text after the first start token.
+ * <p/>
+ * The delimiter must be literal text (see {@link #toLiteral(String)}) and the charset must be UTF-8 or a single byte
+ * charset (see {@link #isSupportedCharset(String)}), as otherwise the delimiter cannot be found by comparing bytes.
+ */
+public final class ChannelTokenizer implements Iterator<String>, Closeable {
+
+    /**
+     * The default size of the window the file is read into
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 1024 * 1024;
+
+    // the bytes read at a time, which keeps the temporary direct buffer used by the channel small
+    private static final int READ_SIZE = 64 * 1024;
+
+    private static final String REGEX_META_CHARS = "\\^$.|?*+()[]{}";
+
+    private final FileChannel channel;
+    private final CharsetDecoder decoder;
+    private final String delim;
+    private final byte[] delimiter;
+    private final byte[] startToken;
+    private final String endToken;
+    private final boolean includeTokens;
+    private final long limit;
+    private final int windowSize;
+    private ByteBuffer window;
+    private long windowStart;
+    private long position;
+    private long tokenStart = -1;
+    private long tokenEnd;
+    private String token;
+    private boolean exhausted;
+    private boolean closed;
+    private IOException lastIOException;
+
+    /**
+     * Creates a tokenizer which splits the remainder of the file channel (from its current position) by the delimiter.
+     */
+    public ChannelTokenizer(FileChannel channel, String charsetName, String delimiter) throws IOException {
+        this(channel, null, toCharset(charsetName), delimiter, null, null, false, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Creates a tokenizer which returns the content between the start and end tokens of the remainder of the file
+     * channel (from its current position).
+     */
+    public ChannelTokenizer(FileChannel channel, String charsetName, String startToken, String endToken,
+                            boolean includeTokens) throws IOException {
+        this(channel, null, toCharset(charsetName), endToken, startToken, endToken, includeTokens, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Creates a tokenizer which splits the remaining bytes of the buffer by the delimiter.
+     */
+    public ChannelTokenizer(ByteBuffer buffer, String charsetName, String delimiter) {
+        this(null, buffer, toCharset(charsetName), delimiter, null, null, false, 0);
+    }
+
+    /**
+     * Creates a tokenizer which returns the content between the start and end tokens of the remaining bytes of the
+     * buffer.
+     */
+    public ChannelTokenizer(ByteBuffer buffer, String charsetName, String startToken, String endToken,
+                            boolean includeTokens) {
+        this(null, buffer, toCharset(charsetName), endToken, startToken, endToken, includeTokens, 0);
+    }
+
+    ChannelTokenizer(FileChannel channel, ByteBuffer buffer, Charset charset, String delimiter, String startToken,
+                     String endToken, boolean includeTokens, int windowSize) {
+        if (delimiter == null || delimiter.isEmpty()) {
+            // whitespace such as a new line is a valid delimiter
+            throw new IllegalArgumentException("delimiter must be specified and not empty");
+        }
+        this.channel = channel;
+        this.decoder = charset.newDecoder();
+        this.delim = delimiter;
+        this.delimiter = delimiter.getBytes(charset);
+        this.startToken = startToken != null ? startToken.getBytes(charset) : null;
+        this.endToken = endToken;
+        this.includeTokens = includeTokens;
+        this.windowSize = Math.max(windowSize, this.delimiter.length);
+        if (channel != null) {
+            try {
+                this.position = channel.position();
+                this.limit = channel.size();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.window = ByteBuffer.allocate(0);
+            this.windowStart = position;
+        } else {
+            Objects.requireNonNull(buffer, "buffer");
+            this.window = buffer.slice();
+            this.limit = window.limit();
+        }
+    }
+
+    /**
+     * Returns the literal text of the given delimiter, which may use the regular expression escapes <tt>\n</tt>,
+     * <tt>\r</tt> and <tt>\t</tt> or escape any other non alphanumeric character with a backslash.
+     *
+     * @return the literal text, or <tt>null</tt> if the delimiter is a regular expression which cannot be matched as
+     *         literal text
+     */
+    public static String toLiteral(String pattern) {
+        if (pattern == null || pattern.isEmpty()) {
+            return null;
+        }
+        StringBuilder sb = null;
+        for (int i = 0; i < pattern.length(); i++) {
+            char ch = pattern.charAt(i);
+            if (ch == '\\') {
+                if (i + 1 == pattern.length()) {
+                    return null;
+                }
+                if (sb == null) {
+                    sb = new StringBuilder(pattern.length());
+                    sb.append(pattern, 0, i);
+                }
+                char next = pattern.charAt(++i);
+                if (next == 'n') {
+                    sb.append('\n');
+                } else if (next == 'r') {
+                    sb.append('\r');
+                } else if (next == 't') {
+                    sb.append('\t');
+                } else if (!Character.isLetterOrDigit(next)) {
+                    sb.append(next);
+                } else {
+                    return null;
+                }
+            } else if (REGEX_META_CHARS.indexOf(ch) != -1) {
+                return null;
+            } else if (sb != null) {
+                sb.append(ch);
+            }
+        }
+        return sb != null ? sb.toString() : pattern;
+    }
+
+    /**
+     * Whether the charset can be tokenized by comparing bytes, which is the case for UTF-8 and single byte charsets.
+     *
+     * @param charsetName the charset name, or <tt>null</tt> for the default charset
+     */
+    public static boolean isSupportedCharset(String charsetName) {
+        Charset cs;
+        try {
+            cs = toCharset(charsetName);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return StandardCharsets.UTF_8.equals(cs) || cs.canEncode() && cs.newEncoder().maxBytesPerChar() == 1;
+    }
+
+    private static Charset toCharset(String charsetName) {
+        try {
+            return charsetName != null ? Charset.forName(charsetName) : Charset.defaultCharset();
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * The delimiter used for splitting
+     */
+    public String getDelim() {
+        return delim;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        if (token == null && !exhausted) {
+            advance();
+            if (tokenStart != -1) {
+                try {
+                    token = decode(tokenStart, tokenEnd);
+                } catch (CharacterCodingException e) {
+                    lastIOException = e;
+                    exhausted = true;
+                }
+                tokenStart = -1;
+            }
+        }
+        return token != null;
+    }
+
+    @Override
+    public String next() {
+        if (closed) {
+            throw new IllegalStateException();
+        }
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String answer = token;
+        if (includeTokens) {
+            answer = answer + endToken;
+        }
+        token = null;
+        return answer;
+    }
+
+    private void advance() {
+        // skip the delimiter in front of the next token
+        if (matches(delimiter, position)) {
+            position += delimiter.length;
+        }
+        if (position >= limit) {
+            exhausted = true;
+            return;
+        }
+        long start = position;
+        long end = indexOf(delimiter, start, start, limit);
+        if (end == -1) {
+            end = limit;
+        }
+        position = end;
+
+        if (startToken != null) {
+            // only grab the text after the start token, and if there is no start token then
+            // we have reached beyond the last tokens and should not return more data
+            long index = indexOf(startToken, start, start, end);
+            if (index == -1) {
+                exhausted = true;
+                return;
+            }
+            start = includeTokens ? index : index + startToken.length;
+        }
+        tokenStart = start;
+        tokenEnd = end;
+    }
+
+    private boolean matches(byte[] bytes, long index) {
+        if (index + bytes.length > limit) {
+            return false;
+        }
+        ensureWindow(index, index, bytes.length);
+        int pos = (int) (index - windowStart);
+        for (int i = 0; i < bytes.length; i++) {
+            if (window.get(pos + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the first occurrence of the bytes between from and to, while keeping the window read from the mark.
+     */
+    private long indexOf(byte[] bytes, long mark, long from, long to) {
+        final byte first = bytes[0];
+        long index = from;
+        while (true) {
+            long windowEnd = Math.min(windowStart + window.limit(), to);
+            int pos = (int) (index - windowStart);
+            int last = (int) (windowEnd - windowStart) - bytes.length;
+            for (; pos <= last; pos++) {
+                if (window.get(pos) == first && matchesInWindow(bytes, pos)) {
+                    return windowStart + pos;
+                }
+            }
+            if (windowEnd >= to) {
+                return -1;
+            }
+            // continue searching from where the bytes could start in the next window
+            index = Math.max(index, windowEnd - bytes.length + 1);
+            ensureWindow(mark, index, bytes.length);
+        }
+    }
+
+    private boolean matchesInWindow(byte[] bytes, int pos) {
+        for (int i = 1; i < bytes.length; i++) {
+            if (window.get(pos + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Ensures the window is read from the mark and covers the given length after the index.
+     */
+    private void ensureWindow(long mark, long index, int length) {
+        long end = Math.min(index + length, limit);
+        if (mark >= windowStart && end <= windowStart + window.limit()) {
+            return;
+        }
+        if (channel == null) {
+            throw new IllegalStateException("Index " + index + " is outside the buffer");
+        }
+        long required = end - mark;
+        if (required > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Token is too large: " + required + " bytes");
+        }
+        long size = Math.max(windowSize, required);
+        if (mark == windowStart) {
+            // the token does not fit in the window, so grow the window
+            size = Math.max(size, 2L * window.limit());
+        }
+        size = Math.min(Math.min(size, Integer.MAX_VALUE), limit - mark);
+        try {
+            window = read(mark, (int) size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        windowStart = mark;
+    }
+
+    /**
+     * Reads the bytes from the given position of the file into the window, which is reused when it is large enough.
+     */
+    private ByteBuffer read(long from, int size) throws IOException {
+        ByteBuffer buffer = window.capacity() >= size ? window : ByteBuffer.allocate(size);
+        buffer.clear();
+        while (buffer.position() < size) {
+            buffer.limit(Math.min(buffer.position() + READ_SIZE, size));
+            if (channel.read(buffer, from + buffer.position()) == -1) {
+                throw new EOFException("File was truncated while reading at position " + (from + buffer.position()));
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private String decode(long start, long end) throws CharacterCodingException {
+        ByteBuffer bytes = window.slice((int) (start - windowStart), (int) (end - start));
+        return decoder.decode(bytes).toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            window = null;
+            if (channel != null) {
+                channel.close();
+            }
+        }
+        if (lastIOException != null) {
+            throw lastIOException;
+        }
+    }
+}
@@ -16,6 +16,9 @@
  */
 package org.apache.camel.util.concurrent;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 
@@ -32,6 +35,31 @@ public final class ThreadHelper {
 
     private static AtomicLong threadCounter = new AtomicLong();
 
+    // virtual threads requires Java 21 so we look up the builder methods reflectively
+    private static final MethodHandle OF_VIRTUAL;
+    private static final MethodHandle BUILDER_NAME;
+    private static final MethodHandle BUILDER_UNSTARTED;
+
+    static {
+        MethodHandle ofVirtual = null;
+        MethodHandle builderName = null;
+        MethodHandle builderUnstarted = null;
+        try {
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            Class<?> ofVirtualBuilder = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualBuilder));
+            builderName = lookup.findVirtual(builder, "name", MethodType.methodType(builder, String.class));
+            builderUnstarted = lookup.findVirtual(builder, "unstarted", MethodType.methodType(Thread.class, Runnable.class));
+        } catch (Exception e) {
+            // virtual threads are not supported on this JVM
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_UNSTARTED = builderUnstarted;
+    }
+
     private ThreadHelper() {
     }
 
@@ -74,4 +102,34 @@ public final class ThreadHelper {
         return answer;
     }
 
+    /**
+     * Whether the JVM supports virtual threads (requires Java 21 or newer)
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Creates a new virtual thread (not started) with the given name.
+     *
+     * @param  name                          the thread name
+     * @param  runnable                      the task to run
+     * @return                               the created virtual thread
+     * @throws UnsupportedOperationException is thrown if the JVM does not support virtual threads
+     */
+    public static Thread newVirtualThread(String name, Runnable runnable) {
+        if (OF_VIRTUAL == null) {
+            throw new UnsupportedOperationException("Virtual threads requires Java 21 or newer");
+        }
+        try {
+            Object builder = OF_VIRTUAL.invoke();
+            builder = BUILDER_NAME.invoke(builder, name);
+            return (Thread) BUILDER_UNSTARTED.invoke(builder, runnable);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Error creating virtual thread: " + name, e);
+        }
+    }
+
 }
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.EOFException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ChannelTokenizerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testToLiteral() {
+        assertEquals(",", ChannelTokenizer.toLiteral(","));
+        assertEquals("\n", ChannelTokenizer.toLiteral("\n"));
+        assertEquals("\n", ChannelTokenizer.toLiteral("\\n"));
+        assertEquals("\r\n", ChannelTokenizer.toLiteral("\\r\\n"));
+        assertEquals("a|b", ChannelTokenizer.toLiteral("a\\|b"));
+        assertEquals("</order>", ChannelTokenizer.toLiteral("</order>"));
+        assertNull(ChannelTokenizer.toLiteral("a|b"));
+        assertNull(ChannelTokenizer.toLiteral("\\d+"));
+        assertNull(ChannelTokenizer.toLiteral("[,;]"));
+        assertNull(ChannelTokenizer.toLiteral(""));
+    }
+
+    @Test
+    public void testSupportedCharset() {
+        assertTrue(ChannelTokenizer.isSupportedCharset("UTF-8"));
+        assertTrue(ChannelTokenizer.isSupportedCharset("ISO-8859-1"));
+        assertTrue(ChannelTokenizer.isSupportedCharset("US-ASCII"));
+        assertFalse(ChannelTokenizer.isSupportedCharset("UTF-16"));
+        assertFalse(ChannelTokenizer.isSupportedCharset("unknown-charset"));
+    }
+
+    @Test
+    public void testSameTokensAsScanner() throws Exception {
+        String[] inputs = {
+                "", ",", ",,", "a", "a,", "a,,", ",a", "a,b,c", "a,,b", ",,a,,b,,", "æøå,€,ab" };
+        for (String input : inputs) {
+            List<String> expected = scan(input, ",");
+            assertEquals(expected, tokenize(input, ",", 1), input);
+            assertEquals(expected, tokenize(input, ",", 1024), input);
+            assertEquals(expected, tokenizeBuffer(input, ","), input);
+        }
+    }
+
+    @Test
+    public void testRandomSameTokensAsScanner() throws Exception {
+        Random random = new Random(42);
+        String alphabet = "ab\r\n€";
+        for (int i = 0; i < 200; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(200);
+            for (int j = 0; j < length; j++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String input = sb.toString();
+            for (String delimiter : new String[] { "\n", "\r\n", "ab" }) {
+                List<String> expected = scan(input, delimiter);
+                assertEquals(expected, tokenize(input, delimiter, 1 + random.nextInt(16)), input);
+                assertEquals(expected, tokenizeBuffer(input, delimiter), input);
+            }
+        }
+    }
+
+    @Test
+    public void testFromChannelPosition() throws Exception {
+        Path file = tempDir.resolve("data.txt");
+        Files.writeString(file, "header\nline1\nline2\n");
+
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        channel.position(7);
+        try (ChannelTokenizer tokenizer = new ChannelTokenizer(channel, "UTF-8", "\n")) {
+            assertEquals("line1", tokenizer.next());
+            assertEquals("line2", tokenizer.next());
+            assertFalse(tokenizer.hasNext());
+            assertThrows(NoSuchElementException.class, tokenizer::next);
+        }
+        assertFalse(channel.isOpen());
+    }
+
+    @Test
+    public void testTruncatedFile() throws Exception {
+        Path file = tempDir.resolve("truncated.txt");
+        Files.writeString(file, "line1\n" + "x".repeat(100) + "\nline3\n");
+
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try (ChannelTokenizer tokenizer = new ChannelTokenizer(
+                channel, null, StandardCharsets.UTF_8, "\n", null, null, false, 16)) {
+            assertEquals("line1", tokenizer.next());
+            channel.truncate(10);
+            UncheckedIOException e = assertThrows(UncheckedIOException.class, () -> toList(tokenizer));
+            assertTrue(e.getCause() instanceof EOFException);
+        }
+        assertFalse(channel.isOpen());
+    }
+
+    @Test
+    public void testMalformedInput() {
+        // latin-1 encoded text is malformed for UTF-8, which stops the tokenizer as with the scanner
+        byte[] bytes = "a\nb\nc\u00e6\nd".getBytes(StandardCharsets.ISO_8859_1);
+        ChannelTokenizer tokenizer = new ChannelTokenizer(ByteBuffer.wrap(bytes), "UTF-8", "\n");
+        assertEquals("a", tokenizer.next());
+        assertEquals("b", tokenizer.next());
+        assertFalse(tokenizer.hasNext());
+        assertThrows(CharacterCodingException.class, tokenizer::close);
+    }
+
+    @Test
+    public void testPair() throws Exception {
+        String input = "<orders><order>1</order><order>2</order>\n<order>3</order></orders>";
+        ByteBuffer buffer = ByteBuffer.wrap(input.getBytes(StandardCharsets.UTF_8));
+
+        ChannelTokenizer tokenizer = new ChannelTokenizer(buffer, "UTF-8", "<order>", "</order>", false);
+        assertEquals(List.of("1", "2", "3"), toList(tokenizer));
+
+        buffer.rewind();
+        tokenizer = new ChannelTokenizer(buffer, "UTF-8", "<order>", "</order>", true);
+        assertEquals(List.of("<order>1</order>", "<order>2</order>", "<order>3</order>"), toList(tokenizer));
+
+        Path file = tempDir.resolve("orders.xml");
+        Files.writeString(file, input);
+        // use a small window so the tokens span several windows
+        try (ChannelTokenizer fileTokenizer = new ChannelTokenizer(
+                FileChannel.open(file), null, StandardCharsets.UTF_8, "</order>", "<order>", "</order>", true, 4)) {
+            assertEquals(List.of("<order>1</order>", "<order>2</order>", "<order>3</order>"), toList(fileTokenizer));
+        }
+    }
+
+    private List<String> scan(String input, String delimiter) {
+        return toList(new Scanner(input, delimiter));
+    }
+
+    private List<String> tokenize(String input, String delimiter, int windowSize) throws Exception {
+        Path file = Files.createTempFile(tempDir, "tokenize", ".txt");
+        Files.writeString(file, input);
+        try (ChannelTokenizer tokenizer = new ChannelTokenizer(
+                FileChannel.open(file), null, StandardCharsets.UTF_8, delimiter, null, null, false, windowSize)) {
+            return toList(tokenizer);
+        }
+    }
+
+    private List<String> tokenizeBuffer(String input, String delimiter) {
+        ByteBuffer buffer = ByteBuffer.wrap(input.getBytes(StandardCharsets.UTF_8));
+        return toList(new ChannelTokenizer(buffer, "UTF-8", delimiter));
+    }
+
+    private static List<String> toList(Iterator<String> it) {
+        List<String> answer = new ArrayList<>();
+        while (it.hasNext()) {
+            answer.add(it.next());
+        }
+        return answer;
+    }
+}
@@ -99,6 +99,7 @@ public class ModelParser extends BaseParser {
                 case "executorService": def.setExecutorService(val); break;
                 case "forceCompletionOnStop": def.setForceCompletionOnStop(val); break;
                 case "ignoreInvalidCorrelationKeys": def.setIgnoreInvalidCorrelationKeys(val); break;
+                case "lockStripes": def.setLockStripes(val); break;
                 case "optimisticLocking": def.setOptimisticLocking(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
                 case "timeoutCheckerExecutorService": def.setTimeoutCheckerExecutorService(val); break;
@@ -273,6 +274,20 @@ public class ModelParser extends BaseParser {
             return true;
         }, optionalIdentifiedDefinitionElementHandler(), noValueHandler());
     }
+    protected ConcurrencyLimiterDefinition doParseConcurrencyLimiterDefinition() throws IOException, XmlPullParserException {
+        return doParse(new ConcurrencyLimiterDefinition(), (def, key, val) -> {
+            switch (key) {
+                case "initialLimit": def.setInitialLimit(val); break;
+                case "maxLimit": def.setMaxLimit(val); break;
+                case "maxQueueSize": def.setMaxQueueSize(val); break;
+                case "minLimit": def.setMinLimit(val); break;
+                case "smoothing": def.setSmoothing(val); break;
+                case "tolerance": def.setTolerance(val); break;
+                default: return processorDefinitionAttributeHandler().accept(def, key, val);
+            }
+            return true;
+        }, outputDefinitionElementHandler(), noValueHandler());
+    }
     protected ContextScanDefinition doParseContextScanDefinition() throws IOException, XmlPullParserException {
         return doParse(new ContextScanDefinition(), (def, key, val) -> {
             if ("includeNonSingletons".equals(key)) {
@@ -1310,11 +1325,14 @@ public class ModelParser extends BaseParser {
     protected SplitDefinition doParseSplitDefinition() throws IOException, XmlPullParserException {
         return doParse(new SplitDefinition(), (def, key, val) -> {
             switch (key) {
+                case "aggregateInOrder": def.setAggregateInOrder(val); break;
                 case "aggregationStrategy": def.setAggregationStrategy(val); break;
                 case "aggregationStrategyMethodAllowNull": def.setAggregationStrategyMethodAllowNull(val); break;
                 case "aggregationStrategyMethodName": def.setAggregationStrategyMethodName(val); break;
                 case "delimiter": def.setDelimiter(val); break;
                 case "executorService": def.setExecutorService(val); break;
+                case "maxBuffered": def.setMaxBuffered(val); break;
+                case "maxInflight": def.setMaxInflight(val); break;
                 case "onPrepare": def.setOnPrepare(val); break;
                 case "parallelAggregate": def.setParallelAggregate(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
@@ -1440,6 +1458,7 @@ public class ModelParser extends BaseParser {
                 case "asyncDelayed": def.setAsyncDelayed(val); break;
                 case "callerRunsWhenRejected": def.setCallerRunsWhenRejected(val); break;
                 case "executorService": def.setExecutorService(val); break;
+                case "mode": def.setMode(val); break;
                 case "rejectExecution": def.setRejectExecution(val); break;
                 case "timePeriodMillis": def.setTimePeriodMillis(val); break;
                 default: return processorDefinitionAttributeHandler().accept(def, key, val);
@@ -3242,6 +3261,7 @@ public class ModelParser extends BaseParser {
             case "otherwise": return doParseOtherwiseDefinition();
             case "circuitBreaker": return doParseCircuitBreakerDefinition();
             case "claimCheck": return doParseClaimCheckDefinition();
+            case "concurrencyLimiter": return doParseConcurrencyLimiterDefinition();
             case "convertBodyTo": return doParseConvertBodyDefinition();
             case "delay": return doParseDelayDefinition();
             case "dynamicRouter": return doParseDynamicRouterDefinition();
@@ -74,6 +74,11 @@ public class ModelWriter extends BaseWriter {
             throws IOException {
         doWriteClaimCheckDefinition("claimCheck", def);
     }
+    public void writeConcurrencyLimiterDefinition(
+            ConcurrencyLimiterDefinition def)
+            throws IOException {
+        doWriteConcurrencyLimiterDefinition("concurrencyLimiter", def);
+    }
     public void writeContextScanDefinition(
             ContextScanDefinition def)
             throws IOException {
@@ -1027,6 +1032,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("completionFromBatchConsumer", def.getCompletionFromBatchConsumer());
         doWriteAttribute("completeAllOnStop", def.getCompleteAllOnStop());
         doWriteAttribute("completionSize", def.getCompletionSize());
+        doWriteAttribute("lockStripes", def.getLockStripes());
         doWriteAttribute("aggregationStrategyMethodName", def.getAggregationStrategyMethodName());
         doWriteAttribute("aggregateController", def.getAggregateController());
         doWriteAttribute("completionTimeout", def.getCompletionTimeout());
@@ -1129,6 +1135,22 @@ public class ModelWriter extends BaseWriter {
         doWriteOptionalIdentifiedDefinitionElements(def);
         endElement();
     }
+    protected void doWriteConcurrencyLimiterDefinition(
+            String name,
+            ConcurrencyLimiterDefinition def)
+            throws IOException {
+        startElement(name);
+        doWriteProcessorDefinitionAttributes(def);
+        doWriteAttribute("initialLimit", def.getInitialLimit());
+        doWriteAttribute("minLimit", def.getMinLimit());
+        doWriteAttribute("maxLimit", def.getMaxLimit());
+        doWriteAttribute("maxQueueSize", def.getMaxQueueSize());
+        doWriteAttribute("tolerance", def.getTolerance());
+        doWriteAttribute("smoothing", def.getSmoothing());
+        doWriteOptionalIdentifiedDefinitionElements(def);
+        doWriteList(null, null, def.getOutputs(), this::doWriteProcessorDefinitionRef);
+        endElement();
+    }
     protected void doWriteContextScanDefinition(
             String name,
             ContextScanDefinition def)
@@ -2270,12 +2292,15 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("aggregationStrategy", def.getAggregationStrategy());
         doWriteAttribute("onPrepare", def.getOnPrepare());
         doWriteAttribute("executorService", def.getExecutorService());
+        doWriteAttribute("maxInflight", def.getMaxInflight());
+        doWriteAttribute("maxBuffered", def.getMaxBuffered());
         doWriteAttribute("aggregationStrategyMethodName", def.getAggregationStrategyMethodName());
         doWriteAttribute("timeout", def.getTimeout());
         doWriteAttribute("streaming", def.getStreaming());
         doWriteAttribute("stopOnException", def.getStopOnException());
         doWriteAttribute("delimiter", def.getDelimiter());
         doWriteAttribute("parallelProcessing", def.getParallelProcessing());
+        doWriteAttribute("aggregateInOrder", def.getAggregateInOrder());
         doWriteAttribute("parallelAggregate", def.getParallelAggregate());
         doWriteAttribute("shareUnitOfWork", def.getShareUnitOfWork());
         doWriteAttribute("aggregationStrategyMethodAllowNull", def.getAggregationStrategyMethodAllowNull());
@@ -2383,6 +2408,7 @@ public class ModelWriter extends BaseWriter {
             throws IOException {
         startElement(name);
         doWriteProcessorDefinitionAttributes(def);
+        doWriteAttribute("mode", def.getMode());
         doWriteAttribute("timePeriodMillis", def.getTimePeriodMillis());
         doWriteAttribute("rejectExecution", def.getRejectExecution());
         doWriteAttribute("callerRunsWhenRejected", def.getCallerRunsWhenRejected());
@@ -4671,6 +4697,7 @@ public class ModelWriter extends BaseWriter {
                 case "ChoiceDefinition" -> doWriteChoiceDefinition("choice", (ChoiceDefinition) v);
                 case "CircuitBreakerDefinition" -> doWriteCircuitBreakerDefinition("circuitBreaker", (CircuitBreakerDefinition) v);
                 case "ClaimCheckDefinition" -> doWriteClaimCheckDefinition("claimCheck", (ClaimCheckDefinition) v);
+                case "ConcurrencyLimiterDefinition" -> doWriteConcurrencyLimiterDefinition("concurrencyLimiter", (ConcurrencyLimiterDefinition) v);
                 case "ConvertBodyDefinition" -> doWriteConvertBodyDefinition("convertBodyTo", (ConvertBodyDefinition) v);
                 case "DelayDefinition" -> doWriteDelayDefinition("delay", (DelayDefinition) v);
                 case "DynamicRouterDefinition" -> doWriteDynamicRouterDefinition("dynamicRouter", (DynamicRouterDefinition) v);
@@ -4773,6 +4800,7 @@ public class ModelWriter extends BaseWriter {
                 case "ChoiceDefinition" -> doWriteChoiceDefinition("choice", (ChoiceDefinition) v);
                 case "CircuitBreakerDefinition" -> doWriteCircuitBreakerDefinition("circuitBreaker", (CircuitBreakerDefinition) v);
                 case "ClaimCheckDefinition" -> doWriteClaimCheckDefinition("claimCheck", (ClaimCheckDefinition) v);
+                case "ConcurrencyLimiterDefinition" -> doWriteConcurrencyLimiterDefinition("concurrencyLimiter", (ConcurrencyLimiterDefinition) v);
                 case "ConvertBodyDefinition" -> doWriteConvertBodyDefinition("convertBodyTo", (ConvertBodyDefinition) v);
                 case "DelayDefinition" -> doWriteDelayDefinition("delay", (DelayDefinition) v);
                 case "DynamicRouterDefinition" -> doWriteDynamicRouterDefinition("dynamicRouter", (DynamicRouterDefinition) v);
@@ -246,6 +246,47 @@ public interface KafkaComponentBuilderFactory {
             doSetProperty("autoOffsetReset", autoOffsetReset);
             return this;
         }
+        /**
+         * Whether to process the records of a poll as a single exchange,
+         * instead of one exchange per record. The body of the exchange is a
+         * java.util.List of exchanges, one for each record with the same body
+         * and headers as when not batching. The maximum size of a batch is the
+         * maxPollRecords option. The offsets of the records of the batch are
+         * committed once the batch has been processed, and when
+         * allowManualCommit is enabled the KafkaManualCommit header commits the
+         * whole batch.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param batching the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder batching(boolean batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
+        /**
+         * When batching is enabled, the time to accumulate records over several
+         * polls before the batch is processed, unless the batch has reached the
+         * maxPollRecords size before. By default a batch holds the records of a
+         * single poll. As the records are held by the consumer over several
+         * polls, this should be used with autoCommitEnable set to false.
+         * 
+         * The option is a: &lt;code&gt;java.lang.Integer&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param batchingIntervalMs the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder batchingIntervalMs(
+                java.lang.Integer batchingIntervalMs) {
+            doSetProperty("batchingIntervalMs", batchingIntervalMs);
+            return this;
+        }
         /**
          * This options controls what happens when a consumer is processing an
          * exchange and it fails. If the option is false then the consumer
@@ -653,6 +694,49 @@ public interface KafkaComponentBuilderFactory {
             doSetProperty("pollTimeoutMs", pollTimeoutMs);
             return this;
         }
+        /**
+         * When recordProcessingThreads is enabled, whether the order of the
+         * records is preserved per partition, or only per record key within a
+         * partition which allows records of the same partition to be processed
+         * in parallel.
+         * 
+         * The option is a: &lt;code&gt;java.lang.String&lt;/code&gt; type.
+         * 
+         * Default: partition
+         * Group: consumer
+         * 
+         * @param recordProcessingOrder the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder recordProcessingOrder(
+                java.lang.String recordProcessingOrder) {
+            doSetProperty("recordProcessingOrder", recordProcessingOrder);
+            return this;
+        }
+        /**
+         * The number of threads each consumer uses to process the records
+         * returned by a poll in parallel. Records are dispatched to the threads
+         * by partition (or by record key), so the order of the records is
+         * preserved per partition (or key). The consumer waits for all the
+         * records of a poll to be processed before polling again, and only
+         * commits the offsets of the records which have been processed without
+         * any gap. The default value of 1 means the records are processed one
+         * by one by the consumer thread. This cannot be used together with
+         * allowManualCommit.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer
+         * 
+         * @param recordProcessingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder recordProcessingThreads(
+                int recordProcessingThreads) {
+            doSetProperty("recordProcessingThreads", recordProcessingThreads);
+            return this;
+        }
         /**
          * Set if KafkaConsumer will read from beginning or end on startup:
          * SeekPolicy.BEGINNING: read from beginning. SeekPolicy.END: read from
@@ -2148,6 +2232,8 @@ public interface KafkaComponentBuilderFactory {
             case "autoCommitEnable": getOrCreateConfiguration((KafkaComponent) component).setAutoCommitEnable((boolean) value); return true;
             case "autoCommitIntervalMs": getOrCreateConfiguration((KafkaComponent) component).setAutoCommitIntervalMs((java.lang.Integer) value); return true;
             case "autoOffsetReset": getOrCreateConfiguration((KafkaComponent) component).setAutoOffsetReset((java.lang.String) value); return true;
+            case "batching": getOrCreateConfiguration((KafkaComponent) component).setBatching((boolean) value); return true;
+            case "batchingIntervalMs": getOrCreateConfiguration((KafkaComponent) component).setBatchingIntervalMs((java.lang.Integer) value); return true;
             case "breakOnFirstError": getOrCreateConfiguration((KafkaComponent) component).setBreakOnFirstError((boolean) value); return true;
             case "bridgeErrorHandler": ((KafkaComponent) component).setBridgeErrorHandler((boolean) value); return true;
             case "checkCrcs": getOrCreateConfiguration((KafkaComponent) component).setCheckCrcs((java.lang.Boolean) value); return true;
@@ -2169,6 +2255,8 @@ public interface KafkaComponentBuilderFactory {
             case "partitionAssignor": getOrCreateConfiguration((KafkaComponent) component).setPartitionAssignor((java.lang.String) value); return true;
             case "pollOnError": getOrCreateConfiguration((KafkaComponent) component).setPollOnError((org.apache.camel.component.kafka.PollOnError) value); return true;
             case "pollTimeoutMs": getOrCreateConfiguration((KafkaComponent) component).setPollTimeoutMs((java.lang.Long) value); return true;
+            case "recordProcessingOrder": getOrCreateConfiguration((KafkaComponent) component).setRecordProcessingOrder((java.lang.String) value); return true;
+            case "recordProcessingThreads": getOrCreateConfiguration((KafkaComponent) component).setRecordProcessingThreads((int) value); return true;
             case "seekTo": getOrCreateConfiguration((KafkaComponent) component).setSeekTo((org.apache.camel.component.kafka.SeekPolicy) value); return true;
             case "sessionTimeoutMs": getOrCreateConfiguration((KafkaComponent) component).setSessionTimeoutMs((java.lang.Integer) value); return true;
             case "specificAvroReader": getOrCreateConfiguration((KafkaComponent) component).setSpecificAvroReader((boolean) value); return true;
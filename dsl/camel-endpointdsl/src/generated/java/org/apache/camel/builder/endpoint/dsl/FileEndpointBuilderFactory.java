@@ -329,6 +329,49 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("sendEmptyMessageWhenIdle", sendEmptyMessageWhenIdle);
             return this;
         }
+        /**
+         * Whether to watch the directory for new or modified files, using the
+         * file system watch service, and poll right away when files are changed.
+         * Only the directories which have changed are polled, and the regular
+         * polls (at the configured delay) scan all the directories as a safety
+         * net, in case some changes were missed. Consider setting a higher delay
+         * when using this option.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param watchDirectory the value to set
+         * @return the dsl builder
+         */
+        default FileEndpointConsumerBuilder watchDirectory(
+                boolean watchDirectory) {
+            doSetProperty("watchDirectory", watchDirectory);
+            return this;
+        }
+        /**
+         * Whether to watch the directory for new or modified files, using the
+         * file system watch service, and poll right away when files are changed.
+         * Only the directories which have changed are polled, and the regular
+         * polls (at the configured delay) scan all the directories as a safety
+         * net, in case some changes were missed. Consider setting a higher delay
+         * when using this option.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param watchDirectory the value to set
+         * @return the dsl builder
+         */
+        default FileEndpointConsumerBuilder watchDirectory(
+                String watchDirectory) {
+            doSetProperty("watchDirectory", watchDirectory);
+            return this;
+        }
         /**
          * Ant style filter exclusion. If both antInclude and antExclude are
          * used, antExclude takes precedence over antInclude. Multiple
@@ -2090,6 +2133,48 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("directoryMustExist", directoryMustExist);
             return this;
         }
+        /**
+         * Number of threads used to list the sub directories when consuming
+         * recursively. When more than one, the sub directories of a directory
+         * are listed in parallel ahead of being polled, which can speedup
+         * polling deep directory trees on file systems with high latency (such
+         * as network shares). The files are still selected in the same order as
+         * when using a single thread.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param directoryScanThreads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder directoryScanThreads(
+                int directoryScanThreads) {
+            doSetProperty("directoryScanThreads", directoryScanThreads);
+            return this;
+        }
+        /**
+         * Number of threads used to list the sub directories when consuming
+         * recursively. When more than one, the sub directories of a directory
+         * are listed in parallel ahead of being polled, which can speedup
+         * polling deep directory trees on file systems with high latency (such
+         * as network shares). The files are still selected in the same order as
+         * when using a single thread.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param directoryScanThreads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder directoryScanThreads(
+                String directoryScanThreads) {
+            doSetProperty("directoryScanThreads", directoryScanThreads);
+            return this;
+        }
         /**
          * To let the consumer use a custom ExceptionHandler. Notice if the
          * option bridgeErrorHandler is enabled then this option is not in use.
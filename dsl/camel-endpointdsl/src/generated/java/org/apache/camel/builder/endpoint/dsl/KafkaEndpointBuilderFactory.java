@@ -368,6 +368,90 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("autoOffsetReset", autoOffsetReset);
             return this;
         }
+        /**
+         * Whether to process the records of a poll as a single exchange,
+         * instead of one exchange per record. The body of the exchange is a
+         * java.util.List of exchanges, one for each record with the same body
+         * and headers as when not batching. The maximum size of a batch is the
+         * maxPollRecords option. The offsets of the records of the batch are
+         * committed once the batch has been processed, and when
+         * allowManualCommit is enabled the KafkaManualCommit header commits the
+         * whole batch.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param batching the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder batching(boolean batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
+        /**
+         * Whether to process the records of a poll as a single exchange,
+         * instead of one exchange per record. The body of the exchange is a
+         * java.util.List of exchanges, one for each record with the same body
+         * and headers as when not batching. The maximum size of a batch is the
+         * maxPollRecords option. The offsets of the records of the batch are
+         * committed once the batch has been processed, and when
+         * allowManualCommit is enabled the KafkaManualCommit header commits the
+         * whole batch.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param batching the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder batching(String batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
+        /**
+         * When batching is enabled, the time to accumulate records over several
+         * polls before the batch is processed, unless the batch has reached the
+         * maxPollRecords size before. By default a batch holds the records of a
+         * single poll. As the records are held by the consumer over several
+         * polls, this should be used with autoCommitEnable set to false.
+         * 
+         * The option is a: &lt;code&gt;java.lang.Integer&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param batchingIntervalMs the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder batchingIntervalMs(
+                Integer batchingIntervalMs) {
+            doSetProperty("batchingIntervalMs", batchingIntervalMs);
+            return this;
+        }
+        /**
+         * When batching is enabled, the time to accumulate records over several
+         * polls before the batch is processed, unless the batch has reached the
+         * maxPollRecords size before. By default a batch holds the records of a
+         * single poll. As the records are held by the consumer over several
+         * polls, this should be used with autoCommitEnable set to false.
+         * 
+         * The option will be converted to a
+         * &lt;code&gt;java.lang.Integer&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param batchingIntervalMs the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder batchingIntervalMs(
+                String batchingIntervalMs) {
+            doSetProperty("batchingIntervalMs", batchingIntervalMs);
+            return this;
+        }
         /**
          * This options controls what happens when a consumer is processing an
          * exchange and it fails. If the option is false then the consumer
@@ -1072,6 +1156,73 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("pollTimeoutMs", pollTimeoutMs);
             return this;
         }
+        /**
+         * When recordProcessingThreads is enabled, whether the order of the
+         * records is preserved per partition, or only per record key within a
+         * partition which allows records of the same partition to be processed
+         * in parallel.
+         * 
+         * The option is a: &lt;code&gt;java.lang.String&lt;/code&gt; type.
+         * 
+         * Default: partition
+         * Group: consumer
+         * 
+         * @param recordProcessingOrder the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder recordProcessingOrder(
+                String recordProcessingOrder) {
+            doSetProperty("recordProcessingOrder", recordProcessingOrder);
+            return this;
+        }
+        /**
+         * The number of threads each consumer uses to process the records
+         * returned by a poll in parallel. Records are dispatched to the threads
+         * by partition (or by record key), so the order of the records is
+         * preserved per partition (or key). The consumer waits for all the
+         * records of a poll to be processed before polling again, and only
+         * commits the offsets of the records which have been processed without
+         * any gap. The default value of 1 means the records are processed one
+         * by one by the consumer thread. This cannot be used together with
+         * allowManualCommit.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer
+         * 
+         * @param recordProcessingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder recordProcessingThreads(
+                int recordProcessingThreads) {
+            doSetProperty("recordProcessingThreads", recordProcessingThreads);
+            return this;
+        }
+        /**
+         * The number of threads each consumer uses to process the records
+         * returned by a poll in parallel. Records are dispatched to the threads
+         * by partition (or by record key), so the order of the records is
+         * preserved per partition (or key). The consumer waits for all the
+         * records of a poll to be processed before polling again, and only
+         * commits the offsets of the records which have been processed without
+         * any gap. The default value of 1 means the records are processed one
+         * by one by the consumer thread. This cannot be used together with
+         * allowManualCommit.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer
+         * 
+         * @param recordProcessingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder recordProcessingThreads(
+                String recordProcessingThreads) {
+            doSetProperty("recordProcessingThreads", recordProcessingThreads);
+            return this;
+        }
         /**
          * Set if KafkaConsumer will read from beginning or end on startup:
          * SeekPolicy.BEGINNING: read from beginning. SeekPolicy.END: read from
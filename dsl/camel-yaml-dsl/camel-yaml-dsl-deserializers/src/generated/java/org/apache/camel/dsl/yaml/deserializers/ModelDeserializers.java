@@ -16,6 +16,7 @@ import org.apache.camel.model.CatchDefinition;
 import org.apache.camel.model.ChoiceDefinition;
 import org.apache.camel.model.CircuitBreakerDefinition;
 import org.apache.camel.model.ClaimCheckDefinition;
+import org.apache.camel.model.ConcurrencyLimiterDefinition;
 import org.apache.camel.model.ContextScanDefinition;
 import org.apache.camel.model.ConvertBodyDefinition;
 import org.apache.camel.model.DataFormatDefinition;
@@ -326,6 +327,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "id", type = "string"),
                     @YamlProperty(name = "ignore-invalid-correlation-keys", type = "boolean"),
                     @YamlProperty(name = "inherit-error-handler", type = "boolean"),
+                    @YamlProperty(name = "lock-stripes", type = "number"),
                     @YamlProperty(name = "optimistic-lock-retry-policy", type = "object:org.apache.camel.model.OptimisticLockRetryPolicyDefinition"),
                     @YamlProperty(name = "optimistic-locking", type = "boolean"),
                     @YamlProperty(name = "parallel-processing", type = "boolean"),
@@ -472,6 +474,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setInheritErrorHandler(java.lang.Boolean.valueOf(val));
                     break;
                 }
+                case "lock-stripes": {
+                    String val = asText(node);
+                    target.setLockStripes(val);
+                    break;
+                }
                 case "optimistic-lock-retry-policy": {
                     org.apache.camel.model.OptimisticLockRetryPolicyDefinition val = asType(node, org.apache.camel.model.OptimisticLockRetryPolicyDefinition.class);
                     target.setOptimisticLockRetryPolicyDefinition(val);
@@ -1976,6 +1983,103 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
         }
     }
 
+    @YamlType(
+            nodes = {
+                    "concurrency-limiter",
+                    "concurrencyLimiter"
+            },
+            types = org.apache.camel.model.ConcurrencyLimiterDefinition.class,
+            order = org.apache.camel.dsl.yaml.common.YamlDeserializerResolver.ORDER_LOWEST - 1,
+            properties = {
+                    @YamlProperty(name = "description", type = "string"),
+                    @YamlProperty(name = "disabled", type = "boolean"),
+                    @YamlProperty(name = "id", type = "string"),
+                    @YamlProperty(name = "inherit-error-handler", type = "boolean"),
+                    @YamlProperty(name = "initial-limit", type = "number"),
+                    @YamlProperty(name = "max-limit", type = "number"),
+                    @YamlProperty(name = "max-queue-size", type = "number"),
+                    @YamlProperty(name = "min-limit", type = "number"),
+                    @YamlProperty(name = "smoothing", type = "number"),
+                    @YamlProperty(name = "steps", type = "array:org.apache.camel.model.ProcessorDefinition"),
+                    @YamlProperty(name = "tolerance", type = "number")
+            }
+    )
+    public static class ConcurrencyLimiterDefinitionDeserializer extends YamlDeserializerBase<ConcurrencyLimiterDefinition> {
+        public ConcurrencyLimiterDefinitionDeserializer() {
+            super(ConcurrencyLimiterDefinition.class);
+        }
+
+        @Override
+        protected ConcurrencyLimiterDefinition newInstance() {
+            return new ConcurrencyLimiterDefinition();
+        }
+
+        @Override
+        protected boolean setProperty(ConcurrencyLimiterDefinition target,
+                String propertyKey, String propertyName, Node node) {
+            switch(propertyKey) {
+                case "disabled": {
+                    String val = asText(node);
+                    target.setDisabled(val);
+                    break;
+                }
+                case "initial-limit": {
+                    String val = asText(node);
+                    target.setInitialLimit(val);
+                    break;
+                }
+                case "min-limit": {
+                    String val = asText(node);
+                    target.setMinLimit(val);
+                    break;
+                }
+                case "max-limit": {
+                    String val = asText(node);
+                    target.setMaxLimit(val);
+                    break;
+                }
+                case "max-queue-size": {
+                    String val = asText(node);
+                    target.setMaxQueueSize(val);
+                    break;
+                }
+                case "tolerance": {
+                    String val = asText(node);
+                    target.setTolerance(val);
+                    break;
+                }
+                case "smoothing": {
+                    String val = asText(node);
+                    target.setSmoothing(val);
+                    break;
+                }
+                case "inherit-error-handler": {
+                    String val = asText(node);
+                    target.setInheritErrorHandler(java.lang.Boolean.valueOf(val));
+                    break;
+                }
+                case "id": {
+                    String val = asText(node);
+                    target.setId(val);
+                    break;
+                }
+                case "description": {
+                    org.apache.camel.model.DescriptionDefinition val = asType(node, org.apache.camel.model.DescriptionDefinition.class);
+                    target.setDescription(val);
+                    break;
+                }
+                case "steps": {
+                    setSteps(target, node);
+                    break;
+                }
+                default: {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     @YamlType(
             nodes = "constant",
             inline = true,
@@ -14984,6 +15088,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
             order = org.apache.camel.dsl.yaml.common.YamlDeserializerResolver.ORDER_LOWEST - 1,
             properties = {
                     @YamlProperty(name = "__extends", type = "object:org.apache.camel.model.language.ExpressionDefinition"),
+                    @YamlProperty(name = "aggregate-in-order", type = "boolean"),
                     @YamlProperty(name = "aggregation-strategy", type = "string"),
                     @YamlProperty(name = "aggregation-strategy-method-allow-null", type = "boolean"),
                     @YamlProperty(name = "aggregation-strategy-method-name", type = "string"),
@@ -14994,6 +15099,8 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "expression", type = "object:org.apache.camel.model.language.ExpressionDefinition"),
                     @YamlProperty(name = "id", type = "string"),
                     @YamlProperty(name = "inherit-error-handler", type = "boolean"),
+                    @YamlProperty(name = "max-buffered", type = "number"),
+                    @YamlProperty(name = "max-inflight", type = "number"),
                     @YamlProperty(name = "on-prepare", type = "string"),
                     @YamlProperty(name = "parallel-aggregate", type = "boolean"),
                     @YamlProperty(name = "parallel-processing", type = "boolean"),
@@ -15018,6 +15125,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
         protected boolean setProperty(SplitDefinition target, String propertyKey,
                 String propertyName, Node node) {
             switch(propertyKey) {
+                case "aggregate-in-order": {
+                    String val = asText(node);
+                    target.setAggregateInOrder(val);
+                    break;
+                }
                 case "aggregation-strategy": {
                     String val = asText(node);
                     target.setAggregationStrategy(val);
@@ -15058,6 +15170,16 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setInheritErrorHandler(java.lang.Boolean.valueOf(val));
                     break;
                 }
+                case "max-buffered": {
+                    String val = asText(node);
+                    target.setMaxBuffered(val);
+                    break;
+                }
+                case "max-inflight": {
+                    String val = asText(node);
+                    target.setMaxInflight(val);
+                    break;
+                }
                 case "on-prepare": {
                     String val = asText(node);
                     target.setOnPrepare(val);
@@ -16043,6 +16165,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "expression", type = "object:org.apache.camel.model.language.ExpressionDefinition"),
                     @YamlProperty(name = "id", type = "string"),
                     @YamlProperty(name = "inherit-error-handler", type = "boolean"),
+                    @YamlProperty(name = "mode", type = "enum:DelayQueue,TokenBucket"),
                     @YamlProperty(name = "reject-execution", type = "boolean"),
                     @YamlProperty(name = "time-period-millis", type = "string")
             }
@@ -16096,6 +16219,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setInheritErrorHandler(java.lang.Boolean.valueOf(val));
                     break;
                 }
+                case "mode": {
+                    String val = asText(node);
+                    target.setMode(val);
+                    break;
+                }
                 case "reject-execution": {
                     String val = asText(node);
                     target.setRejectExecution(val);
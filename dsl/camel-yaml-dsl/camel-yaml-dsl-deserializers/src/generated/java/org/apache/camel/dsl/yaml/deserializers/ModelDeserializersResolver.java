@@ -67,6 +67,9 @@ public final class ModelDeserializersResolver implements YamlDeserializerResolve
             case "combined-service-filter": return new ModelDeserializers.CombinedServiceCallServiceFilterConfigurationDeserializer();
             case "combinedServiceFilter": return new ModelDeserializers.CombinedServiceCallServiceFilterConfigurationDeserializer();
             case "org.apache.camel.model.cloud.CombinedServiceCallServiceFilterConfiguration": return new ModelDeserializers.CombinedServiceCallServiceFilterConfigurationDeserializer();
+            case "concurrency-limiter": return new ModelDeserializers.ConcurrencyLimiterDefinitionDeserializer();
+            case "concurrencyLimiter": return new ModelDeserializers.ConcurrencyLimiterDefinitionDeserializer();
+            case "org.apache.camel.model.ConcurrencyLimiterDefinition": return new ModelDeserializers.ConcurrencyLimiterDefinitionDeserializer();
             case "constant": return new ModelDeserializers.ConstantExpressionDeserializer();
             case "org.apache.camel.model.language.ConstantExpression": return new ModelDeserializers.ConstantExpressionDeserializer();
             case "consul-service-discovery": return new ModelDeserializers.ConsulServiceCallServiceDiscoveryConfigurationDeserializer();
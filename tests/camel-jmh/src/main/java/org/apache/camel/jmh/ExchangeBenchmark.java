@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Consumer;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.ArrayHeadersMapFactory;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.apache.camel.spi.ExchangeFactory;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultMessage;
+import org.apache.camel.support.MessageHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks creating, pooling and copying exchanges and messages with headers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ExchangeBenchmark {
+
+    @Param({ "default", "array" })
+    public String headersMapFactory;
+
+    private CamelContext context;
+    private ExchangeFactory pooledExchangeFactory;
+    private Message source;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        context = new DefaultCamelContext();
+        if ("array".equals(headersMapFactory)) {
+            context.getCamelContextExtension().setHeadersMapFactory(new ArrayHeadersMapFactory());
+        }
+        context.start();
+
+        // the exchange factories are per consumer
+        Consumer consumer = context.getEndpoint("direct:bench").createConsumer(exchange -> {
+        });
+        PooledExchangeFactory factory = new PooledExchangeFactory();
+        factory.setCamelContext(context);
+        pooledExchangeFactory = factory.newExchangeFactory(consumer);
+        pooledExchangeFactory.start();
+
+        // a message with headers like from JMS or HTTP
+        source = new DefaultMessage(context);
+        source.setBody("Hello World");
+        source.setHeader(Exchange.CONTENT_TYPE, "text/plain");
+        source.setHeader(Exchange.HTTP_METHOD, "POST");
+        source.setHeader(Exchange.HTTP_URI, "/orders");
+        source.setHeader("JMSMessageID", "ID:1234");
+        source.setHeader("JMSCorrelationID", "abc");
+        for (int i = 0; i < 15; i++) {
+            source.setHeader("header" + i, i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        pooledExchangeFactory.stop();
+        context.stop();
+    }
+
+    @Benchmark
+    public Exchange createExchange() {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("foo", "bar");
+        return exchange;
+    }
+
+    @Benchmark
+    public Exchange pooledExchange() {
+        Exchange exchange = pooledExchangeFactory.create(false);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("foo", "bar");
+        pooledExchangeFactory.release(exchange);
+        return exchange;
+    }
+
+    @Benchmark
+    public Message copyHeaders() {
+        Message target = new DefaultMessage(context);
+        MessageHelper.copyHeaders(source, target, true);
+        return target;
+    }
+
+    @Benchmark
+    public Message copyMessage() {
+        return source.copy();
+    }
+
+    @Benchmark
+    public Object headerLookup() {
+        return source.getHeader(Exchange.CONTENT_TYPE);
+    }
+}
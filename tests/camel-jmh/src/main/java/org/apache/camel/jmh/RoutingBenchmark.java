@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.LoggingLevel;
+import org.apache.camel.Processor;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.AggregationStrategies;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks routing messages through the core EIPs, which includes the pipeline and the advice chain of the internal
+ * processor for each route and processor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RoutingBenchmark {
+
+    @Param({ "prototype", "pooled" })
+    public String exchangeFactory;
+
+    private CamelContext context;
+    private ProducerTemplate template;
+    private List<String> lines;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        context = new DefaultCamelContext();
+        if ("pooled".equals(exchangeFactory)) {
+            context.getCamelContextExtension().setExchangeFactory(new PooledExchangeFactory());
+            context.getCamelContextExtension().setProcessorExchangeFactory(new PooledProcessorExchangeFactory());
+        }
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() {
+                Processor noop = exchange -> {
+                };
+
+                from("direct:pipeline")
+                        .setHeader("foo", constant("bar"))
+                        .process(noop)
+                        .transform(body())
+                        .log(LoggingLevel.TRACE, "bench", "${body}")
+                        .to("log:bench?level=TRACE");
+
+                from("direct:choice")
+                        .choice()
+                            .when(header("type").isEqualTo("gold")).process(noop)
+                            .when(header("type").isEqualTo("silver")).process(noop)
+                            .otherwise().process(noop)
+                        .end();
+
+                from("direct:split")
+                        .split(body())
+                            .process(noop)
+                        .end();
+
+                from("direct:aggregate")
+                        .aggregate(constant(true), AggregationStrategies.groupedBody()).completionSize(10)
+                            .process(noop);
+
+                from("direct:convert")
+                        .convertBodyTo(Integer.class)
+                        .convertBodyTo(String.class);
+            }
+        });
+        context.start();
+        template = context.createProducerTemplate();
+
+        lines = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            lines.add("Line " + i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void pipeline(Blackhole bh) {
+        bh.consume(template.requestBody("direct:pipeline", "Hello World"));
+    }
+
+    @Benchmark
+    public void choice(Blackhole bh) {
+        bh.consume(template.requestBodyAndHeader("direct:choice", "Hello World", "type", "silver"));
+    }
+
+    @Benchmark
+    public void split(Blackhole bh) {
+        bh.consume(template.requestBody("direct:split", lines));
+    }
+
+    @Benchmark
+    public void aggregate() {
+        template.sendBody("direct:aggregate", "Hello World");
+    }
+
+    @Benchmark
+    public void convert(Blackhole bh) {
+        bh.consume(template.requestBody("direct:convert", "12345"));
+    }
+}
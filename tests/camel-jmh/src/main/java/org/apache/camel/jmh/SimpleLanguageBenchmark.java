@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.language.simple.SimpleLanguage;
+import org.apache.camel.spi.Language;
+import org.apache.camel.support.DefaultExchange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the simple language.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SimpleLanguageBenchmark {
+
+    private static final String EXPRESSION = "Hello ${header.name} you ordered ${header.amount} items of ${body}";
+    private static final String PREDICATE = "${header.amount} > 10 && ${body} contains 'Camel'";
+    private static final String OGNL_EXPRESSION = "${header.order.customer.name}";
+    private static final String OGNL_PREDICATE = "${header.order.amount} > 10 && ${header.order.customer?.gold} == true";
+
+    @Param({ "false", "true" })
+    public boolean compiled;
+
+    private CamelContext context;
+    private Language simple;
+    private Exchange exchange;
+    private Expression expression;
+    private Predicate predicate;
+    private Expression ognlExpression;
+    private Predicate ognlPredicate;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        context = new DefaultCamelContext();
+        context.start();
+        simple = context.resolveLanguage("simple");
+        ((SimpleLanguage) simple).setCompiled(compiled);
+
+        exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Camel in Action");
+        exchange.getIn().setHeader("name", "Donald");
+        exchange.getIn().setHeader("amount", 42);
+        exchange.getIn().setHeader("order", new Order(new Customer("Donald", true), 42));
+
+        expression = simple.createExpression(EXPRESSION);
+        expression.init(context);
+        predicate = simple.createPredicate(PREDICATE);
+        predicate.init(context);
+        ognlExpression = simple.createExpression(OGNL_EXPRESSION);
+        ognlExpression.init(context);
+        ognlPredicate = simple.createPredicate(OGNL_PREDICATE);
+        ognlPredicate.init(context);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public String evaluateExpression() {
+        return expression.evaluate(exchange, String.class);
+    }
+
+    @Benchmark
+    public boolean matchesPredicate() {
+        return predicate.matches(exchange);
+    }
+
+    @Benchmark
+    public String evaluateOgnlExpression() {
+        return ognlExpression.evaluate(exchange, String.class);
+    }
+
+    @Benchmark
+    public boolean matchesOgnlPredicate() {
+        return ognlPredicate.matches(exchange);
+    }
+
+    @Benchmark
+    public String createAndEvaluateExpression() {
+        // the expression is cached by the simple language
+        Expression exp = simple.createExpression(EXPRESSION);
+        return exp.evaluate(exchange, String.class);
+    }
+
+    public static final class Order {
+        private final Customer customer;
+        private final int amount;
+
+        public Order(Customer customer, int amount) {
+            this.customer = customer;
+            this.amount = amount;
+        }
+
+        public Customer getCustomer() {
+            return customer;
+        }
+
+        public int getAmount() {
+            return amount;
+        }
+    }
+
+    public static final class Customer {
+        private final String name;
+        private final boolean gold;
+
+        public Customer(String name, boolean gold) {
+            this.name = name;
+            this.gold = gold;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isGold() {
+            return gold;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.util.IOHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks tokenizing the lines of a file by scanning the text, and by tokenizing the bytes of the file directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TokenizeBenchmark {
+
+    private static final int LINES = 200_000;
+
+    private CamelContext context;
+    private Exchange exchange;
+    private File file;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        context = new DefaultCamelContext();
+        context.start();
+        exchange = new DefaultExchange(context);
+        Path path = Files.createTempFile("camel-jmh", ".csv");
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < LINES; i++) {
+            sb.append(i).append(",Hello World,2023-01-01,12.34,Some longer text in the last column\n");
+        }
+        Files.writeString(path, sb);
+        file = path.toFile();
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(file.toPath());
+    }
+
+    @Benchmark
+    public int scanner() throws IOException {
+        return count(ExchangeHelper.getScanner(exchange, file, "\n"));
+    }
+
+    @Benchmark
+    public int channelTokenizer() throws IOException {
+        return count(ExchangeHelper.getChannelTokenizer(exchange, file, "\n"));
+    }
+
+    private static int count(Iterator<String> it) throws IOException {
+        int length = 0;
+        while (it.hasNext()) {
+            length += it.next().length();
+        }
+        IOHelper.closeIterator(it);
+        return length;
+    }
+}